@@ -11,6 +11,23 @@ package com.valumetric.calculator;
  * - 쌍대비교(Pairwise Comparison)를 통해 상대적 중요도 측정
  * - 고유벡터(Eigenvector) 방법으로 가중치 도출
  * 
+ * 【가중치 도출 방법 (WeightMethod)】
+ * - GEOMETRIC_MEAN: 행 기하평균 (한 번에 계산, 일관된 행렬에서는 고유벡터와 일치)
+ * - EIGENVECTOR: 주고유벡터 거듭제곱법 (기하평균에서 시작, tolerance/maxIterations로 수렴 제어)
+ *   비일관 행렬에서는 기하평균 가중치로 구한 λmax가 Saaty 정의(Aw = λmax·w)와 달라지므로
+ *   정의대로의 λmax/CI/CR이 필요하면 EIGENVECTOR를 사용
+ * 
+ * 【불완전 쌍대비교】
+ * 일부 비교값이 비어 있으면 calculateIncomplete 사용 (IncompleteAhpSolver 참고)
+ * - GEOMETRIC_MEAN → 로그 최소제곱법(LLSM), EIGENVECTOR → Harker 방법
+ * 
+ * 【일관성 개선 제안】
+ * CR &gt; 0.1이면 adviseConsistency로 비일관성에 크게 기여하는 비교와
+ * CR을 임계값 아래로 내리는 최소 수정(Saaty 척도 값)을 구할 수 있습니다. (ConsistencyAdvisor 참고)
+ * 
+ * 【Random Index】
+ * CR = CI / RI의 RI는 n ≤ 15면 Saaty 값, 그보다 크면 몬테카를로 시뮬레이션 값 (RandomIndexTable 참고)
+ * 
  * 【Saaty의 쌍대비교 척도 (1-9)】
  * 1: 동등 (Equal importance)
  * 3: 약간 중요 (Moderate importance)
@@ -25,27 +42,77 @@ package com.valumetric.calculator;
 public class AhpEngine {
 
     // 일관성 비율(CR) 임계값: Saaty는 0.1(10%) 이하를 권장
-    private static final double CR_THRESHOLD = 0.1;
-
-    // Random Index (RI) 테이블: n=1~15에 대한 값 (Saaty의 연구 결과)
-    // n=1,2는 항상 일관성이 있으므로 0
-    private static final double[] RANDOM_INDEX = {
-            0.00, // n=1
-            0.00, // n=2
-            0.58, // n=3
-            0.90, // n=4
-            1.12, // n=5
-            1.24, // n=6
-            1.32, // n=7
-            1.41, // n=8
-            1.45, // n=9
-            1.49, // n=10
-            1.51, // n=11
-            1.48, // n=12
-            1.56, // n=13
-            1.57, // n=14
-            1.59 // n=15
-    };
+    static final double CR_THRESHOLD = 0.1;
+
+    // 거듭제곱법 기본 수렴 조건: 가중치 변화량(최대 절대값) < 1e-10, 최대 1000회
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    /**
+     * 가중치 도출 방법
+     */
+    public enum WeightMethod {
+        GEOMETRIC_MEAN,
+        EIGENVECTOR
+    }
+
+    private final WeightMethod defaultMethod;
+    private final double tolerance;
+    private final int maxIterations;
+    private final RandomIndexTable randomIndexTable;
+    private final AhpKernel kernel;
+
+    public AhpEngine() {
+        this(WeightMethod.GEOMETRIC_MEAN, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    public AhpEngine(WeightMethod defaultMethod, double tolerance, int maxIterations) {
+        this(defaultMethod, tolerance, maxIterations, new RandomIndexTable());
+    }
+
+    /**
+     * @param defaultMethod    calculate(matrix)에서 사용할 방법
+     * @param tolerance        거듭제곱법 수렴 기준 (연속 두 가중치 벡터의 최대 절대 차이)
+     * @param maxIterations    거듭제곱법 최대 반복 횟수
+     * @param randomIndexTable CR 계산에 쓸 RI 테이블 (n &gt; 15는 시뮬레이션 값)
+     */
+    public AhpEngine(WeightMethod defaultMethod, double tolerance, int maxIterations,
+            RandomIndexTable randomIndexTable) {
+        if (defaultMethod == null) {
+            throw new IllegalArgumentException("가중치 도출 방법은 필수입니다");
+        }
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("수렴 기준은 양수여야 합니다: " + tolerance);
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("최대 반복 횟수는 1 이상이어야 합니다: " + maxIterations);
+        }
+        if (randomIndexTable == null) {
+            throw new IllegalArgumentException("RI 테이블은 필수입니다");
+        }
+        this.defaultMethod = defaultMethod;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.randomIndexTable = randomIndexTable;
+        this.kernel = new AhpKernel(tolerance, maxIterations, randomIndexTable);
+    }
+
+    public WeightMethod getDefaultMethod() {
+        return defaultMethod;
+    }
+
+    public RandomIndexTable getRandomIndexTable() {
+        return randomIndexTable;
+    }
+
+    /**
+     * 할당 없는 평탄 배열 커널 (엔진과 같은 수렴 조건/RI, 스레드 간 공유 가능)
+     * 
+     * @see AhpKernel
+     */
+    public AhpKernel kernel() {
+        return kernel;
+    }
 
     /**
      * AHP 계산 결과를 담는 클래스
@@ -56,21 +123,41 @@ public class AhpEngine {
         private final double consistencyIndex; // 일관성 지수 (CI)
         private final double consistencyRatio; // 일관성 비율 (CR)
         private final boolean isConsistent; // 일관성 충족 여부
+        private final WeightMethod method; // 가중치 도출 방법
+        private final int iterations; // 거듭제곱법 반복 횟수 (기하평균법은 0)
+        private final boolean converged; // 수렴 여부 (기하평균법은 항상 true)
 
         public AhpResult(double[] weights, double lambdaMax,
                 double consistencyIndex, double consistencyRatio,
                 boolean isConsistent) {
+            this(weights, lambdaMax, consistencyIndex, consistencyRatio, isConsistent,
+                    WeightMethod.GEOMETRIC_MEAN, 0, true);
+        }
+
+        public AhpResult(double[] weights, double lambdaMax,
+                double consistencyIndex, double consistencyRatio,
+                boolean isConsistent, WeightMethod method, int iterations, boolean converged) {
             this.weights = weights;
             this.lambdaMax = lambdaMax;
             this.consistencyIndex = consistencyIndex;
             this.consistencyRatio = consistencyRatio;
             this.isConsistent = isConsistent;
+            this.method = method;
+            this.iterations = iterations;
+            this.converged = converged;
         }
 
         public double[] getWeights() {
             return weights.clone();
         }
 
+        /**
+         * 가중치 하나 (배열 복사 없이 읽기)
+         */
+        public double getWeight(int index) {
+            return weights[index];
+        }
+
         public double getLambdaMax() {
             return lambdaMax;
         }
@@ -87,6 +174,18 @@ public class AhpEngine {
             return isConsistent;
         }
 
+        public WeightMethod getMethod() {
+            return method;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public boolean isConverged() {
+            return converged;
+        }
+
         @Override
         public String toString() {
             StringBuilder sb = new StringBuilder();
@@ -102,25 +201,42 @@ public class AhpEngine {
             sb.append(String.format("  CI=%.4f\n", consistencyIndex));
             sb.append(String.format("  CR=%.4f (%.2f%%)\n", consistencyRatio, consistencyRatio * 100));
             sb.append(String.format("  일관성: %s\n", isConsistent ? "충족 ✓" : "미충족 ✗"));
+            sb.append(String.format("  방법: %s (반복 %d회%s)\n", method, iterations, converged ? "" : ", 미수렴"));
             sb.append("}");
             return sb.toString();
         }
     }
 
     /**
-     * 쌍대비교 행렬에서 가중치 벡터를 계산합니다.
+     * 쌍대비교 행렬에서 가중치 벡터를 계산합니다. (기본 방법 사용)
+     * 
+     * @see #calculate(double[][], WeightMethod)
+     */
+    public AhpResult calculate(double[][] matrix) {
+        return calculate(matrix, defaultMethod);
+    }
+
+    /**
+     * 쌍대비교 행렬에서 지정한 방법으로 가중치 벡터를 계산합니다.
      * 
      * <pre>
      * 【알고리즘 (기하평균법 - Geometric Mean Method)】
      * 
-     * Step 1: 각 행의 기하평균 계산
-     *   GM_i = (a_i1 × a_i2 × ... × a_in)^(1/n)
+     * Step 1: 각 행의 기하평균 계산 (로그 합으로 계산해 큰 n에서도 오버플로 없음)
+     *   GM_i = (a_i1 × a_i2 × ... × a_in)^(1/n) = exp(Σ_j ln a_ij / n)
      * 
      * Step 2: 정규화하여 가중치 도출
      *   w_i = GM_i / Σ(GM_j)
      * 
+     * 【알고리즘 (고유벡터법 - EIGENVECTOR)】
+     * 
+     * Step 1~2의 기하평균 가중치에서 시작하여 거듭제곱법 반복
+     *   w(k+1) = A×w(k) / Σ(A×w(k))
+     *   max|w(k+1) - w(k)| < tolerance 이면 수렴
+     *   λmax = Σ(A×w) (Σw = 1이므로 고유값과 같음)
+     * 
      * Step 3: 일관성 검증
-     *   λmax = Σ((A×w)_i / w_i) / n
+     *   λmax = Σ((A×w)_i / w_i) / n   (기하평균법)
      *   CI = (λmax - n) / (n - 1)
      *   CR = CI / RI
      *   
@@ -128,63 +244,51 @@ public class AhpEngine {
      * </pre>
      * 
      * @param matrix n×n 쌍대비교 행렬 (양의 역수 행렬)
-     * @return AhpResult 가중치 및 일관성 지표
+     * @param method 가중치 도출 방법
+     * @return AhpResult 가중치 및 일관성 지표 (고유벡터법은 반복 횟수/수렴 여부 포함)
      * @throws IllegalArgumentException 유효하지 않은 행렬인 경우
+     * @see AhpKernel 반복 호출용 할당 없는 평탄 배열 버전
      */
-    public AhpResult calculate(double[][] matrix) {
-        validateMatrix(matrix);
-
-        int n = matrix.length;
-
-        // Step 1 & 2: 기하평균법으로 가중치 계산
-        double[] weights = calculateWeightsByGeometricMean(matrix);
-
-        // Step 3: 일관성 검증
-        double lambdaMax = calculateLambdaMax(matrix, weights);
-        double ci = calculateConsistencyIndex(lambdaMax, n);
-        double cr = calculateConsistencyRatio(ci, n);
-        boolean isConsistent = cr <= CR_THRESHOLD || n <= 2;
-
-        return new AhpResult(weights, lambdaMax, ci, cr, isConsistent);
+    public AhpResult calculate(double[][] matrix, WeightMethod method) {
+        int n = requireSquare(matrix);
+        AhpKernel.Workspace workspace = new AhpKernel.Workspace(n);
+        double[] flat = workspace.matrix();
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(matrix[i], 0, flat, i * n, n);
+        }
+        return kernel.compute(workspace, method).toResult();
     }
 
     /**
-     * 기하평균법(Geometric Mean Method)을 사용하여 가중치를 계산합니다.
+     * 비교값 일부가 비어 있는(null) 쌍대비교 행렬 계산
      * 
      * <pre>
-     * 【장점】
-     * - Saaty가 권장하는 방법
-     * - 순위 역전 문제가 발생하지 않음
-     * - 계산이 간단하고 직관적
-     * 
-     * 【공식】
-     * 1. 각 행(row)의 모든 요소를 곱함
-     * 2. n제곱근을 취함 (n = 행렬 크기)
-     * 3. 모든 기하평균의 합으로 나누어 정규화
+     * 빈 비교는 입력된 비교만으로 추정하며(희소 저장), 모든 값이 있으면 calculate와 같은 가중치를 냅니다.
+     * suggestionLimit &gt; 0이면 추가로 입력할 때 불확실성을 가장 많이 줄이는 빈 비교를 함께 돌려줍니다.
      * </pre>
+     * 
+     * @param n               행렬 크기
+     * @param upperTriangle   상삼각 값 (행 우선, 빈 비교는 null)
+     * @param method          가중치 도출 방법
+     * @param suggestionLimit 추천할 빈 비교 수 (0이면 생략)
+     * @throws IllegalArgumentException 값 개수 불일치, 양수가 아닌 값, 서로 이어지지 않는 기준 묶음
      */
-    private double[] calculateWeightsByGeometricMean(double[][] matrix) {
-        int n = matrix.length;
-        double[] geometricMeans = new double[n];
-        double sumOfGM = 0.0;
-
-        // 각 행의 기하평균 계산
-        for (int i = 0; i < n; i++) {
-            double product = 1.0;
-            for (int j = 0; j < n; j++) {
-                product *= matrix[i][j];
-            }
-            geometricMeans[i] = Math.pow(product, 1.0 / n);
-            sumOfGM += geometricMeans[i];
-        }
-
-        // 정규화하여 가중치 도출
-        double[] weights = new double[n];
-        for (int i = 0; i < n; i++) {
-            weights[i] = geometricMeans[i] / sumOfGM;
-        }
+    public IncompleteAhpSolver.Result calculateIncomplete(int n, Double[] upperTriangle, WeightMethod method,
+            int suggestionLimit) {
+        return new IncompleteAhpSolver(tolerance, maxIterations, randomIndexTable)
+                .solve(n, upperTriangle, method, suggestionLimit);
+    }
 
-        return weights;
+    /**
+     * 일관성 개선 제안 (비일관 기여도가 큰 비교부터 하나씩 척도 값으로 수정)
+     * 
+     * @param matrix         n×n 쌍대비교 행렬 (변경하지 않음)
+     * @param method         가중치 도출 방법
+     * @param maxAdjustments 수정할 비교 수 한도 (0이면 기여도만 계산)
+     * @throws IllegalArgumentException 유효하지 않은 행렬 또는 음수 한도
+     */
+    public ConsistencyAdvisor.Advice adviseConsistency(double[][] matrix, WeightMethod method, int maxAdjustments) {
+        return new ConsistencyAdvisor(this).advise(matrix, method, maxAdjustments);
     }
 
     /**
@@ -224,146 +328,37 @@ public class AhpEngine {
     }
 
     /**
-     * 최대 고유값 (λmax) 계산
-     * 
-     * <pre>
-     * 【공식】
-     * λmax = (1/n) × Σ((A×w)_i / w_i)
+     * Random Index (RI) 조회 (n ≤ 15는 Saaty 값, 그 이상은 몬테카를로 시뮬레이션 값)
      * 
-     * 【설명】
-     * - A: 쌍대비교 행렬
-     * - w: 가중치 벡터
-     * - 완벽히 일관된 행렬이면 λmax = n
-     * </pre>
+     * @see RandomIndexTable
      */
-    private double calculateLambdaMax(double[][] matrix, double[] weights) {
-        int n = matrix.length;
-        double lambdaMax = 0.0;
-
-        // A × w 계산 (행렬-벡터 곱)
-        double[] aw = new double[n];
-        for (int i = 0; i < n; i++) {
-            aw[i] = 0.0;
-            for (int j = 0; j < n; j++) {
-                aw[i] += matrix[i][j] * weights[j];
-            }
-        }
-
-        // λmax = 평균((A×w)_i / w_i)
-        for (int i = 0; i < n; i++) {
-            if (weights[i] > 0) {
-                lambdaMax += aw[i] / weights[i];
-            }
-        }
-        lambdaMax /= n;
-
-        return lambdaMax;
+    public double getRandomIndex(int n) {
+        return randomIndexTable.get(n);
     }
 
     /**
-     * 일관성 지수 (CI: Consistency Index) 계산
-     * 
-     * <pre>
-     * 【공식】
-     * CI = (λmax - n) / (n - 1)
-     * 
-     * 【해석】
-     * - CI = 0: 완벽히 일관됨
-     * - CI > 0: 일관성 오류 존재
-     * </pre>
-     */
-    private double calculateConsistencyIndex(double lambdaMax, int n) {
-        if (n <= 1) {
-            return 0.0;
-        }
-        return (lambdaMax - n) / (n - 1);
-    }
-
-    /**
-     * 일관성 비율 (CR: Consistency Ratio) 계산
-     * 
-     * <pre>
-     * 【공식】
-     * CR = CI / RI
-     * 
-     * 【해석】
-     * - CR ≤ 0.1 (10%): 일관성 충족 ✓
-     * - CR > 0.1: 일관성 미충족, 쌍대비교 재검토 필요 ✗
-     * 
-     * RI는 Random Index로, 무작위 행렬의 평균 CI 값
-     * </pre>
-     */
-    private double calculateConsistencyRatio(double ci, int n) {
-        if (n <= 2) {
-            return 0.0; // n=1,2는 항상 일관성 있음
-        }
-
-        double ri = getRandomIndex(n);
-        if (ri == 0) {
-            return 0.0;
-        }
-
-        return ci / ri;
-    }
-
-    /**
-     * Random Index (RI) 조회
-     */
-    private double getRandomIndex(int n) {
-        if (n < 1 || n > RANDOM_INDEX.length) {
-            // 15 초과 시 근사값 사용
-            return 1.59;
-        }
-        return RANDOM_INDEX[n - 1];
-    }
-
-    /**
-     * 쌍대비교 행렬 유효성 검증
+     * 행렬 형태 검증 (정방행렬) 후 크기 반환
      * 
      * <pre>
      * 【유효한 쌍대비교 행렬 조건】
-     * 1. 정방행렬 (n × n)
+     * 1. 정방행렬 (n × n)  ← 여기서 확인
      * 2. 모든 요소가 양수
      * 3. 대각선 요소는 1 (자기 자신과 비교 = 동등)
      * 4. 역수 관계: a_ij = 1 / a_ji
+     * 2~4는 AhpKernel.compute가 가중치 계산과 같은 순회에서 확인합니다.
      * </pre>
      */
-    private void validateMatrix(double[][] matrix) {
+    private static int requireSquare(double[][] matrix) {
         if (matrix == null || matrix.length == 0) {
             throw new IllegalArgumentException("행렬은 null이거나 비어있을 수 없습니다");
         }
-
         int n = matrix.length;
-
-        for (int i = 0; i < n; i++) {
-            if (matrix[i] == null || matrix[i].length != n) {
+        for (double[] row : matrix) {
+            if (row == null || row.length != n) {
                 throw new IllegalArgumentException("정방행렬(n×n)이어야 합니다");
             }
-
-            for (int j = 0; j < n; j++) {
-                // 양수 검증
-                if (matrix[i][j] <= 0) {
-                    throw new IllegalArgumentException(
-                            String.format("모든 요소는 양수여야 합니다: matrix[%d][%d]=%.4f", i, j, matrix[i][j]));
-                }
-
-                // 대각선 요소 = 1 검증
-                if (i == j && Math.abs(matrix[i][j] - 1.0) > 0.0001) {
-                    throw new IllegalArgumentException(
-                            String.format("대각선 요소는 1이어야 합니다: matrix[%d][%d]=%.4f", i, j, matrix[i][j]));
-                }
-
-                // 역수 관계 검증 (허용 오차: 0.0001)
-                if (i != j) {
-                    double expected = 1.0 / matrix[j][i];
-                    if (Math.abs(matrix[i][j] - expected) > 0.0001) {
-                        throw new IllegalArgumentException(
-                                String.format("역수 관계 위반: matrix[%d][%d]=%.4f, 예상값=%.4f (1/matrix[%d][%d])",
-                                        i, j, matrix[i][j], expected, j, i));
-                    }
-                }
-            }
         }
+        return n;
     }
 
     /**
@@ -0,0 +1,276 @@
+package com.valumetric.calculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 다단계 AHP 계층 합성 엔진
+ *
+ * <pre>
+ * 【계층 구조】
+ * 목표(root) → 평가 기준 → 세부 기준 → 지표 ...
+ * 예: 매출성과 → 신규매출 / 재계약 / 마진
+ *
+ * 자식이 있는 노드마다 자식들끼리의 쌍대비교 행렬(상삼각 값)을 가지며,
+ * 각 행렬에서 구한 지역 가중치(local)를 루트부터 곱해 내려가 전역 가중치(global)를 구합니다.
+ *   global(child) = global(parent) × local(child)
+ * 말단(leaf) 전역 가중치의 합은 항상 1입니다.
+ *
+ * 【지역 결과 캐시】
+ * 지역 결과는 행렬 지문(가중치 도출 방법 + 상삼각 값)을 키로 LRU 캐시에 보관합니다.
+ * 노드 이름이나 위치와 무관하게 같은 행렬이면 다시 계산하지 않으므로,
+ * 하위 행렬 하나를 수정하면 그 노드만 다시 계산되고 나머지는 캐시에서 가져옵니다.
+ * (전역 가중치 곱셈은 노드 수에 비례하는 단순 연산이라 매번 다시 수행)
+ * AhpResult는 불변이므로 여러 스레드가 캐시 결과를 공유해도 안전합니다.
+ * </pre>
+ */
+public class AhpHierarchyEngine {
+
+    public static final int DEFAULT_CACHE_SIZE = 256;
+    public static final String PATH_SEPARATOR = "/";
+
+    private final AhpEngine ahpEngine;
+    private final Map<MatrixFingerprint, AhpEngine.AhpResult> localResults;
+
+    public AhpHierarchyEngine(AhpEngine ahpEngine) {
+        this(ahpEngine, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param ahpEngine 노드별 지역 가중치 계산 엔진
+     * @param cacheSize 지역 결과 캐시 최대 항목 수
+     */
+    public AhpHierarchyEngine(AhpEngine ahpEngine, int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다: " + cacheSize);
+        }
+        this.ahpEngine = ahpEngine;
+        this.localResults = Collections.synchronizedMap(
+                new LinkedHashMap<MatrixFingerprint, AhpEngine.AhpResult>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<MatrixFingerprint, AhpEngine.AhpResult> eldest) {
+                        return size() > cacheSize;
+                    }
+                });
+    }
+
+    /**
+     * 계층 노드 (입력)
+     *
+     * @param name          노드 이름 (형제 간 유일, '/' 사용 불가)
+     * @param upperTriangle 자식 간 쌍대비교 상삼각 값 (자식이 2개 이상일 때만 필요)
+     * @param children      자식 노드 (없으면 말단 지표)
+     */
+    public record Node(String name, double[] upperTriangle, List<Node> children) {
+
+        public Node {
+            upperTriangle = upperTriangle == null ? new double[0] : upperTriangle.clone();
+            children = children == null ? List.of() : List.copyOf(children);
+        }
+
+        public static Node leaf(String name) {
+            return new Node(name, null, List.of());
+        }
+
+        public static Node of(String name, double[] upperTriangle, Node... children) {
+            return new Node(name, upperTriangle, List.of(children));
+        }
+
+        public boolean isLeaf() {
+            return children.isEmpty();
+        }
+
+        @Override
+        public double[] upperTriangle() {
+            return upperTriangle.clone();
+        }
+    }
+
+    /**
+     * 노드별 합성 결과
+     *
+     * @param path         루트부터의 경로 (예: "평가/매출성과/신규매출", 루트는 이름만)
+     * @param depth        루트 = 0
+     * @param localWeight  형제 중 비중 (루트 = 1)
+     * @param globalWeight 루트 기준 비중
+     * @param local        자식 간 쌍대비교 결과 (말단 또는 자식 1개면 null)
+     */
+    public record NodeWeight(String path, String name, int depth, boolean leaf,
+            double localWeight, double globalWeight, AhpEngine.AhpResult local) {
+
+        /**
+         * 이 노드의 쌍대비교 일관성 (비교가 없는 노드는 true)
+         */
+        public boolean isConsistent() {
+            return local == null || local.isConsistent();
+        }
+    }
+
+    /**
+     * 계층 합성 결과 (전위 순회 순서)
+     *
+     * @param computedNodes 이번에 새로 계산한 행렬 수
+     * @param cachedNodes   캐시에서 가져온 행렬 수
+     */
+    public record Synthesis(List<NodeWeight> nodes, AhpEngine.WeightMethod method,
+            int computedNodes, int cachedNodes) {
+
+        public List<NodeWeight> leaves() {
+            return nodes.stream().filter(NodeWeight::leaf).toList();
+        }
+
+        /**
+         * 모든 쌍대비교 행렬이 CR ≤ 0.1인지
+         */
+        public boolean isConsistent() {
+            return nodes.stream().allMatch(NodeWeight::isConsistent);
+        }
+
+        public Optional<NodeWeight> find(String path) {
+            return nodes.stream().filter(node -> node.path().equals(path)).findFirst();
+        }
+    }
+
+    /**
+     * 계층 전체의 지역/전역 가중치 계산
+     *
+     * @throws IllegalArgumentException 이름 누락/중복, 쌍대비교 값 개수 불일치, 유효하지 않은 행렬
+     */
+    public Synthesis synthesize(Node root, AhpEngine.WeightMethod method) {
+        if (root == null) {
+            throw new IllegalArgumentException("계층 루트는 필수입니다");
+        }
+        if (root.isLeaf()) {
+            throw new IllegalArgumentException("루트에는 하위 기준이 1개 이상 필요합니다");
+        }
+        if (method == null) {
+            throw new IllegalArgumentException("가중치 도출 방법은 필수입니다");
+        }
+        Traversal traversal = new Traversal(method);
+        traversal.visit(root, validateName(root.name(), null), 0, 1.0, 1.0);
+        return new Synthesis(List.copyOf(traversal.nodes), method, traversal.computed, traversal.cached);
+    }
+
+    /**
+     * 캐시 비우기 (엔진 설정 변경 등)
+     */
+    public void clearCache() {
+        localResults.clear();
+    }
+
+    public int cacheSize() {
+        return localResults.size();
+    }
+
+    private final class Traversal {
+        private final AhpEngine.WeightMethod method;
+        private final List<NodeWeight> nodes = new ArrayList<>();
+        private int computed;
+        private int cached;
+
+        Traversal(AhpEngine.WeightMethod method) {
+            this.method = method;
+        }
+
+        void visit(Node node, String path, int depth, double localWeight, double globalWeight) {
+            if (node.isLeaf()) {
+                nodes.add(new NodeWeight(path, node.name(), depth, true, localWeight, globalWeight, null));
+                return;
+            }
+
+            List<Node> children = node.children();
+            Set<String> names = new HashSet<>();
+            for (Node child : children) {
+                if (!names.add(validateName(child.name(), path))) {
+                    throw new IllegalArgumentException("같은 상위 기준 아래 이름이 중복됩니다: " + path
+                            + PATH_SEPARATOR + child.name());
+                }
+            }
+
+            AhpEngine.AhpResult local = children.size() > 1 ? localResult(path, node) : null;
+            if (local == null && node.upperTriangle.length > 0) {
+                throw new IllegalArgumentException("하위 기준이 1개인 노드에는 쌍대비교 값이 필요 없습니다: " + path);
+            }
+            nodes.add(new NodeWeight(path, node.name(), depth, false, localWeight, globalWeight, local));
+
+            double[] weights = local != null ? local.getWeights() : new double[] { 1.0 };
+            for (int i = 0; i < children.size(); i++) {
+                Node child = children.get(i);
+                visit(child, path + PATH_SEPARATOR + child.name(), depth + 1, weights[i], globalWeight * weights[i]);
+            }
+        }
+
+        private AhpEngine.AhpResult localResult(String path, Node node) {
+            int n = node.children().size();
+            int expected = n * (n - 1) / 2;
+            if (node.upperTriangle.length != expected) {
+                throw new IllegalArgumentException(String.format(
+                        "쌍대비교 값 개수가 맞지 않습니다: %s (하위 기준 %d개, 예상 %d, 실제 %d)",
+                        path, n, expected, node.upperTriangle.length));
+            }
+
+            MatrixFingerprint fingerprint = new MatrixFingerprint(method, node.upperTriangle);
+            AhpEngine.AhpResult result = localResults.get(fingerprint);
+            if (result != null) {
+                cached++;
+                return result;
+            }
+            try {
+                result = ahpEngine.calculate(ahpEngine.createPairwiseMatrix(n, node.upperTriangle), method);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(path + ": " + e.getMessage(), e);
+            }
+            localResults.put(fingerprint, result);
+            computed++;
+            return result;
+        }
+    }
+
+    private static String validateName(String name, String parentPath) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("기준 이름은 필수입니다: " + (parentPath != null ? parentPath : "(root)"));
+        }
+        if (name.contains(PATH_SEPARATOR)) {
+            throw new IllegalArgumentException("기준 이름에 '" + PATH_SEPARATOR + "'를 사용할 수 없습니다: " + name);
+        }
+        return name;
+    }
+
+    /**
+     * 행렬 지문 (방법 + 상삼각 값, 크기는 값 개수로 결정됨)
+     */
+    private static final class MatrixFingerprint {
+        private final AhpEngine.WeightMethod method;
+        private final double[] values;
+        private final int hash;
+
+        MatrixFingerprint(AhpEngine.WeightMethod method, double[] values) {
+            this.method = method;
+            this.values = values.clone();
+            this.hash = 31 * method.hashCode() + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MatrixFingerprint other)) {
+                return false;
+            }
+            return method == other.method && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.valumetric.calculator;
+
+import java.util.Arrays;
+
+/**
+ * 할당 없는 AHP 계산 커널 (평탄 배열 + 재사용 작업 공간)
+ *
+ * <pre>
+ * 【입력】
+ * n×n 쌍대비교 행렬을 행 우선 평탄 배열 double[n·n]로 받습니다. (a_ij = matrix[i·n + j])
+ * 민감도 분석처럼 비교값 하나만 바꿔 가며 수백만 번 호출하는 경우
+ * setJudgment로 제자리 수정 → compute를 반복하면 호출마다 새 배열을 만들지 않습니다.
+ *
+ * 【한 번에 검증 + 행 곱 누적】
+ * 상삼각 (i, j)마다 a_ij, a_ji를 함께 읽어 양수/역수 관계를 확인하고
+ * 같은 자리에서 a_ij는 i행, a_ji는 j행 곱에 누적합니다. (대각은 행마다 1회 확인)
+ * 오류 메시지는 실패했을 때만 만듭니다.
+ *
+ * 【로그 영역 기하평균】
+ * y_i = Σ_j ln a_ij / n 을 구해 max로 빼서 정규화합니다.
+ *   w_i = exp(y_i − max y) / Σ exp(y_k − max y)
+ * 단순히 a_ij를 곱하면 n이 크면(예: 9^400) 오버/언더플로가 나므로
+ * 행 곱을 가수와 정수 지수로 나눠 누적하고(가수가 2^±256을 벗어날 때만 지수를 떼어 냄)
+ * 마지막에 ln(가수) + 지수·ln 2로 로그 합을 얻습니다.
+ * 비교마다 log를 부르는 것보다 빠르고(행마다 log 1회) 결과는 로그 합과 같습니다.
+ *
+ * 【작업 공간】
+ * Workspace는 크기 n에 맞춘 가중치/버퍼/결과를 담으며 compute마다 덮어씁니다.
+ * 스레드마다 하나씩 쓰고(공유 금지), AhpResult가 필요하면 toResult()로 한 번만 복사합니다.
+ * 커널 자체는 상태가 없어 여러 스레드가 공유해도 안전합니다.
+ * </pre>
+ */
+public class AhpKernel {
+
+    // 역수 관계 허용 오차 (AhpEngine 검증과 동일)
+    private static final double RECIPROCAL_TOLERANCE = 0.0001;
+    private static final double LN2 = Math.log(2.0);
+    // 행 곱을 이 범위 안에서 그대로 곱하고, 벗어날 때만 지수를 떼어 냄
+    private static final double RESCALE_MAX = 0x1p256;
+    private static final double RESCALE_MIN = 0x1p-256;
+
+    private final double tolerance;
+    private final int maxIterations;
+    private final RandomIndexTable randomIndexTable;
+
+    AhpKernel(double tolerance, int maxIterations, RandomIndexTable randomIndexTable) {
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.randomIndexTable = randomIndexTable;
+    }
+
+    /**
+     * 재사용 작업 공간 (크기 n 고정, 스레드 간 공유 금지)
+     */
+    public static final class Workspace {
+        private final int n;
+        private final double[] matrix;
+        private double[] weights;
+        private double[] buffer;
+        private final int[] exponents;
+        private AhpEngine.WeightMethod method;
+        private double lambdaMax;
+        private double consistencyIndex;
+        private double consistencyRatio;
+        private boolean consistent;
+        private int iterations;
+        private boolean converged;
+
+        public Workspace(int n) {
+            if (n < 1) {
+                throw new IllegalArgumentException("행렬 크기는 1 이상이어야 합니다: " + n);
+            }
+            this.n = n;
+            this.matrix = new double[n * n];
+            this.weights = new double[n];
+            this.buffer = new double[n];
+            this.exponents = new int[n];
+        }
+
+        public int size() {
+            return n;
+        }
+
+        /**
+         * 작업 공간의 행 우선 행렬 (복사 없이 직접 채우거나 읽음)
+         */
+        public double[] matrix() {
+            return matrix;
+        }
+
+        public double weight(int index) {
+            return weights[index];
+        }
+
+        /**
+         * 가중치를 호출 측 배열로 복사 (target 길이 ≥ n)
+         */
+        public void copyWeightsTo(double[] target) {
+            System.arraycopy(weights, 0, target, 0, n);
+        }
+
+        public AhpEngine.WeightMethod method() {
+            return method;
+        }
+
+        public double lambdaMax() {
+            return lambdaMax;
+        }
+
+        public double consistencyIndex() {
+            return consistencyIndex;
+        }
+
+        public double consistencyRatio() {
+            return consistencyRatio;
+        }
+
+        public boolean isConsistent() {
+            return consistent;
+        }
+
+        public int iterations() {
+            return iterations;
+        }
+
+        public boolean isConverged() {
+            return converged;
+        }
+
+        /**
+         * 마지막 계산 결과를 AhpResult로 복사
+         */
+        public AhpEngine.AhpResult toResult() {
+            return new AhpEngine.AhpResult(weights.clone(), lambdaMax, consistencyIndex, consistencyRatio,
+                    consistent, method, iterations, converged);
+        }
+    }
+
+    /**
+     * 상삼각 값으로 작업 공간 행렬 채우기 (대각 1, 하삼각은 역수)
+     */
+    public void setUpperTriangle(Workspace workspace, double[] upperTriangle) {
+        int n = workspace.n;
+        if (upperTriangle.length != n * (n - 1) / 2) {
+            throw new IllegalArgumentException(String.format("상삼각 요소 개수가 맞지 않습니다. 예상: %d, 실제: %d",
+                    n * (n - 1) / 2, upperTriangle.length));
+        }
+        double[] matrix = workspace.matrix;
+        int idx = 0;
+        for (int i = 0; i < n; i++) {
+            matrix[i * n + i] = 1.0;
+            for (int j = i + 1; j < n; j++) {
+                matrix[i * n + j] = upperTriangle[idx];
+                matrix[j * n + i] = 1.0 / upperTriangle[idx];
+                idx++;
+            }
+        }
+    }
+
+    /**
+     * 비교값 하나를 역수와 함께 제자리 수정
+     */
+    public void setJudgment(Workspace workspace, int row, int column, double value) {
+        int n = workspace.n;
+        workspace.matrix[row * n + column] = value;
+        workspace.matrix[column * n + row] = 1.0 / value;
+    }
+
+    /**
+     * 작업 공간 행렬로 가중치/λmax/CR 계산 (결과는 작업 공간에 기록)
+     *
+     * @throws IllegalArgumentException 양수가 아닌 값, 대각 ≠ 1, 역수 관계 위반
+     */
+    public Workspace compute(Workspace workspace, AhpEngine.WeightMethod method) {
+        int n = workspace.n;
+        double[] matrix = workspace.matrix;
+        double[] mantissas = workspace.buffer;
+        int[] exponents = workspace.exponents;
+        Arrays.fill(mantissas, 1.0);
+        Arrays.fill(exponents, 0);
+
+        // 검증 + 행 곱 누적 (한 번의 상삼각 순회)
+        for (int i = 0; i < n; i++) {
+            double diagonal = matrix[i * n + i];
+            if (!(diagonal > 0)) {
+                throw nonPositive(i, i, diagonal);
+            }
+            if (Math.abs(diagonal - 1.0) > RECIPROCAL_TOLERANCE) {
+                throw new IllegalArgumentException(
+                        String.format("대각선 요소는 1이어야 합니다: matrix[%d][%d]=%.4f", i, i, diagonal));
+            }
+            for (int j = i + 1; j < n; j++) {
+                double upper = matrix[i * n + j];
+                double lower = matrix[j * n + i];
+                if (!(upper > 0)) {
+                    throw nonPositive(i, j, upper);
+                }
+                if (!(lower > 0)) {
+                    throw nonPositive(j, i, lower);
+                }
+                // |a_ij − 1/a_ji| ≤ tol, |a_ji − 1/a_ij| ≤ tol 을 나눗셈 없이 확인
+                double mismatch = Math.abs(upper * lower - 1.0);
+                if (mismatch > RECIPROCAL_TOLERANCE * lower) {
+                    throw notReciprocal(i, j, upper, lower);
+                }
+                if (mismatch > RECIPROCAL_TOLERANCE * upper) {
+                    throw notReciprocal(j, i, lower, upper);
+                }
+                accumulate(mantissas, exponents, i, upper);
+                accumulate(mantissas, exponents, j, lower);
+            }
+        }
+
+        // 로그 영역 기하평균 → 정규화 (max를 빼서 exp 오버플로 방지)
+        double[] weights = workspace.weights;
+        double maxLog = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            double logMean = (Math.log(mantissas[i]) + exponents[i] * LN2) / n;
+            weights[i] = logMean;
+            maxLog = Math.max(maxLog, logMean);
+        }
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = Math.exp(weights[i] - maxLog);
+            sum += weights[i];
+        }
+        for (int i = 0; i < n; i++) {
+            weights[i] /= sum;
+        }
+
+        workspace.method = method;
+        workspace.iterations = 0;
+        workspace.converged = true;
+        if (method == AhpEngine.WeightMethod.EIGENVECTOR && n > 2) {
+            powerIteration(workspace);
+        } else {
+            // λmax = 평균((A×w)_i / w_i), n ≤ 2인 역수 행렬은 기하평균 가중치가 곧 고유벡터
+            double lambda = 0.0;
+            for (int i = 0; i < n; i++) {
+                double aw = 0.0;
+                int row = i * n;
+                for (int j = 0; j < n; j++) {
+                    aw += matrix[row + j] * weights[j];
+                }
+                if (weights[i] > 0) {
+                    lambda += aw / weights[i];
+                }
+            }
+            workspace.lambdaMax = lambda / n;
+        }
+
+        workspace.consistencyIndex = n > 1 ? (workspace.lambdaMax - n) / (n - 1) : 0.0;
+        double ri = n > 2 ? randomIndexTable.get(n) : 0.0;
+        workspace.consistencyRatio = ri == 0 ? 0.0 : workspace.consistencyIndex / ri;
+        workspace.consistent = workspace.consistencyRatio <= AhpEngine.CR_THRESHOLD || n <= 2;
+        return workspace;
+    }
+
+    /**
+     * 거듭제곱법 (기하평균 가중치에서 시작, 작업 공간의 두 벡터를 번갈아 사용)
+     */
+    private void powerIteration(Workspace workspace) {
+        int n = workspace.n;
+        double[] matrix = workspace.matrix;
+        double[] current = workspace.weights;
+        double[] next = workspace.buffer;
+        double lambda = n;
+        int iteration = 1;
+        boolean converged = false;
+
+        for (; iteration <= maxIterations; iteration++) {
+            double sum = 0.0;
+            for (int i = 0; i < n; i++) {
+                double value = 0.0;
+                int row = i * n;
+                for (int j = 0; j < n; j++) {
+                    value += matrix[row + j] * current[j];
+                }
+                next[i] = value;
+                sum += value;
+            }
+            // Σw = 1이므로 Σ(A×w)가 고유값 추정치
+            lambda = sum;
+
+            double delta = 0.0;
+            for (int i = 0; i < n; i++) {
+                next[i] /= sum;
+                delta = Math.max(delta, Math.abs(next[i] - current[i]));
+            }
+
+            double[] swap = current;
+            current = next;
+            next = swap;
+
+            if (delta < tolerance) {
+                converged = true;
+                break;
+            }
+        }
+
+        workspace.weights = current;
+        workspace.buffer = next;
+        workspace.lambdaMax = lambda;
+        workspace.iterations = Math.min(iteration, maxIterations);
+        workspace.converged = converged;
+    }
+
+    /**
+     * 행 곱에 값 하나를 곱함 (범위를 벗어날 때만 지수를 떼어 정수로 누적)
+     */
+    private static void accumulate(double[] mantissas, int[] exponents, int row, double value) {
+        double product = mantissas[row] * value;
+        if (product < RESCALE_MAX && product > RESCALE_MIN) {
+            mantissas[row] = product;
+            return;
+        }
+        // 곱하기 전 두 값에서 각각 지수를 떼므로 곱이 오버/언더플로했어도 복구됨
+        int mantissaExponent = Math.getExponent(mantissas[row]);
+        int valueExponent = Math.getExponent(value);
+        mantissas[row] = Math.scalb(mantissas[row], -mantissaExponent) * Math.scalb(value, -valueExponent);
+        exponents[row] += mantissaExponent + valueExponent;
+    }
+
+    private static IllegalArgumentException nonPositive(int row, int column, double value) {
+        return new IllegalArgumentException(
+                String.format("모든 요소는 양수여야 합니다: matrix[%d][%d]=%.4f", row, column, value));
+    }
+
+    private static IllegalArgumentException notReciprocal(int row, int column, double value, double opposite) {
+        return new IllegalArgumentException(
+                String.format("역수 관계 위반: matrix[%d][%d]=%.4f, 예상값=%.4f (1/matrix[%d][%d])",
+                        row, column, value, 1.0 / opposite, column, row));
+    }
+}
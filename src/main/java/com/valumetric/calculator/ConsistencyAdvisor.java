@@ -0,0 +1,207 @@
+package com.valumetric.calculator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일관성 개선 제안 (CR &gt; 0.1인 쌍대비교 행렬)
+ *
+ * <pre>
+ * 【비일관 기여도】
+ * 가중치 w에 대한 편차 행렬 ε_ij = a_ij · w_j / w_i
+ * 완전히 일관되면 모든 ε_ij = 1이고, |ln ε_ij|가 클수록 그 비교가 비일관성에 크게 기여합니다.
+ * (λmax = Σ_ij ε_ij / n 이므로 ε가 1에서 멀수록 CI가 커짐)
+ *
+ * 【최소 수정 탐색 (탐욕법)】
+ * 1. |ln ε|가 큰 비교 CANDIDATES개를 후보로 고름
+ * 2. 후보마다 값을 일관값 w_i / w_j에 가장 가까운 Saaty 척도(1/9 ~ 9)로 바꿔 CR을 다시 계산
+ * 3. CR이 가장 많이 줄어드는 비교 하나만 바꾸고 가중치/편차를 다시 구함
+ * 4. CR ≤ 0.1이 되거나, 수정 한도에 도달하거나, 더 줄일 수 없으면 종료
+ * 한 번에 비교 하나씩만 바꾸므로 보통 1~3개 수정으로 임계값 아래로 내려갑니다.
+ * 제안 값은 척도 값이라 관리 화면 슬라이더에 그대로 반영할 수 있습니다.
+ *
+ * 【비용】
+ * 단계마다 O(CANDIDATES · n²) (거듭제곱법이면 반복 횟수 배), n=15에서 1ms 미만
+ * 작업 행렬 하나를 제자리에서 바꿨다 되돌리며 후보를 평가합니다.
+ * </pre>
+ */
+public class ConsistencyAdvisor {
+
+    // 단계마다 CR을 다시 계산해 볼 후보 비교 수
+    static final int CANDIDATES = 5;
+
+    private static final double[] SAATY_SCALE = {
+            1.0 / 9, 1.0 / 8, 1.0 / 7, 1.0 / 6, 1.0 / 5, 1.0 / 4, 1.0 / 3, 1.0 / 2,
+            1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0
+    };
+
+    private final AhpEngine ahpEngine;
+
+    ConsistencyAdvisor(AhpEngine ahpEngine) {
+        this.ahpEngine = ahpEngine;
+    }
+
+    /**
+     * 비교별 비일관 기여도
+     *
+     * @param row             행 인덱스 (0부터, row &lt; column)
+     * @param column          열 인덱스
+     * @param value           현재 비교값 a_row,column
+     * @param consistentValue 현재 가중치와 일관된 비교값 w_row / w_column
+     * @param deviation       |ln ε| = |ln(value / consistentValue)|
+     */
+    public record PairDeviation(int row, int column, double value, double consistentValue, double deviation) {
+    }
+
+    /**
+     * 수정 제안
+     *
+     * @param currentValue          원래 비교값
+     * @param suggestedValue        제안 값 (Saaty 척도)
+     * @param consistencyRatioAfter 이 수정까지 반영했을 때의 CR
+     */
+    public record Adjustment(int row, int column, double currentValue, double suggestedValue,
+            double consistencyRatioAfter) {
+    }
+
+    /**
+     * 일관성 개선 제안 결과
+     *
+     * @param original              원래 행렬 결과
+     * @param deviations            원래 행렬의 비교별 기여도 (큰 순)
+     * @param adjustments           수정 제안 (적용 순서, 비교당 1개)
+     * @param adjusted              제안을 모두 반영한 결과 (제안이 없으면 original)
+     * @param adjustedUpperTriangle 제안을 모두 반영한 상삼각 값
+     * @param reachesThreshold      제안 반영 후 CR ≤ 0.1인지
+     */
+    public record Advice(AhpEngine.AhpResult original, List<PairDeviation> deviations,
+            List<Adjustment> adjustments, AhpEngine.AhpResult adjusted, double[] adjustedUpperTriangle,
+            boolean reachesThreshold) {
+    }
+
+    /**
+     * @param matrix         n×n 쌍대비교 행렬 (변경하지 않음)
+     * @param method         가중치 도출 방법
+     * @param maxAdjustments 수정할 비교 수 한도 (0이면 기여도만 계산)
+     * @throws IllegalArgumentException 유효하지 않은 행렬 또는 음수 한도
+     */
+    public Advice advise(double[][] matrix, AhpEngine.WeightMethod method, int maxAdjustments) {
+        if (maxAdjustments < 0) {
+            throw new IllegalArgumentException("수정 한도는 0 이상이어야 합니다: " + maxAdjustments);
+        }
+        AhpEngine.AhpResult original = ahpEngine.calculate(matrix, method);
+        List<PairDeviation> deviations = deviations(matrix, original.getWeights());
+        if (original.isConsistent() || maxAdjustments == 0) {
+            return new Advice(original, deviations, List.of(), original, upperTriangle(matrix),
+                    original.isConsistent());
+        }
+
+        int n = matrix.length;
+        double[][] work = new double[n][];
+        for (int i = 0; i < n; i++) {
+            work[i] = matrix[i].clone();
+        }
+
+        // 같은 비교를 다시 고치면 원래 값은 두고 제안 값만 갱신
+        Map<Integer, Adjustment> adjustments = new LinkedHashMap<>();
+        AhpEngine.AhpResult current = original;
+        List<PairDeviation> ranked = deviations;
+        for (int step = 0; step < maxAdjustments * 2 && !current.isConsistent(); step++) {
+            PairDeviation bestPair = null;
+            double bestValue = 0.0;
+            AhpEngine.AhpResult best = null;
+            int tried = 0;
+            for (PairDeviation candidate : ranked) {
+                if (tried == CANDIDATES) {
+                    break;
+                }
+                int key = candidate.row() * n + candidate.column();
+                if (!adjustments.containsKey(key) && adjustments.size() == maxAdjustments) {
+                    continue;
+                }
+                double suggested = snapToScale(candidate.consistentValue());
+                if (Math.abs(Math.log(suggested / candidate.value())) < 1e-9) {
+                    continue;
+                }
+                tried++;
+                set(work, candidate.row(), candidate.column(), suggested);
+                AhpEngine.AhpResult trial = ahpEngine.calculate(work, method);
+                set(work, candidate.row(), candidate.column(), candidate.value());
+                if (best == null || trial.getConsistencyRatio() < best.getConsistencyRatio()) {
+                    bestPair = candidate;
+                    bestValue = suggested;
+                    best = trial;
+                }
+            }
+            if (best == null || best.getConsistencyRatio() >= current.getConsistencyRatio()) {
+                break; // 척도 값으로는 더 줄일 수 없음
+            }
+
+            set(work, bestPair.row(), bestPair.column(), bestValue);
+            int key = bestPair.row() * n + bestPair.column();
+            Adjustment previous = adjustments.get(key);
+            double originalValue = previous != null ? previous.currentValue() : bestPair.value();
+            adjustments.put(key, new Adjustment(bestPair.row(), bestPair.column(), originalValue, bestValue,
+                    best.getConsistencyRatio()));
+            current = best;
+            ranked = deviations(work, current.getWeights());
+        }
+
+        return new Advice(original, deviations, List.copyOf(adjustments.values()), current, upperTriangle(work),
+                current.isConsistent());
+    }
+
+    /**
+     * 상삼각 비교별 |ln(a_ij · w_j / w_i)| (큰 순)
+     */
+    private static List<PairDeviation> deviations(double[][] matrix, double[] weights) {
+        int n = matrix.length;
+        List<PairDeviation> deviations = new ArrayList<>(n * (n - 1) / 2);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double consistent = weights[i] / weights[j];
+                deviations.add(new PairDeviation(i, j, matrix[i][j], consistent,
+                        Math.abs(Math.log(matrix[i][j] / consistent))));
+            }
+        }
+        deviations.sort(Comparator.comparingDouble(PairDeviation::deviation).reversed());
+        return deviations;
+    }
+
+    /**
+     * 로그 척도에서 가장 가까운 Saaty 척도 값 (1/9 ~ 9 밖이면 끝값)
+     */
+    static double snapToScale(double value) {
+        double log = Math.log(value);
+        double nearest = SAATY_SCALE[0];
+        double distance = Double.POSITIVE_INFINITY;
+        for (double scale : SAATY_SCALE) {
+            double d = Math.abs(Math.log(scale) - log);
+            if (d < distance) {
+                distance = d;
+                nearest = scale;
+            }
+        }
+        return nearest;
+    }
+
+    private static void set(double[][] matrix, int row, int column, double value) {
+        matrix[row][column] = value;
+        matrix[column][row] = 1.0 / value;
+    }
+
+    private static double[] upperTriangle(double[][] matrix) {
+        int n = matrix.length;
+        double[] values = new double[n * (n - 1) / 2];
+        int idx = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                values[idx++] = matrix[i][j];
+            }
+        }
+        return values;
+    }
+}
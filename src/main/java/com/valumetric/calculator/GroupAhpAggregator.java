@@ -0,0 +1,203 @@
+package com.valumetric.calculator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 그룹 AHP 집계 (여러 평가자의 쌍대비교를 하나로)
+ *
+ * <pre>
+ * 【집계 방식 (Mode)】
+ * - AIJ (Aggregation of Individual Judgments)
+ *   비교값마다 평가자 가중 기하평균:  a_k = exp(Σ α_e·ln a_ek / Σ α_e)
+ *   역수 관계가 유지되므로 집계 행렬에서 다시 가중치/CR을 구합니다.
+ *   비교를 비워 둔 평가자는 그 비교의 평균에서만 빠지며, 아무도 입력하지 않은 비교는 null
+ * - AIP (Aggregation of Individual Priorities)
+ *   평가자별 가중치 벡터의 가중 기하평균을 정규화:  w_i ∝ exp(Σ α_e·ln w_ei / Σ α_e)
+ *
+ * 【증분 갱신】
+ * 로그 가중합(Σ α·ln a, Σ α·ln w)과 가중치 합(Σ α)만 누적하므로,
+ * 평가자 한 명이 수정되면 이전 기여를 빼고 새 기여를 더하는 O(n²)으로 끝납니다.
+ * 비교마다 입력한 평가자 수를 함께 세어, 모두 빠진 비교는 부동소수 잔차 없이 null로 돌아갑니다.
+ *
+ * 【병렬 구성】
+ * 평가자 집합이 겹치지 않는 집계 두 개를 mergeFrom으로 합칠 수 있어
+ * parallelStream().collect(...)로 수백 명을 나눠 누적할 수 있습니다.
+ *
+ * 스레드 안전하지 않으므로 호출 측에서 동기화합니다.
+ * </pre>
+ */
+public class GroupAhpAggregator {
+
+    public enum Mode {
+        AIJ, AIP
+    }
+
+    private final int n;
+    private final double[] judgmentLogSums;
+    private final double[] judgmentWeights;
+    private final int[] judgmentCounts;
+    private final double[] priorityLogSums;
+    private double totalWeight;
+    private final Map<String, Member> members = new HashMap<>();
+
+    public GroupAhpAggregator(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("행렬 크기는 1 이상이어야 합니다: " + n);
+        }
+        int pairs = n * (n - 1) / 2;
+        this.n = n;
+        this.judgmentLogSums = new double[pairs];
+        this.judgmentWeights = new double[pairs];
+        this.judgmentCounts = new int[pairs];
+        this.priorityLogSums = new double[n];
+    }
+
+    private record Member(double weight, double[] logJudgments, double[] logPriorities) {
+    }
+
+    public int getN() {
+        return n;
+    }
+
+    public int evaluatorCount() {
+        return members.size();
+    }
+
+    public double totalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * 평가자 추가 또는 교체 (이전 기여를 빼고 새 기여를 더함)
+     *
+     * @param evaluatorWeight 평가자 가중치 α (양수)
+     * @param upperTriangle   평가자의 상삼각 비교값 (빈 비교는 null)
+     * @param priorities      평가자 비교에서 구한 가중치 벡터 (AIP용)
+     */
+    public void put(String evaluatorId, double evaluatorWeight, Double[] upperTriangle, double[] priorities) {
+        if (!(evaluatorWeight > 0) || Double.isInfinite(evaluatorWeight)) {
+            throw new IllegalArgumentException("평가자 가중치는 양수여야 합니다: " + evaluatorWeight);
+        }
+        if (upperTriangle.length != judgmentLogSums.length || priorities.length != n) {
+            throw new IllegalArgumentException(String.format("행렬 크기가 집계 대상(%d)과 다릅니다: %s", n, evaluatorId));
+        }
+
+        double[] logJudgments = new double[upperTriangle.length];
+        for (int k = 0; k < upperTriangle.length; k++) {
+            logJudgments[k] = upperTriangle[k] != null ? Math.log(upperTriangle[k]) : Double.NaN;
+        }
+        double[] logPriorities = new double[n];
+        for (int i = 0; i < n; i++) {
+            logPriorities[i] = Math.log(priorities[i]);
+        }
+
+        Member previous = members.put(evaluatorId, new Member(evaluatorWeight, logJudgments, logPriorities));
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        apply(members.get(evaluatorId), 1);
+    }
+
+    /**
+     * 평가자 제외
+     *
+     * @return 집계에 있던 평가자였는지
+     */
+    public boolean remove(String evaluatorId) {
+        Member previous = members.remove(evaluatorId);
+        if (previous == null) {
+            return false;
+        }
+        apply(previous, -1);
+        return true;
+    }
+
+    /**
+     * 다른 집계의 평가자를 모두 합침 (평가자 ID가 겹치면 예외)
+     */
+    public void mergeFrom(GroupAhpAggregator other) {
+        if (other.n != n) {
+            throw new IllegalArgumentException(String.format("행렬 크기가 다른 집계는 합칠 수 없습니다: %d, %d", n, other.n));
+        }
+        for (String evaluatorId : other.members.keySet()) {
+            if (members.containsKey(evaluatorId)) {
+                throw new IllegalArgumentException("평가자가 중복됩니다: " + evaluatorId);
+            }
+        }
+        members.putAll(other.members);
+        for (int k = 0; k < judgmentLogSums.length; k++) {
+            judgmentLogSums[k] += other.judgmentLogSums[k];
+            judgmentWeights[k] += other.judgmentWeights[k];
+            judgmentCounts[k] += other.judgmentCounts[k];
+        }
+        for (int i = 0; i < n; i++) {
+            priorityLogSums[i] += other.priorityLogSums[i];
+        }
+        totalWeight += other.totalWeight;
+    }
+
+    private void apply(Member member, int sign) {
+        double weight = sign * member.weight();
+        for (int k = 0; k < judgmentLogSums.length; k++) {
+            double log = member.logJudgments()[k];
+            if (Double.isNaN(log)) {
+                continue;
+            }
+            judgmentLogSums[k] += weight * log;
+            judgmentWeights[k] += weight;
+            judgmentCounts[k] += sign;
+            if (judgmentCounts[k] == 0) {
+                judgmentLogSums[k] = 0.0;
+                judgmentWeights[k] = 0.0;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            priorityLogSums[i] += weight * member.logPriorities()[i];
+        }
+        totalWeight += weight;
+        if (members.isEmpty()) {
+            Arrays.fill(priorityLogSums, 0.0);
+            totalWeight = 0.0;
+        }
+    }
+
+    /**
+     * AIJ 집계 상삼각 비교값 (아무도 입력하지 않은 비교는 null)
+     */
+    public Double[] aggregatedJudgments() {
+        Double[] values = new Double[judgmentLogSums.length];
+        for (int k = 0; k < values.length; k++) {
+            values[k] = judgmentCounts[k] > 0 ? Math.exp(judgmentLogSums[k] / judgmentWeights[k]) : null;
+        }
+        return values;
+    }
+
+    /**
+     * AIP 집계 가중치 (합계 1)
+     *
+     * @throws IllegalStateException 평가자가 없을 때
+     */
+    public double[] aggregatedPriorities() {
+        if (members.isEmpty()) {
+            throw new IllegalStateException("집계할 평가자가 없습니다");
+        }
+        double max = Double.NEGATIVE_INFINITY;
+        double[] means = new double[n];
+        for (int i = 0; i < n; i++) {
+            means[i] = priorityLogSums[i] / totalWeight;
+            max = Math.max(max, means[i]);
+        }
+        double sum = 0.0;
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = Math.exp(means[i] - max);
+            sum += weights[i];
+        }
+        for (int i = 0; i < n; i++) {
+            weights[i] /= sum;
+        }
+        return weights;
+    }
+}
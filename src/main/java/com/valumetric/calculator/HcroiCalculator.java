@@ -108,6 +108,36 @@ public class HcroiCalculator {
         return new HcroiResult(bep, achievementRate, hcroi);
     }
 
+    /**
+     * 월 실적 기준 HCROI 관련 지표를 계산합니다. (연봉 → 월 인건비 환산)
+     * 
+     * <pre>
+     * 월 인건비 = 연봉 / 12
+     * 복리후생비 = 월 인건비 × 4대보험료율
+     * </pre>
+     * 
+     * @param monthlyRevenue   월 매출액
+     * @param annualSalary     연봉
+     * @param insuranceRate    4대보험료율 (예: 0.0945)
+     * @param fixedCost        1인당 고정비
+     * @param targetProfitRate 목표 이익률
+     * @return HcroiResult 계산 결과 (BEP, 목표달성률, HCROI)
+     */
+    public HcroiResult calculateMonthly(BigDecimal monthlyRevenue,
+            BigDecimal annualSalary,
+            BigDecimal insuranceRate,
+            BigDecimal fixedCost,
+            BigDecimal targetProfitRate) {
+        if (annualSalary == null || insuranceRate == null) {
+            throw new IllegalArgumentException("모든 입력값은 null이 될 수 없습니다");
+        }
+
+        BigDecimal monthlySalary = annualSalary.divide(BigDecimal.valueOf(12), DEFAULT_SCALE, ROUNDING_MODE);
+        BigDecimal benefitCost = monthlySalary.multiply(insuranceRate);
+
+        return calculateWithBenefits(monthlyRevenue, monthlySalary, benefitCost, fixedCost, targetProfitRate);
+    }
+
     /**
      * 손익분기점 매출액 (BEP: Break-Even Point) 계산
      * 
@@ -0,0 +1,453 @@
+package com.valumetric.calculator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 불완전 쌍대비교 AHP 풀이 (일부 비교값이 비어 있는 행렬)
+ *
+ * <pre>
+ * 【저장】
+ * 입력된 m개 비교만 비교 그래프 인접 배열(CSR)로 보관하고 n×n 행렬은 만들지 않습니다.
+ * 행렬-벡터 곱은 O(n + m)이므로 n≈100, 비교 수백 개 수준에서도 가볍습니다.
+ *
+ * 【가중치 도출】
+ * - GEOMETRIC_MEAN → 로그 최소제곱법 (LLSM)
+ *   min Σ_(i,j 입력) (ln a_ij − y_i + y_j)²,  w_i = exp(y_i) / Σ exp(y_k)
+ *   정규방정식 L·y = b (L: 비교 그래프 라플라시안, b_i = Σ_j ln a_ij)를 켤레기울기법(CG)으로 풀이
+ *   완전 행렬이면 행 기하평균과 같은 해
+ * - EIGENVECTOR → Harker 방법
+ *   빈칸을 0으로 두고 대각을 (1 + 그 행의 빈칸 수)로 바꾼 행렬 B의 주고유벡터
+ *   LLSM 해에서 시작하는 거듭제곱법 (완전 행렬이면 B = A)
+ *   빈칸이 많으면 대각이 커서 수렴이 느려지므로, 음수가 생기지 않는 만큼 대각을 빼서(B − s·I)
+ *   반복합니다. 고유벡터는 같고 고유값만 s만큼 작아집니다.
+ *
+ * 【일관성】
+ * Harker 행렬 B 기준 λmax로 CI, CR 계산 (완전 행렬이면 AhpEngine 결과와 같음)
+ *
+ * 【추가 입력 추천】
+ * LLSM 추정치의 공분산은 σ²·L⁺ 이므로, 빈칸 (i,j)의 로그 비율 추정 분산은 σ²·R_ij
+ *   R_ij = L⁺_ii + L⁺_jj − 2·L⁺_ij  (비교 그래프에서 i, j 사이 유효 저항)
+ * 그 비교를 입력하면 정보 행렬의 행렬식이 (1 + R_ij)배 커지므로(D-최적)
+ * R_ij가 큰 빈칸, 즉 현재 추정이 가장 불확실한 비교부터 추천합니다.
+ * L⁺는 열마다 CG로 구하며 추천을 요청했을 때만 계산합니다. (n회 풀이)
+ *
+ * 【조건】
+ * 비교 그래프가 연결되어 있어야 합니다. (최소 n−1개 비교)
+ * </pre>
+ */
+public class IncompleteAhpSolver {
+
+    private final double tolerance;
+    private final int maxIterations;
+    private final RandomIndexTable randomIndexTable;
+
+    /**
+     * @param tolerance        CG 상대 잔차 / 거듭제곱법 가중치 변화량 수렴 기준
+     * @param maxIterations    CG / 거듭제곱법 최대 반복 횟수
+     * @param randomIndexTable CR 계산용 RI 테이블
+     */
+    IncompleteAhpSolver(double tolerance, int maxIterations, RandomIndexTable randomIndexTable) {
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.randomIndexTable = randomIndexTable;
+    }
+
+    /**
+     * 불완전 행렬 계산 결과
+     *
+     * @param ahp                    가중치 및 일관성 지표
+     * @param knownPairs             입력된 비교 수
+     * @param solverIterations       LLSM CG 반복 횟수
+     * @param completedUpperTriangle 빈칸을 w_i / w_j로 채운 상삼각 값
+     * @param suggestions            추가 입력 추천 (불확실성 큰 순)
+     */
+    public record Result(AhpEngine.AhpResult ahp, int knownPairs, int solverIterations,
+            double[] completedUpperTriangle, List<PairSuggestion> suggestions) {
+    }
+
+    /**
+     * 추가 입력 추천
+     *
+     * @param row            행 인덱스 (0부터, row &lt; column)
+     * @param column         열 인덱스
+     * @param estimatedValue 현재 가중치로 추정한 비교값 w_row / w_column
+     * @param uncertainty    유효 저항 R (로그 비율 추정 분산 / 잔차 분산)
+     */
+    public record PairSuggestion(int row, int column, double estimatedValue, double uncertainty) {
+    }
+
+    /**
+     * @param n               기준 수
+     * @param upperTriangle   상삼각 값 (행 우선, 빈 비교는 null)
+     * @param method          가중치 도출 방법
+     * @param suggestionLimit 추천할 빈칸 수 (0이면 계산 생략)
+     * @throws IllegalArgumentException 값 개수 불일치, 양수가 아닌 값, 비교 그래프 단절
+     */
+    public Result solve(int n, Double[] upperTriangle, AhpEngine.WeightMethod method, int suggestionLimit) {
+        ComparisonGraph graph = ComparisonGraph.of(n, upperTriangle);
+
+        Solution llsm = solveLaplacian(graph, graph.logRowSums());
+        double[] weights = toWeights(llsm.x());
+        boolean converged = llsm.converged();
+        int powerIterations = 0;
+        double lambdaMax;
+
+        if (method == AhpEngine.WeightMethod.EIGENVECTOR && n > 2) {
+            double shift = graph.harkerShift();
+            double[] current = weights;
+            double[] next = new double[n];
+            double lambda = n;
+            boolean powerConverged = false;
+            for (int iteration = 1; iteration <= maxIterations; iteration++) {
+                graph.multiplyHarker(current, next, shift);
+                double sum = 0.0;
+                for (double value : next) {
+                    sum += value;
+                }
+                // Σw = 1이므로 Σ((B − s·I)×w) + s가 고유값 추정치
+                lambda = sum + shift;
+                double delta = 0.0;
+                for (int i = 0; i < n; i++) {
+                    next[i] /= sum;
+                    delta = Math.max(delta, Math.abs(next[i] - current[i]));
+                }
+                double[] swap = current;
+                current = next;
+                next = swap;
+                powerIterations = iteration;
+                if (delta < tolerance) {
+                    powerConverged = true;
+                    break;
+                }
+            }
+            weights = current;
+            lambdaMax = lambda;
+            converged &= powerConverged;
+        } else {
+            double[] bw = new double[n];
+            graph.multiplyHarker(weights, bw, 0.0);
+            double sum = 0.0;
+            for (int i = 0; i < n; i++) {
+                sum += bw[i] / weights[i];
+            }
+            lambdaMax = sum / n;
+        }
+
+        double ci = n > 1 ? (lambdaMax - n) / (n - 1) : 0.0;
+        double ri = randomIndexTable.get(n);
+        double cr = n <= 2 || ri == 0 ? 0.0 : ci / ri;
+        boolean isConsistent = cr <= AhpEngine.CR_THRESHOLD || n <= 2;
+        AhpEngine.AhpResult ahp = new AhpEngine.AhpResult(weights, lambdaMax, ci, cr, isConsistent,
+                method, powerIterations, converged);
+
+        double[] completed = new double[upperTriangle.length];
+        int idx = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                completed[idx] = upperTriangle[idx] != null ? upperTriangle[idx] : weights[i] / weights[j];
+                idx++;
+            }
+        }
+
+        List<PairSuggestion> suggestions = suggestionLimit > 0 && graph.edgeCount() < upperTriangle.length
+                ? suggest(graph, upperTriangle, weights, suggestionLimit)
+                : List.of();
+
+        return new Result(ahp, graph.edgeCount(), llsm.iterations(), completed, suggestions);
+    }
+
+    /**
+     * 유효 저항이 큰 빈칸 상위 limit개
+     */
+    private List<PairSuggestion> suggest(ComparisonGraph graph, Double[] upperTriangle, double[] weights, int limit) {
+        int n = graph.n;
+        // L⁺의 k번째 열 = L·x = e_k − 1/n 의 평균 0 해 (L⁺는 대칭)
+        double[][] pseudoInverse = new double[n][];
+        double[] rhs = new double[n];
+        for (int k = 0; k < n; k++) {
+            rhs[k] = 1.0;
+            pseudoInverse[k] = solveLaplacian(graph, rhs).x();
+            rhs[k] = 0.0;
+        }
+
+        PriorityQueue<PairSuggestion> top = new PriorityQueue<>(
+                Comparator.comparingDouble(PairSuggestion::uncertainty));
+        int idx = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (upperTriangle[idx++] != null) {
+                    continue;
+                }
+                double resistance = pseudoInverse[i][i] + pseudoInverse[j][j] - 2 * pseudoInverse[i][j];
+                if (top.size() < limit) {
+                    top.add(new PairSuggestion(i, j, weights[i] / weights[j], resistance));
+                } else if (resistance > top.peek().uncertainty()) {
+                    top.poll();
+                    top.add(new PairSuggestion(i, j, weights[i] / weights[j], resistance));
+                }
+            }
+        }
+
+        List<PairSuggestion> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(PairSuggestion::uncertainty).reversed());
+        return result;
+    }
+
+    private record Solution(double[] x, int iterations, boolean converged) {
+    }
+
+    /**
+     * 라플라시안 연립방정식 L·x = rhs (대각 전처리 CG, 평균 0 해)
+     *
+     * <pre>
+     * L은 반정부호(1벡터가 영공간)이므로 rhs를 평균 0으로 옮겨 해가 존재하도록 하고,
+     * 끝에서 x도 평균 0으로 맞춥니다. 연결 그래프면 해는 유일합니다.
+     * </pre>
+     */
+    private Solution solveLaplacian(ComparisonGraph graph, double[] rhs) {
+        int n = graph.n;
+        double[] x = new double[n];
+        double[] r = rhs.clone();
+        center(r);
+        double rhsNorm = Math.sqrt(dot(r, r));
+        if (rhsNorm == 0.0) {
+            return new Solution(x, 0, true);
+        }
+
+        double[] z = new double[n];
+        graph.precondition(r, z);
+        double[] p = z.clone();
+        double[] lp = new double[n];
+        double rz = dot(r, z);
+
+        for (int iteration = 1; iteration <= maxIterations; iteration++) {
+            graph.multiplyLaplacian(p, lp);
+            double alpha = rz / dot(p, lp);
+            for (int i = 0; i < n; i++) {
+                x[i] += alpha * p[i];
+                r[i] -= alpha * lp[i];
+            }
+            if (Math.sqrt(dot(r, r)) <= tolerance * rhsNorm) {
+                center(x);
+                return new Solution(x, iteration, true);
+            }
+            graph.precondition(r, z);
+            double rzNext = dot(r, z);
+            double beta = rzNext / rz;
+            rz = rzNext;
+            for (int i = 0; i < n; i++) {
+                p[i] = z[i] + beta * p[i];
+            }
+        }
+        center(x);
+        return new Solution(x, maxIterations, false);
+    }
+
+    private static double[] toWeights(double[] logWeights) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double y : logWeights) {
+            max = Math.max(max, y);
+        }
+        double[] weights = new double[logWeights.length];
+        double sum = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.exp(logWeights[i] - max);
+            sum += weights[i];
+        }
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] /= sum;
+        }
+        return weights;
+    }
+
+    private static void center(double[] values) {
+        double mean = 0.0;
+        for (double value : values) {
+            mean += value;
+        }
+        mean /= values.length;
+        for (int i = 0; i < values.length; i++) {
+            values[i] -= mean;
+        }
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 비교 그래프 (CSR 인접 배열, 양방향 저장)
+     */
+    private static final class ComparisonGraph {
+        private final int n;
+        private final int[] offsets; // 행 i의 이웃은 [offsets[i], offsets[i+1])
+        private final int[] neighbors;
+        private final double[] values; // a_ij
+        private final double[] logs; // ln a_ij
+
+        private ComparisonGraph(int n, int[] offsets, int[] neighbors, double[] values, double[] logs) {
+            this.n = n;
+            this.offsets = offsets;
+            this.neighbors = neighbors;
+            this.values = values;
+            this.logs = logs;
+        }
+
+        static ComparisonGraph of(int n, Double[] upperTriangle) {
+            if (n < 1) {
+                throw new IllegalArgumentException("행렬 크기는 1 이상이어야 합니다: " + n);
+            }
+            int expectedLength = n * (n - 1) / 2;
+            if (upperTriangle == null || upperTriangle.length != expectedLength) {
+                throw new IllegalArgumentException(String.format("상삼각 요소 개수가 맞지 않습니다. 예상: %d, 실제: %d",
+                        expectedLength, upperTriangle == null ? 0 : upperTriangle.length));
+            }
+
+            int[] degree = new int[n];
+            int idx = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    Double value = upperTriangle[idx++];
+                    if (value == null) {
+                        continue;
+                    }
+                    if (!(value > 0) || Double.isInfinite(value)) {
+                        throw new IllegalArgumentException(
+                                String.format("비교값은 양수여야 합니다: a[%d][%d]=%s", i, j, value));
+                    }
+                    degree[i]++;
+                    degree[j]++;
+                }
+            }
+
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                offsets[i + 1] = offsets[i] + degree[i];
+            }
+            int[] cursor = offsets.clone();
+            int[] neighbors = new int[offsets[n]];
+            double[] values = new double[offsets[n]];
+            double[] logs = new double[offsets[n]];
+            idx = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    Double value = upperTriangle[idx++];
+                    if (value == null) {
+                        continue;
+                    }
+                    double log = Math.log(value);
+                    neighbors[cursor[i]] = j;
+                    values[cursor[i]] = value;
+                    logs[cursor[i]++] = log;
+                    neighbors[cursor[j]] = i;
+                    values[cursor[j]] = 1.0 / value;
+                    logs[cursor[j]++] = -log;
+                }
+            }
+
+            ComparisonGraph graph = new ComparisonGraph(n, offsets, neighbors, values, logs);
+            int components = graph.countComponents();
+            if (components > 1) {
+                throw new IllegalArgumentException(String.format(
+                        "비교가 서로 이어지지 않는 기준 묶음이 %d개 있습니다. 묶음 사이 비교를 최소 %d개 더 입력하세요",
+                        components, components - 1));
+            }
+            return graph;
+        }
+
+        int edgeCount() {
+            return neighbors.length / 2;
+        }
+
+        int degree(int i) {
+            return offsets[i + 1] - offsets[i];
+        }
+
+        double[] logRowSums() {
+            double[] sums = new double[n];
+            for (int i = 0; i < n; i++) {
+                for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                    sums[i] += logs[k];
+                }
+            }
+            return sums;
+        }
+
+        void multiplyLaplacian(double[] x, double[] out) {
+            for (int i = 0; i < n; i++) {
+                double value = degree(i) * x[i];
+                for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                    value -= x[neighbors[k]];
+                }
+                out[i] = value;
+            }
+        }
+
+        /**
+         * 대각 이동량 s (B − s·I의 대각이 최소 1로 남는 값)
+         */
+        double harkerShift() {
+            int minDiagonal = n;
+            for (int i = 0; i < n; i++) {
+                minDiagonal = Math.min(minDiagonal, n - degree(i));
+            }
+            return minDiagonal - 1;
+        }
+
+        /**
+         * (B − s·I)×x (Harker 행렬 B: 대각 1 + 빈칸 수, 입력된 비교값, 빈칸 0)
+         */
+        void multiplyHarker(double[] x, double[] out, double shift) {
+            for (int i = 0; i < n; i++) {
+                double value = (n - degree(i) - shift) * x[i];
+                for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                    value += values[k] * x[neighbors[k]];
+                }
+                out[i] = value;
+            }
+        }
+
+        /**
+         * 대각(차수) 전처리: z = r / degree
+         */
+        void precondition(double[] r, double[] z) {
+            for (int i = 0; i < n; i++) {
+                int degree = degree(i);
+                z[i] = degree > 0 ? r[i] / degree : r[i];
+            }
+        }
+
+        private int countComponents() {
+            boolean[] visited = new boolean[n];
+            int[] stack = new int[n];
+            int components = 0;
+            for (int start = 0; start < n; start++) {
+                if (visited[start]) {
+                    continue;
+                }
+                components++;
+                int top = 0;
+                stack[top++] = start;
+                visited[start] = true;
+                while (top > 0) {
+                    int node = stack[--top];
+                    for (int k = offsets[node]; k < offsets[node + 1]; k++) {
+                        int next = neighbors[k];
+                        if (!visited[next]) {
+                            visited[next] = true;
+                            stack[top++] = next;
+                        }
+                    }
+                }
+            }
+            return components;
+        }
+    }
+}
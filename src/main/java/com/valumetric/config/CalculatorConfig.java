@@ -1,7 +1,12 @@
 package com.valumetric.config;
 
 import com.valumetric.calculator.AhpEngine;
+import com.valumetric.calculator.AhpHierarchyEngine;
 import com.valumetric.calculator.HcroiCalculator;
+import com.valumetric.calculator.RandomIndexTable;
+import com.valumetric.calculator.WeightPreviewCalculator;
+import com.valumetric.calculator.WeightSensitivityAnalyzer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,8 +21,50 @@ public class CalculatorConfig {
         return new HcroiCalculator();
     }
 
+    /**
+     * n &gt; 15 Random Index 시뮬레이션 테이블 (표본 수/시드는 valumetric.ahp.random-index.*)
+     */
     @Bean
-    public AhpEngine ahpEngine() {
-        return new AhpEngine();
+    public RandomIndexTable randomIndexTable(
+            @Value("${valumetric.ahp.random-index.samples:20000}") int samples,
+            @Value("${valumetric.ahp.random-index.seed:1}") long seed) {
+        return new RandomIndexTable(samples, seed);
+    }
+
+    /**
+     * AHP 엔진 (기본 가중치 도출 방법과 거듭제곱법 수렴 조건은 valumetric.ahp.*)
+     */
+    @Bean
+    public AhpEngine ahpEngine(
+            @Value("${valumetric.ahp.method:GEOMETRIC_MEAN}") AhpEngine.WeightMethod method,
+            @Value("${valumetric.ahp.tolerance:1e-10}") double tolerance,
+            @Value("${valumetric.ahp.max-iterations:1000}") int maxIterations,
+            RandomIndexTable randomIndexTable) {
+        return new AhpEngine(method, tolerance, maxIterations, randomIndexTable);
+    }
+
+    /**
+     * AHP 다단계 계층 합성 엔진 (노드별 지역 결과 캐시 크기는 valumetric.ahp.hierarchy-cache-size)
+     */
+    @Bean
+    public AhpHierarchyEngine ahpHierarchyEngine(AhpEngine ahpEngine,
+            @Value("${valumetric.ahp.hierarchy-cache-size:256}") int cacheSize) {
+        return new AhpHierarchyEngine(ahpEngine, cacheSize);
+    }
+
+    /**
+     * AHP 가중치 민감도 / 순위 역전 분석기 (상태 없음)
+     */
+    @Bean
+    public WeightSensitivityAnalyzer weightSensitivityAnalyzer() {
+        return new WeightSensitivityAnalyzer();
+    }
+
+    /**
+     * 후보 가중치 순위/구간 미리보기 계산기 (상태 없음)
+     */
+    @Bean
+    public WeightPreviewCalculator weightPreviewCalculator() {
+        return new WeightPreviewCalculator();
     }
 }
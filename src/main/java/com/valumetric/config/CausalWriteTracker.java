@@ -0,0 +1,64 @@
+package com.valumetric.config;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 이 인스턴스가 마지막으로 수행한 쓰기의 operationTime 추적
+ * 
+ * <pre>
+ * MongoClient 명령 리스너로 등록되어 쓰기 명령 응답의 operationTime을 기록합니다.
+ * ($clusterTime은 같은 MongoClient의 세션이 드라이버 클러스터 시계로 공유합니다)
+ * 세컨더리로 보내는 분석 조회는 인과적 일관성 세션을 이 시점까지 앞당겨 시작하므로
+ * (readConcern.afterClusterTime) 세컨더리가 해당 쓰기를 적용한 뒤에 응답합니다.
+ * 
+ * 실적 입력 직후 캐시가 무효화되고 대시보드가 다시 집계될 때
+ * 복제 지연으로 이전 데이터가 캐시에 다시 채워지는 것을 막습니다.
+ * 단독(standalone) 서버는 operationTime을 반환하지 않으므로 아무 것도 기록되지 않습니다.
+ * </pre>
+ */
+@Component
+public class CausalWriteTracker implements CommandListener {
+
+    private static final Set<String> WRITE_COMMANDS = Set.of("insert", "update", "delete", "findAndModify",
+            "findandmodify");
+
+    private final AtomicReference<BsonTimestamp> lastOperationTime = new AtomicReference<>();
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        if (!WRITE_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        BsonDocument response = event.getResponse();
+        if (response.isTimestamp("operationTime")) {
+            BsonTimestamp operationTime = response.getTimestamp("operationTime");
+            lastOperationTime.accumulateAndGet(operationTime, CausalWriteTracker::later);
+        }
+    }
+
+    /**
+     * 세션이 마지막 쓰기 이후의 데이터만 읽도록 시점 앞당기기
+     */
+    public void advance(ClientSession session) {
+        BsonTimestamp operationTime = lastOperationTime.get();
+        if (operationTime != null) {
+            session.advanceOperationTime(operationTime);
+        }
+    }
+
+    public BsonTimestamp getLastOperationTime() {
+        return lastOperationTime.get();
+    }
+
+    private static BsonTimestamp later(BsonTimestamp current, BsonTimestamp next) {
+        return current == null || next.compareTo(current) > 0 ? next : current;
+    }
+}
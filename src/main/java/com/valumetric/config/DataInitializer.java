@@ -1,9 +1,14 @@
 package com.valumetric.config;
 
+import com.valumetric.calculator.HcroiCalculator;
+import com.valumetric.document.Alert;
 import com.valumetric.document.Employee;
+import com.valumetric.document.PeriodKey;
 import com.valumetric.document.SystemConfig;
 import com.valumetric.repository.EmployeeRepository;
-import com.valumetric.repository.SystemConfigRepository;
+import com.valumetric.service.AlertService;
+import com.valumetric.service.SystemConfigCache;
+import com.valumetric.service.SystemConfigSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -27,7 +32,9 @@ import java.util.Random;
 public class DataInitializer implements ApplicationRunner {
 
     private final EmployeeRepository employeeRepository;
-    private final SystemConfigRepository configRepository;
+    private final SystemConfigCache configCache;
+    private final HcroiCalculator hcroiCalculator;
+    private final AlertService alertService;
 
     private final Random random = new Random();
 
@@ -46,15 +53,22 @@ public class DataInitializer implements ApplicationRunner {
      * 시스템 설정 초기화 (AHP 가중치 포함)
      */
     private void initializeSystemConfig() {
-        SystemConfig existing = configRepository.getDefaultConfig();
-        if (existing.getId() != null && existing.getEvaluationCriteria() != null
-                && !existing.getEvaluationCriteria().isEmpty()) {
+        SystemConfigSnapshot existing = configCache.reload();
+        if (!existing.getEvaluationCriteria().isEmpty()) {
             log.info("시스템 설정이 이미 존재합니다. 스킵.");
             return;
         }
 
-        SystemConfig config = SystemConfig.createDefault();
-        configRepository.save(config);
+        SystemConfig defaults = SystemConfig.createDefault();
+        configCache.update(config -> {
+            config.setFixedCostPerPerson(defaults.getFixedCostPerPerson());
+            config.setInsuranceRate(defaults.getInsuranceRate());
+            config.setTargetProfitRate(defaults.getTargetProfitRate());
+            config.setEvaluationCriteria(defaults.getEvaluationCriteria());
+            config.setAhpWeights(defaults.getAhpWeights());
+            config.setConsistencyRatio(defaults.getConsistencyRatio());
+            config.setIsConsistent(defaults.getIsConsistent());
+        });
         log.info("✅ 시스템 기본 설정 생성 완료 (AHP 가중치 포함)");
     }
 
@@ -64,10 +78,8 @@ public class DataInitializer implements ApplicationRunner {
     private void initializeEmployees() {
         long count = employeeRepository.count();
         if (count >= 50) {
-            log.info("사원 데이터가 이미 {}명 존재합니다. 생일 데이터 확인 중...", count);
-
-            // 기존 사원들에게 birthDate가 없으면 추가
-            updateMissingBirthDates();
+            log.info("사원 데이터가 이미 {}명 존재합니다. 스킵.", count);
+            // 내장 경고 이동/생일/요약 필드 등 스키마 변경은 MigrationRunner가 백그라운드로 처리
             return;
         }
 
@@ -87,7 +99,14 @@ public class DataInitializer implements ApplicationRunner {
             employees.add(createRedZoneEmployee(i));
         }
 
-        employeeRepository.saveAll(employees);
+        SystemConfigSnapshot config = configCache.current();
+        employees.forEach(emp -> applySummaryFields(emp, config));
+
+        List<Employee> saved = employeeRepository.saveAll(employees);
+
+        // 위험군 사원(46~50번) 경고 알림 생성 - 사원 ID가 필요하므로 저장 후 생성
+        saved.subList(45, saved.size()).forEach(this::generateAlert);
+
         log.info("✅ 사원 {} 명 생성 완료 (위험군 5명 포함)", employees.size());
     }
 
@@ -112,7 +131,6 @@ public class DataInitializer implements ApplicationRunner {
                 .isEnabled(true)
                 .performanceLogs(new ArrayList<>())
                 .scoreHistories(new ArrayList<>())
-                .alerts(new ArrayList<>())
                 .build();
 
         // 최근 6개월 실적 로그 생성 (좋은 실적)
@@ -144,7 +162,6 @@ public class DataInitializer implements ApplicationRunner {
                 .isEnabled(true)
                 .performanceLogs(new ArrayList<>())
                 .scoreHistories(new ArrayList<>())
-                .alerts(new ArrayList<>())
                 .build();
 
         // 최근 6개월 실적 로그 생성 (저조한 실적)
@@ -153,9 +170,6 @@ public class DataInitializer implements ApplicationRunner {
         // 점수 이력 생성 (500~700 - 위험군)
         generateScoreHistory(emp, 500 + random.nextInt(200));
 
-        // 경고 알림 생성
-        generateAlert(emp);
-
         return emp;
     }
 
@@ -189,6 +203,7 @@ public class DataInitializer implements ApplicationRunner {
 
             Employee.PerformanceLog log = Employee.PerformanceLog.builder()
                     .period(period)
+                    .periodKey(PeriodKey.of(targetMonth))
                     .targetSales(targetSales.setScale(0, java.math.RoundingMode.HALF_UP))
                     .achievedSales(achievedSales.setScale(0, java.math.RoundingMode.HALF_UP))
                     .recordedAt(LocalDateTime.now().minusMonths(i))
@@ -218,14 +233,12 @@ public class DataInitializer implements ApplicationRunner {
      * 경고 알림 생성 (위험군용)
      */
     private void generateAlert(Employee emp) {
-        Employee.Alert alert = Employee.Alert.builder()
-                .alertType(Employee.AlertType.LOW_HCROI)
+        alertService.raise(Alert.builder()
+                .employeeId(emp.getId())
+                .alertType(Alert.AlertType.LOW_HCROI)
                 .message("HCROI 기준 미달 - 인건비 대비 매출 부족")
-                .isResolved(false)
                 .createdAt(LocalDateTime.now().minusDays(random.nextInt(30)))
-                .build();
-
-        emp.getAlerts().add(alert);
+                .build());
     }
 
     /**
@@ -253,24 +266,22 @@ public class DataInitializer implements ApplicationRunner {
     }
 
     /**
-     * 기존 사원 중 birthDate가 없는 사원에게 생일 추가
+     * 내장 리스트 기준으로 요약 필드 계산 (latestHcroi 포함)
      */
-    private void updateMissingBirthDates() {
-        List<Employee> employees = employeeRepository.findAll();
-        int updatedCount = 0;
-
-        for (Employee emp : employees) {
-            if (emp.getBirthDate() == null) {
-                emp.setBirthDate(generateRandomBirthDate());
-                employeeRepository.save(emp);
-                updatedCount++;
+    private void applySummaryFields(Employee emp, SystemConfigSnapshot config) {
+        emp.refreshSummaryFields();
+        emp.findPerformanceLog(emp.getLatestPeriod()).ifPresent(latest -> {
+            try {
+                emp.setLatestHcroi(hcroiCalculator.calculateMonthly(
+                        latest.getAchievedSales(),
+                        emp.getCurrentSalary(),
+                        config.getInsuranceRate(),
+                        config.getFixedCostPerPerson(),
+                        config.getTargetProfitRate()).getHcroiIndex());
+                emp.setLatestHcroiConfigVersion(config.getVersion());
+            } catch (IllegalArgumentException e) {
+                log.warn("HCROI 계산 실패: employeeId={}", emp.getId());
             }
-        }
-
-        if (updatedCount > 0) {
-            log.info("✅ {}명의 사원에게 생일 데이터 추가 완료", updatedCount);
-        } else {
-            log.info("모든 사원에게 이미 생일 데이터가 있습니다.");
-        }
+        });
     }
 }
@@ -0,0 +1,54 @@
+package com.valumetric.config;
+
+import org.bson.types.Decimal128;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+
+/**
+ * MongoDB 매핑 설정
+ *
+ * <pre>
+ * BigDecimal은 기본적으로 문자열로 저장되어 서버 집계($sum/$avg)에서 무시됩니다.
+ * 모든 BigDecimal을 Decimal128로 저장하도록 컨버터를 등록합니다.
+ * - 읽기: Decimal128 → BigDecimal (마이그레이션 전 문자열 값은 기본 컨버터가 처리)
+ * - 쓰기: 34자리(Decimal128 정밀도)를 넘는 값은 HALF_EVEN으로 반올림
+ * </pre>
+ */
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                BigDecimalToDecimal128Converter.INSTANCE,
+                Decimal128ToBigDecimalConverter.INSTANCE));
+    }
+
+    @WritingConverter
+    enum BigDecimalToDecimal128Converter implements Converter<BigDecimal, Decimal128> {
+        INSTANCE;
+
+        @Override
+        public Decimal128 convert(BigDecimal source) {
+            return new Decimal128(source.round(MathContext.DECIMAL128));
+        }
+    }
+
+    @ReadingConverter
+    enum Decimal128ToBigDecimalConverter implements Converter<Decimal128, BigDecimal> {
+        INSTANCE;
+
+        @Override
+        public BigDecimal convert(Decimal128 source) {
+            return source.bigDecimalValue();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.valumetric.config;
+
+import com.mongodb.ReadPreference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기/쓰기 라우팅 설정
+ * 
+ * <pre>
+ * - mongoTemplate (기본, Repository 포함): 프라이머리 읽기/쓰기
+ * - analyticsMongoTemplate: 대시보드 집계 등 읽기 전용 분석 조회
+ *   → 세컨더리 우선 + maxStaleness (복제 지연이 큰 세컨더리는 제외)
+ * 
+ * 분석 조회는 {@link CausalWriteTracker}로 이 인스턴스의 마지막 쓰기 시점까지
+ * 앞당긴 인과적 일관성 세션에서 실행됩니다. (AnalyticsReads)
+ * 
+ * 【로컬 테스트】 한 머신에서 3노드 레플리카 셋
+ *   mongod --replSet rs0 --port 27017 --dbpath ./data/rs0-0
+ *   mongod --replSet rs0 --port 27018 --dbpath ./data/rs0-1
+ *   mongod --replSet rs0 --port 27019 --dbpath ./data/rs0-2
+ *   mongosh --port 27017 --eval "rs.initiate({_id:'rs0', members:[
+ *     {_id:0, host:'localhost:27017'}, {_id:1, host:'localhost:27018'}, {_id:2, host:'localhost:27019'}]})"
+ *   MONGODB_URI=mongodb://localhost:27017,localhost:27018,localhost:27019/valumetric?replicaSet=rs0
+ * 단독 서버에서는 읽기 선호도가 무시되어 모든 조회가 해당 서버로 갑니다.
+ * </pre>
+ */
+@Configuration
+public class ReadRoutingConfig {
+
+    // 드라이버가 허용하는 최소 maxStaleness
+    private static final long MIN_MAX_STALENESS_SECONDS = 90;
+
+    @Bean
+    @Primary
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory databaseFactory, MongoConverter converter) {
+        return new MongoTemplate(databaseFactory, converter);
+    }
+
+    @Bean
+    public MongoTemplate analyticsMongoTemplate(MongoDatabaseFactory databaseFactory, MongoConverter converter,
+            @Value("${valumetric.read-routing.analytics-read-preference:secondaryPreferred}") String mode,
+            @Value("${valumetric.read-routing.max-staleness-seconds:90}") long maxStalenessSeconds) {
+        MongoTemplate template = new MongoTemplate(databaseFactory, converter);
+        template.setReadPreference(analyticsReadPreference(mode, maxStalenessSeconds));
+        return template;
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer causalWriteTrackerCustomizer(CausalWriteTracker writeTracker) {
+        return builder -> builder.addCommandListener(writeTracker);
+    }
+
+    static ReadPreference analyticsReadPreference(String mode, long maxStalenessSeconds) {
+        if ("primary".equalsIgnoreCase(mode)) {
+            return ReadPreference.primary();
+        }
+        if (maxStalenessSeconds <= 0) {
+            return ReadPreference.valueOf(mode);
+        }
+        if (maxStalenessSeconds < MIN_MAX_STALENESS_SECONDS) {
+            throw new IllegalStateException(
+                    "max-staleness-seconds는 " + MIN_MAX_STALENESS_SECONDS + "초 이상이어야 합니다: " + maxStalenessSeconds);
+        }
+        return ReadPreference.valueOf(mode, List.of(), maxStalenessSeconds, TimeUnit.SECONDS);
+    }
+}
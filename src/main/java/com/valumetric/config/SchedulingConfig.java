@@ -0,0 +1,12 @@
+package com.valumetric.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 스케줄 작업 활성화 (이력 압축 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,10 +1,35 @@
 package com.valumetric.controller;
 
+import com.valumetric.calculator.GroupAhpAggregator;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.document.MigrationCheckpoint;
+import com.valumetric.document.RescoreJob;
 import com.valumetric.document.SystemConfig;
+import com.valumetric.document.SystemConfigRevision;
+import com.valumetric.dto.admin.AhpHierarchyMatrixUpdateRequest;
+import com.valumetric.dto.admin.AhpHierarchyRequest;
+import com.valumetric.dto.admin.AhpHierarchyResponse;
 import com.valumetric.dto.admin.AhpMatrixUpdateRequest;
+import com.valumetric.dto.admin.AhpSubmissionRequest;
 import com.valumetric.dto.admin.AhpWeightResponse;
+import com.valumetric.dto.admin.GroupAhpResponse;
+import com.valumetric.dto.admin.RevenueTotalCheckResponse;
 import com.valumetric.dto.admin.SalaryConfigUpdateRequest;
+import com.valumetric.dto.admin.WeightPreviewRequest;
+import com.valumetric.dto.admin.WeightPreviewResponse;
+import com.valumetric.dto.admin.WeightSensitivityResponse;
+import com.valumetric.ledger.LedgerProjector;
+import com.valumetric.ledger.LedgerSeeder;
+import com.valumetric.ledger.LedgerService;
+import com.valumetric.ledger.PeriodMetricsProjection;
+import com.valumetric.ledger.ZoneTrackerProjection;
+import com.valumetric.migration.MigrationRunner;
 import com.valumetric.service.AdminService;
+import com.valumetric.service.GroupAhpService;
+import com.valumetric.service.RescoreJobService;
+import com.valumetric.service.RevenueCheckService;
+import com.valumetric.service.WeightPreviewService;
+import com.valumetric.service.WeightSensitivityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,6 +43,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * 관리자 REST API 컨트롤러 (MongoDB 버전)
  */
@@ -31,6 +60,17 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
         private final AdminService adminService;
+        private final GroupAhpService groupAhpService;
+        private final WeightSensitivityService weightSensitivityService;
+        private final WeightPreviewService weightPreviewService;
+        private final RescoreJobService rescoreJobService;
+        private final RevenueCheckService revenueCheckService;
+        private final MigrationRunner migrationRunner;
+        private final LedgerService ledgerService;
+        private final LedgerProjector ledgerProjector;
+        private final LedgerSeeder ledgerSeeder;
+        private final PeriodMetricsProjection periodMetricsProjection;
+        private final ZoneTrackerProjection zoneTrackerProjection;
 
         @Operation(summary = "급여 설정 조회")
         @ApiResponses({
@@ -52,6 +92,20 @@ public class AdminController {
                 return ResponseEntity.ok(config);
         }
 
+        @Operation(summary = "설정 변경 이력 조회", description = "최신 20개 버전 (불변 스냅샷)")
+        @GetMapping("/config/versions")
+        public ResponseEntity<List<SystemConfigRevision>> getConfigVersions() {
+                log.info("설정 변경 이력 조회");
+                return ResponseEntity.ok(adminService.getConfigVersions());
+        }
+
+        @Operation(summary = "특정 버전 설정 조회")
+        @GetMapping("/config/versions/{version}")
+        public ResponseEntity<SystemConfig> getConfigVersion(@PathVariable long version) {
+                log.info("설정 버전 조회: version={}", version);
+                return ResponseEntity.ok(adminService.getConfigVersion(version));
+        }
+
         @Operation(summary = "현재 AHP 가중치 조회")
         @GetMapping("/ahp/weights")
         public ResponseEntity<AhpWeightResponse> getAhpWeights() {
@@ -69,6 +123,20 @@ public class AdminController {
                 return ResponseEntity.ok(response);
         }
 
+        @Operation(summary = "AHP 가중치 적용 미리보기", description = "저장 없이 후보 가중치(직접 입력 또는 쌍대비교 행렬)로 전 사원 점수를 계산해 순위/상위 K명/위험군 변화 비교")
+        @PostMapping("/ahp/dry-run")
+        public ResponseEntity<WeightPreviewResponse> dryRunAhpWeights(
+                        @Valid @RequestBody WeightPreviewRequest request) {
+                return ResponseEntity.ok(weightPreviewService.preview(request));
+        }
+
+        @Operation(summary = "AHP 쌍대비교 미리보기", description = "저장 없이 가중치/CR 계산, CR > 0.1이면 일관성 개선 제안 포함")
+        @PostMapping("/ahp/preview")
+        public ResponseEntity<AhpWeightResponse> previewAhpWeights(
+                        @Valid @RequestBody AhpMatrixUpdateRequest request) {
+                return ResponseEntity.ok(adminService.previewAhpWeights(request));
+        }
+
         @Operation(summary = "AHP 가중치 직접 설정")
         @PutMapping("/ahp/weights")
         public ResponseEntity<AhpWeightResponse> setAhpWeights(
@@ -80,6 +148,176 @@ public class AdminController {
                 return ResponseEntity.ok(response);
         }
 
+        @Operation(summary = "AHP 계층 조회", description = "기준 → 세부 기준 → 지표별 지역/전역 가중치")
+        @GetMapping("/ahp/hierarchy")
+        public ResponseEntity<AhpHierarchyResponse> getAhpHierarchy() {
+                log.info("AHP 계층 조회");
+                return ResponseEntity.ok(adminService.getAhpHierarchy());
+        }
+
+        @Operation(summary = "AHP 계층 저장", description = "계층 전체를 저장하고 지역 가중치를 곱해 전역 가중치 합성")
+        @PutMapping("/ahp/hierarchy")
+        public ResponseEntity<AhpHierarchyResponse> saveAhpHierarchy(
+                        @Valid @RequestBody AhpHierarchyRequest request) {
+                log.info("AHP 계층 저장 요청: root={}", request.getRoot().getName());
+                return ResponseEntity.ok(adminService.saveAhpHierarchy(request));
+        }
+
+        @Operation(summary = "AHP 계층 노드 행렬 수정", description = "노드 하나의 쌍대비교 행렬만 교체 (해당 노드만 재계산)")
+        @PutMapping("/ahp/hierarchy/matrix")
+        public ResponseEntity<AhpHierarchyResponse> updateAhpHierarchyMatrix(
+                        @Valid @RequestBody AhpHierarchyMatrixUpdateRequest request) {
+                log.info("AHP 계층 노드 행렬 수정 요청: path={}", request.getPath());
+                return ResponseEntity.ok(adminService.updateAhpHierarchyMatrix(request));
+        }
+
+        @Operation(summary = "그룹 AHP 평가자 제출", description = "평가자별 쌍대비교 저장 (재제출 시 교체, 집계에 증분 반영)")
+        @PutMapping("/ahp/group/submissions/{evaluatorId}")
+        public ResponseEntity<GroupAhpResponse.EvaluatorResult> submitGroupAhp(
+                        @PathVariable String evaluatorId,
+                        @Valid @RequestBody AhpSubmissionRequest request) {
+                log.info("그룹 AHP 제출 요청: evaluator={}", evaluatorId);
+                return ResponseEntity.ok(groupAhpService.submit(evaluatorId, request));
+        }
+
+        @Operation(summary = "그룹 AHP 평가자 제출 삭제")
+        @DeleteMapping("/ahp/group/submissions/{evaluatorId}")
+        public ResponseEntity<Void> deleteGroupAhp(@PathVariable String evaluatorId) {
+                log.info("그룹 AHP 제출 삭제 요청: evaluator={}", evaluatorId);
+                groupAhpService.delete(evaluatorId);
+                return ResponseEntity.noContent().build();
+        }
+
+        @Operation(summary = "그룹 AHP 집계 조회", description = "AIJ = 비교값 가중 기하평균, AIP = 평가자 가중치 가중 기하평균")
+        @GetMapping("/ahp/group")
+        public ResponseEntity<GroupAhpResponse> getGroupAhp(
+                        @RequestParam(defaultValue = "AIJ") GroupAhpAggregator.Mode mode) {
+                return ResponseEntity.ok(groupAhpService.aggregate(mode));
+        }
+
+        @Operation(summary = "그룹 AHP 가중치 적용", description = "집계 가중치를 평가 기준 가중치로 저장")
+        @PostMapping("/ahp/group/apply")
+        public ResponseEntity<GroupAhpResponse> applyGroupAhp(
+                        @RequestParam(defaultValue = "AIJ") GroupAhpAggregator.Mode mode) {
+                log.info("그룹 AHP 적용 요청: mode={}", mode);
+                return ResponseEntity.ok(groupAhpService.apply(mode));
+        }
+
+        @Operation(summary = "그룹 AHP 집계 재구성", description = "저장된 제출 전체로 메모리 집계를 다시 구성")
+        @PostMapping("/ahp/group/rebuild")
+        public ResponseEntity<GroupAhpResponse> rebuildGroupAhp(
+                        @RequestParam(defaultValue = "AIJ") GroupAhpAggregator.Mode mode) {
+                log.info("그룹 AHP 집계 재구성 요청");
+                return ResponseEntity.ok(groupAhpService.rebuild(mode));
+        }
+
+        @Operation(summary = "AHP 가중치 민감도 분석", description = "기준별로 가중치만 바꿀 때 전체 순위/상위 K명/위험군이 유지되는 구간과 가까운 순위 역전 지점")
+        @GetMapping("/ahp/sensitivity")
+        public ResponseEntity<WeightSensitivityResponse> analyzeWeightSensitivity(
+                        @RequestParam(required = false) Integer topK,
+                        @RequestParam(required = false) Integer eventLimit,
+                        @RequestParam(required = false) Double redZoneThreshold) {
+                log.info("가중치 민감도 분석 요청: topK={}, eventLimit={}", topK, eventLimit);
+                return ResponseEntity.ok(weightSensitivityService.analyze(topK, eventLimit, redZoneThreshold));
+        }
+
+        @Operation(summary = "전 사원 점수 재산정 시작", description = "현재 가중치로 백그라운드 재산정, 실행 중이면 끝난 뒤 한 번 더 실행 (스테이징 중인 작업은 취소)")
+        @PostMapping("/rescore/jobs")
+        public ResponseEntity<RescoreJob> startRescore() {
+                Optional<RescoreJob> started = rescoreJobService.start(RescoreJobService.TRIGGER_MANUAL);
+                log.info("전 사원 점수 재산정 요청: started={}", started.isPresent());
+                return ResponseEntity.accepted().body(started.or(rescoreJobService::current).orElse(null));
+        }
+
+        @Operation(summary = "재산정 작업 진행 상황", description = "실행 중인 작업, 없으면 가장 최근 작업")
+        @GetMapping("/rescore/jobs/current")
+        public ResponseEntity<RescoreJob> getCurrentRescoreJob() {
+                return ResponseEntity.of(rescoreJobService.current());
+        }
+
+        @Operation(summary = "재산정 작업 조회")
+        @GetMapping("/rescore/jobs/{jobId}")
+        public ResponseEntity<RescoreJob> getRescoreJob(@PathVariable String jobId) {
+                return ResponseEntity.ok(rescoreJobService.find(jobId));
+        }
+
+        @Operation(summary = "재산정 작업 취소", description = "스테이징 중에만 가능, 계산된 점수는 버리고 대시보드는 기존 점수 유지")
+        @PostMapping("/rescore/jobs/{jobId}/cancel")
+        public ResponseEntity<RescoreJob> cancelRescoreJob(@PathVariable String jobId) {
+                log.info("재산정 작업 취소 요청: jobId={}", jobId);
+                return ResponseEntity.accepted().body(rescoreJobService.cancel(jobId));
+        }
+
+        @Operation(summary = "스키마 마이그레이션 상태 조회", description = "버전별 진행 상태/체크포인트")
+        @GetMapping("/migrations")
+        public ResponseEntity<List<MigrationCheckpoint>> getMigrations() {
+                return ResponseEntity.ok(migrationRunner.getStatus());
+        }
+
+        @Operation(summary = "스키마 마이그레이션 실행", description = "미완료 버전을 백그라운드에서 체크포인트부터 이어서 실행")
+        @PostMapping("/migrations/run")
+        public ResponseEntity<List<MigrationCheckpoint>> runMigrations() {
+                boolean started = migrationRunner.start();
+                log.info("스키마 마이그레이션 실행 요청: started={}", started);
+                return ResponseEntity.accepted().body(migrationRunner.getStatus());
+        }
+
+        @Operation(summary = "월 매출 합계 검증", description = "서버 집계($sum) 합계와 Java 합계 일치 여부")
+        @GetMapping("/revenue-check")
+        public ResponseEntity<RevenueTotalCheckResponse> checkMonthlyRevenue(@RequestParam String period) {
+                log.info("월 매출 합계 검증: period={}", period);
+                return ResponseEntity.ok(revenueCheckService.verifyMonthlyRevenue(period));
+        }
+
+        @Operation(summary = "원장 프로젝션 상태 조회", description = "프로젝션별 반영/체크포인트 시퀀스와 지연 건수")
+        @GetMapping("/ledger/projections")
+        public ResponseEntity<List<LedgerProjector.ProjectionStatus>> getLedgerProjections() {
+                return ResponseEntity.ok(ledgerProjector.getStatus());
+        }
+
+        @Operation(summary = "원장 프로젝션 재구성", description = "모든 프로젝션을 비우고 원장 처음부터 병렬 재생")
+        @PostMapping("/ledger/projections/rebuild")
+        public ResponseEntity<LedgerProjector.RebuildResult> rebuildLedgerProjections() {
+                log.info("원장 프로젝션 재구성 요청");
+                return ResponseEntity.ok(ledgerProjector.rebuild());
+        }
+
+        @Operation(summary = "원장 초기화", description = "기존 사원 문서의 실적/점수 이력으로 원장 이벤트 생성 (1회)")
+        @PostMapping("/ledger/seed")
+        public ResponseEntity<Long> seedLedger() {
+                log.info("원장 초기화 요청");
+                return ResponseEntity.ok(ledgerSeeder.seedFromEmployees());
+        }
+
+        @Operation(summary = "사원 원장 이벤트 조회", description = "실적 정정 이력을 포함한 사원별 이벤트 (시퀀스 순)")
+        @GetMapping("/ledger/employees/{employeeId}")
+        public ResponseEntity<List<LedgerEvent>> getEmployeeLedger(@PathVariable String employeeId) {
+                return ResponseEntity.ok(ledgerService.findByEmployee(employeeId));
+        }
+
+        @Operation(summary = "원장 기준 기간별 실적 집계", description = "최근 N개월 (1~120)")
+        @GetMapping("/ledger/period-metrics")
+        public ResponseEntity<List<PeriodMetricsProjection.PeriodMetrics>> getLedgerPeriodMetrics(
+                        @RequestParam(defaultValue = "6") int months) {
+                if (months < 1 || months > 120) {
+                        throw new IllegalArgumentException("조회 개월 수는 1~120 사이여야 합니다: " + months);
+                }
+                return ResponseEntity.ok(periodMetricsProjection.getRecent(months));
+        }
+
+        @Operation(summary = "원장 기준 구간별 사원 수", description = "RED / NORMAL / TOP")
+        @GetMapping("/ledger/zones")
+        public ResponseEntity<Map<ZoneTrackerProjection.Zone, Long>> getLedgerZoneCounts() {
+                return ResponseEntity.ok(zoneTrackerProjection.counts());
+        }
+
+        @Operation(summary = "원장 기준 구간별 사원 목록", description = "구간 진입 순")
+        @GetMapping("/ledger/zones/{zone}")
+        public ResponseEntity<List<ZoneTrackerProjection.ZoneEntry>> getLedgerZone(
+                        @PathVariable ZoneTrackerProjection.Zone zone) {
+                return ResponseEntity.ok(zoneTrackerProjection.employeesIn(zone));
+        }
+
         public record DirectWeightRequest(String[] criteriaNames, double[] weights) {
         }
 
@@ -0,0 +1,67 @@
+package com.valumetric.controller;
+
+import com.valumetric.document.Alert;
+import com.valumetric.dto.alert.AlertCountResponse;
+import com.valumetric.dto.alert.AlertResolveRequest;
+import com.valumetric.dto.alert.AlertResolveResponse;
+import com.valumetric.service.AlertService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 경고 REST API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/alerts")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Alert", description = "경고 관리 API")
+@SecurityRequirement(name = "bearerAuth")
+public class AlertController {
+
+    private final AlertService alertService;
+
+    @Operation(summary = "미해결 경고 건수", description = "employeeId 생략 시 전체 건수 (부분 인덱스만으로 계산)")
+    @GetMapping("/count")
+    public ResponseEntity<AlertCountResponse> countUnresolved(
+            @RequestParam(required = false) String employeeId) {
+        return ResponseEntity.ok(alertService.countUnresolved(employeeId));
+    }
+
+    @Operation(summary = "사원별 미해결 경고 목록")
+    @GetMapping("/employees/{employeeId}")
+    public ResponseEntity<List<Alert>> getUnresolvedAlerts(@PathVariable String employeeId) {
+        return ResponseEntity.ok(alertService.getUnresolvedAlerts(employeeId));
+    }
+
+    @Operation(summary = "경고 일괄 해결", description = "alertIds / employeeId / alertType 조건을 모두 만족하는 미해결 경고를 해결 처리")
+    @PostMapping("/resolve")
+    public ResponseEntity<AlertResolveResponse> resolve(@RequestBody AlertResolveRequest request) {
+        log.info("경고 일괄 해결 요청: employeeId={}, alertType={}", request.getEmployeeId(), request.getAlertType());
+        return ResponseEntity.ok(alertService.resolve(request));
+    }
+
+    @Operation(summary = "미해결 경고 건수 정합성 점검", description = "사원 문서의 unresolvedAlertCount를 alerts 컬렉션 건수로 보정 (정기 점검과 동일)")
+    @PostMapping("/reconcile")
+    public ResponseEntity<Integer> reconcile() {
+        log.info("미해결 경고 건수 정합성 점검 요청");
+        return ResponseEntity.ok(alertService.reconcileUnresolvedCounts());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+        log.error("잘못된 요청: {}", e.getMessage());
+        return ResponseEntity.badRequest()
+                .body(new ErrorResponse("BAD_REQUEST", e.getMessage()));
+    }
+
+    public record ErrorResponse(String code, String message) {
+    }
+}
@@ -56,12 +56,15 @@ public class DashboardController {
                 return ResponseEntity.ok(redZoneList);
         }
 
-        @Operation(summary = "사원별 6개월 추이 데이터 조회")
+        @Operation(summary = "사원별 월별 추이 데이터 조회", description = "기본 6개월, 압축된 과거 구간은 연도별 요약값 사용")
         @GetMapping("/trend/{employeeId}")
         public ResponseEntity<EmployeeTrendDto> getEmployeeTrend(
-                        @Parameter(description = "사원 ID (MongoDB ObjectId)", required = true) @PathVariable String employeeId) {
-                log.info("사원 추이 데이터 조회: employeeId={}", employeeId);
-                EmployeeTrendDto trend = dashboardService.getEmployeeTrend(employeeId);
+                        @Parameter(description = "사원 ID (MongoDB ObjectId)", required = true) @PathVariable String employeeId,
+                        @Parameter(description = "조회 개월 수 (1~120)") @RequestParam(defaultValue = "6") int months,
+                        @Parameter(description = "HCROI 계산 설정 버전 (생략 시 현재 버전)") @RequestParam(required = false) Long configVersion) {
+                log.info("사원 추이 데이터 조회: employeeId={}, months={}, configVersion={}", employeeId, months,
+                                configVersion);
+                EmployeeTrendDto trend = dashboardService.getEmployeeTrend(employeeId, months, configVersion);
                 return ResponseEntity.ok(trend);
         }
 
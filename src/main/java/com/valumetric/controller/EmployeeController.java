@@ -5,6 +5,7 @@ import com.valumetric.dto.employee.EmployeeCreateRequest;
 import com.valumetric.dto.employee.EmployeeResponse;
 import com.valumetric.dto.employee.PerformanceLogRequest;
 import com.valumetric.service.EmployeeService;
+import com.valumetric.service.EmployeeWriteQueue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,12 +30,14 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeWriteQueue writeQueue;
 
-    @Operation(summary = "전체 사원 목록 조회")
+    @Operation(summary = "전체 사원 목록 조회", description = "sortBy: score | hcroi | alerts")
     @GetMapping
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
-        log.info("사원 목록 조회");
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(
+            @RequestParam(required = false) String sortBy) {
+        log.info("사원 목록 조회: sortBy={}", sortBy);
+        return ResponseEntity.ok(employeeService.getAllEmployees(sortBy));
     }
 
     @Operation(summary = "사원 상세 조회")
@@ -70,11 +73,22 @@ public class EmployeeController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "월별 실적 입력")
+    @Operation(summary = "월별 실적 입력",
+            description = "ack: SYNC(반영 후 사원 반환) | ASYNC(접수 즉시 202 응답), 생략 시 서버 설정값")
     @PostMapping("/performance")
     public ResponseEntity<Employee> addPerformanceLog(
-            @Valid @RequestBody PerformanceLogRequest request) {
-        log.info("실적 입력: employeeId={}, period={}", request.getEmployeeId(), request.getPeriod());
+            @Valid @RequestBody PerformanceLogRequest request,
+            @RequestParam(required = false) EmployeeWriteQueue.AckMode ack) {
+        log.info("실적 입력: employeeId={}, period={}, ack={}", request.getEmployeeId(), request.getPeriod(), ack);
+        EmployeeWriteQueue.AckMode ackMode = ack != null ? ack : writeQueue.getDefaultAckMode();
+        if (ackMode == EmployeeWriteQueue.AckMode.ASYNC) {
+            employeeService.submitPerformanceLog(request).exceptionally(e -> {
+                log.error("실적 반영 실패: employeeId={}, period={}, error={}", request.getEmployeeId(),
+                        request.getPeriod(), e.getMessage());
+                return null;
+            });
+            return ResponseEntity.accepted().build();
+        }
         return ResponseEntity.ok(employeeService.addPerformanceLog(request));
     }
 
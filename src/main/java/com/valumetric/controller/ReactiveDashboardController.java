@@ -0,0 +1,75 @@
+package com.valumetric.controller;
+
+import com.valumetric.dto.dashboard.DashboardSummaryDto;
+import com.valumetric.dto.dashboard.RedZoneEmployeeDto;
+import com.valumetric.dto.employee.EmployeeResponse;
+import com.valumetric.service.ReactiveDashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 논블로킹 조회 REST API 컨트롤러
+ * 
+ * <pre>
+ * Mono/Flux를 반환하면 서블릿 비동기 처리로 전환되어,
+ * MongoDB 응답을 기다리는 동안 Tomcat 워커 스레드가 반환됩니다.
+ * 스트림 엔드포인트는 NDJSON으로 결과를 한 건씩 전송합니다.
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api/dashboard/reactive")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+@Tag(name = "Dashboard (Reactive)", description = "대시보드/사원 목록 논블로킹 조회 API")
+public class ReactiveDashboardController {
+
+        private final ReactiveDashboardService reactiveDashboardService;
+
+        @Operation(summary = "대시보드 요약 정보 조회 (논블로킹)")
+        @GetMapping("/summary")
+        public Mono<DashboardSummaryDto> getSummary() {
+                log.info("대시보드 요약 정보 조회 (reactive)");
+                return reactiveDashboardService.getSummary();
+        }
+
+        @Operation(summary = "위험군(Red Zone) 사원 리스트 조회 (논블로킹)")
+        @GetMapping("/red-zone")
+        public Mono<List<RedZoneEmployeeDto>> getRedZoneEmployees() {
+                log.info("위험군 사원 리스트 조회 (reactive)");
+                return reactiveDashboardService.getRedZoneEmployees();
+        }
+
+        @Operation(summary = "위험군(Red Zone) 사원 스트림 (NDJSON, 정렬 없음)")
+        @GetMapping(value = "/red-zone/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<RedZoneEmployeeDto> streamRedZoneEmployees() {
+                log.info("위험군 사원 스트림 조회");
+                return reactiveDashboardService.streamRedZoneEmployees();
+        }
+
+        @Operation(summary = "사원 목록 스트림 (NDJSON)", description = "sortBy: score | hcroi | alerts")
+        @GetMapping(value = "/employees/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public Flux<EmployeeResponse> streamEmployees(@RequestParam(required = false) String sortBy) {
+                log.info("사원 목록 스트림 조회: sortBy={}", sortBy);
+                return reactiveDashboardService.streamEmployees(sortBy);
+        }
+
+        @ExceptionHandler(IllegalArgumentException.class)
+        public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+                log.error("잘못된 요청: {}", e.getMessage());
+                return ResponseEntity.badRequest()
+                                .body(new ErrorResponse("BAD_REQUEST", e.getMessage()));
+        }
+
+        public record ErrorResponse(String code, String message) {
+        }
+}
@@ -0,0 +1,64 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 평가자별 AHP 쌍대비교 제출 Document (MongoDB)
+ * 
+ * <pre>
+ * 부서장 등 평가자마다 한 건 (평가자 ID = 문서 ID, 다시 제출하면 교체)
+ * 그룹 AHP 집계(GroupAhpService)가 AIJ/AIP 방식으로 합칩니다.
+ * 
+ * weights/consistencyRatio는 제출 시점에 계산한 평가자 개인 결과입니다.
+ * updatedAt 인덱스는 다른 인스턴스의 제출 변경 감지에 사용됩니다.
+ * </pre>
+ */
+@Document(collection = "ahp_submissions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AhpSubmission {
+
+    @Id
+    private String evaluatorId;
+
+    private String evaluatorName;
+
+    private String department;
+
+    /**
+     * 집계 시 평가자 가중치 (기본 1)
+     */
+    @Builder.Default
+    private Double evaluatorWeight = 1.0;
+
+    private Integer matrixSize;
+
+    /**
+     * 상삼각 비교값 (빈 비교는 null)
+     */
+    @Builder.Default
+    private List<Double> upperTriangleValues = new ArrayList<>();
+
+    // 제출 시점 개인 결과
+    @Builder.Default
+    private List<Double> weights = new ArrayList<>();
+
+    private Double consistencyRatio;
+
+    private Boolean isConsistent;
+
+    private LocalDateTime submittedAt;
+
+    @Indexed(name = "updated_at_idx")
+    private LocalDateTime updatedAt;
+}
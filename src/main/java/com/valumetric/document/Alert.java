@@ -0,0 +1,64 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 경고 Document (MongoDB)
+ * 
+ * <pre>
+ * 사원 문서에 내장하던 경고를 별도 컬렉션으로 분리:
+ * - unresolved_idx: isResolved=false 문서만 담는 부분 인덱스
+ *   → 미해결 건수는 인덱스만으로 계산 (COUNT_SCAN)
+ * - resolved_ttl_idx: resolvedAt 기준 TTL 인덱스
+ *   → 해결된 경고는 보관 기간(valumetric.alerts.retention) 후 자동 삭제
+ *   → 미해결 경고는 resolvedAt이 없으므로 만료되지 않음
+ * 
+ * 보관 기간을 바꾸면 기존 TTL 인덱스와 옵션이 달라지므로
+ * 배포 전에 resolved_ttl_idx를 collMod로 수정하거나 삭제해야 합니다.
+ * </pre>
+ */
+@Document(collection = "alerts")
+@CompoundIndex(name = "unresolved_idx", def = "{'isResolved': 1, 'employeeId': 1, 'createdAt': -1}",
+        partialFilter = "{ 'isResolved': false }")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Alert {
+
+    @Id
+    private String id;
+
+    private String employeeId;
+
+    private AlertType alertType;
+
+    private String message;
+
+    private BigDecimal thresholdValue;
+
+    private BigDecimal actualValue;
+
+    @Builder.Default
+    private Boolean isResolved = false;
+
+    @Indexed(name = "resolved_ttl_idx",
+            expireAfter = "#{@environment.getProperty('valumetric.alerts.retention', '90d')}")
+    private LocalDateTime resolvedAt;
+
+    private LocalDateTime createdAt;
+
+    public enum AlertType {
+        LOW_HCROI,
+        LOW_SCORE,
+        UNDERPERFORMANCE
+    }
+}
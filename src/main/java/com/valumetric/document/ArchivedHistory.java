@@ -0,0 +1,43 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 압축된 사원 이력 원본 보관 Document (MongoDB)
+ * 
+ * <pre>
+ * 보관 기간이 지난 월별 실적/점수 이력 원본을 사원·연도 단위로 보관합니다.
+ * 사원 문서에는 연도별 요약(YearlySummary)만 남습니다.
+ * </pre>
+ */
+@Document(collection = "employee_history_archive")
+@CompoundIndex(name = "employee_year_idx", def = "{'employeeId': 1, 'year': 1}")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedHistory {
+
+    @Id
+    private String id;
+
+    private String employeeId;
+
+    private Integer year;
+
+    @Builder.Default
+    private List<Employee.PerformanceLog> performanceLogs = new ArrayList<>();
+
+    @Builder.Default
+    private List<Employee.ScoreHistory> scoreHistories = new ArrayList<>();
+
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,29 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change Stream 재개 토큰 Document (MongoDB)
+ * 
+ * 감시 대상 컬렉션 이름을 ID로 사용하며, 재시작 시 마지막으로 처리한
+ * 변경 이후부터 이어서 수신합니다.
+ */
+@Document(collection = "change_stream_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeStreamToken {
+
+    @Id
+    private String id; // 감시 컬렉션 이름
+
+    private String resumeToken; // 재개 토큰 (Extended JSON)
+
+    private LocalDateTime updatedAt;
+}
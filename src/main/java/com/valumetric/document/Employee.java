@@ -2,14 +2,24 @@ package com.valumetric.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 사원 Document (MongoDB)
@@ -18,10 +28,25 @@ import java.util.List;
  * 복잡한 데이터를 내장(Embedded)하여 단일 문서로 관리:
  * - 월별 실적 (performanceLogs)
  * - 점수 변동 내역 (scoreHistories)
- * - 경고 기록 (alerts)
+ * 
+ * 경고는 alerts 컬렉션({@link Alert})에 별도 저장됩니다.
+ * 
+ * 목록/대시보드 조회용 현재 상태 요약 필드는 내장 리스트와
+ * 같은 원자적 업데이트 안에서 함께 갱신됩니다.
+ * (currentScore, latestPeriod, latestHcroi)
+ * unresolvedAlertCount는 AlertService가 alerts 컬렉션 건수로 동기화합니다.
+ * 
+ * 금액(BigDecimal) 필드는 Decimal128로 저장되어 서버 집계에 바로 사용할 수 있습니다.
+ * (MongoConfig 컨버터, 기존 문자열 값은 EmployeeDecimalMigration이 변환)
  * </pre>
  */
 @Document(collection = "employees")
+@CompoundIndexes({
+        @CompoundIndex(name = "enabled_score_idx", def = "{'isEnabled': 1, 'currentScore': 1}"),
+        @CompoundIndex(name = "enabled_period_key_hcroi_idx", def = "{'isEnabled': 1, 'latestPeriodKey': 1, 'latestHcroi': 1}"),
+        @CompoundIndex(name = "performance_period_key_idx", def = "{'performanceLogs.periodKey': 1}"),
+        @CompoundIndex(name = "enabled_alert_idx", def = "{'isEnabled': 1, 'unresolvedAlertCount': 1}")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,7 +59,7 @@ public class Employee {
 
     private String name;
 
-    @Indexed(unique = true)
+    @Indexed(unique = true, sparse = true)
     private String email;
 
     private String password;
@@ -57,6 +82,63 @@ public class Employee {
 
     private LocalDateTime createdAt;
 
+    // ==================== 현재 상태 요약 (비정규화) ====================
+
+    /**
+     * 최근 점수 (scoreHistories 마지막 항목의 newScore)
+     */
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal currentScore;
+
+    /**
+     * 미해결 경고 수
+     */
+    @Builder.Default
+    private Integer unresolvedAlertCount = 0;
+
+    /**
+     * 가장 최근 실적 기간 ("2024-01" 형식)
+     */
+    private String latestPeriod;
+
+    /**
+     * 가장 최근 실적 기간 정수 키 (yyyymm, {@link PeriodKey})
+     */
+    private Integer latestPeriodKey;
+
+    /**
+     * 가장 최근 실적 기간의 HCROI (기록 시점 설정 기준)
+     */
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal latestHcroi;
+
+    /**
+     * latestHcroi 계산에 사용된 설정 버전 (system_config_revisions.version)
+     */
+    private Long latestHcroiConfigVersion;
+
+    /**
+     * 마지막 실적 쓰기가 교체한 기간 ("쓰기ID:2024-01,2024-02")
+     * 
+     * 실적 쓰기마다 새 쓰기ID로 바뀌므로 Change Stream 리스너는 performanceLogs 배열 전체 대신
+     * 이 값으로 영향받은 기간만 무효화합니다. ({@link #formatPeriodWrite}, {@link #parsePeriodWrite})
+     */
+    private String lastPeriodWrite;
+
+    /**
+     * 가중치 재산정 작업이 스테이징한 점수 (작업이 전환되기 전에는 조회에 쓰지 않음)
+     * 
+     * 작업 전환 후 반영(promote) 단계에서 currentScore/scoreHistories로 옮기고 비웁니다.
+     * 그 사이 점수 이력이 따로 추가되면 함께 비워져 재산정 대상에서 빠집니다.
+     */
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal stagedScore;
+
+    /**
+     * stagedScore를 기록한 재산정 작업 ID (rescore_jobs)
+     */
+    private String stagedScoreJobId;
+
     // ==================== 내장 데이터 ====================
 
     /**
@@ -72,10 +154,112 @@ public class Employee {
     private List<ScoreHistory> scoreHistories = new ArrayList<>();
 
     /**
-     * 경고 기록 (Embedded List)
+     * 압축된 과거 이력의 연도별 요약 (Embedded List)
+     * 
+     * 보관 기간이 지난 performanceLogs/scoreHistories는
+     * employee_history_archive 컬렉션으로 이동하고 여기에 요약만 남깁니다.
      */
     @Builder.Default
-    private List<Alert> alerts = new ArrayList<>();
+    private List<YearlySummary> yearlySummaries = new ArrayList<>();
+
+    // ==================== 실적 쓰기 표식 ====================
+
+    public static String formatPeriodWrite(String writeId, Collection<String> periods) {
+        return writeId + ":" + String.join(",", periods);
+    }
+
+    /**
+     * @return 표식에 담긴 기간 (형식이 다르면 empty)
+     */
+    public static Set<String> parsePeriodWrite(String periodWrite) {
+        int separator = periodWrite != null ? periodWrite.indexOf(':') : -1;
+        if (separator < 0 || separator == periodWrite.length() - 1) {
+            return Set.of();
+        }
+        return Set.copyOf(Arrays.asList(periodWrite.substring(separator + 1).split(",")));
+    }
+
+    // ==================== 조회 헬퍼 ====================
+
+    /**
+     * 특정 기간의 실적 조회 ("yyyy-MM")
+     */
+    public Optional<PerformanceLog> findPerformanceLog(String period) {
+        if (period == null) {
+            return Optional.empty();
+        }
+        return findPerformanceLog(PeriodKey.parse(period));
+    }
+
+    /**
+     * 특정 기간의 실적 조회 (정수 키)
+     * 
+     * latestPeriodKey 이후 기간은 스캔 없이 바로 빈 값을 반환합니다.
+     */
+    public Optional<PerformanceLog> findPerformanceLog(int periodKey) {
+        if (performanceLogs == null) {
+            return Optional.empty();
+        }
+        if (latestPeriodKey != null && periodKey > latestPeriodKey) {
+            return Optional.empty();
+        }
+        // 최근 기간일수록 리스트 뒤쪽에 있으므로 역순 탐색
+        for (int i = performanceLogs.size() - 1; i >= 0; i--) {
+            PerformanceLog perfLog = performanceLogs.get(i);
+            if (perfLog.resolvePeriodKey() == periodKey) {
+                return Optional.of(perfLog);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 조회 기준 점수
+     * 
+     * 전환된 재산정 작업(activeRescoreJobId)이 스테이징한 점수가 있으면 그 값, 아니면 currentScore
+     * 작업 전환 시점에 모든 사원의 조회 점수가 한 번에 바뀝니다.
+     */
+    public BigDecimal resolveCurrentScore(String activeRescoreJobId) {
+        if (activeRescoreJobId != null && stagedScore != null && activeRescoreJobId.equals(stagedScoreJobId)) {
+            return stagedScore;
+        }
+        return currentScore;
+    }
+
+    /**
+     * 내장 리스트로부터 요약 필드 재계산 (초기 데이터/백필용)
+     * 
+     * latestHcroi는 설정값이 필요하므로 호출 측에서 별도로 채웁니다.
+     */
+    public void refreshSummaryFields() {
+        currentScore = scoreHistories == null || scoreHistories.isEmpty()
+                ? null
+                : scoreHistories.get(scoreHistories.size() - 1).getNewScore();
+        if (unresolvedAlertCount == null) {
+            unresolvedAlertCount = 0; // 실제 건수는 AlertService가 alerts 컬렉션 기준으로 동기화
+        }
+        // 기간 형식이 잘못된 레거시 실적은 제외
+        latestPeriodKey = performanceLogs == null ? null
+                : performanceLogs.stream()
+                        .mapToInt(PerformanceLog::resolvePeriodKey)
+                        .filter(PeriodKey::isValid)
+                        .boxed()
+                        .max(Comparator.naturalOrder())
+                        .orElse(null);
+        latestPeriod = latestPeriodKey == null ? null : PeriodKey.format(latestPeriodKey);
+    }
+
+    /**
+     * 특정 연도의 압축 요약 조회
+     */
+    public Optional<YearlySummary> findYearlySummary(int year) {
+        if (yearlySummaries == null) {
+            return Optional.empty();
+        }
+        return yearlySummaries.stream()
+                .filter(summary -> summary.getYear() != null && summary.getYear() == year)
+                .findFirst();
+    }
 
     // ==================== 내장 클래스 ====================
 
@@ -86,10 +270,21 @@ public class Employee {
     @Builder
     public static class PerformanceLog {
         private String period; // "2024-01" 형식
+        private Integer periodKey; // 202401 형식 (PeriodKey)
         private BigDecimal targetSales;
         private BigDecimal achievedSales;
         private BigDecimal profit;
         private LocalDateTime recordedAt;
+
+        /**
+         * 정수 기간 키 (백필 전 문서는 period 문자열에서 계산)
+         * 
+         * 마이그레이션이 키를 채우지 못한 레거시 값(null/형식 오류)은 예외 대신 {@link PeriodKey#INVALID}
+         * (한 건 때문에 사원 단위 조회/집계 전체가 실패하지 않도록)
+         */
+        public int resolvePeriodKey() {
+            return periodKey != null ? periodKey : PeriodKey.tryParse(period);
+        }
     }
 
     @Getter
@@ -111,25 +306,35 @@ public class Employee {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
-    public static class Alert {
-        private AlertType alertType;
-        private String message;
-        private BigDecimal thresholdValue;
-        private BigDecimal actualValue;
-        @Builder.Default
-        private Boolean isResolved = false;
-        private LocalDateTime resolvedAt;
-        private LocalDateTime createdAt;
+    public static class YearlySummary {
+        private Integer year;
+        private Integer monthCount; // 요약된 실적 개월 수
+        private BigDecimal totalTargetSales;
+        private BigDecimal totalAchievedSales;
+        private BigDecimal totalProfit;
+        private BigDecimal averageAchievedSales; // 월 평균 달성 매출
+        private Integer scoreChangeCount; // 요약된 점수 변동 건수
+        private BigDecimal totalScoreChange;
+        private BigDecimal closingScore; // 해당 연도 마지막 점수
+        private String lastCompactedPeriod; // 요약에 포함된 마지막 기간 ("2022-06")
+        private LocalDateTime compactedAt;
+
+        /**
+         * 점수 변동 합계를 요약된 개월 수로 나눈 월 평균 (소수 둘째 자리)
+         * 
+         * 부분 연도(예: 6개월만 압축)도 12가 아닌 실제 개월 수로 나누며,
+         * 개월 수나 합계가 없으면 0을 반환합니다.
+         */
+        public BigDecimal averageMonthlyScoreChange() {
+            if (totalScoreChange == null || monthCount == null || monthCount <= 0) {
+                return BigDecimal.ZERO;
+            }
+            return totalScoreChange.divide(BigDecimal.valueOf(monthCount), 2, RoundingMode.HALF_UP);
+        }
     }
 
     public enum Role {
         USER,
         ADMIN
     }
-
-    public enum AlertType {
-        LOW_HCROI,
-        LOW_SCORE,
-        UNDERPERFORMANCE
-    }
 }
@@ -0,0 +1,38 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장 프로젝션 체크포인트 Document (MongoDB)
+ * 
+ * <pre>
+ * 프로젝션 이름을 ID로 사용하며, sequence까지 반영한 상태가
+ * ledger_projection_states 컬렉션에 generation 단위 청크로 저장되어 있음을 뜻합니다.
+ * 재시작 시 이 상태를 복원한 뒤 sequence 이후 이벤트만 재생합니다.
+ * </pre>
+ */
+@Document(collection = "ledger_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerCheckpoint {
+
+    @Id
+    private String projection;
+
+    private Long sequence; // 상태에 반영된 마지막 원장 시퀀스
+
+    private String generation; // 상태 청크 묶음 식별자
+
+    private Integer chunkCount;
+
+    private Long entryCount;
+
+    private LocalDateTime updatedAt;
+}
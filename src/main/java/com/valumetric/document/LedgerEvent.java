@@ -0,0 +1,100 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 실적 원장 이벤트 Document (MongoDB, 추가 전용)
+ * 
+ * <pre>
+ * 사원 문서는 기간별 실적을 교체(덮어쓰기)하므로 정정 이력이 남지 않습니다.
+ * 원장은 모든 쓰기를 전역 시퀀스(_id) 순서로 추가만 하며, 수정/삭제하지 않습니다.
+ * - PERFORMANCE_RECORDED: 실적 입력/정정 (당시 계산한 HCROI와 설정 버전 포함)
+ * - SCORE_CHANGED: 점수 이력 추가
+ * - ALERT_RAISED: 경고 발생
+ * - CONFIG_CHANGED: 시스템 설정 새 버전 적용 (employeeId 없음 = 전역 이벤트)
+ * 
+ * 대시보드 집계 등 프로젝션은 원장을 시퀀스 순서로 재생하여 언제든 다시 만들 수 있습니다.
+ * </pre>
+ */
+@Document(collection = "ledger_events")
+@CompoundIndex(name = "employee_sequence_idx", def = "{'employeeId': 1, '_id': 1}")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEvent {
+
+    @Id
+    private Long sequence;
+
+    private Type type;
+
+    private String employeeId; // null이면 전역 이벤트
+
+    private Employee.PerformanceLog performanceLog; // PERFORMANCE_RECORDED
+
+    private BigDecimal hcroi; // PERFORMANCE_RECORDED (계산 불가 시 null)
+
+    private Long configVersion; // PERFORMANCE_RECORDED(계산 기준 버전), CONFIG_CHANGED(새 버전)
+
+    private Employee.ScoreHistory scoreHistory; // SCORE_CHANGED
+
+    private String alertId; // ALERT_RAISED
+
+    private Alert.AlertType alertType; // ALERT_RAISED
+
+    private LocalDateTime recordedAt; // 원장 추가 시각 (시퀀스 빈자리 유예 판단 기준)
+
+    public boolean isGlobal() {
+        return employeeId == null;
+    }
+
+    public static LedgerEvent performanceRecorded(String employeeId, Employee.PerformanceLog perfLog, BigDecimal hcroi,
+            long configVersion) {
+        return LedgerEvent.builder()
+                .type(Type.PERFORMANCE_RECORDED)
+                .employeeId(employeeId)
+                .performanceLog(perfLog)
+                .hcroi(hcroi)
+                .configVersion(configVersion)
+                .build();
+    }
+
+    public static LedgerEvent scoreChanged(String employeeId, Employee.ScoreHistory history) {
+        return LedgerEvent.builder()
+                .type(Type.SCORE_CHANGED)
+                .employeeId(employeeId)
+                .scoreHistory(history)
+                .build();
+    }
+
+    public static LedgerEvent alertRaised(Alert alert) {
+        return LedgerEvent.builder()
+                .type(Type.ALERT_RAISED)
+                .employeeId(alert.getEmployeeId())
+                .alertId(alert.getId())
+                .alertType(alert.getAlertType())
+                .build();
+    }
+
+    public static LedgerEvent configChanged(long configVersion) {
+        return LedgerEvent.builder()
+                .type(Type.CONFIG_CHANGED)
+                .configVersion(configVersion)
+                .build();
+    }
+
+    public enum Type {
+        PERFORMANCE_RECORDED,
+        SCORE_CHANGED,
+        ALERT_RAISED,
+        CONFIG_CHANGED
+    }
+}
@@ -0,0 +1,64 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스키마 마이그레이션 진행 상태 Document (MongoDB)
+ * 
+ * <pre>
+ * 마이그레이션 버전을 ID로 사용하며, 청크마다 마지막으로 처리한 _id를 기록합니다.
+ * 중단(재시작/오류) 후에는 lastId 이후부터 이어서 처리합니다.
+ * 실행 중인 인스턴스(owner)는 청크마다 leaseExpiresAt을 연장하며,
+ * 임대가 만료되기 전에는 다른 인스턴스가 같은 버전을 실행하지 않습니다.
+ * </pre>
+ */
+@Document(collection = "schema_migrations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MigrationCheckpoint {
+
+    @Id
+    private Integer version;
+
+    private String description;
+
+    private String collectionName;
+
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    private Object lastId; // 마지막으로 처리한 문서 _id
+
+    @Builder.Default
+    private Long processedCount = 0L;
+
+    @Builder.Default
+    private Long modifiedCount = 0L;
+
+    private String lastError;
+
+    private String owner; // 임대를 가진 인스턴스 ID
+
+    private LocalDateTime leaseExpiresAt; // 임대 만료 시각 (null이면 임대 없음)
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+    public enum Status {
+        PENDING, RUNNING, FAILED, COMPLETED
+    }
+}
@@ -0,0 +1,109 @@
+package com.valumetric.document;
+
+import java.time.YearMonth;
+
+/**
+ * 실적 기간 정수 키 (yyyymm)
+ * 
+ * <pre>
+ * "2024-01" 문자열 대신 202401 정수로 비교/정렬/범위 조회합니다.
+ * - 문서 크기 감소 (문자열 7바이트+헤더 → int32 4바이트)
+ * - 인덱스 범위 스캔 ($gte/$lt)
+ * - 사원 루프 안에서 문자열 생성 없이 int 비교
+ * 정수 대소 관계가 기간의 선후 관계와 같습니다. (202312 &lt; 202401)
+ * </pre>
+ */
+public final class PeriodKey {
+
+    /**
+     * 해석할 수 없는 기간 (null 또는 형식 오류인 레거시 값)
+     * 어떤 유효한 키와도 같지 않고 모든 유효한 키보다 작습니다.
+     */
+    public static final int INVALID = 0;
+
+    private PeriodKey() {
+    }
+
+    public static int of(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public static int of(int year, int month) {
+        return year * 100 + month;
+    }
+
+    /**
+     * 현재 월 키
+     */
+    public static int current() {
+        return of(YearMonth.now());
+    }
+
+    /**
+     * "yyyy-MM" 문자열을 키로 변환 (중간 문자열 생성 없음)
+     * 
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static int parse(String period) {
+        if (period == null || period.length() != 7 || period.charAt(4) != '-') {
+            throw new IllegalArgumentException("기간 형식이 올바르지 않습니다 (yyyy-MM): " + period);
+        }
+        int year = digits(period, 0, 4);
+        int month = digits(period, 5, 7);
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("기간 형식이 올바르지 않습니다 (yyyy-MM): " + period);
+        }
+        return year * 100 + month;
+    }
+
+    /**
+     * "yyyy-MM" 문자열을 키로 변환, 형식이 맞지 않으면 {@link #INVALID} (레거시 데이터 조회용)
+     */
+    public static int tryParse(String period) {
+        try {
+            return parse(period);
+        } catch (IllegalArgumentException e) {
+            return INVALID;
+        }
+    }
+
+    public static boolean isValid(int key) {
+        return key != INVALID;
+    }
+
+    public static int year(int key) {
+        return key / 100;
+    }
+
+    public static int month(int key) {
+        return key % 100;
+    }
+
+    public static YearMonth toYearMonth(int key) {
+        return YearMonth.of(year(key), month(key));
+    }
+
+    /**
+     * 키를 "yyyy-MM" 문자열로 변환 (API 응답용)
+     */
+    public static String format(int key) {
+        return toYearMonth(key).toString();
+    }
+
+    public static int minusMonths(int key, int months) {
+        int index = year(key) * 12 + (month(key) - 1) - months;
+        return of(Math.floorDiv(index, 12), Math.floorMod(index, 12) + 1);
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("기간 형식이 올바르지 않습니다 (yyyy-MM): " + value);
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,36 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 몬테카를로 Random Index 계산 결과 Document (MongoDB)
+ * 
+ * <pre>
+ * 행렬 크기마다 한 건 (크기 = 문서 ID)
+ * 15 초과 크기의 RI를 처음 계산할 때 저장하고, 다음 시작부터는 다시 계산하지 않고 불러옵니다.
+ * 표본 수/시드 설정이 바뀌면 저장값을 쓰지 않고 다시 계산해 덮어씁니다.
+ * </pre>
+ */
+@Document(collection = "random_indices")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RandomIndexEntry {
+
+    @Id
+    private String matrixSize;
+
+    private Double randomIndex;
+
+    private Integer samples;
+
+    private Long seed;
+
+    private LocalDateTime computedAt;
+}
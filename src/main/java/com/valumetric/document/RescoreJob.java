@@ -0,0 +1,85 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가중치 재산정 작업 Document (MongoDB)
+ * 
+ * <pre>
+ * AHP 가중치가 바뀔 때마다 한 건 (작업 ID = 문서 ID)
+ * STAGING   : 파티션별로 새 점수를 계산해 사원 문서의 stagedScore에 기록 (조회에 쓰지 않음, 취소 가능)
+ * PROMOTING : 전환 완료 - 대시보드는 이 작업의 stagedScore를 읽음, 파티션별로 currentScore/이력에 반영 중
+ *             (재시작 시 이어서 반영)
+ * COMPLETED / CANCELLED / FAILED : 종료 (취소/실패 시 스테이징 값은 정리)
+ *
+ * 실행 중인 인스턴스(owner)가 heartbeatAt을 주기적으로 갱신하며,
+ * 갱신이 끊긴 작업만 다른 인스턴스(또는 재시작한 인스턴스)가 가져가 정리/재개합니다.
+ * </pre>
+ */
+@Document(collection = "rescore_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RescoreJob {
+
+    @Id
+    private String id;
+
+    private Long configVersion; // 재산정에 사용한 설정 버전
+
+    private List<String> criteriaNames;
+
+    private List<Double> weights;
+
+    @Builder.Default
+    private Status status = Status.STAGING;
+
+    private String trigger; // 시작 경로 (예: "direct-weights", "ahp-matrix", "ahp-hierarchy", "group-ahp", "manual")
+
+    @Builder.Default
+    private Long totalCount = 0L; // 대상 사원 수
+
+    @Builder.Default
+    private Long stagedCount = 0L; // 점수가 바뀌어 스테이징한 사원 수
+
+    @Builder.Default
+    private Long processedCount = 0L; // 스테이징 단계에서 계산을 마친 사원 수
+
+    @Builder.Default
+    private Long promotedCount = 0L; // currentScore/이력에 반영된 사원 수
+
+    @Builder.Default
+    private Long skippedCount = 0L; // 반영 전에 점수가 따로 바뀌어 건너뛴 사원 수
+
+    @Builder.Default
+    private Integer partitionCount = 0;
+
+    private String lastError;
+
+    private String owner; // 실행 중인 인스턴스 ID
+
+    private LocalDateTime heartbeatAt; // owner가 마지막으로 살아 있음을 기록한 시각
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime switchedAt; // 대시보드 전환 시각 (PROMOTING 진입)
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.CANCELLED || status == Status.FAILED;
+    }
+
+    public enum Status {
+        STAGING, PROMOTING, COMPLETED, CANCELLED, FAILED
+    }
+}
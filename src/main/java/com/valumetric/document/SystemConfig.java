@@ -2,6 +2,7 @@ package com.valumetric.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
@@ -16,6 +17,10 @@ import java.util.List;
  * 단일 문서로 모든 설정 관리:
  * - 급여/비용 설정 (SalaryConfig)
  * - AHP 가중치 설정 (AhpConfig)
+ * - AHP 다단계 계층 (ahpHierarchy, 선택)
+ * 
+ * configType은 유일 인덱스로 보호되며,
+ * revision은 쓰기마다 1씩 증가하여 캐시 갱신 여부 판단에 사용됩니다.
  * </pre>
  */
 @Document(collection = "system_config")
@@ -29,8 +34,16 @@ public class SystemConfig {
     @Id
     private String id;
 
+    public static final String DEFAULT_TYPE = "DEFAULT";
+
+    @Indexed(unique = true)
     @Builder.Default
-    private String configType = "DEFAULT";
+    private String configType = DEFAULT_TYPE;
+
+    /**
+     * 변경 회차 (쓰기마다 증가, 구버전 문서는 null)
+     */
+    private Long revision;
 
     // ==================== 급여/비용 설정 ====================
 
@@ -52,6 +65,7 @@ public class SystemConfig {
      * AHP 쌍대비교 행렬 (상삼각 값)
      * 
      * 3x3 행렬 예시: [a12, a13, a23]
+     * 불완전 비교로 저장된 경우 빈 비교는 null
      */
     @Builder.Default
     private List<Double> ahpMatrixValues = new ArrayList<>();
@@ -66,6 +80,14 @@ public class SystemConfig {
 
     private Boolean isConsistent;
 
+    /**
+     * AHP 다단계 계층 (기준 → 세부 기준 → 지표, 없으면 단일 행렬 방식)
+     * 
+     * 계층이 있으면 evaluationCriteria/ahpWeights/ahpMatrixValues는
+     * 루트 바로 아래 단계의 값으로 함께 갱신됩니다.
+     */
+    private AhpNode ahpHierarchy;
+
     private LocalDateTime updatedAt;
 
     // ==================== 내장 클래스 ====================
@@ -84,6 +106,34 @@ public class SystemConfig {
         private Integer displayOrder;
     }
 
+    /**
+     * AHP 계층 노드 (입력 + 계산 결과)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AhpNode {
+        private String name;
+        private String description;
+
+        /**
+         * 자식 간 쌍대비교 상삼각 값 (자식 2개 이상일 때)
+         */
+        @Builder.Default
+        private List<Double> matrixValues = new ArrayList<>();
+
+        @Builder.Default
+        private List<AhpNode> children = new ArrayList<>();
+
+        // 계산 결과
+        private Double localWeight;
+        private Double globalWeight;
+        private Double consistencyRatio;
+        private Boolean isConsistent;
+    }
+
     /**
      * 기본 설정 생성
      */
@@ -109,7 +159,8 @@ public class SystemConfig {
                         .build());
 
         return SystemConfig.builder()
-                .configType("DEFAULT")
+                .configType(DEFAULT_TYPE)
+                .revision(1L)
                 .fixedCostPerPerson(new BigDecimal("500000"))
                 .insuranceRate(new BigDecimal("0.0945"))
                 .targetProfitRate(new BigDecimal("0.15"))
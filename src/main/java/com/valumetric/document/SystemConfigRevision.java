@@ -0,0 +1,104 @@
+package com.valumetric.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시스템 설정 변경 이력 Document (MongoDB)
+ * 
+ * <pre>
+ * 설정이 바뀔 때마다 전체 값을 복사한 불변 스냅샷을 한 건씩 추가합니다.
+ * (포인터가 가리키지 못한 채 남은 버전을 새 값으로 덮어쓰는 경우 외에는 수정/삭제 없음)
+ * system_config(DEFAULT) 문서는 현재 버전을 가리키는 포인터 역할을 하며
+ * 그 revision 값이 이 컬렉션의 version과 일치합니다.
+ * 
+ * 버전 발급은 포인터의 revision 조건부 교체가 담당하고,
+ * {configType, version} 유일 인덱스는 같은 버전이 두 건 생기지 않게 막습니다.
+ * </pre>
+ */
+@Document(collection = "system_config_revisions")
+@CompoundIndex(name = "type_version_idx", def = "{'configType': 1, 'version': -1}", unique = true)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SystemConfigRevision {
+
+    @Id
+    private String id;
+
+    private String configType;
+
+    private Long version;
+
+    private BigDecimal fixedCostPerPerson;
+
+    private BigDecimal insuranceRate;
+
+    private BigDecimal targetProfitRate;
+
+    @Builder.Default
+    private List<SystemConfig.EvaluationCriteria> evaluationCriteria = new ArrayList<>();
+
+    @Builder.Default
+    private List<Double> ahpMatrixValues = new ArrayList<>();
+
+    @Builder.Default
+    private List<Double> ahpWeights = new ArrayList<>();
+
+    private Double consistencyRatio;
+
+    private Boolean isConsistent;
+
+    private SystemConfig.AhpNode ahpHierarchy;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * 설정 값을 복사하여 특정 버전의 스냅샷 생성
+     */
+    public static SystemConfigRevision of(SystemConfig config, long version) {
+        return SystemConfigRevision.builder()
+                .configType(config.getConfigType())
+                .version(version)
+                .fixedCostPerPerson(config.getFixedCostPerPerson())
+                .insuranceRate(config.getInsuranceRate())
+                .targetProfitRate(config.getTargetProfitRate())
+                .evaluationCriteria(new ArrayList<>(config.getEvaluationCriteria()))
+                .ahpMatrixValues(new ArrayList<>(config.getAhpMatrixValues()))
+                .ahpWeights(new ArrayList<>(config.getAhpWeights()))
+                .consistencyRatio(config.getConsistencyRatio())
+                .isConsistent(config.getIsConsistent())
+                .ahpHierarchy(config.getAhpHierarchy())
+                .createdAt(config.getUpdatedAt() != null ? config.getUpdatedAt() : LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 스냅샷을 설정 Document 형태로 복원 (해당 버전 기준)
+     */
+    public SystemConfig toConfig() {
+        return SystemConfig.builder()
+                .configType(configType)
+                .revision(version)
+                .fixedCostPerPerson(fixedCostPerPerson)
+                .insuranceRate(insuranceRate)
+                .targetProfitRate(targetProfitRate)
+                .evaluationCriteria(new ArrayList<>(evaluationCriteria))
+                .ahpMatrixValues(new ArrayList<>(ahpMatrixValues))
+                .ahpWeights(new ArrayList<>(ahpWeights))
+                .consistencyRatio(consistencyRatio)
+                .isConsistent(isConsistent)
+                .ahpHierarchy(ahpHierarchy)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.valumetric.dto.admin;
+
+import com.valumetric.calculator.AhpEngine;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * AHP 계층 내 노드 하나의 쌍대비교 행렬 수정 요청 DTO
+ * 
+ * <pre>
+ * path: 루트부터 '/'로 이은 경로 (예: "평가/매출성과")
+ * 다른 노드의 행렬은 바뀌지 않으므로 해당 노드만 다시 계산됩니다.
+ * </pre>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AhpHierarchyMatrixUpdateRequest {
+
+    @NotBlank(message = "노드 경로는 필수입니다")
+    private String path;
+
+    @NotNull(message = "쌍대비교 값은 필수입니다")
+    private double[] upperTriangleValues;
+
+    /**
+     * 가중치 도출 방법 (선택, 생략 시 서버 기본값 valumetric.ahp.method)
+     */
+    private AhpEngine.WeightMethod method;
+}
@@ -0,0 +1,65 @@
+package com.valumetric.dto.admin;
+
+import com.valumetric.calculator.AhpEngine;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AHP 다단계 계층 저장 요청 DTO
+ * 
+ * <pre>
+ * 【계층 예시】
+ * 평가 (매출성과, 근태, 기타성과 비교: [a12, a13, a23])
+ * ├─ 매출성과 (신규매출, 재계약, 마진 비교: [a12, a13, a23])
+ * │  ├─ 신규매출
+ * │  ├─ 재계약
+ * │  └─ 마진
+ * ├─ 근태
+ * └─ 기타성과
+ * 
+ * 하위 기준이 2개 이상인 노드만 upperTriangleValues가 필요합니다. (순서는 children 순서)
+ * </pre>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AhpHierarchyRequest {
+
+    @NotNull(message = "계층 루트는 필수입니다")
+    @Valid
+    private NodeRequest root;
+
+    /**
+     * 가중치 도출 방법 (선택, 생략 시 서버 기본값 valumetric.ahp.method)
+     */
+    private AhpEngine.WeightMethod method;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NodeRequest {
+
+        @NotBlank(message = "기준 이름은 필수입니다")
+        private String name;
+
+        private String description;
+
+        /**
+         * 하위 기준 간 쌍대비교 상삼각 값
+         */
+        private double[] upperTriangleValues;
+
+        @Valid
+        @Builder.Default
+        private List<NodeRequest> children = new ArrayList<>();
+    }
+}
@@ -0,0 +1,43 @@
+package com.valumetric.dto.admin;
+
+import com.valumetric.calculator.AhpEngine;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AHP 다단계 계층 가중치 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AhpHierarchyResponse {
+
+    private List<NodeResult> nodes; // 전위 순회 순서
+    private Map<String, Double> leafWeights; // 말단 지표 경로 → 전역 가중치 (합계 1)
+    private boolean isConsistent; // 모든 쌍대비교 행렬 CR ≤ 0.1
+    private AhpEngine.WeightMethod method; // 이번 계산 방법 (조회 시 null)
+    private Integer computedNodes; // 새로 계산한 행렬 수 (조회 시 null)
+    private Integer cachedNodes; // 캐시에서 가져온 행렬 수 (조회 시 null)
+    private String message;
+    private String rescoreJobId; // 저장 후 시작된 전 사원 재산정 작업 (조회/대기열이면 null)
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NodeResult {
+        private String path;
+        private String name;
+        private int depth;
+        private boolean leaf;
+        private Double localWeight;
+        private Double globalWeight;
+        private Double consistencyRatio; // 하위 기준 비교가 있는 노드만
+        private Boolean isConsistent;
+    }
+}
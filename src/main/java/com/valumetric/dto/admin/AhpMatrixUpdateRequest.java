@@ -1,5 +1,7 @@
 package com.valumetric.dto.admin;
 
+import com.valumetric.calculator.AhpEngine;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -18,6 +20,13 @@ import lombok.*;
  * - upperTriangleValues[0]: 매출 vs 근태 비교값
  * - upperTriangleValues[1]: 매출 vs 기타 비교값
  * - upperTriangleValues[2]: 근태 vs 기타 비교값
+ * 
+ * 【불완전 비교】
+ * 기준이 많으면 일부 값을 null로 비워 둘 수 있습니다. (입력된 비교끼리 모든 기준이 이어져야 함)
+ * 빈 비교는 입력된 비교로 추정하고, 추가 입력 시 효과가 큰 빈 비교를 suggestionLimit개 추천합니다.
+ * 
+ * 【일관성 개선 제안】
+ * 모든 값이 있고 CR &gt; 0.1이면 CR을 0.1 아래로 내리는 수정(최대 adjustmentLimit개 비교)을 함께 제안합니다.
  * </pre>
  */
 @Getter
@@ -32,10 +41,27 @@ public class AhpMatrixUpdateRequest {
 
     @NotNull(message = "쌍대비교 값은 필수입니다")
     @Size(min = 1, message = "최소 1개의 쌍대비교 값이 필요합니다")
-    private double[] upperTriangleValues;
+    private Double[] upperTriangleValues;
 
     /**
      * 기준 이름 (선택, 디스플레이용)
      */
     private String[] criteriaNames;
+
+    /**
+     * 가중치 도출 방법 (선택, 생략 시 서버 기본값 valumetric.ahp.method)
+     */
+    private AhpEngine.WeightMethod method;
+
+    /**
+     * 추천받을 빈 비교 수 (선택, 기본 5, 빈 비교가 있을 때만)
+     */
+    @Min(value = 0, message = "추천 개수는 0 이상이어야 합니다")
+    private Integer suggestionLimit;
+
+    /**
+     * 일관성 개선 제안에서 수정할 비교 수 한도 (선택, 기본 3, CR > 0.1일 때만)
+     */
+    @Min(value = 0, message = "수정 한도는 0 이상이어야 합니다")
+    private Integer adjustmentLimit;
 }
@@ -0,0 +1,36 @@
+package com.valumetric.dto.admin;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * 평가자별 AHP 쌍대비교 제출 요청 DTO
+ * 
+ * <pre>
+ * 현재 평가 기준 순서대로 상삼각 값을 입력합니다. (AhpMatrixUpdateRequest와 같은 형식, 빈 비교는 null)
+ * evaluatorWeight는 그룹 집계 시 이 평가자의 비중입니다. (생략 시 1)
+ * </pre>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AhpSubmissionRequest {
+
+    private String evaluatorName;
+
+    private String department;
+
+    @Positive(message = "평가자 가중치는 양수여야 합니다")
+    private Double evaluatorWeight;
+
+    @NotNull(message = "행렬 크기는 필수입니다")
+    private Integer matrixSize;
+
+    @NotNull(message = "쌍대비교 값은 필수입니다")
+    @Size(min = 1, message = "최소 1개의 쌍대비교 값이 필요합니다")
+    private Double[] upperTriangleValues;
+}
@@ -1,7 +1,10 @@
 package com.valumetric.dto.admin;
 
+import com.valumetric.calculator.AhpEngine;
 import lombok.*;
 
+import java.util.List;
+
 /**
  * AHP 가중치 계산 결과 응답 DTO
  */
@@ -18,5 +21,83 @@ public class AhpWeightResponse {
     private double consistencyIndex;
     private double consistencyRatio;
     private boolean isConsistent;
+    private AhpEngine.WeightMethod method;
+    private Integer iterations; // 거듭제곱법 반복 횟수
+    private Boolean converged; // 거듭제곱법 수렴 여부
+    private Integer knownPairs; // 입력된 비교 수 (불완전 비교일 때)
+    private double[] completedUpperTriangleValues; // 빈 비교를 추정값으로 채운 상삼각 값 (불완전 비교일 때)
+    private List<MissingPairSuggestion> suggestedPairs; // 추가 입력 추천 (효과 큰 순)
+    private ConsistencyAdvice consistencyAdvice; // 일관성 개선 제안 (완전 행렬이 CR > 0.1일 때)
     private String message;
+    private String rescoreJobId; // 저장 후 시작된 전 사원 재산정 작업 (미리보기/대기열이면 null)
+
+    /**
+     * 추가로 입력하면 불확실성을 가장 많이 줄이는 빈 비교
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MissingPairSuggestion {
+        private int row; // 0부터, row < column
+        private int column;
+        private String rowName;
+        private String columnName;
+        private double estimatedValue; // 현재 추정 비교값 (w_row / w_column)
+        private double uncertainty; // 로그 비율 추정 분산 계수 (클수록 불확실)
+    }
+
+    /**
+     * 일관성 개선 제안 (비일관 기여도 큰 비교 + CR을 0.1 아래로 내리는 최소 수정)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ConsistencyAdvice {
+        private List<InconsistentPair> inconsistentPairs; // 기여도 큰 순
+        private List<JudgmentAdjustment> adjustments; // 적용 순서
+        private double[] adjustedWeights; // 제안을 모두 반영한 가중치
+        private double adjustedConsistencyRatio;
+        private double[] adjustedUpperTriangleValues;
+        private boolean reachesThreshold; // 제안 반영 후 CR ≤ 0.1인지
+    }
+
+    /**
+     * 비일관성에 기여하는 비교 (ε = a·w_column / w_row)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class InconsistentPair {
+        private int row; // 0부터, row < column
+        private int column;
+        private String rowName;
+        private String columnName;
+        private double value; // 입력한 비교값
+        private double consistentValue; // 현재 가중치와 일관된 비교값 (w_row / w_column)
+        private double deviation; // |ln ε|
+    }
+
+    /**
+     * 비교값 수정 제안 (Saaty 척도 값)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class JudgmentAdjustment {
+        private int row;
+        private int column;
+        private String rowName;
+        private String columnName;
+        private double currentValue;
+        private double suggestedValue;
+        private double consistencyRatioAfter; // 이 수정까지 반영했을 때의 CR
+    }
 }
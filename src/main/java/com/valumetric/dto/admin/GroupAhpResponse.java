@@ -0,0 +1,50 @@
+package com.valumetric.dto.admin;
+
+import com.valumetric.calculator.AhpEngine;
+import com.valumetric.calculator.GroupAhpAggregator;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 그룹 AHP 집계 결과 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupAhpResponse {
+
+    private GroupAhpAggregator.Mode mode;
+    private AhpEngine.WeightMethod method;
+    private String[] criteriaNames;
+    private double[] weights; // 집계 가중치
+    private Double lambdaMax; // AIJ만
+    private Double consistencyRatio; // AIJ: 집계 행렬 CR, AIP: 평가자 CR 가중평균
+    private boolean isConsistent;
+    private Double[] aggregatedUpperTriangleValues; // AIJ 집계 비교값 (아무도 입력하지 않은 비교는 null)
+    private int evaluatorCount;
+    private double totalEvaluatorWeight;
+    private List<EvaluatorResult> evaluators;
+    private List<String> excludedEvaluators; // 현재 기준 수와 행렬 크기가 달라 제외된 평가자
+    private String message;
+    private String rescoreJobId; // 적용 후 시작된 전 사원 재산정 작업 (집계 조회/대기열이면 null)
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EvaluatorResult {
+        private String evaluatorId;
+        private String evaluatorName;
+        private String department;
+        private double evaluatorWeight;
+        private double[] weights;
+        private Double consistencyRatio;
+        private boolean isConsistent;
+        private LocalDateTime updatedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.valumetric.dto.admin;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 월 매출 합계 검증 결과 DTO (서버 집계 vs Java 합산)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueTotalCheckResponse {
+
+    private String period;
+    private BigDecimal javaTotal;
+    private BigDecimal pipelineTotal;
+    private int employeeCount; // 해당 기간 실적이 있는 활성 사원 수
+    private long pendingEmployeeCount; // 아직 문자열 금액이 남은 사원 수
+    private boolean matches;
+}
@@ -0,0 +1,47 @@
+package com.valumetric.dto.admin;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+/**
+ * AHP 가중치 적용 미리보기 요청 DTO
+ * 
+ * <pre>
+ * 후보 가중치는 weights(직접 입력) 또는 matrix(쌍대비교 행렬) 중 하나로 지정합니다.
+ * - criteriaNames가 있으면 기준 이름으로 현재 점수 데이터와 맞춤 (처음 보는 기준은 기본 점수 사용)
+ * - 없으면 현재 활성 기준 순서대로 적용 (개수가 같아야 함)
+ * matrix에 criteriaNames가 있으면 그 이름을 사용합니다.
+ * </pre>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeightPreviewRequest {
+
+    private String[] criteriaNames;
+
+    private double[] weights;
+
+    @Valid
+    private AhpMatrixUpdateRequest matrix;
+
+    /**
+     * 상위 구간 크기 (선택, 기본 10)
+     */
+    @Min(value = 0, message = "상위 구간 크기는 0 이상이어야 합니다")
+    private Integer topK;
+
+    /**
+     * 목록별 최대 사원 수 (선택, 기본 50)
+     */
+    @Min(value = 0, message = "목록 크기는 0 이상이어야 합니다")
+    private Integer limit;
+
+    /**
+     * 위험군 기준 점수 (선택, 기본 대시보드 기준)
+     */
+    private Double redZoneThreshold;
+}
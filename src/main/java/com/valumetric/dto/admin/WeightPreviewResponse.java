@@ -0,0 +1,67 @@
+package com.valumetric.dto.admin;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AHP 가중치 적용 미리보기 응답 DTO (저장하지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeightPreviewResponse {
+
+    private String[] criteriaNames;
+    private double[] currentWeights; // 기준별 현재 가중치 (현재 설정에 없는 기준은 0)
+    private double[] candidateWeights; // 후보 가중치 (정규화)
+    private Double consistencyRatio; // 행렬 입력일 때만
+    private Boolean isConsistent;
+    private long configVersion; // 비교 기준 설정 버전
+    private LocalDateTime snapshotLoadedAt; // 점수 데이터 조회 시각
+    private int employeeCount;
+    private int topK;
+    private double redZoneThreshold;
+    private int rankChangedCount; // 순위가 바뀌는 사원 수
+    private double meanAbsoluteRankShift;
+    private double rankCorrelation; // 스피어만 순위 상관계수 (1이면 순위 동일)
+    private List<EmployeeRankChange> topPerformers; // 후보 가중치 상위 K명
+    private ZoneChange topZone;
+    private ZoneChange redZone;
+    private List<EmployeeRankChange> largestRankShifts; // 순위 이동이 큰 사원
+    private long elapsedMillis; // 계산 소요 시간 (점수 조회 제외)
+
+    /**
+     * 구간 구성 변화 (목록은 limit명까지, 전체 인원은 count)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ZoneChange {
+        private int countBefore;
+        private int countAfter;
+        private int enteringCount;
+        private int leavingCount;
+        private List<EmployeeRankChange> entering; // 새 순위 순
+        private List<EmployeeRankChange> leaving; // 현재 순위 순
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EmployeeRankChange {
+        private String employeeId;
+        private String employeeName;
+        private int rankBefore;
+        private int rankAfter;
+        private double scoreBefore; // 현재 점수
+        private double scoreAfter; // 후보 가중치 점수
+    }
+}
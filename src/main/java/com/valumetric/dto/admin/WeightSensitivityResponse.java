@@ -0,0 +1,71 @@
+package com.valumetric.dto.admin;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * AHP 가중치 민감도 / 순위 역전 분석 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeightSensitivityResponse {
+
+    private String[] criteriaNames;
+    private double[] weights; // 현재 가중치 (정규화)
+    private int employeeCount;
+    private int topK; // 상위 구간 크기
+    private double redZoneThreshold; // 종합 점수가 이 값 미만이면 위험군
+    private List<CriterionSensitivity> criteria;
+    private long elapsedMillis; // 분석 소요 시간 (점수 조회 제외)
+
+    /**
+     * 기준 하나의 가중치만 바꾸고 나머지는 원래 비율로 재분배할 때의 안정 구간과 역전 지점
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CriterionSensitivity {
+        private String criteriaName;
+        private double currentWeight;
+        private double orderStableFrom; // 전체 순위 유지 구간
+        private double orderStableTo;
+        private double topKStableFrom; // 상위 K명 구성 유지 구간
+        private double topKStableTo;
+        private double redZoneStableFrom; // 위험군 구성 유지 구간
+        private double redZoneStableTo;
+        private List<RankReversal> rankReversals; // 현재 가중치에서 가까운 순위 역전 (가중치 순)
+        private List<RedZoneCrossing> redZoneCrossings; // 현재 가중치에서 가까운 위험군 진입/이탈 (가중치 순)
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RankReversal {
+        private double weight; // 역전이 일어나는 가중치
+        private int rank; // 역전 후 앞서는 사원의 순위 (1부터, 해당 방향 스윕 기준)
+        private String overtakingEmployeeId;
+        private String overtakingEmployeeName;
+        private String overtakenEmployeeId;
+        private String overtakenEmployeeName;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RedZoneCrossing {
+        private double weight;
+        private String employeeId;
+        private String employeeName;
+        private boolean entering; // 가중치가 이 값보다 커지면 위험군 진입 (false면 이탈)
+    }
+}
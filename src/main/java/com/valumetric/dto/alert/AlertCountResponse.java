@@ -0,0 +1,18 @@
+package com.valumetric.dto.alert;
+
+import lombok.*;
+
+/**
+ * 미해결 경고 건수 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlertCountResponse {
+
+    private String employeeId; // null이면 전체
+
+    private long unresolvedCount;
+}
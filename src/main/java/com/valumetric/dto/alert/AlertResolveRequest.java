@@ -0,0 +1,25 @@
+package com.valumetric.dto.alert;
+
+import com.valumetric.document.Alert;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 경고 일괄 해결 요청 DTO
+ * 
+ * 지정한 조건을 모두 만족하는 미해결 경고를 해결 처리합니다. (최소 1개 조건 필수)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlertResolveRequest {
+
+    private List<String> alertIds;
+
+    private String employeeId;
+
+    private Alert.AlertType alertType;
+}
@@ -0,0 +1,18 @@
+package com.valumetric.dto.alert;
+
+import lombok.*;
+
+/**
+ * 경고 일괄 해결 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlertResolveResponse {
+
+    private long resolvedCount;
+
+    private int affectedEmployeeCount;
+}
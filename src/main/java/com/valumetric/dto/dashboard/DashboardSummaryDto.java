@@ -20,4 +20,5 @@ public class DashboardSummaryDto {
     private Long redZoneCount; // 위험군 사원 수
     private Long unresolvedAlertCount; // 미해결 경고 수
     private BigDecimal companyTotalRevenue; // 회사 전체 매출
+    private Long configVersion; // HCROI 계산에 사용된 설정 버전
 }
@@ -6,7 +6,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 /**
- * 사원의 최근 6개월 추이 데이터 DTO (MongoDB용 - String ID)
+ * 사원의 월별 추이 데이터 DTO (MongoDB용 - String ID)
  */
 @Getter
 @Setter
@@ -21,6 +21,8 @@ public class EmployeeTrendDto {
 
     private List<MonthlyTrendData> trendData;
 
+    private Long configVersion; // HCROI 계산에 사용된 설정 버전
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -32,5 +34,6 @@ public class EmployeeTrendDto {
         private BigDecimal score;
         private BigDecimal hcroi;
         private BigDecimal achievementRate;
+        private boolean summarized; // 연도별 요약(압축 구간) 기반 값 여부
     }
 }
@@ -27,5 +27,6 @@ public class MonthlyTrendResponse {
         private BigDecimal totalLaborCost; // 월별 총 인건비
         private BigDecimal averageHcroi; // 월별 평균 HCROI
         private int employeeCount; // 해당 월 사원 수
+        private Long configVersion; // HCROI/인건비 계산에 사용된 설정 버전
     }
 }
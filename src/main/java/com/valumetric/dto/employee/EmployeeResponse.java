@@ -27,4 +27,8 @@ public class EmployeeResponse {
 
     private int performanceLogCount;
     private int alertCount;
+
+    private BigDecimal currentScore; // 최근 점수
+    private String latestPeriod; // 최근 실적 기간
+    private BigDecimal latestHcroi; // 최근 실적 기간 HCROI
 }
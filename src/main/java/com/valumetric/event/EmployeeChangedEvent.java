@@ -0,0 +1,33 @@
+package com.valumetric.event;
+
+import java.util.Set;
+
+/**
+ * 사원 문서 변경 이벤트
+ * 
+ * <pre>
+ * - employeeId == null: 전체 사원 대상 (재동기화 필요)
+ * - allPeriods == true: 해당 사원의 모든 기간 집계에 영향 (삽입/삭제, 연봉·활성 여부 변경)
+ * - periods: 영향받은 실적 기간 ("2024-01" 형식)
+ * </pre>
+ */
+public record EmployeeChangedEvent(String employeeId, ChangeType changeType, Set<String> periods, boolean allPeriods) {
+
+    public enum ChangeType {
+        INSERT,
+        UPDATE,
+        DELETE,
+        RESYNC
+    }
+
+    /**
+     * 전체 재동기화 이벤트 (재개 토큰 유실 등)
+     */
+    public static EmployeeChangedEvent resync() {
+        return new EmployeeChangedEvent(null, ChangeType.RESYNC, Set.of(), true);
+    }
+
+    public boolean affectsPeriod(String period) {
+        return allPeriods || periods.contains(period);
+    }
+}
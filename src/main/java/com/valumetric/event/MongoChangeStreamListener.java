@@ -0,0 +1,276 @@
+package com.valumetric.event;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.valumetric.document.ChangeStreamToken;
+import com.valumetric.document.Employee;
+import com.valumetric.document.SystemConfig;
+import com.valumetric.repository.ChangeStreamTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB Change Stream 리스너
+ * 
+ * <pre>
+ * 다른 프로세스(배치 스크립트, 외부 도구)의 쓰기까지 포함하여
+ * employees / system_config 컬렉션 변경을 도메인 이벤트로 변환합니다.
+ * 
+ * - employees     → EmployeeChangedEvent (사원 + 영향받은 기간)
+ * - system_config → SystemConfigChangedEvent
+ * 
+ * 처리한 마지막 재개 토큰은 change_stream_tokens 컬렉션에 저장되어
+ * 재시작 후에도 유실 없이 이어서 수신합니다.
+ * 
+ * 【요구사항】 레플리카 셋 (로컬 테스트: 단일 노드 레플리카 셋)
+ *   mongod --replSet rs0 --dbpath ./data
+ *   mongosh --eval "rs.initiate()"
+ *   MONGODB_URI=mongodb://localhost:27017/valumetric?replicaSet=rs0
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "valumetric.change-stream.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class MongoChangeStreamListener implements SmartLifecycle {
+
+    // 재개 토큰이 oplog 보관 범위를 벗어난 경우
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private static final Set<String> ALL_PERIOD_FIELDS = Set.of("isEnabled", "currentSalary");
+
+    // 실적 쓰기가 교체한 기간 표식 (Employee.lastPeriodWrite)
+    private static final String PERIOD_WRITE_FIELD = "lastPeriodWrite";
+
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamTokenRepository tokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = false;
+
+    @Override
+    public void start() {
+        running = true;
+        workers.add(startWorker(mongoTemplate.getCollectionName(Employee.class)));
+        workers.add(startWorker(mongoTemplate.getCollectionName(SystemConfig.class)));
+        log.info("Change Stream 리스너 시작");
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+        log.info("Change Stream 리스너 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Thread startWorker(String collectionName) {
+        Thread worker = new Thread(() -> watchLoop(collectionName), "change-stream-" + collectionName);
+        worker.setDaemon(true);
+        worker.start();
+        return worker;
+    }
+
+    private void watchLoop(String collectionName) {
+        long backoffMillis = 1000;
+
+        while (running) {
+            BsonDocument resumeToken = loadResumeToken(collectionName);
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = openCursor(collectionName,
+                    resumeToken)) {
+                backoffMillis = 1000;
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change == null) {
+                        continue;
+                    }
+                    dispatch(collectionName, change);
+                    saveResumeToken(collectionName, change.getResumeToken());
+                }
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    log.warn("재개 토큰 만료, 현재 시점부터 다시 감시: collection={}", collectionName);
+                    tokenRepository.deleteById(collectionName);
+                    publishResync(collectionName);
+                } else {
+                    log.error("Change Stream 오류: collection={}, error={}", collectionName, e.getMessage());
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Change Stream 오류: collection={}, error={}", collectionName, e.getMessage());
+            }
+
+            if (!sleep(backoffMillis)) {
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, 30_000);
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> openCursor(String collectionName,
+            BsonDocument resumeToken) {
+        var watch = mongoTemplate.getCollection(collectionName)
+                .watch()
+                .fullDocument(FullDocument.DEFAULT)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            watch = watch.resumeAfter(resumeToken);
+        }
+        return watch.cursor();
+    }
+
+    private void dispatch(String collectionName, ChangeStreamDocument<Document> change) {
+        OperationType operation = change.getOperationType();
+        if (operation == OperationType.INVALIDATE || operation == OperationType.DROP
+                || operation == OperationType.RENAME || operation == OperationType.DROP_DATABASE) {
+            publishResync(collectionName);
+            return;
+        }
+
+        String documentId = change.getDocumentKey() != null
+                ? idToString(change.getDocumentKey().get("_id"))
+                : null;
+
+        if (collectionName.equals(mongoTemplate.getCollectionName(SystemConfig.class))) {
+            eventPublisher.publishEvent(new SystemConfigChangedEvent(documentId));
+            return;
+        }
+
+        EmployeeChangedEvent event = switch (operation) {
+            case INSERT, REPLACE -> new EmployeeChangedEvent(documentId,
+                    EmployeeChangedEvent.ChangeType.INSERT, Set.of(), true);
+            case DELETE -> new EmployeeChangedEvent(documentId,
+                    EmployeeChangedEvent.ChangeType.DELETE, Set.of(), true);
+            default -> toUpdateEvent(documentId, change);
+        };
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * 업데이트 내역에서 영향받은 기간 추출
+     * 
+     * <pre>
+     * - lastPeriodWrite               → 표식에 담긴 기간만 (이 앱의 실적 쓰기, performanceLogs 변경은 무시)
+     * - performanceLogs.N (push)      → 해당 행의 period  (표식 없는 외부 쓰기)
+     * - performanceLogs (배열 교체)    → 배열 내 모든 period (표식 없는 외부 쓰기)
+     * - latestPeriod                  → 해당 값
+     * - isEnabled / currentSalary     → 전 기간
+     * </pre>
+     */
+    private EmployeeChangedEvent toUpdateEvent(String employeeId, ChangeStreamDocument<Document> change) {
+        Set<String> periods = new HashSet<>();
+        boolean allPeriods = false;
+
+        if (change.getUpdateDescription() != null && change.getUpdateDescription().getUpdatedFields() != null) {
+            BsonDocument updatedFields = change.getUpdateDescription().getUpdatedFields();
+            BsonValue periodWrite = updatedFields.get(PERIOD_WRITE_FIELD);
+            boolean marked = periodWrite != null && periodWrite.isString();
+            if (marked) {
+                periods.addAll(Employee.parsePeriodWrite(periodWrite.asString().getValue()));
+            }
+            for (Map.Entry<String, BsonValue> field : updatedFields.entrySet()) {
+                String key = field.getKey();
+                BsonValue value = field.getValue();
+
+                if (ALL_PERIOD_FIELDS.contains(key)) {
+                    allPeriods = true;
+                } else if (key.equals("latestPeriod") && value.isString()) {
+                    periods.add(value.asString().getValue());
+                } else if (!marked && key.startsWith("performanceLogs")) {
+                    collectPeriods(value, periods);
+                }
+            }
+        }
+        if (change.getUpdateDescription() != null && change.getUpdateDescription().getRemovedFields() != null
+                && change.getUpdateDescription().getRemovedFields().contains("performanceLogs")) {
+            allPeriods = true;
+        }
+
+        return new EmployeeChangedEvent(employeeId, EmployeeChangedEvent.ChangeType.UPDATE,
+                Set.copyOf(periods), allPeriods);
+    }
+
+    private void collectPeriods(BsonValue value, Set<String> periods) {
+        if (value.isDocument()) {
+            BsonValue period = value.asDocument().get("period");
+            if (period != null && period.isString()) {
+                periods.add(period.asString().getValue());
+            }
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            for (BsonValue element : array) {
+                collectPeriods(element, periods);
+            }
+        }
+    }
+
+    private void publishResync(String collectionName) {
+        if (collectionName.equals(mongoTemplate.getCollectionName(SystemConfig.class))) {
+            eventPublisher.publishEvent(new SystemConfigChangedEvent(null));
+        } else {
+            eventPublisher.publishEvent(EmployeeChangedEvent.resync());
+        }
+    }
+
+    private BsonDocument loadResumeToken(String collectionName) {
+        return tokenRepository.findById(collectionName)
+                .map(ChangeStreamToken::getResumeToken)
+                .map(BsonDocument::parse)
+                .orElse(null);
+    }
+
+    private void saveResumeToken(String collectionName, BsonDocument resumeToken) {
+        if (resumeToken == null) {
+            return;
+        }
+        tokenRepository.save(ChangeStreamToken.builder()
+                .id(collectionName)
+                .resumeToken(resumeToken.toJson())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private String idToString(BsonValue id) {
+        if (id == null) {
+            return null;
+        }
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
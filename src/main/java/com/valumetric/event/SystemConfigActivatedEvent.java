@@ -0,0 +1,7 @@
+package com.valumetric.event;
+
+/**
+ * 새 설정 버전이 현재 버전으로 적용됨 (SystemConfigCache 스냅샷 교체 시 발행)
+ */
+public record SystemConfigActivatedEvent(long version) {
+}
@@ -0,0 +1,7 @@
+package com.valumetric.event;
+
+/**
+ * 시스템 설정 문서 변경 이벤트
+ */
+public record SystemConfigChangedEvent(String configId) {
+}
@@ -0,0 +1,43 @@
+package com.valumetric.ledger;
+
+import com.valumetric.document.LedgerEvent;
+import org.bson.Document;
+
+import java.util.List;
+
+/**
+ * 원장을 소비하는 프로젝션 (원장 재생으로 언제든 다시 만들 수 있는 파생 상태)
+ *
+ * <pre>
+ * {@link LedgerProjector}가 이벤트를 다음 규칙으로 전달합니다.
+ * - 같은 사원의 이벤트는 시퀀스 순서대로 한 스레드에서 전달
+ * - 서로 다른 사원의 이벤트는 동시에 전달될 수 있음 (병렬 재생)
+ *   → 사원 간에 공유하는 집계 상태는 스레드 안전해야 함
+ * - 전역 이벤트(employeeId == null)는 다른 이벤트와 겹치지 않게 단독으로 전달
+ * - snapshot/restore/reset은 apply와 동시에 호출되지 않음
+ * </pre>
+ */
+public interface LedgerProjection {
+
+    /**
+     * 체크포인트 키로 쓰는 고유 이름
+     */
+    String name();
+
+    /**
+     * 빈 상태로 초기화 (전체 재생 전)
+     */
+    void reset();
+
+    void apply(LedgerEvent event);
+
+    /**
+     * 체크포인트 저장용 상태 (항목 단위 문서 목록, 청크로 나뉘어 저장됨)
+     */
+    List<Document> snapshot();
+
+    /**
+     * snapshot()으로 저장한 상태 복원 (reset 후 호출됨)
+     */
+    void restore(List<Document> entries);
+}
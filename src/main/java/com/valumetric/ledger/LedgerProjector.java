@@ -0,0 +1,532 @@
+package com.valumetric.ledger;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.valumetric.document.LedgerCheckpoint;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.repository.LedgerCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 원장 프로젝션 재생기
+ *
+ * <pre>
+ * 서버 시작 완료 후 별도 스레드에서:
+ *   1) 프로젝션별 체크포인트 상태 복원 (없거나 손상되면 빈 상태)
+ *   2) 체크포인트 이후 이벤트를 병렬 재생으로 따라잡기
+ * 이후 poll-interval-ms마다 새 이벤트를 반영하고, checkpoint-every건마다 체크포인트를 저장합니다.
+ *
+ * 병렬 재생:
+ * - 페이지(page-size) 단위로 읽고, 다음 페이지는 반영하는 동안 미리 읽어 둠
+ * - 페이지 안의 사원 이벤트는 employeeId 해시로 parallelism개 파티션에 나누어 동시에 반영
+ *   (같은 사원은 항상 같은 파티션 → 사원별 시퀀스 순서 유지)
+ * - 전역 이벤트(설정 변경)는 앞선 이벤트 반영이 모두 끝난 뒤 단독으로 반영
+ *
+ * 시퀀스 빈자리: 유예 시간(gap-grace-ms)보다 최근 이벤트 앞의 빈자리에서는 멈추고 다음 주기에 다시 봄
+ * (동시에 예약된 앞 시퀀스가 아직 커밋 중일 수 있음), 유예가 지난 빈자리는 건너뜀
+ *
+ * 반영 중 예외가 나는 이벤트는 경고 로그를 남기고 그 프로젝션에서만 건너뜀 (skippedEvents로 집계)
+ * → 잘못된 이벤트 하나가 초기화/폴링을 같은 위치에서 계속 실패시키지 않음
+ * 초기화 자체가 실패하면(DB 장애 등) init-retry-ms 후 폴링 주기에서 다시 시도합니다.
+ *
+ * 체크포인트 상태는 generation 단위 청크로 저장한 뒤, 체크포인트 문서가 여전히 읽었던 generation을
+ * 가리킬 때만 교체합니다(조건부 갱신). 교체에 성공하면 대체한 generation만, 다른 인스턴스가 먼저
+ * 교체했으면 방금 쓴 자기 generation만 지웁니다. (다른 인스턴스가 가리키는 청크는 지우지 않음)
+ * 청크 수가 맞지 않으면 저장 중 교체된 것일 수 있어 체크포인트를 다시 읽어 재시도하고,
+ * 그래도 맞지 않으면 손상으로 보고 처음부터 재생합니다.
+ * </pre>
+ */
+@Component
+@Slf4j
+public class LedgerProjector {
+
+    private static final String STATE_COLLECTION = "ledger_projection_states";
+    private static final int STATE_CHUNK_SIZE = 1000;
+    private static final int PARALLEL_THRESHOLD = 256; // 이보다 작은 구간은 순차 반영
+    private static final int RESTORE_ATTEMPTS = 3;
+
+    private final LedgerService ledgerService;
+    private final List<LedgerProjection> projections;
+    private final LedgerCheckpointRepository checkpointRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${valumetric.ledger.enabled:true}")
+    private boolean enabled;
+
+    @Value("${valumetric.ledger.replay.page-size:5000}")
+    private int pageSize;
+
+    @Value("${valumetric.ledger.replay.parallelism:0}")
+    private int parallelism;
+
+    @Value("${valumetric.ledger.checkpoint-every:10000}")
+    private long checkpointEvery;
+
+    @Value("${valumetric.ledger.gap-grace-ms:5000}")
+    private long gapGraceMs;
+
+    @Value("${valumetric.ledger.init-retry-ms:60000}")
+    private long initRetryMs;
+
+    // 프로젝션별 반영 완료 시퀀스
+    private final Map<String, Long> applied = new ConcurrentHashMap<>();
+    // 프로젝션별 반영 실패로 건너뛴 이벤트 수 (기동 이후)
+    private final Map<String, AtomicLong> skipped = new ConcurrentHashMap<>();
+    private ExecutorService workers;
+    private ExecutorService fetcher;
+    private volatile boolean ready = false;
+    private volatile long initFailedAt = 0; // 0이면 초기화 실패 아님
+    private long sinceCheckpoint = 0;
+
+    public LedgerProjector(LedgerService ledgerService, List<LedgerProjection> projections,
+            LedgerCheckpointRepository checkpointRepository, MongoTemplate mongoTemplate) {
+        this.ledgerService = ledgerService;
+        this.projections = projections;
+        this.checkpointRepository = checkpointRepository;
+        this.mongoTemplate = mongoTemplate;
+        validateNames(projections);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread init = new Thread(this::restoreAndCatchUp, "ledger-projector-init");
+        init.setDaemon(true);
+        init.start();
+    }
+
+    private synchronized void restoreAndCatchUp() {
+        try {
+            long startNanos = System.nanoTime();
+            projections.forEach(this::restore);
+            long events = replay(minApplied());
+            saveCheckpoints();
+            ready = true;
+            initFailedAt = 0;
+            log.info("✅ 원장 프로젝션 준비 완료: projections={}, 재생 {}건, {}ms", projections.size(), events,
+                    Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        } catch (Exception e) {
+            initFailedAt = System.currentTimeMillis();
+            log.error("원장 프로젝션 초기화 실패 ({}ms 후 재시도): {}", initRetryMs, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${valumetric.ledger.poll-interval-ms:1000}")
+    public void poll() {
+        if (!ready) {
+            if (initFailedAt > 0 && System.currentTimeMillis() - initFailedAt >= initRetryMs) {
+                restoreAndCatchUp();
+            }
+            return;
+        }
+        synchronized (this) {
+            try {
+                sinceCheckpoint += replay(minApplied());
+                if (sinceCheckpoint >= checkpointEvery) {
+                    saveCheckpoints();
+                }
+            } catch (Exception e) {
+                log.warn("원장 반영 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 모든 프로젝션을 비우고 원장 처음부터 병렬 재생
+     */
+    public synchronized RebuildResult rebuild() {
+        if (!enabled) {
+            throw new IllegalArgumentException("원장이 비활성화되어 있습니다 (valumetric.ledger.enabled)");
+        }
+        long startNanos = System.nanoTime();
+        for (LedgerProjection projection : projections) {
+            projection.reset();
+            applied.put(projection.name(), 0L);
+        }
+        long events = replay(0);
+        saveCheckpoints();
+        ready = true;
+
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+        log.info("원장 프로젝션 재구성: 재생 {}건, parallelism={}, {}ms", events, threads(), elapsedMillis);
+        return new RebuildResult(events, threads(), elapsedMillis, minApplied());
+    }
+
+    /**
+     * 프로젝션별 반영/체크포인트 시퀀스, 지연 건수, 건너뛴 이벤트 수
+     */
+    public List<ProjectionStatus> getStatus() {
+        long last = enabled ? ledgerService.lastSequence() : 0L;
+        List<ProjectionStatus> status = new ArrayList<>();
+        for (LedgerProjection projection : projections) {
+            long appliedSequence = applied.getOrDefault(projection.name(), 0L);
+            Long checkpointSequence = checkpointRepository.findById(projection.name())
+                    .map(LedgerCheckpoint::getSequence)
+                    .orElse(null);
+            status.add(new ProjectionStatus(projection.name(), ready, appliedSequence, checkpointSequence,
+                    Math.max(0, last - appliedSequence), skippedCount(projection.name()).get()));
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public void stop() {
+        synchronized (this) {
+            if (ready) {
+                try {
+                    saveCheckpoints();
+                } catch (Exception e) {
+                    log.warn("종료 시 체크포인트 저장 실패: {}", e.getMessage());
+                }
+            }
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        if (fetcher != null) {
+            fetcher.shutdownNow();
+        }
+    }
+
+    // ==================== 재생 ====================
+
+    /**
+     * after 이후 이벤트를 끝(또는 최근 빈자리)까지 반영
+     *
+     * @return 반영한 이벤트 수
+     */
+    private long replay(long after) {
+        Map<String, Long> appliedBefore = Map.copyOf(applied);
+        long position = after;
+        long count = 0;
+
+        CompletableFuture<List<LedgerEvent>> next = fetch(position);
+        while (true) {
+            List<LedgerEvent> fetched = next.join();
+            List<LedgerEvent> page = untilRecentGap(fetched, position);
+            boolean more = fetched.size() == pageSize && page.size() == fetched.size();
+            if (page.isEmpty()) {
+                return count;
+            }
+            if (more) {
+                next = fetch(page.get(page.size() - 1).getSequence());
+            }
+
+            applyPage(page, appliedBefore);
+            position = page.get(page.size() - 1).getSequence();
+            for (LedgerProjection projection : projections) {
+                applied.merge(projection.name(), position, Math::max);
+            }
+            count += page.size();
+
+            if (!more) {
+                return count;
+            }
+        }
+    }
+
+    private CompletableFuture<List<LedgerEvent>> fetch(long after) {
+        return CompletableFuture.supplyAsync(() -> ledgerService.readAfter(after, pageSize), fetcher());
+    }
+
+    /**
+     * 유예 시간 안에 추가된 이벤트 앞에 빈자리가 있으면 그 앞까지만 반환
+     */
+    private List<LedgerEvent> untilRecentGap(List<LedgerEvent> events, long position) {
+        LocalDateTime graceLimit = LocalDateTime.now().minus(Duration.ofMillis(gapGraceMs));
+        long expected = position + 1;
+        for (int i = 0; i < events.size(); i++) {
+            LedgerEvent event = events.get(i);
+            if (event.getSequence() != expected && event.getRecordedAt() != null
+                    && event.getRecordedAt().isAfter(graceLimit)) {
+                log.debug("원장 시퀀스 빈자리 대기: expected={}, next={}", expected, event.getSequence());
+                return events.subList(0, i);
+            }
+            expected = event.getSequence() + 1;
+        }
+        return events;
+    }
+
+    /**
+     * 전역 이벤트를 경계로 구간을 나누어, 구간은 병렬로 전역 이벤트는 단독으로 반영
+     */
+    private void applyPage(List<LedgerEvent> page, Map<String, Long> appliedBefore) {
+        List<LedgerEvent> segment = new ArrayList<>();
+        for (LedgerEvent event : page) {
+            if (event.isGlobal()) {
+                applySegment(segment, appliedBefore);
+                segment.clear();
+                dispatch(event, appliedBefore);
+            } else {
+                segment.add(event);
+            }
+        }
+        applySegment(segment, appliedBefore);
+    }
+
+    private void applySegment(List<LedgerEvent> segment, Map<String, Long> appliedBefore) {
+        int threads = threads();
+        if (threads == 1 || segment.size() < PARALLEL_THRESHOLD) {
+            segment.forEach(event -> dispatch(event, appliedBefore));
+            return;
+        }
+
+        List<List<LedgerEvent>> partitions = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (LedgerEvent event : segment) {
+            partitions.get(Math.floorMod(event.getEmployeeId().hashCode(), threads)).add(event);
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (List<LedgerEvent> partition : partitions) {
+            if (!partition.isEmpty()) {
+                tasks.add(() -> {
+                    partition.forEach(event -> dispatch(event, appliedBefore));
+                    return null;
+                });
+            }
+        }
+        try {
+            for (Future<Void> result : workers().invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("원장 재생 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("원장 재생 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * 아직 반영하지 않은 프로젝션에만 전달 (체크포인트 시퀀스가 프로젝션마다 다를 수 있음)
+     * 반영에 실패한 이벤트는 그 프로젝션에서만 건너뜀
+     */
+    private void dispatch(LedgerEvent event, Map<String, Long> appliedBefore) {
+        for (LedgerProjection projection : projections) {
+            if (event.getSequence() > appliedBefore.getOrDefault(projection.name(), 0L)) {
+                try {
+                    projection.apply(event);
+                } catch (RuntimeException e) {
+                    skippedCount(projection.name()).incrementAndGet();
+                    log.warn("원장 이벤트 반영 실패, 건너뜀: projection={}, sequence={}, type={}, employeeId={}, error={}",
+                            projection.name(), event.getSequence(), event.getType(), event.getEmployeeId(),
+                            e.toString());
+                }
+            }
+        }
+    }
+
+    private AtomicLong skippedCount(String name) {
+        return skipped.computeIfAbsent(name, key -> new AtomicLong());
+    }
+
+    private long minApplied() {
+        return projections.stream()
+                .mapToLong(projection -> applied.getOrDefault(projection.name(), 0L))
+                .min()
+                .orElse(0L);
+    }
+
+    private int threads() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    private synchronized ExecutorService workers() {
+        if (workers == null) {
+            workers = Executors.newFixedThreadPool(threads(), daemonThreads("ledger-replay-"));
+        }
+        return workers;
+    }
+
+    private synchronized ExecutorService fetcher() {
+        if (fetcher == null) {
+            fetcher = Executors.newSingleThreadExecutor(daemonThreads("ledger-fetch-"));
+        }
+        return fetcher;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // ==================== 체크포인트 ====================
+
+    private void restore(LedgerProjection projection) {
+        projection.reset();
+        long sequence = 0L;
+        for (int attempt = 1; attempt <= RESTORE_ATTEMPTS; attempt++) {
+            Optional<LedgerCheckpoint> checkpoint = checkpointRepository.findById(projection.name());
+            if (checkpoint.isEmpty() || checkpoint.get().getGeneration() == null) {
+                break;
+            }
+            // 읽는 사이 다른 인스턴스가 체크포인트를 교체하고 이전 청크를 지웠을 수 있음 → 다시 읽기
+            List<Document> entries = loadState(projection.name(), checkpoint.get());
+            if (entries != null) {
+                projection.restore(entries);
+                sequence = checkpoint.get().getSequence();
+                break;
+            }
+            if (attempt == RESTORE_ATTEMPTS) {
+                log.warn("원장 체크포인트 상태 손상, 처음부터 재생: projection={}", projection.name());
+            }
+        }
+        applied.put(projection.name(), sequence);
+        log.info("원장 프로젝션 복원: projection={}, sequence={}", projection.name(), sequence);
+    }
+
+    private List<Document> loadState(String name, LedgerCheckpoint checkpoint) {
+        List<Document> chunks = stateCollection()
+                .find(Filters.and(Filters.eq("projection", name),
+                        Filters.eq("generation", checkpoint.getGeneration())))
+                .sort(Sorts.ascending("index"))
+                .into(new ArrayList<>());
+        if (!Objects.equals(chunks.size(), checkpoint.getChunkCount())) {
+            return null;
+        }
+        List<Document> entries = new ArrayList<>();
+        for (Document chunk : chunks) {
+            entries.addAll(chunk.getList("entries", Document.class));
+        }
+        return entries;
+    }
+
+    private void saveCheckpoints() {
+        for (LedgerProjection projection : projections) {
+            saveCheckpoint(projection);
+        }
+        sinceCheckpoint = 0;
+    }
+
+    private void saveCheckpoint(LedgerProjection projection) {
+        String name = projection.name();
+        long sequence = applied.getOrDefault(name, 0L);
+        Optional<LedgerCheckpoint> existing = checkpointRepository.findById(name);
+        if (existing.isPresent() && existing.get().getSequence() != null
+                && existing.get().getSequence() >= sequence) {
+            return; // 같거나 더 앞선 상태를 다른 인스턴스가 이미 저장함
+        }
+        String replaced = existing.map(LedgerCheckpoint::getGeneration).orElse(null);
+
+        List<Document> entries = projection.snapshot();
+        String generation = new ObjectId().toHexString();
+        List<Document> chunks = new ArrayList<>();
+        for (int from = 0; from < entries.size(); from += STATE_CHUNK_SIZE) {
+            chunks.add(new Document("projection", name)
+                    .append("generation", generation)
+                    .append("index", from / STATE_CHUNK_SIZE)
+                    .append("entries", entries.subList(from, Math.min(from + STATE_CHUNK_SIZE, entries.size()))));
+        }
+        if (!chunks.isEmpty()) {
+            stateCollection().insertMany(chunks);
+        }
+
+        boolean swapped = swapCheckpoint(existing.isPresent(), replaced, LedgerCheckpoint.builder()
+                .projection(name)
+                .sequence(sequence)
+                .generation(generation)
+                .chunkCount(chunks.size())
+                .entryCount((long) entries.size())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        if (!swapped) {
+            stateCollection().deleteMany(Filters.and(Filters.eq("projection", name),
+                    Filters.eq("generation", generation)));
+            log.debug("원장 체크포인트 경합, 다른 인스턴스 저장 유지: projection={}", name);
+            return;
+        }
+        if (replaced != null) {
+            stateCollection().deleteMany(Filters.and(Filters.eq("projection", name),
+                    Filters.eq("generation", replaced)));
+        }
+        log.debug("원장 체크포인트 저장: projection={}, sequence={}, entries={}", name, sequence, entries.size());
+    }
+
+    /**
+     * 체크포인트가 읽었던 generation을 그대로 가리킬 때만 교체 (없었으면 새로 생성)
+     *
+     * @return 교체 여부 (false면 그 사이 다른 인스턴스가 먼저 저장함)
+     */
+    private boolean swapCheckpoint(boolean existed, String replaced, LedgerCheckpoint checkpoint) {
+        if (!existed) {
+            try {
+                mongoTemplate.insert(checkpoint);
+                return true;
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        }
+        Query current = new Query(Criteria.where("_id").is(checkpoint.getProjection())
+                .and("generation").is(replaced));
+        Update update = new Update()
+                .set("sequence", checkpoint.getSequence())
+                .set("generation", checkpoint.getGeneration())
+                .set("chunkCount", checkpoint.getChunkCount())
+                .set("entryCount", checkpoint.getEntryCount())
+                .set("updatedAt", checkpoint.getUpdatedAt());
+        return mongoTemplate.updateFirst(current, update, LedgerCheckpoint.class).getMatchedCount() > 0;
+    }
+
+    private MongoCollection<Document> stateCollection() {
+        return mongoTemplate.getCollection(STATE_COLLECTION);
+    }
+
+    private static void validateNames(List<LedgerProjection> projections) {
+        Set<String> names = new HashSet<>();
+        for (LedgerProjection projection : projections) {
+            if (!names.add(projection.name())) {
+                throw new IllegalStateException("중복된 원장 프로젝션 이름: " + projection.name());
+            }
+        }
+    }
+
+    public record ProjectionStatus(String name, boolean ready, long appliedSequence, Long checkpointSequence,
+            long lag, long skippedEvents) {
+    }
+
+    public record RebuildResult(long events, int parallelism, long elapsedMillis, long sequence) {
+    }
+}
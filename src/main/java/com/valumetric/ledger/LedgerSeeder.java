@@ -0,0 +1,118 @@
+package com.valumetric.ledger;
+
+import com.valumetric.document.Employee;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.document.PeriodKey;
+import com.valumetric.service.EmployeeService;
+import com.valumetric.service.SystemConfigCache;
+import com.valumetric.service.SystemConfigSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 기존 사원 문서로 원장 초기 이벤트 생성 (1회)
+ *
+ * <pre>
+ * 원장 도입 전 데이터는 현재 문서 상태만 남아 있으므로
+ * 사원별로 실적(기간 순) → 점수 이력(시각 순) 이벤트를 만들어 추가합니다.
+ * - HCROI는 현재 설정 버전으로 다시 계산 (당시 버전은 알 수 없음)
+ * - 이미 원장에 기록된 쓰기가 있으면 같은 내용이 한 번 더 기록될 수 있음
+ *   (실적은 기간 교체라 결과가 같고, 점수 이력은 중복 집계될 수 있으므로 트래픽이 적을 때 실행)
+ * - ledger_sequences의 "seed" 표식으로 한 번만 실행
+ *   (묶음을 추가할 때마다 마지막 사원 ID를 기록하고, 완료 표식은 모두 끝난 뒤에 남김
+ *    → 중간에 실패하면 다시 호출해 이어서 진행, 실행 중에는 임대로 중복 실행 방지)
+ * - 묶음 추가 직후 진행 기록 전에 중단되면 그 묶음은 재개 시 한 번 더 추가될 수 있음
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerSeeder {
+
+    private static final String SEED_MARKER = "seed";
+    private static final int APPEND_BATCH = 1000;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final LedgerService ledgerService;
+    private final EmployeeService employeeService;
+    private final SystemConfigCache configCache;
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * @return 추가한 이벤트 수
+     */
+    public long seedFromEmployees() {
+        if (!ledgerService.isEnabled()) {
+            throw new IllegalArgumentException("원장이 비활성화되어 있습니다 (valumetric.ledger.enabled)");
+        }
+        String owner = new ObjectId().toHexString();
+        Document marker = ledgerService.claimTask(SEED_MARKER, owner, LEASE);
+        String lastEmployeeId = marker.getString("lastEmployeeId");
+        long appended = marker.get("appended") != null ? ((Number) marker.get("appended")).longValue() : 0L;
+        if (lastEmployeeId != null) {
+            log.info("원장 초기화 재개: after={}, events={}", lastEmployeeId, appended);
+        }
+
+        SystemConfigSnapshot config = configCache.current();
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id")).cursorBatchSize(APPEND_BATCH);
+        if (lastEmployeeId != null) {
+            query.addCriteria(Criteria.where("_id").gt(lastEmployeeId));
+        }
+        query.fields().exclude("password", "yearlySummaries");
+
+        List<LedgerEvent> pending = new ArrayList<>(APPEND_BATCH);
+        String pendingLastId = null;
+        try (Stream<Employee> employees = mongoTemplate.stream(query, Employee.class)) {
+            for (Employee employee : (Iterable<Employee>) employees::iterator) {
+                employee.getPerformanceLogs().stream()
+                        .filter(perfLog -> PeriodKey.isValid(perfLog.resolvePeriodKey()))
+                        .sorted(Comparator.comparingInt(Employee.PerformanceLog::resolvePeriodKey))
+                        .forEach(perfLog -> pending.add(LedgerEvent.performanceRecorded(employee.getId(), perfLog,
+                                employeeService.calculateHcroi(employee, perfLog, config), config.getVersion())));
+                employee.getScoreHistories().stream()
+                        .sorted(Comparator.comparing(Employee.ScoreHistory::getChangedAt,
+                                Comparator.nullsFirst(Comparator.naturalOrder())))
+                        .forEach(history -> pending.add(LedgerEvent.scoreChanged(employee.getId(), history)));
+                pendingLastId = employee.getId();
+
+                // 사원 경계에서만 추가 → 진행 위치 이후 사원은 아직 하나도 추가되지 않음
+                if (pending.size() >= APPEND_BATCH) {
+                    appended += flush(pending, pendingLastId, appended, owner);
+                }
+            }
+        }
+        if (pendingLastId != null) {
+            appended += flush(pending, pendingLastId, appended, owner);
+        }
+        ledgerService.completeTask(SEED_MARKER, owner);
+
+        log.info("원장 초기화 완료: events={}", appended);
+        return appended;
+    }
+
+    /**
+     * 모인 이벤트 추가 후 진행 위치 기록
+     *
+     * @return 추가한 이벤트 수
+     */
+    private long flush(List<LedgerEvent> pending, String lastEmployeeId, long appendedBefore, String owner) {
+        long count = ledgerService.append(new ArrayList<>(pending)).size();
+        pending.clear();
+        ledgerService.recordProgress(SEED_MARKER, owner, new Document("lastEmployeeId", lastEmployeeId)
+                .append("appended", appendedBefore + count), LEASE);
+        return count;
+    }
+}
@@ -0,0 +1,239 @@
+package com.valumetric.ledger;
+
+import com.mongodb.MongoServerException;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.document.PeriodKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 실적 원장 추가/조회
+ *
+ * <pre>
+ * 시퀀스는 ledger_sequences 카운터를 $inc로 올려 블록 단위로 예약하고,
+ * 묶음 전체를 insertMany 1회로 추가합니다. (쓰기 큐 반영 1회 = 원장 추가 1회)
+ *
+ * 여러 쓰기가 동시에 예약하면 커밋 순서가 시퀀스 순서와 다를 수 있으므로
+ * 잠시 동안 시퀀스 빈자리가 보일 수 있습니다. 재생 측(LedgerProjector)은
+ * 최근 이벤트 앞의 빈자리에서 멈췄다가 유예 시간이 지나면 건너뜁니다.
+ * (예약 후 추가에 실패한 시퀀스는 영구 빈자리로 남음)
+ *
+ * 재생에서 반영할 수 없는 이벤트(기간을 해석할 수 없는 실적, 내용 없는 점수 이력 등)는
+ * 추가 시점에 경고 로그와 함께 제외하여 원장에 들어가지 않게 합니다.
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerService {
+
+    private static final String SEQUENCE_COLLECTION = "ledger_sequences";
+    private static final String SEQUENCE_ID = "ledger_events";
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${valumetric.ledger.enabled:true}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이벤트 묶음 추가 (연속 시퀀스 부여, 비활성화 시 무시)
+     *
+     * @return 실제로 추가한 이벤트 (재생 불가 이벤트 제외)
+     */
+    public List<LedgerEvent> append(List<LedgerEvent> events) {
+        if (!enabled || events.isEmpty()) {
+            return events;
+        }
+        events = replayable(events);
+        if (events.isEmpty()) {
+            return events;
+        }
+        long sequence = reserve(events.size()) - events.size() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        for (LedgerEvent event : events) {
+            event.setSequence(sequence++);
+            if (event.getRecordedAt() == null) {
+                event.setRecordedAt(now);
+            }
+        }
+        mongoTemplate.insert(events, LedgerEvent.class);
+        return events;
+    }
+
+    public Optional<LedgerEvent> append(LedgerEvent event) {
+        return append(List.of(event)).stream().findFirst();
+    }
+
+    /**
+     * 기존 호출 흐름을 막지 않는 추가 (실패는 로그만 남김, 재생 시 누락)
+     */
+    public void appendQuietly(List<LedgerEvent> events) {
+        try {
+            append(events);
+        } catch (RuntimeException e) {
+            log.error("원장 추가 실패: events={}, error={}", events.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * afterSequence 이후 이벤트를 시퀀스 순으로 최대 limit건 조회
+     */
+    public List<LedgerEvent> readAfter(long afterSequence, int limit) {
+        Query query = new Query(Criteria.where("_id").gt(afterSequence))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, LedgerEvent.class);
+    }
+
+    /**
+     * 사원 1명의 원장 이벤트 (정정 이력 포함, 시퀀스 순)
+     */
+    public List<LedgerEvent> findByEmployee(String employeeId) {
+        Query query = new Query(Criteria.where("employeeId").is(employeeId))
+                .with(Sort.by(Sort.Direction.ASC, "_id"));
+        return mongoTemplate.find(query, LedgerEvent.class);
+    }
+
+    /**
+     * 지금까지 예약된 마지막 시퀀스 (추가 중인 이벤트 포함)
+     */
+    public long lastSequence() {
+        Document counter = mongoTemplate.getCollection(SEQUENCE_COLLECTION)
+                .find(Filters.eq("_id", SEQUENCE_ID))
+                .first();
+        return counter != null ? ((Number) counter.get("value")).longValue() : 0L;
+    }
+
+    /**
+     * 재개 가능한 1회성 작업 선점
+     *
+     * <pre>
+     * 완료 표식이 없고 다른 실행의 임대가 없거나 만료되었을 때만 owner에게 lease만큼 임대합니다.
+     * 반환 문서에는 이전 실행이 recordProgress로 남긴 진행 위치가 들어 있습니다.
+     * owner 없는 표식(진행 기록 도입 전 선점)은 완료된 것으로 봅니다.
+     * </pre>
+     *
+     * @throws IllegalArgumentException 이미 완료되었거나 다른 실행이 진행 중인 경우
+     */
+    public Document claimTask(String markerId, String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return mongoTemplate.getCollection(SEQUENCE_COLLECTION).findOneAndUpdate(
+                    Filters.and(Filters.eq("_id", markerId),
+                            Filters.exists("completedAt", false),
+                            Filters.exists("owner"), // 표식이 없으면 불일치 → upsert로 새로 생성
+                            Filters.or(Filters.exists("leaseUntil", false), Filters.lt("leaseUntil", now))),
+                    Updates.combine(
+                            Updates.set("owner", owner),
+                            Updates.set("leaseUntil", now.plus(lease)),
+                            Updates.setOnInsert("claimedAt", now)),
+                    new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+        } catch (MongoServerException e) {
+            if (e.getCode() != DUPLICATE_KEY) {
+                throw e;
+            }
+            Document marker = mongoTemplate.getCollection(SEQUENCE_COLLECTION)
+                    .find(Filters.eq("_id", markerId))
+                    .first();
+            if (marker != null && (marker.get("completedAt") != null || marker.get("owner") == null)) {
+                throw new IllegalArgumentException("이미 완료된 작업입니다: " + markerId);
+            }
+            throw new IllegalArgumentException("다른 실행이 진행 중인 작업입니다: " + markerId);
+        }
+    }
+
+    /**
+     * 진행 위치 기록 및 임대 연장 (임대를 잃었으면 예외)
+     */
+    public void recordProgress(String markerId, String owner, Document progress, Duration lease) {
+        List<Bson> updates = new ArrayList<>();
+        progress.forEach((key, value) -> updates.add(Updates.set(key, value)));
+        updates.add(Updates.set("leaseUntil", LocalDateTime.now().plus(lease)));
+        updateOwned(markerId, owner, Updates.combine(updates));
+    }
+
+    /**
+     * 작업 완료 표식 (이후 claimTask는 항상 거절)
+     */
+    public void completeTask(String markerId, String owner) {
+        updateOwned(markerId, owner, Updates.combine(
+                Updates.set("completedAt", LocalDateTime.now()),
+                Updates.unset("leaseUntil")));
+    }
+
+    private void updateOwned(String markerId, String owner, Bson update) {
+        long matched = mongoTemplate.getCollection(SEQUENCE_COLLECTION)
+                .updateOne(Filters.and(Filters.eq("_id", markerId), Filters.eq("owner", owner)), update)
+                .getMatchedCount();
+        if (matched == 0) {
+            throw new IllegalStateException("작업 임대를 잃었습니다: " + markerId);
+        }
+    }
+
+    /**
+     * 재생에서 반영할 수 없는 이벤트 제외
+     */
+    private static List<LedgerEvent> replayable(List<LedgerEvent> events) {
+        List<LedgerEvent> valid = new ArrayList<>(events.size());
+        for (LedgerEvent event : events) {
+            String problem = problemOf(event);
+            if (problem == null) {
+                valid.add(event);
+            } else {
+                log.warn("원장 추가 제외: type={}, employeeId={}, reason={}", event.getType(), event.getEmployeeId(),
+                        problem);
+            }
+        }
+        return valid.size() == events.size() ? events : valid;
+    }
+
+    private static String problemOf(LedgerEvent event) {
+        if (event.getType() == null) {
+            return "이벤트 유형 없음";
+        }
+        return switch (event.getType()) {
+            case PERFORMANCE_RECORDED -> event.getPerformanceLog() == null ? "실적 없음"
+                    : !PeriodKey.isValid(event.getPerformanceLog().resolvePeriodKey())
+                            ? "기간 해석 불가: " + event.getPerformanceLog().getPeriod()
+                            : null;
+            case SCORE_CHANGED -> event.getScoreHistory() == null ? "점수 이력 없음" : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * count개 시퀀스 예약
+     *
+     * @return 예약한 블록의 마지막 시퀀스
+     */
+    private long reserve(int count) {
+        Document counter = mongoTemplate.getCollection(SEQUENCE_COLLECTION).findOneAndUpdate(
+                Filters.eq("_id", SEQUENCE_ID),
+                Updates.inc("value", (long) count),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+        return ((Number) counter.get("value")).longValue();
+    }
+}
@@ -0,0 +1,30 @@
+package com.valumetric.ledger;
+
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * 프로젝션 상태 문서 변환 도우미 (금액은 Decimal128로 저장)
+ */
+final class LedgerStates {
+
+    private LedgerStates() {
+    }
+
+    static Decimal128 toDecimal(BigDecimal value) {
+        return value != null ? new Decimal128(value.round(MathContext.DECIMAL128)) : null;
+    }
+
+    static BigDecimal fromDecimal(Object value) {
+        if (value instanceof Decimal128 decimal) {
+            return decimal.bigDecimalValue();
+        }
+        return value != null ? new BigDecimal(value.toString()) : null;
+    }
+
+    static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,225 @@
+package com.valumetric.ledger;
+
+import com.valumetric.document.Employee;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.document.PeriodKey;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기간별 실적 집계 프로젝션 (대시보드 월별 집계의 원장 버전)
+ *
+ * <pre>
+ * 사원별·기간별 마지막 실적을 기억해 두고, 같은 기간이 다시 기록(정정)되면
+ * 이전 값을 빼고 새 값을 더합니다. 정정 횟수도 함께 집계합니다.
+ * 기간 합계는 ConcurrentHashMap.compute로 원자적으로 갱신하므로
+ * 서로 다른 사원의 이벤트를 병렬로 반영해도 안전합니다.
+ * 원장에는 사원 활성 여부가 없으므로 비활성 사원 실적도 포함됩니다.
+ * </pre>
+ */
+@Component
+public class PeriodMetricsProjection implements LedgerProjection {
+
+    public static final String NAME = "period-metrics";
+
+    // 사원별 기간별 마지막 실적 (같은 사원은 한 스레드에서만 갱신)
+    private final Map<String, Map<Integer, Contribution>> contributions = new ConcurrentHashMap<>();
+    private final Map<Integer, PeriodTotals> totals = new ConcurrentHashMap<>();
+    private volatile Long configVersion;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void reset() {
+        contributions.clear();
+        totals.clear();
+        configVersion = null;
+    }
+
+    @Override
+    public void apply(LedgerEvent event) {
+        switch (event.getType()) {
+            case PERFORMANCE_RECORDED -> record(event);
+            case CONFIG_CHANGED -> configVersion = event.getConfigVersion();
+            default -> {
+            }
+        }
+    }
+
+    private void record(LedgerEvent event) {
+        Employee.PerformanceLog perfLog = event.getPerformanceLog();
+        if (perfLog == null || perfLog.getPeriod() == null) {
+            return;
+        }
+        int periodKey = perfLog.resolvePeriodKey();
+        if (!PeriodKey.isValid(periodKey)) {
+            return;
+        }
+        Map<Integer, Contribution> byPeriod = contributions.computeIfAbsent(event.getEmployeeId(),
+                id -> new HashMap<>());
+        Contribution previous = byPeriod.get(periodKey);
+        Contribution next = new Contribution(
+                LedgerStates.orZero(perfLog.getAchievedSales()),
+                LedgerStates.orZero(perfLog.getTargetSales()),
+                LedgerStates.orZero(perfLog.getProfit()),
+                event.getHcroi(),
+                previous != null ? previous.revisions() + 1 : 1);
+        byPeriod.put(periodKey, next);
+        totals.compute(periodKey, (key, current) -> (current != null ? current : PeriodTotals.EMPTY)
+                .replace(previous, next));
+    }
+
+    /**
+     * 기간 집계 조회
+     */
+    public Optional<PeriodMetrics> getPeriod(int periodKey) {
+        return Optional.ofNullable(totals.get(periodKey)).map(period -> period.toMetrics(periodKey));
+    }
+
+    /**
+     * 최근 N개월 집계 (실적이 없는 달은 0)
+     */
+    public List<PeriodMetrics> getRecent(int months) {
+        int current = PeriodKey.current();
+        List<PeriodMetrics> result = new ArrayList<>(months);
+        for (int i = months - 1; i >= 0; i--) {
+            int periodKey = PeriodKey.minusMonths(current, i);
+            result.add(totals.getOrDefault(periodKey, PeriodTotals.EMPTY).toMetrics(periodKey));
+        }
+        return result;
+    }
+
+    /**
+     * 마지막으로 적용된 설정 버전 (CONFIG_CHANGED 기준)
+     */
+    public Long getConfigVersion() {
+        return configVersion;
+    }
+
+    @Override
+    public List<Document> snapshot() {
+        List<Document> entries = new ArrayList<>(contributions.size() + 1);
+        entries.add(new Document("configVersion", configVersion));
+        contributions.forEach((employeeId, byPeriod) -> {
+            List<Document> periods = new ArrayList<>(byPeriod.size());
+            byPeriod.forEach((periodKey, contribution) -> periods.add(new Document("periodKey", periodKey)
+                    .append("achievedSales", LedgerStates.toDecimal(contribution.achievedSales()))
+                    .append("targetSales", LedgerStates.toDecimal(contribution.targetSales()))
+                    .append("profit", LedgerStates.toDecimal(contribution.profit()))
+                    .append("hcroi", LedgerStates.toDecimal(contribution.hcroi()))
+                    .append("revisions", contribution.revisions())));
+            entries.add(new Document("employeeId", employeeId).append("periods", periods));
+        });
+        return entries;
+    }
+
+    @Override
+    public void restore(List<Document> entries) {
+        for (Document entry : entries) {
+            String employeeId = entry.getString("employeeId");
+            if (employeeId == null) {
+                Number version = (Number) entry.get("configVersion");
+                configVersion = version != null ? version.longValue() : null;
+                continue;
+            }
+            Map<Integer, Contribution> byPeriod = new HashMap<>();
+            for (Document period : entry.getList("periods", Document.class)) {
+                int periodKey = period.getInteger("periodKey");
+                Contribution contribution = new Contribution(
+                        LedgerStates.fromDecimal(period.get("achievedSales")),
+                        LedgerStates.fromDecimal(period.get("targetSales")),
+                        LedgerStates.fromDecimal(period.get("profit")),
+                        LedgerStates.fromDecimal(period.get("hcroi")),
+                        period.getInteger("revisions"));
+                byPeriod.put(periodKey, contribution);
+                totals.merge(periodKey, PeriodTotals.EMPTY.replace(null, contribution),
+                        PeriodTotals::plus);
+            }
+            contributions.put(employeeId, byPeriod);
+        }
+    }
+
+    private record Contribution(BigDecimal achievedSales, BigDecimal targetSales, BigDecimal profit,
+            BigDecimal hcroi, int revisions) {
+    }
+
+    private record PeriodTotals(int employeeCount, BigDecimal achievedSales, BigDecimal targetSales,
+            BigDecimal profit, BigDecimal hcroiSum, int hcroiCount, int corrections) {
+
+        static final PeriodTotals EMPTY = new PeriodTotals(0, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, 0, 0);
+
+        /**
+         * previous(없으면 신규) → next 교체 반영 (정정 횟수는 next.revisions 기준)
+         */
+        PeriodTotals replace(Contribution previous, Contribution next) {
+            int count = employeeCount;
+            BigDecimal sales = achievedSales;
+            BigDecimal target = targetSales;
+            BigDecimal profitSum = profit;
+            BigDecimal hcroiTotal = hcroiSum;
+            int hcroiN = hcroiCount;
+            int corrected = corrections;
+
+            if (previous != null) {
+                count--;
+                sales = sales.subtract(previous.achievedSales());
+                target = target.subtract(previous.targetSales());
+                profitSum = profitSum.subtract(previous.profit());
+                if (previous.hcroi() != null) {
+                    hcroiTotal = hcroiTotal.subtract(previous.hcroi());
+                    hcroiN--;
+                }
+                corrected -= previous.revisions() - 1;
+            }
+
+            count++;
+            sales = sales.add(next.achievedSales());
+            target = target.add(next.targetSales());
+            profitSum = profitSum.add(next.profit());
+            if (next.hcroi() != null) {
+                hcroiTotal = hcroiTotal.add(next.hcroi());
+                hcroiN++;
+            }
+            corrected += next.revisions() - 1;
+
+            return new PeriodTotals(count, sales, target, profitSum, hcroiTotal, hcroiN, corrected);
+        }
+
+        PeriodTotals plus(PeriodTotals other) {
+            return new PeriodTotals(employeeCount + other.employeeCount,
+                    achievedSales.add(other.achievedSales),
+                    targetSales.add(other.targetSales),
+                    profit.add(other.profit),
+                    hcroiSum.add(other.hcroiSum),
+                    hcroiCount + other.hcroiCount,
+                    corrections + other.corrections);
+        }
+
+        PeriodMetrics toMetrics(int periodKey) {
+            BigDecimal averageHcroi = hcroiCount == 0 ? BigDecimal.ZERO
+                    : hcroiSum.divide(BigDecimal.valueOf(hcroiCount), 4, RoundingMode.HALF_UP);
+            return new PeriodMetrics(PeriodKey.format(periodKey), employeeCount, achievedSales, targetSales,
+                    profit, averageHcroi, corrections);
+        }
+    }
+
+    /**
+     * 기간 집계 결과
+     */
+    public record PeriodMetrics(String period, int employeeCount, BigDecimal totalAchievedSales,
+            BigDecimal totalTargetSales, BigDecimal totalProfit, BigDecimal averageHcroi, int corrections) {
+    }
+}
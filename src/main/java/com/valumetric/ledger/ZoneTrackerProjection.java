@@ -0,0 +1,194 @@
+package com.valumetric.ledger;
+
+import com.valumetric.document.Employee;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.document.PeriodKey;
+import com.valumetric.service.DashboardService;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사원 구간(위험/보통/우수) 추적 프로젝션
+ *
+ * <pre>
+ * 최신 기간 HCROI와 현재 점수로 구간을 판정합니다. (기준은 DashboardService와 동일)
+ * - RED:    HCROI &lt; 1.0 또는 점수 &lt; 700
+ * - TOP:    HCROI ≥ 1.5 또는 점수 ≥ 900 (RED가 아닐 때)
+ * - NORMAL: 그 외
+ * 아직 점수 이력이 없는 사원은 점수 기준을 적용하지 않습니다.
+ * 구간이 바뀐 시퀀스(since)와 전환 횟수, 발생한 경고 수를 함께 기록합니다.
+ * </pre>
+ */
+@Component
+public class ZoneTrackerProjection implements LedgerProjection {
+
+    public static final String NAME = "zone-tracker";
+
+    public enum Zone {
+        RED, NORMAL, TOP
+    }
+
+    // 같은 사원의 상태는 한 스레드에서만 갱신
+    private final Map<String, ZoneState> states = new ConcurrentHashMap<>();
+    private final Map<Zone, LongAdder> counts = new EnumMap<>(Zone.class);
+
+    public ZoneTrackerProjection() {
+        for (Zone zone : Zone.values()) {
+            counts.put(zone, new LongAdder());
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void reset() {
+        states.clear();
+        counts.values().forEach(LongAdder::reset);
+    }
+
+    @Override
+    public void apply(LedgerEvent event) {
+        if (event.isGlobal()) {
+            return;
+        }
+        ZoneState state = states.computeIfAbsent(event.getEmployeeId(), id -> new ZoneState());
+        switch (event.getType()) {
+            case PERFORMANCE_RECORDED -> {
+                Employee.PerformanceLog perfLog = event.getPerformanceLog();
+                if (perfLog == null || perfLog.getPeriod() == null) {
+                    return;
+                }
+                int periodKey = perfLog.resolvePeriodKey();
+                if (!PeriodKey.isValid(periodKey)) {
+                    return;
+                }
+                if (state.latestPeriodKey == null || periodKey >= state.latestPeriodKey) {
+                    state.latestPeriodKey = periodKey;
+                    state.latestHcroi = event.getHcroi();
+                    reevaluate(state, event.getSequence());
+                }
+            }
+            case SCORE_CHANGED -> {
+                if (event.getScoreHistory() != null) {
+                    state.score = event.getScoreHistory().getNewScore();
+                    reevaluate(state, event.getSequence());
+                }
+            }
+            case ALERT_RAISED -> state.alertsRaised++;
+            default -> {
+            }
+        }
+    }
+
+    private void reevaluate(ZoneState state, long sequence) {
+        Zone zone = classify(state.latestHcroi, state.score);
+        if (zone == state.zone) {
+            return;
+        }
+        if (state.zone != null) {
+            counts.get(state.zone).decrement();
+            state.transitions++;
+        }
+        counts.get(zone).increment();
+        state.zone = zone;
+        state.since = sequence;
+    }
+
+    static Zone classify(BigDecimal hcroi, BigDecimal score) {
+        boolean lowHcroi = hcroi != null && hcroi.compareTo(DashboardService.HCROI_THRESHOLD) < 0;
+        boolean lowScore = score != null && score.compareTo(DashboardService.SCORE_THRESHOLD) < 0;
+        if (lowHcroi || lowScore) {
+            return Zone.RED;
+        }
+        boolean highHcroi = hcroi != null && hcroi.compareTo(DashboardService.HCROI_EXCELLENT) >= 0;
+        boolean highScore = score != null && score.compareTo(DashboardService.SCORE_EXCELLENT) >= 0;
+        return highHcroi || highScore ? Zone.TOP : Zone.NORMAL;
+    }
+
+    /**
+     * 구간별 사원 수
+     */
+    public Map<Zone, Long> counts() {
+        Map<Zone, Long> result = new EnumMap<>(Zone.class);
+        counts.forEach((zone, count) -> result.put(zone, count.sum()));
+        return result;
+    }
+
+    /**
+     * 구간에 속한 사원 목록 (구간 진입 순)
+     */
+    public List<ZoneEntry> employeesIn(Zone zone) {
+        List<ZoneEntry> entries = new ArrayList<>();
+        states.forEach((employeeId, state) -> {
+            if (state.zone == zone) {
+                entries.add(new ZoneEntry(employeeId, state.zone,
+                        state.latestPeriodKey != null ? PeriodKey.format(state.latestPeriodKey) : null,
+                        state.latestHcroi, state.score, state.since, state.transitions, state.alertsRaised));
+            }
+        });
+        entries.sort(Comparator.comparingLong(ZoneEntry::since));
+        return entries;
+    }
+
+    @Override
+    public List<Document> snapshot() {
+        List<Document> entries = new ArrayList<>(states.size());
+        states.forEach((employeeId, state) -> entries.add(new Document("employeeId", employeeId)
+                .append("latestPeriodKey", state.latestPeriodKey)
+                .append("latestHcroi", LedgerStates.toDecimal(state.latestHcroi))
+                .append("score", LedgerStates.toDecimal(state.score))
+                .append("zone", state.zone != null ? state.zone.name() : null)
+                .append("since", state.since)
+                .append("transitions", state.transitions)
+                .append("alertsRaised", state.alertsRaised)));
+        return entries;
+    }
+
+    @Override
+    public void restore(List<Document> entries) {
+        for (Document entry : entries) {
+            ZoneState state = new ZoneState();
+            state.latestPeriodKey = entry.getInteger("latestPeriodKey");
+            state.latestHcroi = LedgerStates.fromDecimal(entry.get("latestHcroi"));
+            state.score = LedgerStates.fromDecimal(entry.get("score"));
+            String zone = entry.getString("zone");
+            state.zone = zone != null ? Zone.valueOf(zone) : null;
+            state.since = ((Number) entry.get("since")).longValue();
+            state.transitions = entry.getInteger("transitions");
+            state.alertsRaised = entry.getInteger("alertsRaised");
+            if (state.zone != null) {
+                counts.get(state.zone).increment();
+            }
+            states.put(entry.getString("employeeId"), state);
+        }
+    }
+
+    private static final class ZoneState {
+        private Integer latestPeriodKey;
+        private BigDecimal latestHcroi;
+        private BigDecimal score;
+        private Zone zone;
+        private long since;
+        private int transitions;
+        private int alertsRaised;
+    }
+
+    /**
+     * 구간별 사원 조회 결과
+     */
+    public record ZoneEntry(String employeeId, Zone zone, String latestPeriod, BigDecimal latestHcroi,
+            BigDecimal score, long since, int transitions, int alertsRaised) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.valumetric.migration;
+
+import com.valumetric.document.ArchivedHistory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이력 보관본 실적 금액 Decimal128 변환
+ */
+@Component
+public class ArchivedHistoryDecimalMigration extends DecimalFieldMigration {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ArchivedHistoryDecimalMigration(MongoTemplate mongoTemplate) {
+        super(List.of(), Map.of("performanceLogs", PERFORMANCE_LOG_FIELDS));
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public int version() {
+        return 7;
+    }
+
+    @Override
+    public String description() {
+        return "이력 보관본 실적 금액 Decimal128 변환";
+    }
+
+    @Override
+    public String collectionName() {
+        return mongoTemplate.getCollectionName(ArchivedHistory.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.valumetric.migration;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.valumetric.document.Employee;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 생일(birthDate)이 없는 샘플 사원에게 임의 생일 채우기
+ * 
+ * <pre>
+ * 생일 기능 추가 이전에 생성된 샘플 데이터용입니다.
+ * 필터에 birthDate 누락 조건을 함께 걸어 그 사이 입력된 실제 생일은 덮어쓰지 않습니다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class BirthDateMigration implements Migration {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final Random random = new Random();
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String description() {
+        return "샘플 사원 생일(birthDate) 채우기";
+    }
+
+    @Override
+    public String collectionName() {
+        return mongoTemplate.getCollectionName(Employee.class);
+    }
+
+    @Override
+    public Bson pendingFilter() {
+        return Filters.eq("birthDate", null);
+    }
+
+    @Override
+    public Bson projection() {
+        return Projections.include("_id");
+    }
+
+    @Override
+    public List<WriteModel<Document>> migrate(List<Document> chunk) {
+        return chunk.stream()
+                .<WriteModel<Document>>map(doc -> new UpdateOneModel<>(
+                        Filters.and(Filters.eq("_id", doc.get("_id")), pendingFilter()),
+                        Updates.set("birthDate",
+                                mongoTemplate.getConverter().convertToMongoType(randomBirthDate()))))
+                .toList();
+    }
+
+    /**
+     * 25~55세, 30% 확률로 이번 달 또는 다음 달 생일
+     */
+    private LocalDate randomBirthDate() {
+        int year = LocalDate.now().getYear() - (25 + random.nextInt(30));
+        int month;
+        if (random.nextInt(100) < 30) {
+            month = LocalDate.now().getMonthValue();
+            if (random.nextBoolean()) {
+                month = (month % 12) + 1;
+            }
+        } else {
+            month = 1 + random.nextInt(12);
+        }
+        int maxDay = LocalDate.of(year, month, 1).lengthOfMonth();
+        return LocalDate.of(year, month, 1 + random.nextInt(maxDay));
+    }
+}
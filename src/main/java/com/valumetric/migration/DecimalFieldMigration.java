@@ -0,0 +1,81 @@
+package com.valumetric.migration;
+
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열로 저장된 금액 필드 → Decimal128 변환
+ * 
+ * <pre>
+ * 문자열인 값만 $convert로 변환하고, 누락/이미 숫자/해석 불가 값은 그대로 둡니다.
+ * 최상위 필드와 내장 배열의 하위 필드를 함께 지정할 수 있습니다.
+ * </pre>
+ */
+public abstract class DecimalFieldMigration extends PipelineMigration {
+
+    public static final List<String> PERFORMANCE_LOG_FIELDS = List.of("targetSales", "achievedSales", "profit");
+
+    public static final List<String> YEARLY_SUMMARY_FIELDS = List.of(
+            "totalTargetSales", "totalAchievedSales", "totalProfit", "averageAchievedSales");
+
+    public static final List<String> CONFIG_FIELDS = List.of("fixedCostPerPerson", "insuranceRate", "targetProfitRate");
+
+    private final List<String> fields;
+    private final Map<String, List<String>> arrayFields;
+
+    protected DecimalFieldMigration(List<String> fields, Map<String, List<String>> arrayFields) {
+        this.fields = fields;
+        this.arrayFields = arrayFields;
+    }
+
+    @Override
+    public Bson pendingFilter() {
+        List<Bson> conditions = new ArrayList<>();
+        for (String field : fields) {
+            conditions.add(Filters.type(field, "string"));
+        }
+        arrayFields.forEach((array, subFields) -> {
+            for (String subField : subFields) {
+                conditions.add(Filters.elemMatch(array, Filters.type(subField, "string")));
+            }
+        });
+        return Filters.or(conditions);
+    }
+
+    @Override
+    protected List<Bson> pipeline() {
+        Document set = new Document();
+        for (String field : fields) {
+            set.append(field, toDecimal("$" + field));
+        }
+        arrayFields.forEach((array, subFields) -> {
+            Document converted = new Document();
+            for (String subField : subFields) {
+                converted.append(subField, toDecimal("$$item." + subField));
+            }
+            set.append(array, new Document("$cond", List.of(
+                    new Document("$isArray", "$" + array),
+                    new Document("$map", new Document()
+                            .append("input", "$" + array)
+                            .append("as", "item")
+                            .append("in", new Document("$mergeObjects", List.of("$$item", converted)))),
+                    "$" + array)));
+        });
+        return List.of(new Document("$set", set));
+    }
+
+    private Document toDecimal(String fieldPath) {
+        Document isString = new Document("$eq", List.of(new Document("$type", fieldPath), "string"));
+        return new Document("$cond", List.of(isString,
+                new Document("$convert", new Document()
+                        .append("input", fieldPath)
+                        .append("to", "decimal")
+                        .append("onError", fieldPath)),
+                fieldPath));
+    }
+}
@@ -0,0 +1,117 @@
+package com.valumetric.migration;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.valumetric.document.Alert;
+import com.valumetric.document.Employee;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사원 문서에 내장된 기존 경고를 alerts 컬렉션으로 이동
+ *
+ * <pre>
+ * 청크마다 내장 경고를 "사원ID-순번" 고정 ID로 alerts 컬렉션에 upsert한 뒤
+ * 사원 문서의 alerts 필드를 제거하고 unresolvedAlertCount를 alerts 컬렉션 건수로 맞춥니다.
+ * 고정 ID라서 중간에 중단되어도 다시 실행하면 중복 없이 이어서 처리됩니다.
+ * (이동 전 전체 문서 저장이 alerts 필드를 지우지 않도록 사원 수와 관계없이 항상 실행)
+ * 그 사이 경고 발생/해결로 건수가 어긋나면 AlertService 정합성 점검이 바로잡습니다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class EmbeddedAlertMigration implements Migration {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public int version() {
+        return 8;
+    }
+
+    @Override
+    public String description() {
+        return "내장 경고(alerts)를 alerts 컬렉션으로 이동";
+    }
+
+    @Override
+    public String collectionName() {
+        return mongoTemplate.getCollectionName(Employee.class);
+    }
+
+    @Override
+    public Bson pendingFilter() {
+        return Filters.exists("alerts");
+    }
+
+    @Override
+    public Bson projection() {
+        return Projections.include("alerts");
+    }
+
+    @Override
+    public List<WriteModel<Document>> migrate(List<Document> chunk) {
+        BulkOperations alerts = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Alert.class);
+        List<String> employeeIds = new ArrayList<>(chunk.size());
+        boolean hasAlerts = false;
+        for (Document employee : chunk) {
+            String employeeId = employee.get("_id").toString();
+            employeeIds.add(employeeId);
+            List<Document> embedded = employee.getList("alerts", Document.class, List.of());
+            for (int i = 0; i < embedded.size(); i++) {
+                Alert alert = mongoTemplate.getConverter().read(Alert.class, embedded.get(i));
+                alert.setId(employeeId + "-" + i);
+                alert.setEmployeeId(employeeId);
+                if (Boolean.TRUE.equals(alert.getIsResolved()) && alert.getResolvedAt() == null) {
+                    alert.setResolvedAt(LocalDateTime.now());
+                }
+                alerts.replaceOne(new Query(Criteria.where("_id").is(alert.getId())), alert,
+                        FindAndReplaceOptions.options().upsert());
+                hasAlerts = true;
+            }
+        }
+        if (hasAlerts) {
+            alerts.execute();
+        }
+
+        Map<String, Integer> unresolved = countUnresolved(employeeIds);
+        return chunk.stream()
+                .<WriteModel<Document>>map(employee -> new UpdateOneModel<>(
+                        Filters.and(Filters.eq("_id", employee.get("_id")), pendingFilter()),
+                        Updates.combine(
+                                Updates.unset("alerts"),
+                                Updates.set("unresolvedAlertCount",
+                                        unresolved.getOrDefault(employee.get("_id").toString(), 0)))))
+                .toList();
+    }
+
+    /**
+     * 청크 사원들의 미해결 경고 수 (aggregate 1회)
+     */
+    private Map<String, Integer> countUnresolved(List<String> employeeIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("isResolved").is(false).and("employeeId").in(employeeIds)),
+                Aggregation.group("employeeId").count().as("count"));
+        Map<String, Integer> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, Alert.class, Document.class)
+                .forEach(doc -> counts.put(doc.getString("_id"), doc.getInteger("count")));
+        return counts;
+    }
+}
@@ -0,0 +1,38 @@
+package com.valumetric.migration;
+
+import com.valumetric.document.Employee;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사원 급여/월별 실적/연간 요약 금액 Decimal128 변환
+ */
+@Component
+public class EmployeeDecimalMigration extends DecimalFieldMigration {
+
+    private final MongoTemplate mongoTemplate;
+
+    public EmployeeDecimalMigration(MongoTemplate mongoTemplate) {
+        super(List.of("currentSalary"),
+                Map.of("performanceLogs", PERFORMANCE_LOG_FIELDS, "yearlySummaries", YEARLY_SUMMARY_FIELDS));
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public int version() {
+        return 4;
+    }
+
+    @Override
+    public String description() {
+        return "사원 급여/월별 실적/연간 요약 금액 Decimal128 변환";
+    }
+
+    @Override
+    public String collectionName() {
+        return mongoTemplate.getCollectionName(Employee.class);
+    }
+}
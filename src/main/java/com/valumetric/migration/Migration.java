@@ -0,0 +1,49 @@
+package com.valumetric.migration;
+
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.List;
+
+/**
+ * 버전 단위 스키마 마이그레이션
+ * 
+ * <pre>
+ * {@link MigrationRunner}가 버전 순으로 실행합니다.
+ * 1. pendingFilter()에 맞는 문서를 _id 순으로 청크 단위 조회 (projection 필드만)
+ * 2. migrate(청크)가 돌려준 쓰기를 bulkWrite 1회로 적용
+ * 3. 청크의 마지막 _id를 체크포인트로 저장
+ * 
+ * 서비스 중에 실행되므로 쓰기는 대상 필드만 갱신해야 하며($set/$unset),
+ * 필터에 변환 전 조건을 함께 걸어 동시 쓰기와 겹쳐도 결과가 같아야 합니다.
+ * </pre>
+ */
+public interface Migration {
+
+    /**
+     * 실행 순서 겸 체크포인트 ID (한 번 배포한 버전은 변경 금지)
+     */
+    int version();
+
+    String description();
+
+    String collectionName();
+
+    /**
+     * 아직 변환되지 않은 문서 조건
+     */
+    Bson pendingFilter();
+
+    /**
+     * 청크 조회 시 가져올 필드 (null이면 전체 문서)
+     */
+    default Bson projection() {
+        return null;
+    }
+
+    /**
+     * 청크 하나를 변환하는 쓰기 목록 (빈 목록이면 쓰기 없이 다음 청크로)
+     */
+    List<WriteModel<Document>> migrate(List<Document> chunk);
+}
@@ -0,0 +1,320 @@
+package com.valumetric.migration;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.WriteModel;
+import com.valumetric.document.MigrationCheckpoint;
+import com.valumetric.repository.MigrationCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 온라인 스키마 마이그레이션 실행기
+ *
+ * <pre>
+ * 서버 시작 완료(ApplicationReadyEvent) 후 별도 스레드에서 {@link Migration}을 버전 순으로 실행합니다.
+ * - _id 순 청크(chunk-size) 조회 → bulkWrite 1회 → schema_migrations에 마지막 _id 기록
+ * - 재시작/오류 후에는 체크포인트 이후부터 이어서 처리 (완료된 버전은 건너뜀)
+ * - ops-per-second로 초당 처리 문서 수를 제한하여 서비스 트래픽과 경쟁하지 않도록 함 (0이면 무제한)
+ * - 한 버전이 실패하면 이후 버전은 실행하지 않음 (다음 시작 또는 관리자 재실행 시 재시도)
+ * - 여러 인스턴스가 동시에 시작해도 버전마다 체크포인트 임대(findAndModify, owner + 만료 시각)를
+ *   가진 인스턴스만 실행하고, 청크마다 임대를 연장하며 owner가 자신일 때만 체크포인트를 저장
+ *   (임대를 가진 인스턴스가 멈추면 lease-ms 후 다른 인스턴스가 체크포인트부터 이어서 실행)
+ * </pre>
+ */
+@Component
+@Slf4j
+public class MigrationRunner {
+
+    private final List<Migration> migrations;
+    private final MigrationCheckpointRepository checkpointRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${valumetric.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${valumetric.migration.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${valumetric.migration.ops-per-second:2000}")
+    private int opsPerSecond;
+
+    @Value("${valumetric.migration.lease-ms:60000}")
+    private long leaseMs;
+
+    // 임대 owner로 기록하는 이 인스턴스의 ID (재시작마다 새로 발급)
+    private final String instanceId = new ObjectId().toHexString();
+
+    private Thread worker;
+
+    public MigrationRunner(List<Migration> migrations, MigrationCheckpointRepository checkpointRepository,
+            MongoTemplate mongoTemplate) {
+        this.migrations = migrations.stream()
+                .sorted(Comparator.comparingInt(Migration::version))
+                .toList();
+        this.checkpointRepository = checkpointRepository;
+        this.mongoTemplate = mongoTemplate;
+        validateVersions(this.migrations);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /**
+     * 백그라운드 실행 시작 (이미 실행 중이면 무시)
+     *
+     * @return 새로 시작했는지 여부
+     */
+    public synchronized boolean start() {
+        if (worker != null && worker.isAlive()) {
+            return false;
+        }
+        worker = new Thread(this::runAll, "schema-migration");
+        worker.setDaemon(true);
+        worker.start();
+        return true;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return worker != null && worker.isAlive();
+    }
+
+    /**
+     * 등록된 마이그레이션별 진행 상태 (실행 전인 버전은 PENDING)
+     */
+    public List<MigrationCheckpoint> getStatus() {
+        List<MigrationCheckpoint> status = new ArrayList<>();
+        for (Migration migration : migrations) {
+            status.add(checkpointRepository.findById(migration.version())
+                    .orElseGet(() -> newCheckpoint(migration)));
+        }
+        return status;
+    }
+
+    private void runAll() {
+        for (Migration migration : migrations) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (checkpointRepository.findById(migration.version()).filter(MigrationCheckpoint::isCompleted)
+                    .isPresent()) {
+                continue;
+            }
+            MigrationCheckpoint checkpoint = acquireLease(migration);
+            if (checkpoint == null) {
+                if (checkpointRepository.findById(migration.version()).filter(MigrationCheckpoint::isCompleted)
+                        .isPresent()) {
+                    continue;
+                }
+                // 이후 버전은 앞 버전 완료를 전제로 하므로 임대를 가진 인스턴스에 맡기고 멈춤
+                log.info("스키마 마이그레이션 대기: v{} (다른 인스턴스가 실행 중)", migration.version());
+                return;
+            }
+            try {
+                run(migration, checkpoint);
+            } catch (InterruptedException e) {
+                releaseQuietly(checkpoint);
+                Thread.currentThread().interrupt();
+                log.info("스키마 마이그레이션 중단: v{} (체크포인트에서 재개 예정)", migration.version());
+                return;
+            } catch (LeaseLostException e) {
+                log.warn("스키마 마이그레이션 임대 상실: v{} (다른 인스턴스가 이어서 실행)", migration.version());
+                return;
+            } catch (Exception e) {
+                checkpoint.setStatus(MigrationCheckpoint.Status.FAILED);
+                checkpoint.setLastError(e.getMessage());
+                checkpoint.setUpdatedAt(LocalDateTime.now());
+                releaseQuietly(checkpoint);
+                log.error("스키마 마이그레이션 실패: v{} {} - {}", migration.version(), migration.description(),
+                        e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void run(Migration migration, MigrationCheckpoint checkpoint) throws InterruptedException {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(migration.collectionName());
+
+        checkpoint.setStatus(MigrationCheckpoint.Status.RUNNING);
+        checkpoint.setLastError(null);
+        if (checkpoint.getStartedAt() == null) {
+            checkpoint.setStartedAt(LocalDateTime.now());
+        }
+        saveOwned(checkpoint, true);
+        log.info("스키마 마이그레이션 시작: v{} {} (lastId={})", migration.version(), migration.description(),
+                checkpoint.getLastId());
+
+        long startNanos = System.nanoTime();
+        long processedThisRun = 0;
+
+        while (true) {
+            // 인터럽트 상태를 지워 두어야 임대 해제 쓰기가 드라이버에서 거절되지 않음
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            Bson filter = checkpoint.getLastId() == null ? migration.pendingFilter()
+                    : Filters.and(Filters.gt("_id", checkpoint.getLastId()), migration.pendingFilter());
+            FindIterable<Document> find = collection.find(filter)
+                    .sort(Sorts.ascending("_id"))
+                    .limit(chunkSize);
+            if (migration.projection() != null) {
+                find = find.projection(migration.projection());
+            }
+            List<Document> chunk = find.into(new ArrayList<>());
+
+            if (chunk.isEmpty()) {
+                checkpoint.setStatus(MigrationCheckpoint.Status.COMPLETED);
+                checkpoint.setCompletedAt(LocalDateTime.now());
+                checkpoint.setUpdatedAt(LocalDateTime.now());
+                saveOwned(checkpoint, false);
+                log.info("✅ 스키마 마이그레이션 완료: v{} {} (처리 {}건, 변경 {}건)", migration.version(),
+                        migration.description(), checkpoint.getProcessedCount(), checkpoint.getModifiedCount());
+                return;
+            }
+
+            List<WriteModel<Document>> writes = migration.migrate(chunk);
+            long modified = writes.isEmpty() ? 0
+                    : collection.bulkWrite(writes, new BulkWriteOptions().ordered(false)).getModifiedCount();
+
+            checkpoint.setLastId(chunk.get(chunk.size() - 1).get("_id"));
+            checkpoint.setProcessedCount(checkpoint.getProcessedCount() + chunk.size());
+            checkpoint.setModifiedCount(checkpoint.getModifiedCount() + modified);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            saveOwned(checkpoint, true);
+
+            processedThisRun += chunk.size();
+            throttle(startNanos, processedThisRun);
+        }
+    }
+
+    // ==================== 임대 ====================
+
+    /**
+     * 버전 임대 획득 (미완료이고 임대가 없거나 만료되었을 때만, 체크포인트가 없으면 생성)
+     *
+     * @return 임대를 얻은 체크포인트 (다른 인스턴스가 임대 중이거나 그 사이 완료되었으면 null)
+     */
+    private MigrationCheckpoint acquireLease(Migration migration) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(migration.version()),
+                Criteria.where("status").ne(MigrationCheckpoint.Status.COMPLETED),
+                new Criteria().orOperator(
+                        Criteria.where("leaseExpiresAt").is(null),
+                        Criteria.where("leaseExpiresAt").lt(now),
+                        Criteria.where("owner").is(instanceId))));
+        Update update = new Update()
+                .set("owner", instanceId)
+                .set("leaseExpiresAt", now.plus(Duration.ofMillis(leaseMs)))
+                .setOnInsert("description", migration.description())
+                .setOnInsert("collectionName", migration.collectionName())
+                .setOnInsert("status", MigrationCheckpoint.Status.PENDING)
+                .setOnInsert("processedCount", 0L)
+                .setOnInsert("modifiedCount", 0L);
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), MigrationCheckpoint.class);
+        } catch (DuplicateKeyException e) {
+            // 조건 불일치로 upsert가 기존 _id와 충돌 → 다른 인스턴스 임대 중 또는 완료
+            return null;
+        }
+    }
+
+    /**
+     * owner가 자신일 때만 체크포인트 저장 (hold면 임대 연장, 아니면 임대 해제)
+     *
+     * @throws LeaseLostException 임대가 만료되어 다른 인스턴스가 가져간 경우
+     */
+    private void saveOwned(MigrationCheckpoint checkpoint, boolean hold) {
+        checkpoint.setOwner(instanceId);
+        checkpoint.setLeaseExpiresAt(hold ? LocalDateTime.now().plus(Duration.ofMillis(leaseMs)) : null);
+        Query owned = new Query(Criteria.where("_id").is(checkpoint.getVersion()).and("owner").is(instanceId));
+        if (mongoTemplate.findAndReplace(owned, checkpoint) == null) {
+            throw new LeaseLostException(checkpoint.getVersion());
+        }
+    }
+
+    private void releaseQuietly(MigrationCheckpoint checkpoint) {
+        try {
+            saveOwned(checkpoint, false);
+        } catch (RuntimeException e) {
+            log.warn("스키마 마이그레이션 임대 해제 실패: v{} - {} (만료 후 재시도 가능)", checkpoint.getVersion(),
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 처리량이 목표 ops/sec를 넘으면 평균이 맞춰질 때까지 대기
+     */
+    private void throttle(long startNanos, long processed) throws InterruptedException {
+        if (opsPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = TimeUnit.SECONDS.toNanos(processed) / opsPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+
+    private MigrationCheckpoint newCheckpoint(Migration migration) {
+        return MigrationCheckpoint.builder()
+                .version(migration.version())
+                .description(migration.description())
+                .collectionName(migration.collectionName())
+                .build();
+    }
+
+    private static class LeaseLostException extends IllegalStateException {
+
+        LeaseLostException(int version) {
+            super("마이그레이션 임대를 잃었습니다: v" + version);
+        }
+    }
+
+    private static void validateVersions(List<Migration> migrations) {
+        Set<Integer> versions = new HashSet<>();
+        for (Migration migration : migrations) {
+            if (!versions.add(migration.version())) {
+                throw new IllegalStateException("중복된 마이그레이션 버전: " + migration.version());
+            }
+        }
+    }
+}
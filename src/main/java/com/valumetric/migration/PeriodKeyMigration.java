@@ -0,0 +1,94 @@
+package com.valumetric.migration;
+
+import com.mongodb.client.model.Filters;
+import com.valumetric.document.Employee;
+import com.valumetric.document.PeriodKey;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 실적 기간 정수 키 채우기
+ * 
+ * <pre>
+ * periodKey/latestPeriodKey가 없는 사원 문서에 문자열 기간으로부터 정수 키를 계산해 채웁니다.
+ * 형식이 잘못된 기간(길이/구분자/월 범위)은 null 키로 채워 다시 대상이 되지 않도록 합니다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class PeriodKeyMigration extends PipelineMigration {
+
+    private static final String VALID_PERIOD = "^[0-9]{4}-(0[1-9]|1[0-2])$";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public int version() {
+        return 3;
+    }
+
+    @Override
+    public String description() {
+        return "실적 기간 정수 키(periodKey/latestPeriodKey) 채우기";
+    }
+
+    @Override
+    public String collectionName() {
+        return mongoTemplate.getCollectionName(Employee.class);
+    }
+
+    @Override
+    public Bson pendingFilter() {
+        return Filters.or(
+                Filters.elemMatch("performanceLogs", Filters.exists("periodKey", false)),
+                Filters.and(Filters.exists("latestPeriod"), Filters.exists("latestPeriodKey", false)));
+    }
+
+    @Override
+    protected List<Bson> pipeline() {
+        return List.of(new Document("$set", new Document()
+                .append("performanceLogs", new Document("$map", new Document()
+                        .append("input", new Document("$ifNull", List.of("$performanceLogs", List.of())))
+                        .append("as", "log")
+                        .append("in", new Document("$mergeObjects", List.of("$$log",
+                                new Document("periodKey", periodKeyExpression("$$log.period")))))))
+                .append("latestPeriodKey", periodKeyExpression("$latestPeriod"))));
+    }
+
+    /**
+     * "yyyy-MM" → yyyy * 100 + MM (형식 오류/누락 시 null)
+     * 
+     * <pre>
+     * {@link PeriodKey#parse}와 같은 규칙으로 검사합니다: 길이 7, 4번째 '-', 숫자, 월 01~12
+     * ("2024-13"처럼 키로 바꿀 수 있어도 기간이 아닌 값은 null → 조회 시 INVALID로 해석)
+     * </pre>
+     */
+    private Document periodKeyExpression(String periodField) {
+        Document year = toInt(new Document("$substrBytes", List.of(periodField, 0, 4)));
+        Document month = toInt(new Document("$substrBytes", List.of(periodField, 5, 2)));
+        Document isString = new Document("$eq", List.of(new Document("$type", periodField), "string"));
+        Document isPeriod = new Document("$regexMatch", new Document()
+                .append("input", periodField)
+                .append("regex", VALID_PERIOD));
+        // $regexMatch는 문자열이 아니면 오류이므로 타입 검사 뒤에만 평가
+        return new Document("$cond", Arrays.asList(isString,
+                new Document("$cond", Arrays.asList(isPeriod,
+                        new Document("$add", List.of(new Document("$multiply", List.of(year, 100)), month)),
+                        null)),
+                null));
+    }
+
+    private Document toInt(Document input) {
+        return new Document("$convert", new Document()
+                .append("input", input)
+                .append("to", "int")
+                .append("onError", null)
+                .append("onNull", null));
+    }
+}
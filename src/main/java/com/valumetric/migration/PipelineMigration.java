@@ -0,0 +1,37 @@
+package com.valumetric.migration;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.List;
+
+/**
+ * 서버 측 파이프라인 업데이트로 처리하는 마이그레이션
+ * 
+ * <pre>
+ * 청크의 _id만 조회한 뒤 updateMany(_id in 청크 + pendingFilter, pipeline) 1건으로 변환합니다.
+ * 문서를 애플리케이션으로 읽어오지 않으므로 필드 형식 변환/계산 필드 채우기에 적합합니다.
+ * </pre>
+ */
+public abstract class PipelineMigration implements Migration {
+
+    /**
+     * 문서마다 적용할 업데이트 파이프라인
+     */
+    protected abstract List<Bson> pipeline();
+
+    @Override
+    public Bson projection() {
+        return Projections.include("_id");
+    }
+
+    @Override
+    public List<WriteModel<Document>> migrate(List<Document> chunk) {
+        List<Object> ids = chunk.stream().map(doc -> doc.get("_id")).toList();
+        return List.of(new UpdateManyModel<>(Filters.and(Filters.in("_id", ids), pendingFilter()), pipeline()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.valumetric.migration;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.valumetric.document.Employee;
+import com.valumetric.service.EmployeeService;
+import com.valumetric.service.SystemConfigCache;
+import com.valumetric.service.SystemConfigSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요약 필드(currentScore 등)가 없는 기존 사원 문서 채우기
+ * 
+ * <pre>
+ * 내장 이력으로 currentScore/latestPeriod/latestPeriodKey/latestHcroi를 계산해 $set 합니다.
+ * unresolvedAlertCount가 비어 있는 문서만 대상이며, 같은 조건을 쓰기 필터에도 걸어
+ * 그 사이 요약 필드가 채워진 문서는 덮어쓰지 않습니다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class SummaryFieldMigration implements Migration {
+
+    private final MongoTemplate mongoTemplate;
+    private final EmployeeService employeeService;
+    private final SystemConfigCache configCache;
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public String description() {
+        return "사원 요약 필드(currentScore/latestPeriod/latestHcroi) 채우기";
+    }
+
+    @Override
+    public String collectionName() {
+        return mongoTemplate.getCollectionName(Employee.class);
+    }
+
+    @Override
+    public Bson pendingFilter() {
+        return Filters.eq("unresolvedAlertCount", null);
+    }
+
+    @Override
+    public Bson projection() {
+        return Projections.include("currentSalary", "performanceLogs", "scoreHistories", "unresolvedAlertCount");
+    }
+
+    @Override
+    public List<WriteModel<Document>> migrate(List<Document> chunk) {
+        SystemConfigSnapshot config = configCache.current();
+        List<WriteModel<Document>> writes = new ArrayList<>();
+
+        for (Document doc : chunk) {
+            Employee emp = mongoTemplate.getConverter().read(Employee.class, doc);
+            emp.refreshSummaryFields();
+
+            BigDecimal latestHcroi = emp.findPerformanceLog(emp.getLatestPeriod())
+                    .map(latest -> employeeService.calculateHcroi(emp, latest, config))
+                    .orElse(null);
+
+            writes.add(new UpdateOneModel<>(
+                    Filters.and(Filters.eq("_id", doc.get("_id")), pendingFilter()),
+                    Updates.combine(
+                            Updates.set("currentScore", toMongo(emp.getCurrentScore())),
+                            Updates.set("latestPeriod", emp.getLatestPeriod()),
+                            Updates.set("latestPeriodKey", emp.getLatestPeriodKey()),
+                            Updates.set("latestHcroi", toMongo(latestHcroi)),
+                            Updates.set("latestHcroiConfigVersion", latestHcroi != null ? config.getVersion() : null),
+                            Updates.set("unresolvedAlertCount", emp.getUnresolvedAlertCount()))));
+        }
+        return writes;
+    }
+
+    private Object toMongo(BigDecimal value) {
+        return value != null ? mongoTemplate.getConverter().convertToMongoType(value) : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.valumetric.migration;
+
+import com.valumetric.document.SystemConfig;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 시스템 설정 비용 필드 Decimal128 변환
+ */
+@Component
+public class SystemConfigDecimalMigration extends DecimalFieldMigration {
+
+    private final MongoTemplate mongoTemplate;
+
+    public SystemConfigDecimalMigration(MongoTemplate mongoTemplate) {
+        super(CONFIG_FIELDS, Map.of());
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public int version() {
+        return 5;
+    }
+
+    @Override
+    public String description() {
+        return "시스템 설정 비용 필드 Decimal128 변환";
+    }
+
+    @Override
+    public String collectionName() {
+        return mongoTemplate.getCollectionName(SystemConfig.class);
+    }
+}
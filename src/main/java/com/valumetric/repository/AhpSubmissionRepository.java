@@ -0,0 +1,13 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.AhpSubmission;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AhpSubmissionRepository extends MongoRepository<AhpSubmission, String> {
+
+    Optional<AhpSubmission> findTopByOrderByUpdatedAtDesc();
+}
@@ -0,0 +1,25 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.Alert;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 경고 Repository
+ * 
+ * 미해결 조건(isResolved=false)이 포함된 조회는 부분 인덱스(unresolved_idx)를 사용합니다.
+ */
+@Repository
+public interface AlertRepository extends MongoRepository<Alert, String>, AlertRepositoryCustom {
+
+    long countByIsResolvedFalse();
+
+    long countByEmployeeIdAndIsResolvedFalse(String employeeId);
+
+    List<Alert> findByEmployeeIdAndIsResolvedFalseOrderByCreatedAtDesc(String employeeId);
+
+    List<Alert> findByIsResolvedFalseAndAlertTypeIn(Collection<Alert.AlertType> alertTypes);
+}
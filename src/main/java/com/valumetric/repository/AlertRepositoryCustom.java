@@ -0,0 +1,34 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.Alert;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 경고 일괄 처리 (커스텀 Repository)
+ * 
+ * <pre>
+ * 조건은 모두 AND로 결합되며 null인 조건은 무시합니다.
+ * 항상 미해결(isResolved=false) 경고만 대상으로 합니다.
+ * </pre>
+ */
+public interface AlertRepositoryCustom {
+
+    /**
+     * 조건에 맞는 미해결 경고 일괄 해결 (사원별 updateMany)
+     * 
+     * <pre>
+     * 대상 경고를 조회한 뒤 사원별로 "아직 미해결"인 것만 해결하므로,
+     * 동시에 같은 경고를 해결해도 각 경고는 한 쪽의 결과에만 집계됩니다.
+     * </pre>
+     * 
+     * @return 사원 ID → 이번 호출로 해결된 경고 수 (0건인 사원 제외)
+     */
+    Map<String, Long> resolveAll(Collection<String> alertIds, String employeeId, Alert.AlertType alertType);
+
+    /**
+     * 사원별 미해결 경고 수 (정합성 점검용)
+     */
+    Map<String, Long> countUnresolvedByEmployee();
+}
@@ -0,0 +1,79 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.Alert;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link AlertRepositoryCustom} 구현체
+ */
+@RequiredArgsConstructor
+public class AlertRepositoryCustomImpl implements AlertRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Map<String, Long> resolveAll(Collection<String> alertIds, String employeeId, Alert.AlertType alertType) {
+        Query matching = unresolved(alertIds, employeeId, alertType);
+        matching.fields().include("employeeId");
+        Map<String, List<String>> idsByEmployee = mongoTemplate.find(matching, Alert.class).stream()
+                .filter(alert -> alert.getEmployeeId() != null)
+                .collect(Collectors.groupingBy(Alert::getEmployeeId, LinkedHashMap::new,
+                        Collectors.mapping(Alert::getId, Collectors.toList())));
+
+        Update update = new Update()
+                .set("isResolved", true)
+                .set("resolvedAt", LocalDateTime.now());
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        idsByEmployee.forEach((id, ids) -> {
+            long modified = mongoTemplate.updateMulti(
+                    new Query(Criteria.where("_id").in(ids).and("isResolved").is(false)), update, Alert.class)
+                    .getModifiedCount();
+            if (modified > 0) {
+                resolved.put(id, modified);
+            }
+        });
+        return resolved;
+    }
+
+    @Override
+    public Map<String, Long> countUnresolvedByEmployee() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("isResolved").is(false)),
+                Aggregation.group("employeeId").count().as("count"));
+        Map<String, Long> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, Alert.class, Document.class).forEach(doc -> {
+            if (doc.get("_id") != null) {
+                counts.put(doc.get("_id").toString(), ((Number) doc.get("count")).longValue());
+            }
+        });
+        return counts;
+    }
+
+    private Query unresolved(Collection<String> alertIds, String employeeId, Alert.AlertType alertType) {
+        Criteria criteria = Criteria.where("isResolved").is(false);
+        if (alertIds != null && !alertIds.isEmpty()) {
+            criteria.and("_id").in(alertIds);
+        }
+        if (employeeId != null) {
+            criteria.and("employeeId").is(employeeId);
+        }
+        if (alertType != null) {
+            criteria.and("alertType").is(alertType);
+        }
+        return new Query(criteria);
+    }
+}
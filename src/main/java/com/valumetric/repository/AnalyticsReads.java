@@ -0,0 +1,72 @@
+package com.valumetric.repository;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.valumetric.config.CausalWriteTracker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 분석용 읽기 전용 조회 (세컨더리 라우팅 + 인과적 일관성 세션)
+ * 
+ * <pre>
+ * analyticsMongoTemplate(세컨더리 우선)으로 조회하되, 매 조회마다 인과적 일관성 세션을 열고
+ * 이 인스턴스의 마지막 쓰기 operationTime까지 앞당깁니다.
+ * 세컨더리는 그 쓰기를 복제한 뒤에 응답하므로 "쓰고 나서 읽기"가 이전 데이터를 보지 않습니다.
+ * 
+ * 쓰기는 이 클래스를 거치지 않습니다. (항상 기본 mongoTemplate → 프라이머리)
+ * </pre>
+ */
+@Component
+public class AnalyticsReads {
+
+    private static final ClientSessionOptions CAUSAL_SESSION = ClientSessionOptions.builder()
+            .causallyConsistent(true)
+            .build();
+
+    private final MongoTemplate analyticsMongoTemplate;
+    private final MongoDatabaseFactory databaseFactory;
+    private final CausalWriteTracker writeTracker;
+
+    public AnalyticsReads(@Qualifier("analyticsMongoTemplate") MongoTemplate analyticsMongoTemplate,
+            MongoDatabaseFactory databaseFactory, CausalWriteTracker writeTracker) {
+        this.analyticsMongoTemplate = analyticsMongoTemplate;
+        this.databaseFactory = databaseFactory;
+        this.writeTracker = writeTracker;
+    }
+
+    /**
+     * 커서 조회 (Stream을 닫을 때 세션도 함께 닫힘)
+     */
+    public <T> Stream<T> stream(Query query, Class<T> type) {
+        ClientSession session = startSession();
+        try {
+            return analyticsMongoTemplate.withSession(session).stream(query, type).onClose(session::close);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 세션 하나 안에서 조회 실행 (집계/단건 조회)
+     */
+    public <T> T execute(Function<MongoOperations, T> callback) {
+        try (ClientSession session = startSession()) {
+            return callback.apply(analyticsMongoTemplate.withSession(session));
+        }
+    }
+
+    private ClientSession startSession() {
+        ClientSession session = databaseFactory.getSession(CAUSAL_SESSION);
+        writeTracker.advance(session);
+        return session;
+    }
+}
@@ -0,0 +1,15 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.ArchivedHistory;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedHistoryRepository extends MongoRepository<ArchivedHistory, String> {
+
+    List<ArchivedHistory> findByEmployeeIdAndYear(String employeeId, Integer year);
+
+    List<ArchivedHistory> findByEmployeeIdOrderByYearAsc(String employeeId);
+}
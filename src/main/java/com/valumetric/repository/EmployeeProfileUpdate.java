@@ -0,0 +1,59 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.Employee;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 사원 프로필 수정 내용 (수정된 필드만 $set)
+ *
+ * <pre>
+ * null인 프로필 필드는 건드리지 않습니다.
+ * 실적/점수 이력/경고 수처럼 다른 쓰기가 원자적으로 갱신하는 필드는 포함하지 않으므로
+ * 프로필 수정이 그 사이의 $push/$inc를 덮어쓰지 않습니다.
+ * 연봉이 바뀌어 최근 HCROI를 다시 계산했으면 hcroiRefreshed와 함께 새 값(null 가능)을 담습니다.
+ * </pre>
+ */
+@Getter
+@Builder
+public class EmployeeProfileUpdate {
+
+    private final String name;
+    private final String email;
+    private final String currentGrade;
+    private final BigDecimal currentSalary;
+    private final LocalDate hireDate;
+    private final Employee.Role role;
+    private final String password; // 인코딩된 값
+
+    private final boolean hcroiRefreshed;
+    private final BigDecimal latestHcroi;
+    private final Long latestHcroiConfigVersion;
+
+    /**
+     * 수정 내용을 메모리상의 사원 객체에 반영 (응답 생성/내장 저장소용)
+     */
+    public void applyTo(Employee employee) {
+        if (name != null)
+            employee.setName(name);
+        if (email != null)
+            employee.setEmail(email);
+        if (currentGrade != null)
+            employee.setCurrentGrade(currentGrade);
+        if (currentSalary != null)
+            employee.setCurrentSalary(currentSalary);
+        if (hireDate != null)
+            employee.setHireDate(hireDate);
+        if (role != null)
+            employee.setRole(role);
+        if (password != null)
+            employee.setPassword(password);
+        if (hcroiRefreshed) {
+            employee.setLatestHcroi(latestHcroi);
+            employee.setLatestHcroiConfigVersion(latestHcroiConfigVersion);
+        }
+    }
+}
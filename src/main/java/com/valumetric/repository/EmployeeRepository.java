@@ -1,27 +1,29 @@
 package com.valumetric.repository;
 
 import com.valumetric.document.Employee;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface EmployeeRepository extends MongoRepository<Employee, String> {
+public interface EmployeeRepository extends MongoRepository<Employee, String>, EmployeeRepositoryCustom {
 
     Optional<Employee> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
-    @Query("{ '$or': [ " +
-            "{ 'alerts': { '$elemMatch': { 'alertType': 'LOW_HCROI', 'isResolved': false } } }, " +
-            "{ 'alerts': { '$elemMatch': { 'alertType': 'LOW_SCORE', 'isResolved': false } } } " +
-            "] }")
-    List<Employee> findRedZoneEmployees();
-
     List<Employee> findByIsEnabledTrue();
 
+    List<Employee> findByIsEnabledTrue(Sort sort);
+
     List<Employee> findByRole(Employee.Role role);
+
+    // ==================== 요약 필드 기반 조회 (인덱스 사용) ====================
+
+    List<Employee> findByIsEnabledTrueAndUnresolvedAlertCountGreaterThan(int count, Sort sort);
+
+    List<Employee> findByIsEnabledTrueAndLatestPeriodKey(Integer latestPeriodKey, Sort sort);
 }
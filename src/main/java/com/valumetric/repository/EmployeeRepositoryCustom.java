@@ -0,0 +1,148 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.Employee;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 사원 Document 원자적 업데이트 (커스텀 Repository)
+ * 
+ * <pre>
+ * 내장 리스트 추가와 요약 필드 갱신을 단일 문서 업데이트로 처리하여
+ * 동시 쓰기 상황에서도 요약 필드가 이력과 어긋나지 않도록 합니다.
+ * </pre>
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * 월별 실적 등록 (동일 기간 행 교체)
+     * 
+     * 기간이 latestPeriod 이상이면 latestPeriod/latestHcroi/latestHcroiConfigVersion도 함께 갱신합니다.
+     * 
+     * @return 대상 사원이 존재하여 업데이트되었는지 여부
+     */
+    boolean upsertPerformanceLog(String employeeId, Employee.PerformanceLog perfLog, BigDecimal hcroi,
+            long configVersion);
+
+    /**
+     * 점수 이력 추가 + currentScore 갱신
+     */
+    boolean appendScoreHistory(String employeeId, Employee.ScoreHistory history);
+
+    /**
+     * 사원별 쓰기 묶음을 bulkWrite 1회로 적용 (사원당 파이프라인 업데이트 1건, 순서 무관)
+     * 
+     * @return 적용되지 않은 사원 ID → 사유 (대상 사원 없음, 쓰기 오류)
+     */
+    Map<String, String> applyWriteBatches(Collection<EmployeeWriteBatch> batches);
+
+    /**
+     * 프로필 수정 ($set으로 수정된 필드만, {@link EmployeeProfileUpdate})
+     * 
+     * @return 대상 사원이 존재하여 업데이트되었는지 여부
+     */
+    boolean updateProfile(String employeeId, EmployeeProfileUpdate update);
+
+    /**
+     * 사원 비활성화 (isEnabled=false만 $set)
+     * 
+     * @return 대상 사원이 존재하여 업데이트되었는지 여부
+     */
+    boolean disable(String employeeId);
+
+    /**
+     * unresolvedAlertCount 증감 ($inc, 경고 저장/해결과 같은 흐름에서 호출)
+     */
+    boolean incrementUnresolvedAlertCount(String employeeId, int delta);
+
+    /**
+     * unresolvedAlertCount가 0이 아닌 사원별 건수 (정합성 점검용, 없으면 0으로 간주)
+     */
+    Map<String, Integer> findUnresolvedAlertCounts();
+
+    /**
+     * 사원 1명의 unresolvedAlertCount (정합성 점검 재확인용, 필드가 없으면 0, 사원이 없으면 empty)
+     */
+    Optional<Integer> findUnresolvedAlertCount(String employeeId);
+
+    /**
+     * unresolvedAlertCount가 아직 expected일 때만 count로 변경 (정합성 점검용)
+     * 
+     * expected가 0이면 필드가 없는 문서도 대상입니다.
+     * 
+     * @return 변경 여부 (그 사이 증감되었으면 false)
+     */
+    boolean compareAndSetUnresolvedAlertCount(String employeeId, int expected, int count);
+
+    /**
+     * 활성 사원을 분석용 필드만 담아 커서로 조회
+     * 
+     * <pre>
+     * 비밀번호/점수 이력/경고/연간 요약은 제외하고 batchSize 단위로 가져옵니다.
+     * 반환된 Stream은 커서를 점유하므로 반드시 try-with-resources로 닫아야 합니다.
+     * </pre>
+     */
+    Stream<Employee> streamEnabledForAnalytics(int batchSize);
+
+    /**
+     * 활성 사원의 기준별 점수 계산용 필드(이름/현재 점수/점수 이력의 기준명·점수·시각)만 커서로 조회
+     */
+    Stream<Employee> streamCriteriaScores(int batchSize);
+
+    /**
+     * 가중치 재산정 점수 스테이징 (사원별 stagedScore/stagedScoreJobId 설정을 bulkWrite 1회로)
+     *
+     * @return 대상 사원이 있어 반영된 수
+     */
+    long stageRescoredScores(String jobId, Map<String, BigDecimal> scores);
+
+    /**
+     * 작업이 스테이징한 사원을 프라이머리에서 커서로 조회 (현재 점수/스테이징 점수, ID 순)
+     */
+    Stream<Employee> streamStagedScores(String jobId, int batchSize);
+
+    /**
+     * 스테이징 점수 반영: 점수 이력 추가 + currentScore 교체 + 스테이징 필드 제거
+     *
+     * <pre>
+     * 아직 이 작업의 스테이징 점수가 남아 있는 사원만 반영합니다.
+     * (그 사이 점수 이력이 따로 추가된 사원은 스테이징이 비워져 건너뜀)
+     * 이력의 reason은 작업마다 달라야 합니다. (반영 여부 확인에 사용)
+     * </pre>
+     *
+     * @return 반영된 사원 ID
+     */
+    Set<String> promoteRescoredScores(String jobId, Map<String, Employee.ScoreHistory> histories);
+
+    /**
+     * 작업의 스테이징 필드 제거 (취소/실패 시)
+     *
+     * @return 정리된 사원 수
+     */
+    long clearStagedScores(String jobId);
+
+    /**
+     * 전체 사원의 프로필(이름/직급/생년월일)만 커서로 조회
+     */
+    Stream<Employee> streamProfiles(int batchSize);
+
+    /**
+     * 사원 단건 분석용 조회 (세컨더리, 이 인스턴스의 마지막 쓰기 이후 시점 보장)
+     */
+    Optional<Employee> findForAnalytics(String employeeId);
+
+    /**
+     * 활성 사원의 특정 기간 달성 매출 합계 (서버 집계)
+     * 
+     * <pre>
+     * $unwind → $match(periodKey) → $group($sum) 파이프라인으로 계산합니다.
+     * Decimal128로 저장된 값만 합산되며, 문자열로 남은 값은 $sum에서 제외됩니다.
+     * </pre>
+     */
+    BigDecimal sumAchievedSales(int periodKey);
+}
@@ -0,0 +1,382 @@
+package com.valumetric.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import com.valumetric.document.Employee;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@link EmployeeRepositoryCustom} 구현체
+ * 
+ * <pre>
+ * 실적 교체는 파이프라인 업데이트 하나로 처리:
+ *   performanceLogs = filter(기존, period != 신규) + [신규]
+ *   latestPeriod/latestPeriodKey/latestHcroi = 신규 기간이 최신일 때만 교체
+ *   (백필 전 문서도 있으므로 최신 여부는 period 문자열로 비교)
+ *   lastPeriodWrite = 새 쓰기ID + 교체한 기간 (Change Stream이 해당 기간만 무효화)
+ * 쓰기 묶음(applyWriteBatches)은 같은 단계를 사원별로 이어 붙여 bulkWrite 1회로 적용
+ * 점수 이력이 추가되면 가중치 재산정 스테이징 필드(stagedScore/stagedScoreJobId)도 함께 비움
+ * 
+ * 분석용 조회(stream/sum/findForAnalytics)는 {@link AnalyticsReads}로 세컨더리에서 읽습니다.
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final AnalyticsReads analyticsReads;
+
+    @Override
+    public boolean upsertPerformanceLog(String employeeId, Employee.PerformanceLog perfLog, BigDecimal hcroi,
+            long configVersion) {
+        List<Bson> pipeline = List.of(performanceLogStage(perfLog, hcroi, configVersion),
+                periodWriteStage(List.of(perfLog.getPeriod())));
+
+        UpdateResult result = collection().updateOne(idFilter(employeeId), pipeline);
+        return result.getMatchedCount() > 0;
+    }
+
+    @Override
+    public Map<String, String> applyWriteBatches(Collection<EmployeeWriteBatch> batches) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        List<EmployeeWriteBatch> targets = batches.stream().filter(batch -> batch.size() > 0).toList();
+        if (targets.isEmpty()) {
+            return failures;
+        }
+
+        List<WriteModel<Document>> writes = new ArrayList<>(targets.size());
+        for (EmployeeWriteBatch batch : targets) {
+            writes.add(new UpdateOneModel<>(idFilter(batch.getEmployeeId()), batchPipeline(batch)));
+        }
+
+        long matched;
+        try {
+            matched = collection().bulkWrite(writes, new BulkWriteOptions().ordered(false)).getMatchedCount();
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                failures.put(targets.get(error.getIndex()).getEmployeeId(), error.getMessage());
+            }
+            matched = e.getWriteResult().getMatchedCount();
+        }
+
+        if (matched + failures.size() < targets.size()) {
+            Set<Object> existing = new HashSet<>();
+            collection().find(Filters.in("_id", targets.stream().map(batch -> toId(batch.getEmployeeId())).toList()))
+                    .projection(Projections.include("_id"))
+                    .forEach(document -> existing.add(document.get("_id")));
+            for (EmployeeWriteBatch batch : targets) {
+                if (!existing.contains(toId(batch.getEmployeeId()))) {
+                    failures.putIfAbsent(batch.getEmployeeId(), "사원을 찾을 수 없습니다: " + batch.getEmployeeId());
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 사원 1명의 쓰기 묶음 → 파이프라인 (실적은 건마다 $set 단계, 점수 이력은 한 단계로 이어 붙임)
+     */
+    private List<Bson> batchPipeline(EmployeeWriteBatch batch) {
+        List<Bson> pipeline = new ArrayList<>();
+        Set<String> periods = new LinkedHashSet<>();
+        for (EmployeeWriteBatch.PerformanceLogWrite write : batch.getPerformanceLogs()) {
+            pipeline.add(performanceLogStage(write.perfLog(), write.hcroi(), write.configVersion()));
+            periods.add(write.perfLog().getPeriod());
+        }
+        if (!periods.isEmpty()) {
+            pipeline.add(periodWriteStage(periods));
+        }
+
+        List<Employee.ScoreHistory> histories = batch.getScoreHistories();
+        if (!histories.isEmpty()) {
+            List<Document> appended = histories.stream().map(this::toDocument).toList();
+            pipeline.add(new Document("$set", new Document("scoreHistories", new Document("$concatArrays", List.of(
+                    new Document("$ifNull", List.of("$scoreHistories", List.of())),
+                    new Document("$literal", appended))))
+                    .append("currentScore", new Document("$literal",
+                            toDecimal(histories.get(histories.size() - 1).getNewScore())))
+                    .append("stagedScore", "$$REMOVE")
+                    .append("stagedScoreJobId", "$$REMOVE")));
+        }
+        return pipeline;
+    }
+
+    /**
+     * 실적 1건 교체 단계: 동일 기간 제거 후 추가, 최신 기간이면 요약 필드 갱신
+     */
+    private Document performanceLogStage(Employee.PerformanceLog perfLog, BigDecimal hcroi, long configVersion) {
+        String period = perfLog.getPeriod();
+
+        Document keptLogs = new Document("$filter", new Document("input",
+                new Document("$ifNull", List.of("$performanceLogs", List.of())))
+                .append("as", "log")
+                .append("cond", new Document("$ne", List.of("$$log.period", period))));
+
+        Document isLatest = new Document("$gte", List.of(
+                period, new Document("$ifNull", List.of("$latestPeriod", ""))));
+
+        Document set = new Document("performanceLogs", new Document("$concatArrays", List.of(
+                keptLogs, new Document("$literal", List.of(toDocument(perfLog))))))
+                .append("latestPeriod", new Document("$cond", List.of(isLatest, period, "$latestPeriod")))
+                .append("latestPeriodKey", new Document("$cond", List.of(
+                        isLatest, perfLog.resolvePeriodKey(), "$latestPeriodKey")))
+                .append("latestHcroi", new Document("$cond", Arrays.asList(
+                        isLatest, toDecimal(hcroi), "$latestHcroi")))
+                .append("latestHcroiConfigVersion", new Document("$cond", List.of(
+                        isLatest, configVersion, "$latestHcroiConfigVersion")));
+
+        return new Document("$set", set);
+    }
+
+    /**
+     * 교체한 기간 표식 단계 (쓰기마다 새 ID라 값이 항상 바뀜 → Change Stream updatedFields에 포함)
+     */
+    private Document periodWriteStage(Collection<String> periods) {
+        return new Document("$set", new Document("lastPeriodWrite", new Document("$literal",
+                Employee.formatPeriodWrite(new ObjectId().toHexString(), periods))));
+    }
+
+    @Override
+    public Stream<Employee> streamEnabledForAnalytics(int batchSize) {
+        Query query = new Query(Criteria.where("isEnabled").is(true)).cursorBatchSize(batchSize);
+        query.fields().exclude("password", "scoreHistories", "yearlySummaries");
+        return analyticsReads.stream(query, Employee.class);
+    }
+
+    @Override
+    public Stream<Employee> streamCriteriaScores(int batchSize) {
+        Query query = new Query(Criteria.where("isEnabled").is(true)).cursorBatchSize(batchSize);
+        query.fields().include("name", "currentScore", "scoreHistories.criteriaName", "scoreHistories.newScore",
+                "scoreHistories.changedAt");
+        return analyticsReads.stream(query, Employee.class);
+    }
+
+    @Override
+    public long stageRescoredScores(String jobId, Map<String, BigDecimal> scores) {
+        if (scores.isEmpty()) {
+            return 0;
+        }
+        List<WriteModel<Document>> writes = new ArrayList<>(scores.size());
+        scores.forEach((employeeId, score) -> writes.add(new UpdateOneModel<>(idFilter(employeeId),
+                Updates.combine(Updates.set("stagedScore", toDecimal(score)),
+                        Updates.set("stagedScoreJobId", jobId)))));
+        return collection().bulkWrite(writes, new BulkWriteOptions().ordered(false)).getMatchedCount();
+    }
+
+    @Override
+    public Stream<Employee> streamStagedScores(String jobId, int batchSize) {
+        // 방금 쓴 스테이징 값을 읽어야 하므로 세컨더리(AnalyticsReads)가 아닌 프라이머리에서 조회
+        Query query = new Query(Criteria.where("stagedScoreJobId").is(jobId))
+                .with(Sort.by("_id"))
+                .cursorBatchSize(batchSize);
+        query.fields().include("currentScore", "stagedScore", "stagedScoreJobId");
+        return mongoTemplate.stream(query, Employee.class);
+    }
+
+    @Override
+    public Set<String> promoteRescoredScores(String jobId, Map<String, Employee.ScoreHistory> histories) {
+        if (histories.isEmpty()) {
+            return Set.of();
+        }
+        List<WriteModel<Document>> writes = new ArrayList<>(histories.size());
+        histories.forEach((employeeId, history) -> writes.add(new UpdateOneModel<>(
+                Filters.and(idFilter(employeeId), Filters.eq("stagedScoreJobId", jobId)),
+                List.of(new Document("$set", new Document("scoreHistories", new Document("$concatArrays", List.of(
+                        new Document("$ifNull", List.of("$scoreHistories", List.of())),
+                        new Document("$literal", List.of(toDocument(history))))))
+                        .append("currentScore", new Document("$literal", toDecimal(history.getNewScore())))
+                        .append("stagedScore", "$$REMOVE")
+                        .append("stagedScoreJobId", "$$REMOVE"))))));
+
+        long matched = collection().bulkWrite(writes, new BulkWriteOptions().ordered(false)).getMatchedCount();
+        if (matched == histories.size()) {
+            return histories.keySet();
+        }
+
+        // 일부가 건너뛰어졌으면 이번 이력이 실제로 붙은 사원만 다시 확인
+        String reason = histories.values().iterator().next().getReason();
+        Set<String> promoted = new HashSet<>();
+        collection().find(Filters.and(
+                Filters.in("_id", histories.keySet().stream().map(this::toId).toList()),
+                Filters.eq("scoreHistories.reason", reason)))
+                .projection(Projections.include("_id"))
+                .forEach(document -> promoted.add(document.get("_id").toString()));
+        return promoted;
+    }
+
+    @Override
+    public long clearStagedScores(String jobId) {
+        return collection().updateMany(Filters.eq("stagedScoreJobId", jobId),
+                Updates.combine(Updates.unset("stagedScore"), Updates.unset("stagedScoreJobId")))
+                .getModifiedCount();
+    }
+
+    @Override
+    public Stream<Employee> streamProfiles(int batchSize) {
+        Query query = new Query().cursorBatchSize(batchSize);
+        query.fields().include("name", "currentGrade", "birthDate");
+        return analyticsReads.stream(query, Employee.class);
+    }
+
+    @Override
+    public Optional<Employee> findForAnalytics(String employeeId) {
+        return Optional.ofNullable(analyticsReads.execute(ops -> ops.findById(employeeId, Employee.class)));
+    }
+
+    @Override
+    public boolean appendScoreHistory(String employeeId, Employee.ScoreHistory history) {
+        Bson update = Updates.combine(
+                Updates.push("scoreHistories", toDocument(history)),
+                Updates.set("currentScore", toDecimal(history.getNewScore())),
+                Updates.unset("stagedScore"),
+                Updates.unset("stagedScoreJobId"));
+
+        return collection().updateOne(idFilter(employeeId), update).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean updateProfile(String employeeId, EmployeeProfileUpdate profile) {
+        Update update = new Update();
+        setIfPresent(update, "name", profile.getName());
+        setIfPresent(update, "email", profile.getEmail());
+        setIfPresent(update, "currentGrade", profile.getCurrentGrade());
+        setIfPresent(update, "currentSalary", profile.getCurrentSalary());
+        setIfPresent(update, "hireDate", profile.getHireDate());
+        setIfPresent(update, "role", profile.getRole());
+        setIfPresent(update, "password", profile.getPassword());
+        if (profile.isHcroiRefreshed()) {
+            update.set("latestHcroi", profile.getLatestHcroi())
+                    .set("latestHcroiConfigVersion", profile.getLatestHcroiConfigVersion());
+        }
+        Query query = new Query(Criteria.where("_id").is(employeeId));
+        if (update.getUpdateObject().isEmpty()) {
+            return mongoTemplate.exists(query, Employee.class);
+        }
+        // 엔티티 매핑을 거쳐 Decimal128/날짜/열거형 변환 규칙을 그대로 적용
+        return mongoTemplate.updateFirst(query, update, Employee.class).getMatchedCount() > 0;
+    }
+
+    private void setIfPresent(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+
+    @Override
+    public boolean disable(String employeeId) {
+        return collection().updateOne(idFilter(employeeId), Updates.set("isEnabled", false))
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean incrementUnresolvedAlertCount(String employeeId, int delta) {
+        return collection().updateOne(idFilter(employeeId), Updates.inc("unresolvedAlertCount", delta))
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public Map<String, Integer> findUnresolvedAlertCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        collection().find(Filters.nin("unresolvedAlertCount", Arrays.asList(0, null)))
+                .projection(Projections.include("unresolvedAlertCount"))
+                .forEach(doc -> counts.put(doc.get("_id").toString(), doc.getInteger("unresolvedAlertCount")));
+        return counts;
+    }
+
+    @Override
+    public Optional<Integer> findUnresolvedAlertCount(String employeeId) {
+        Document doc = collection().find(idFilter(employeeId))
+                .projection(Projections.include("unresolvedAlertCount"))
+                .first();
+        return Optional.ofNullable(doc).map(found -> found.getInteger("unresolvedAlertCount", 0));
+    }
+
+    @Override
+    public boolean compareAndSetUnresolvedAlertCount(String employeeId, int expected, int count) {
+        Bson current = expected == 0
+                ? Filters.in("unresolvedAlertCount", Arrays.asList(0, null))
+                : Filters.eq("unresolvedAlertCount", expected);
+        return collection().updateOne(Filters.and(idFilter(employeeId), current),
+                Updates.set("unresolvedAlertCount", count)).getModifiedCount() > 0;
+    }
+
+    @Override
+    public BigDecimal sumAchievedSales(int periodKey) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("isEnabled").is(true).and("performanceLogs.periodKey").is(periodKey)),
+                Aggregation.unwind("performanceLogs"),
+                Aggregation.match(Criteria.where("performanceLogs.periodKey").is(periodKey)),
+                Aggregation.group().sum("performanceLogs.achievedSales").as("total"));
+
+        Document result = analyticsReads.execute(ops -> ops.aggregate(
+                aggregation, mongoTemplate.getCollectionName(Employee.class), Document.class)
+                .getUniqueMappedResult());
+        if (result == null) {
+            return BigDecimal.ZERO;
+        }
+        Object total = result.get("total");
+        if (total instanceof Decimal128 decimal) {
+            return decimal.bigDecimalValue();
+        }
+        // 합산 대상이 모두 문자열이면 $sum은 정수 0을 반환
+        return total instanceof Number number ? new BigDecimal(number.toString()) : BigDecimal.ZERO;
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Employee.class));
+    }
+
+    private Bson idFilter(String employeeId) {
+        return Filters.eq("_id", toId(employeeId));
+    }
+
+    private Object toId(String employeeId) {
+        return ObjectId.isValid(employeeId) ? new ObjectId(employeeId) : employeeId;
+    }
+
+    /**
+     * 내장 객체를 매핑 규칙(컨버터 포함)대로 BSON 문서로 변환
+     */
+    private Document toDocument(Object embedded) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(embedded, document);
+        document.remove("_class");
+        return document;
+    }
+
+    private Decimal128 toDecimal(BigDecimal value) {
+        return value != null ? new Decimal128(value.round(MathContext.DECIMAL128)) : null;
+    }
+}
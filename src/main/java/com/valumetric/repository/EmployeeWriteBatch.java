@@ -0,0 +1,44 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.Employee;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 사원에 대한 실적/점수 쓰기 묶음 (그룹 커밋 단위)
+ * 
+ * <pre>
+ * 같은 사원에 대한 여러 쓰기를 들어온 순서대로 모아 업데이트 1건으로 적용합니다.
+ * - 실적: 건마다 동일 기간 교체 + 최신 기간 요약 갱신 ($set 단계를 순서대로 연결)
+ * - 점수 이력: 한 번에 이어 붙이고 currentScore는 마지막 이력의 newScore
+ * </pre>
+ */
+@Getter
+public class EmployeeWriteBatch {
+
+    private final String employeeId;
+    private final List<PerformanceLogWrite> performanceLogs = new ArrayList<>();
+    private final List<Employee.ScoreHistory> scoreHistories = new ArrayList<>();
+
+    public EmployeeWriteBatch(String employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public void addPerformanceLog(Employee.PerformanceLog perfLog, BigDecimal hcroi, long configVersion) {
+        performanceLogs.add(new PerformanceLogWrite(perfLog, hcroi, configVersion));
+    }
+
+    public void addScoreHistory(Employee.ScoreHistory history) {
+        scoreHistories.add(history);
+    }
+
+    public int size() {
+        return performanceLogs.size() + scoreHistories.size();
+    }
+
+    public record PerformanceLogWrite(Employee.PerformanceLog perfLog, BigDecimal hcroi, long configVersion) {
+    }
+}
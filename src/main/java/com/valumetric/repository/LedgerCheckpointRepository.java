@@ -0,0 +1,9 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.LedgerCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerCheckpointRepository extends MongoRepository<LedgerCheckpoint, String> {
+}
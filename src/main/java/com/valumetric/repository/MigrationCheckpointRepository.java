@@ -0,0 +1,13 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.MigrationCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MigrationCheckpointRepository extends MongoRepository<MigrationCheckpoint, Integer> {
+
+    List<MigrationCheckpoint> findAllByOrderByVersionAsc();
+}
@@ -0,0 +1,9 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.RandomIndexEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RandomIndexRepository extends MongoRepository<RandomIndexEntry, String> {
+}
@@ -0,0 +1,18 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.Employee;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * 사원 리액티브 Repository (논블로킹 조회 전용)
+ */
+@Repository
+public interface ReactiveEmployeeRepository extends ReactiveMongoRepository<Employee, String> {
+
+    Flux<Employee> findByIsEnabledTrue();
+
+    Flux<Employee> findByIsEnabledTrue(Sort sort);
+}
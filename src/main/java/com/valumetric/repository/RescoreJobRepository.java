@@ -0,0 +1,16 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.RescoreJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RescoreJobRepository extends MongoRepository<RescoreJob, String>, RescoreJobRepositoryCustom {
+
+    List<RescoreJob> findByStatus(RescoreJob.Status status);
+
+    Optional<RescoreJob> findFirstByOrderByStartedAtDesc();
+}
@@ -0,0 +1,31 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.RescoreJob;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 재산정 작업 소유권 조건부 갱신 (커스텀 Repository)
+ */
+public interface RescoreJobRepositoryCustom {
+
+    /**
+     * 진행 중(STAGING/PROMOTING)이면서 heartbeat가 끊긴 작업을 newOwner로 가져옴
+     *
+     * <pre>
+     * heartbeatAt이 없거나 staleBefore 이전일 때만 owner/heartbeatAt을 바꿉니다.
+     * 여러 인스턴스가 동시에 시도해도 하나만 성공합니다.
+     * </pre>
+     *
+     * @return 가져온 작업 (다른 인스턴스가 살아 있거나 먼저 가져갔으면 empty)
+     */
+    Optional<RescoreJob> claimIfStale(String jobId, LocalDateTime staleBefore, String newOwner);
+
+    /**
+     * owner가 그대로일 때만 heartbeatAt 갱신
+     *
+     * @return 갱신 여부 (false면 다른 인스턴스가 작업을 가져감)
+     */
+    boolean heartbeat(String jobId, String owner, LocalDateTime now);
+}
@@ -0,0 +1,44 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.RescoreJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link RescoreJobRepositoryCustom} 구현체
+ */
+@RequiredArgsConstructor
+public class RescoreJobRepositoryCustomImpl implements RescoreJobRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<RescoreJob> claimIfStale(String jobId, LocalDateTime staleBefore, String newOwner) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(jobId),
+                Criteria.where("status").in(List.of(RescoreJob.Status.STAGING, RescoreJob.Status.PROMOTING)),
+                new Criteria().orOperator(
+                        Criteria.where("heartbeatAt").is(null),
+                        Criteria.where("heartbeatAt").lt(staleBefore))));
+        Update update = new Update()
+                .set("owner", newOwner)
+                .set("heartbeatAt", LocalDateTime.now());
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), RescoreJob.class));
+    }
+
+    @Override
+    public boolean heartbeat(String jobId, String owner, LocalDateTime now) {
+        Query query = new Query(Criteria.where("_id").is(jobId).and("owner").is(owner));
+        return mongoTemplate.updateFirst(query, Update.update("heartbeatAt", now), RescoreJob.class)
+                .getMatchedCount() > 0;
+    }
+}
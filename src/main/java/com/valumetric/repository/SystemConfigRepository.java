@@ -7,15 +7,12 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface SystemConfigRepository extends MongoRepository<SystemConfig, String> {
+public interface SystemConfigRepository extends MongoRepository<SystemConfig, String>, SystemConfigRepositoryCustom {
 
     Optional<SystemConfig> findByConfigType(String configType);
 
     default SystemConfig getDefaultConfig() {
-        return findByConfigType("DEFAULT")
-                .orElseGet(() -> {
-                    SystemConfig defaultConfig = SystemConfig.createDefault();
-                    return save(defaultConfig);
-                });
+        return findByConfigType(SystemConfig.DEFAULT_TYPE)
+                .orElseGet(this::upsertDefaultConfig);
     }
 }
@@ -0,0 +1,34 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.SystemConfig;
+
+import java.util.Optional;
+
+/**
+ * 시스템 설정 원자적 생성/수정 (커스텀 Repository)
+ */
+public interface SystemConfigRepositoryCustom {
+
+    /**
+     * 기본 설정 생성 ($setOnInsert upsert)
+     * 
+     * <pre>
+     * 동시에 여러 요청이 최초 조회를 하더라도 문서는 하나만 생성되며,
+     * 이미 존재하면 기존 문서를 그대로 반환합니다.
+     * </pre>
+     */
+    SystemConfig upsertDefaultConfig();
+
+    /**
+     * 변경 감지용 스탬프 조회 (id, revision, updatedAt만 투영)
+     */
+    Optional<SystemConfig> findVersionStamp(String configType);
+
+    /**
+     * revision이 기대값과 같을 때만 문서 교체 (낙관적 잠금)
+     * 
+     * @param expectedRevision 읽었을 당시의 revision (구버전 문서는 null)
+     * @return 교체되었는지 여부 (false면 다른 쓰기가 먼저 반영됨)
+     */
+    boolean replaceIfRevision(SystemConfig config, Long expectedRevision);
+}
@@ -0,0 +1,59 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.SystemConfig;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+/**
+ * {@link SystemConfigRepositoryCustom} 구현체
+ */
+@RequiredArgsConstructor
+public class SystemConfigRepositoryCustomImpl implements SystemConfigRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public SystemConfig upsertDefaultConfig() {
+        Query query = byType(SystemConfig.DEFAULT_TYPE);
+
+        Document defaults = new Document();
+        mongoTemplate.getConverter().write(SystemConfig.createDefault(), defaults);
+        defaults.remove("_id");
+        defaults.remove("configType");
+        Update update = Update.fromDocument(new Document("$setOnInsert", defaults));
+
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), SystemConfig.class);
+        } catch (DuplicateKeyException e) {
+            // 동시 upsert 중 하나만 삽입에 성공 → 나머지는 생성된 문서를 다시 조회
+            return mongoTemplate.findOne(query, SystemConfig.class);
+        }
+    }
+
+    @Override
+    public Optional<SystemConfig> findVersionStamp(String configType) {
+        Query query = byType(configType);
+        query.fields().include("revision", "updatedAt");
+        return Optional.ofNullable(mongoTemplate.findOne(query, SystemConfig.class));
+    }
+
+    @Override
+    public boolean replaceIfRevision(SystemConfig config, Long expectedRevision) {
+        Query query = new Query(Criteria.where("_id").is(config.getId())
+                .and("revision").is(expectedRevision));
+        return mongoTemplate.findAndReplace(query, config) != null;
+    }
+
+    private Query byType(String configType) {
+        return new Query(Criteria.where("configType").is(configType));
+    }
+}
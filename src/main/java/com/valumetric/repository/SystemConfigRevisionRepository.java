@@ -0,0 +1,16 @@
+package com.valumetric.repository;
+
+import com.valumetric.document.SystemConfigRevision;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SystemConfigRevisionRepository extends MongoRepository<SystemConfigRevision, String> {
+
+    Optional<SystemConfigRevision> findByConfigTypeAndVersion(String configType, Long version);
+
+    List<SystemConfigRevision> findTop20ByConfigTypeOrderByVersionDesc(String configType);
+}
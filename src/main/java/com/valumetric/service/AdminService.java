@@ -1,19 +1,29 @@
 package com.valumetric.service;
 
 import com.valumetric.calculator.AhpEngine;
+import com.valumetric.calculator.AhpHierarchyEngine;
+import com.valumetric.calculator.ConsistencyAdvisor;
+import com.valumetric.calculator.IncompleteAhpSolver;
+import com.valumetric.document.RescoreJob;
 import com.valumetric.document.SystemConfig;
+import com.valumetric.document.SystemConfigRevision;
+import com.valumetric.dto.admin.AhpHierarchyMatrixUpdateRequest;
+import com.valumetric.dto.admin.AhpHierarchyRequest;
+import com.valumetric.dto.admin.AhpHierarchyResponse;
 import com.valumetric.dto.admin.AhpMatrixUpdateRequest;
 import com.valumetric.dto.admin.AhpWeightResponse;
 import com.valumetric.dto.admin.SalaryConfigUpdateRequest;
-import com.valumetric.repository.SystemConfigRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 관리자 서비스 (MongoDB 버전)
@@ -23,45 +33,66 @@ import java.util.List;
 @Slf4j
 public class AdminService {
 
-    private final SystemConfigRepository configRepository;
+    // 불완전 비교에서 추천할 빈 비교 기본 개수
+    private static final int DEFAULT_SUGGESTION_LIMIT = 5;
+
+    // 일관성 개선 제안에서 수정할 비교 기본 한도 / 응답에 담을 비일관 기여 비교 수
+    private static final int DEFAULT_ADJUSTMENT_LIMIT = 3;
+    private static final int INCONSISTENT_PAIR_LIMIT = 5;
+
+    private final SystemConfigCache configCache;
     private final AhpEngine ahpEngine;
+    private final AhpHierarchyEngine ahpHierarchyEngine;
+    private final RescoreJobService rescoreJobService;
 
     /**
      * 급여 설정 조회
      */
     public SystemConfig getSalaryConfig() {
-        return configRepository.getDefaultConfig();
+        return configCache.current().toDocument();
     }
 
     /**
      * 급여 설정 수정
      */
     public SystemConfig updateSalaryConfig(SalaryConfigUpdateRequest request) {
-        SystemConfig config = configRepository.getDefaultConfig();
+        return configCache.update(config -> {
+            if (request.getFixedCostPerPerson() != null) {
+                config.setFixedCostPerPerson(request.getFixedCostPerPerson());
+            }
+            if (request.getInsuranceRate() != null) {
+                config.setInsuranceRate(request.getInsuranceRate());
+            }
+            if (request.getTargetProfitRate() != null) {
+                config.setTargetProfitRate(request.getTargetProfitRate());
+            }
+        }).toDocument();
+    }
 
-        if (request.getFixedCostPerPerson() != null) {
-            config.setFixedCostPerPerson(request.getFixedCostPerPerson());
-        }
-        if (request.getInsuranceRate() != null) {
-            config.setInsuranceRate(request.getInsuranceRate());
-        }
-        if (request.getTargetProfitRate() != null) {
-            config.setTargetProfitRate(request.getTargetProfitRate());
-        }
+    /**
+     * 설정 변경 이력 조회 (최신순)
+     */
+    public List<SystemConfigRevision> getConfigVersions() {
+        return configCache.recentVersions();
+    }
 
-        config.setUpdatedAt(LocalDateTime.now());
-        return configRepository.save(config);
+    /**
+     * 특정 버전의 설정 조회
+     */
+    public SystemConfig getConfigVersion(long version) {
+        return configCache.findVersion(version)
+                .map(SystemConfigSnapshot::toDocument)
+                .orElseThrow(() -> new IllegalArgumentException("설정 버전을 찾을 수 없습니다: " + version));
     }
 
     /**
      * 현재 AHP 가중치 조회
      */
     public AhpWeightResponse getCurrentAhpWeights() {
-        SystemConfig config = configRepository.getDefaultConfig();
+        SystemConfigSnapshot config = configCache.current();
 
-        List<SystemConfig.EvaluationCriteria> criteria = config.getEvaluationCriteria();
-        String[] names = criteria.stream()
-                .map(SystemConfig.EvaluationCriteria::getName)
+        String[] names = config.getEvaluationCriteria().stream()
+                .map(SystemConfigSnapshot.Criteria::name)
                 .toArray(String[]::new);
         double[] weights = config.getAhpWeights().stream()
                 .mapToDouble(Double::doubleValue)
@@ -77,54 +108,92 @@ public class AdminService {
     }
 
     /**
-     * AHP 쌍대비교 행렬로 가중치 계산 및 저장
+     * AHP 쌍대비교 행렬로 가중치 계산 및 저장 (단일 행렬 방식, 기존 계층은 해제)
      */
     public AhpWeightResponse calculateAndSaveAhpWeights(AhpMatrixUpdateRequest request) {
+        AhpWeightResponse response = previewAhpWeights(request);
         int n = request.getMatrixSize();
-        double[][] matrix = ahpEngine.createPairwiseMatrix(
-                n, request.getUpperTriangleValues());
 
-        AhpEngine.AhpResult result = ahpEngine.calculate(matrix);
-
-        if (!result.isConsistent()) {
-            log.warn("AHP 일관성 비율 초과: CR={}", result.getConsistencyRatio());
+        if (!response.isConsistent()) {
+            log.warn("AHP 일관성 비율 초과: CR={}", response.getConsistencyRatio());
         }
 
-        // 설정 저장
-        SystemConfig config = configRepository.getDefaultConfig();
-
         // 가중치 업데이트
         List<Double> weightList = new ArrayList<>();
-        for (double w : result.getWeights()) {
+        for (double w : response.getWeights()) {
             weightList.add(w);
         }
-        config.setAhpWeights(weightList);
-        config.setConsistencyRatio(result.getConsistencyRatio());
-        config.setIsConsistent(result.isConsistent());
 
-        // 행렬 값 저장
-        List<Double> matrixValues = new ArrayList<>();
-        for (double v : request.getUpperTriangleValues()) {
-            matrixValues.add(v);
-        }
-        config.setAhpMatrixValues(matrixValues);
+        // 행렬 값 저장 (빈 비교는 null 그대로)
+        List<Double> matrixValues = new ArrayList<>(Arrays.asList(request.getUpperTriangleValues()));
 
         // 기준 이름 업데이트
+        List<SystemConfig.EvaluationCriteria> criteriaList = null;
         if (request.getCriteriaNames() != null && request.getCriteriaNames().length == n) {
-            List<SystemConfig.EvaluationCriteria> criteriaList = new ArrayList<>();
+            criteriaList = new ArrayList<>();
             for (int i = 0; i < n; i++) {
                 criteriaList.add(SystemConfig.EvaluationCriteria.builder()
                         .name(request.getCriteriaNames()[i])
-                        .weight(result.getWeights()[i])
+                        .weight(response.getWeights()[i])
                         .displayOrder(i + 1)
                         .isActive(true)
                         .build());
             }
-            config.setEvaluationCriteria(criteriaList);
         }
 
-        config.setUpdatedAt(LocalDateTime.now());
-        configRepository.save(config);
+        // 설정 저장
+        List<SystemConfig.EvaluationCriteria> newCriteria = criteriaList;
+        configCache.update(config -> {
+            config.setAhpWeights(weightList);
+            config.setConsistencyRatio(response.getConsistencyRatio());
+            config.setIsConsistent(response.isConsistent());
+            config.setAhpMatrixValues(matrixValues);
+            if (newCriteria != null) {
+                config.setEvaluationCriteria(newCriteria);
+            }
+            config.setAhpHierarchy(null);
+        });
+
+        response.setRescoreJobId(startRescore("ahp-matrix"));
+        return response;
+    }
+
+    /**
+     * AHP 쌍대비교 행렬 계산만 수행 (저장하지 않음, 관리 화면 슬라이더 미리보기용)
+     *
+     * <pre>
+     * - 빈 비교가 있으면 불완전 행렬 풀이 (추정값 + 추가 입력 추천)
+     * - 완전 행렬이 CR &gt; 0.1이면 일관성 개선 제안 (기여도 큰 비교 + 최소 수정)
+     * </pre>
+     */
+    public AhpWeightResponse previewAhpWeights(AhpMatrixUpdateRequest request) {
+        int n = request.getMatrixSize();
+        Double[] values = request.getUpperTriangleValues();
+        AhpEngine.WeightMethod method = request.getMethod() != null ? request.getMethod()
+                : ahpEngine.getDefaultMethod();
+
+        AhpEngine.AhpResult result;
+        IncompleteAhpSolver.Result incomplete = null;
+        ConsistencyAdvisor.Advice advice = null;
+        if (Arrays.stream(values).anyMatch(Objects::isNull)) {
+            int suggestionLimit = request.getSuggestionLimit() != null ? request.getSuggestionLimit()
+                    : DEFAULT_SUGGESTION_LIMIT;
+            incomplete = ahpEngine.calculateIncomplete(n, values, method, suggestionLimit);
+            result = incomplete.ahp();
+        } else {
+            double[][] matrix = ahpEngine.createPairwiseMatrix(
+                    n, Arrays.stream(values).mapToDouble(Double::doubleValue).toArray());
+            result = ahpEngine.calculate(matrix, method);
+            if (!result.isConsistent()) {
+                int adjustmentLimit = request.getAdjustmentLimit() != null ? request.getAdjustmentLimit()
+                        : DEFAULT_ADJUSTMENT_LIMIT;
+                advice = ahpEngine.adviseConsistency(matrix, method, adjustmentLimit);
+            }
+        }
+
+        if (!result.isConverged()) {
+            log.warn("AHP 고유벡터 미수렴: iterations={}", result.getIterations());
+        }
 
         return AhpWeightResponse.builder()
                 .weights(result.getWeights())
@@ -133,12 +202,76 @@ public class AdminService {
                 .consistencyIndex(result.getConsistencyIndex())
                 .consistencyRatio(result.getConsistencyRatio())
                 .isConsistent(result.isConsistent())
+                .method(result.getMethod())
+                .iterations(result.getIterations())
+                .converged(result.isConverged())
+                .knownPairs(incomplete != null ? incomplete.knownPairs() : null)
+                .completedUpperTriangleValues(incomplete != null ? incomplete.completedUpperTriangle() : null)
+                .suggestedPairs(incomplete != null ? toSuggestions(incomplete, request.getCriteriaNames()) : null)
+                .consistencyAdvice(advice != null ? toConsistencyAdvice(advice, request.getCriteriaNames()) : null)
                 .message(result.isConsistent() ? "계산 완료" : "⚠️ 일관성 비율 초과 (CR > 0.1)")
                 .build();
     }
 
+    private AhpWeightResponse.ConsistencyAdvice toConsistencyAdvice(ConsistencyAdvisor.Advice advice,
+            String[] criteriaNames) {
+        List<AhpWeightResponse.JudgmentAdjustment> adjustments = new ArrayList<>();
+        for (ConsistencyAdvisor.Adjustment adjustment : advice.adjustments()) {
+            adjustments.add(AhpWeightResponse.JudgmentAdjustment.builder()
+                    .row(adjustment.row())
+                    .column(adjustment.column())
+                    .rowName(criteriaName(criteriaNames, adjustment.row()))
+                    .columnName(criteriaName(criteriaNames, adjustment.column()))
+                    .currentValue(adjustment.currentValue())
+                    .suggestedValue(adjustment.suggestedValue())
+                    .consistencyRatioAfter(adjustment.consistencyRatioAfter())
+                    .build());
+        }
+        List<AhpWeightResponse.InconsistentPair> pairs = new ArrayList<>();
+        for (ConsistencyAdvisor.PairDeviation deviation : advice.deviations()
+                .subList(0, Math.min(INCONSISTENT_PAIR_LIMIT, advice.deviations().size()))) {
+            pairs.add(AhpWeightResponse.InconsistentPair.builder()
+                    .row(deviation.row())
+                    .column(deviation.column())
+                    .rowName(criteriaName(criteriaNames, deviation.row()))
+                    .columnName(criteriaName(criteriaNames, deviation.column()))
+                    .value(deviation.value())
+                    .consistentValue(deviation.consistentValue())
+                    .deviation(deviation.deviation())
+                    .build());
+        }
+        return AhpWeightResponse.ConsistencyAdvice.builder()
+                .inconsistentPairs(pairs)
+                .adjustments(adjustments)
+                .adjustedWeights(advice.adjusted().getWeights())
+                .adjustedConsistencyRatio(advice.adjusted().getConsistencyRatio())
+                .adjustedUpperTriangleValues(advice.adjustedUpperTriangle())
+                .reachesThreshold(advice.reachesThreshold())
+                .build();
+    }
+
+    private List<AhpWeightResponse.MissingPairSuggestion> toSuggestions(IncompleteAhpSolver.Result incomplete,
+            String[] criteriaNames) {
+        List<AhpWeightResponse.MissingPairSuggestion> suggestions = new ArrayList<>();
+        for (IncompleteAhpSolver.PairSuggestion pair : incomplete.suggestions()) {
+            suggestions.add(AhpWeightResponse.MissingPairSuggestion.builder()
+                    .row(pair.row())
+                    .column(pair.column())
+                    .rowName(criteriaName(criteriaNames, pair.row()))
+                    .columnName(criteriaName(criteriaNames, pair.column()))
+                    .estimatedValue(pair.estimatedValue())
+                    .uncertainty(pair.uncertainty())
+                    .build());
+        }
+        return suggestions;
+    }
+
+    private String criteriaName(String[] criteriaNames, int index) {
+        return criteriaNames != null && index < criteriaNames.length ? criteriaNames[index] : null;
+    }
+
     /**
-     * AHP 가중치 직접 설정
+     * AHP 가중치 직접 설정 (기존 계층은 해제)
      */
     public AhpWeightResponse saveDirectWeights(String[] criteriaNames, double[] weights) {
         if (criteriaNames.length != weights.length) {
@@ -152,8 +285,6 @@ public class AdminService {
             throw new IllegalArgumentException("가중치 합계는 1이어야 합니다 (현재: " + sum + ")");
         }
 
-        SystemConfig config = configRepository.getDefaultConfig();
-
         List<Double> weightList = new ArrayList<>();
         List<SystemConfig.EvaluationCriteria> criteriaList = new ArrayList<>();
 
@@ -167,13 +298,13 @@ public class AdminService {
                     .build());
         }
 
-        config.setAhpWeights(weightList);
-        config.setEvaluationCriteria(criteriaList);
-        config.setIsConsistent(true);
-        config.setConsistencyRatio(0.0);
-        config.setUpdatedAt(LocalDateTime.now());
-
-        configRepository.save(config);
+        configCache.update(config -> {
+            config.setAhpWeights(weightList);
+            config.setEvaluationCriteria(criteriaList);
+            config.setIsConsistent(true);
+            config.setConsistencyRatio(0.0);
+            config.setAhpHierarchy(null);
+        });
 
         return AhpWeightResponse.builder()
                 .weights(weights)
@@ -181,6 +312,234 @@ public class AdminService {
                 .isConsistent(true)
                 .consistencyRatio(0.0)
                 .message("직접 설정 완료")
+                .rescoreJobId(startRescore("direct-weights"))
                 .build();
     }
+
+    /**
+     * 가중치 저장 후 전 사원 재산정 시작 (실행 중인 작업이 있으면 끝난 뒤 실행되므로 null)
+     */
+    private String startRescore(String trigger) {
+        return rescoreJobService.startAfterWeightChange(trigger)
+                .map(RescoreJob::getId)
+                .orElse(null);
+    }
+
+    // ==================== AHP 다단계 계층 ====================
+
+    /**
+     * 저장된 AHP 계층 조회 (저장 시 계산된 가중치)
+     */
+    public AhpHierarchyResponse getAhpHierarchy() {
+        SystemConfigSnapshot.HierarchyNode root = configCache.current().getAhpHierarchy();
+        if (root == null) {
+            throw new IllegalArgumentException("AHP 계층이 설정되지 않았습니다");
+        }
+        return toHierarchyResponse(root.toDocument(), null, "현재 저장된 계층 가중치");
+    }
+
+    /**
+     * AHP 계층 전체 저장 및 가중치 합성
+     */
+    public AhpHierarchyResponse saveAhpHierarchy(AhpHierarchyRequest request) {
+        AhpEngine.WeightMethod method = request.getMethod() != null ? request.getMethod()
+                : ahpEngine.getDefaultMethod();
+        SystemConfig.AhpNode root = toAhpNode(request.getRoot());
+        AhpHierarchyEngine.Synthesis synthesis = synthesizeInto(root, method);
+
+        configCache.update(config -> applyHierarchy(config, root, synthesis));
+        AhpHierarchyResponse response = toHierarchyResponse(root, synthesis, hierarchyMessage(synthesis));
+        response.setRescoreJobId(startRescore("ahp-hierarchy"));
+        return response;
+    }
+
+    /**
+     * AHP 계층 내 노드 하나의 쌍대비교 행렬 수정
+     * 
+     * <pre>
+     * 다른 노드의 행렬은 그대로이므로 엔진 캐시에서 가져오고, 수정한 노드만 다시 계산합니다.
+     * 동시 수정 충돌 시 최신 계층에 다시 적용됩니다.
+     * </pre>
+     */
+    public AhpHierarchyResponse updateAhpHierarchyMatrix(AhpHierarchyMatrixUpdateRequest request) {
+        AhpEngine.WeightMethod method = request.getMethod() != null ? request.getMethod()
+                : ahpEngine.getDefaultMethod();
+        List<Double> matrixValues = toList(request.getUpperTriangleValues());
+
+        AtomicReference<SystemConfig.AhpNode> updatedRoot = new AtomicReference<>();
+        AtomicReference<AhpHierarchyEngine.Synthesis> updatedSynthesis = new AtomicReference<>();
+        configCache.update(config -> {
+            SystemConfig.AhpNode root = config.getAhpHierarchy();
+            if (root == null) {
+                throw new IllegalArgumentException("AHP 계층이 설정되지 않았습니다");
+            }
+            findNode(root, request.getPath()).setMatrixValues(new ArrayList<>(matrixValues));
+            AhpHierarchyEngine.Synthesis synthesis = synthesizeInto(root, method);
+            applyHierarchy(config, root, synthesis);
+            updatedRoot.set(root);
+            updatedSynthesis.set(synthesis);
+        });
+
+        log.info("AHP 계층 행렬 수정: path={}, computed={}, cached={}", request.getPath(),
+                updatedSynthesis.get().computedNodes(), updatedSynthesis.get().cachedNodes());
+        AhpHierarchyResponse response = toHierarchyResponse(updatedRoot.get(), updatedSynthesis.get(),
+                hierarchyMessage(updatedSynthesis.get()));
+        response.setRescoreJobId(startRescore("ahp-hierarchy-matrix"));
+        return response;
+    }
+
+    /**
+     * 계층 합성 후 각 노드에 지역/전역 가중치와 CR 기록
+     */
+    private AhpHierarchyEngine.Synthesis synthesizeInto(SystemConfig.AhpNode root, AhpEngine.WeightMethod method) {
+        AhpHierarchyEngine.Synthesis synthesis = ahpHierarchyEngine.synthesize(toEngineNode(root), method);
+        Map<String, AhpHierarchyEngine.NodeWeight> byPath = new LinkedHashMap<>();
+        for (AhpHierarchyEngine.NodeWeight node : synthesis.nodes()) {
+            byPath.put(node.path(), node);
+        }
+        writeResults(root, root.getName(), byPath);
+
+        if (!synthesis.isConsistent()) {
+            log.warn("AHP 계층 일관성 비율 초과: {}", synthesis.nodes().stream()
+                    .filter(node -> !node.isConsistent())
+                    .map(AhpHierarchyEngine.NodeWeight::path)
+                    .toList());
+        }
+        return synthesis;
+    }
+
+    private void writeResults(SystemConfig.AhpNode node, String path,
+            Map<String, AhpHierarchyEngine.NodeWeight> byPath) {
+        AhpHierarchyEngine.NodeWeight weight = byPath.get(path);
+        node.setLocalWeight(weight.localWeight());
+        node.setGlobalWeight(weight.globalWeight());
+        node.setConsistencyRatio(weight.local() != null ? weight.local().getConsistencyRatio() : null);
+        node.setIsConsistent(weight.isConsistent());
+        for (SystemConfig.AhpNode child : node.getChildren()) {
+            writeResults(child, path + AhpHierarchyEngine.PATH_SEPARATOR + child.getName(), byPath);
+        }
+    }
+
+    /**
+     * 계층 저장 + 루트 바로 아래 단계를 기존 단일 행렬 필드(평가 기준/가중치)에 반영
+     */
+    private void applyHierarchy(SystemConfig config, SystemConfig.AhpNode root,
+            AhpHierarchyEngine.Synthesis synthesis) {
+        List<Double> weightList = new ArrayList<>();
+        List<SystemConfig.EvaluationCriteria> criteriaList = new ArrayList<>();
+        List<SystemConfig.AhpNode> children = root.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            SystemConfig.AhpNode child = children.get(i);
+            weightList.add(child.getGlobalWeight());
+            criteriaList.add(SystemConfig.EvaluationCriteria.builder()
+                    .name(child.getName())
+                    .description(child.getDescription())
+                    .weight(child.getGlobalWeight())
+                    .displayOrder(i + 1)
+                    .isActive(true)
+                    .build());
+        }
+
+        config.setAhpHierarchy(root);
+        config.setAhpWeights(weightList);
+        config.setEvaluationCriteria(criteriaList);
+        config.setAhpMatrixValues(new ArrayList<>(root.getMatrixValues()));
+        config.setConsistencyRatio(root.getConsistencyRatio() != null ? root.getConsistencyRatio() : 0.0);
+        config.setIsConsistent(synthesis.isConsistent());
+    }
+
+    private SystemConfig.AhpNode findNode(SystemConfig.AhpNode root, String path) {
+        String[] names = path.split(AhpHierarchyEngine.PATH_SEPARATOR);
+        if (!names[0].equals(root.getName())) {
+            throw new IllegalArgumentException("계층 노드를 찾을 수 없습니다: " + path);
+        }
+        SystemConfig.AhpNode node = root;
+        for (int i = 1; i < names.length; i++) {
+            String name = names[i];
+            node = node.getChildren().stream()
+                    .filter(child -> name.equals(child.getName()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("계층 노드를 찾을 수 없습니다: " + path));
+        }
+        return node;
+    }
+
+    private SystemConfig.AhpNode toAhpNode(AhpHierarchyRequest.NodeRequest request) {
+        List<SystemConfig.AhpNode> children = new ArrayList<>();
+        if (request.getChildren() != null) {
+            for (AhpHierarchyRequest.NodeRequest child : request.getChildren()) {
+                children.add(toAhpNode(child));
+            }
+        }
+        return SystemConfig.AhpNode.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .matrixValues(toList(request.getUpperTriangleValues()))
+                .children(children)
+                .build();
+    }
+
+    private AhpHierarchyEngine.Node toEngineNode(SystemConfig.AhpNode node) {
+        List<AhpHierarchyEngine.Node> children = new ArrayList<>();
+        for (SystemConfig.AhpNode child : node.getChildren()) {
+            children.add(toEngineNode(child));
+        }
+        double[] upperTriangle = node.getMatrixValues().stream()
+                .mapToDouble(Double::doubleValue)
+                .toArray();
+        return new AhpHierarchyEngine.Node(node.getName(), upperTriangle, children);
+    }
+
+    private AhpHierarchyResponse toHierarchyResponse(SystemConfig.AhpNode root,
+            AhpHierarchyEngine.Synthesis synthesis, String message) {
+        List<AhpHierarchyResponse.NodeResult> nodes = new ArrayList<>();
+        Map<String, Double> leafWeights = new LinkedHashMap<>();
+        collectNodeResults(root, root.getName(), 0, nodes, leafWeights);
+
+        return AhpHierarchyResponse.builder()
+                .nodes(nodes)
+                .leafWeights(leafWeights)
+                .isConsistent(nodes.stream().allMatch(node -> !Boolean.FALSE.equals(node.getIsConsistent())))
+                .method(synthesis != null ? synthesis.method() : null)
+                .computedNodes(synthesis != null ? synthesis.computedNodes() : null)
+                .cachedNodes(synthesis != null ? synthesis.cachedNodes() : null)
+                .message(message)
+                .build();
+    }
+
+    private void collectNodeResults(SystemConfig.AhpNode node, String path, int depth,
+            List<AhpHierarchyResponse.NodeResult> nodes, Map<String, Double> leafWeights) {
+        boolean leaf = node.getChildren().isEmpty();
+        nodes.add(AhpHierarchyResponse.NodeResult.builder()
+                .path(path)
+                .name(node.getName())
+                .depth(depth)
+                .leaf(leaf)
+                .localWeight(node.getLocalWeight())
+                .globalWeight(node.getGlobalWeight())
+                .consistencyRatio(node.getConsistencyRatio())
+                .isConsistent(node.getIsConsistent())
+                .build());
+        if (leaf) {
+            leafWeights.put(path, node.getGlobalWeight());
+        }
+        for (SystemConfig.AhpNode child : node.getChildren()) {
+            collectNodeResults(child, path + AhpHierarchyEngine.PATH_SEPARATOR + child.getName(), depth + 1,
+                    nodes, leafWeights);
+        }
+    }
+
+    private String hierarchyMessage(AhpHierarchyEngine.Synthesis synthesis) {
+        return synthesis.isConsistent() ? "계층 합성 완료" : "⚠️ 일관성 비율 초과 노드 있음 (CR > 0.1)";
+    }
+
+    private List<Double> toList(double[] values) {
+        List<Double> list = new ArrayList<>();
+        if (values != null) {
+            for (double v : values) {
+                list.add(v);
+            }
+        }
+        return list;
+    }
 }
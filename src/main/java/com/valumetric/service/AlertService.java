@@ -0,0 +1,162 @@
+package com.valumetric.service;
+
+import com.valumetric.document.Alert;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.dto.alert.AlertCountResponse;
+import com.valumetric.dto.alert.AlertResolveRequest;
+import com.valumetric.dto.alert.AlertResolveResponse;
+import com.valumetric.ledger.LedgerService;
+import com.valumetric.repository.AlertRepository;
+import com.valumetric.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 경고 서비스
+ * 
+ * <pre>
+ * 경고는 alerts 컬렉션에 저장하고, 사원 문서의 unresolvedAlertCount는
+ * 경고 저장/해결과 같은 흐름에서 $inc로 증감합니다. (동시 발생/해결이 서로의 결과를 덮어쓰지 않음)
+ * 해결은 "아직 미해결"인 경고만 바꾸고 실제로 바뀐 건수만큼만 줄입니다.
+ * 
+ * 증감 사이에 실패하면 건수가 어긋날 수 있으므로 정합성 점검(reconcile-cron)이
+ * 부분 인덱스 건수와 비교해 바로잡습니다. (점검 중 증감된 사원은 다시 읽어 재시도)
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertService {
+
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final AlertRepository alertRepository;
+    private final EmployeeRepository employeeRepository;
+    private final LedgerService ledgerService;
+
+    /**
+     * 경고 발생
+     */
+    public Alert raise(Alert alert) {
+        if (alert.getEmployeeId() == null || !employeeRepository.existsById(alert.getEmployeeId())) {
+            throw new IllegalArgumentException("사원을 찾을 수 없습니다: " + alert.getEmployeeId());
+        }
+        if (alert.getCreatedAt() == null) {
+            alert.setCreatedAt(LocalDateTime.now());
+        }
+        alert.setIsResolved(false);
+        alert.setResolvedAt(null);
+
+        Alert saved = alertRepository.save(alert);
+        employeeRepository.incrementUnresolvedAlertCount(alert.getEmployeeId(), 1);
+        ledgerService.appendQuietly(List.of(LedgerEvent.alertRaised(saved)));
+        return saved;
+    }
+
+    /**
+     * 미해결 경고 건수 (employeeId가 null이면 전체)
+     */
+    public AlertCountResponse countUnresolved(String employeeId) {
+        long count = employeeId == null
+                ? alertRepository.countByIsResolvedFalse()
+                : alertRepository.countByEmployeeIdAndIsResolvedFalse(employeeId);
+
+        return AlertCountResponse.builder()
+                .employeeId(employeeId)
+                .unresolvedCount(count)
+                .build();
+    }
+
+    /**
+     * 사원별 미해결 경고 목록 (최신순)
+     */
+    public List<Alert> getUnresolvedAlerts(String employeeId) {
+        return alertRepository.findByEmployeeIdAndIsResolvedFalseOrderByCreatedAtDesc(employeeId);
+    }
+
+    /**
+     * 미해결 경고 일괄 해결
+     */
+    public AlertResolveResponse resolve(AlertResolveRequest request) {
+        boolean hasIds = request.getAlertIds() != null && !request.getAlertIds().isEmpty();
+        if (!hasIds && request.getEmployeeId() == null && request.getAlertType() == null) {
+            throw new IllegalArgumentException("해결할 경고 조건(alertIds, employeeId, alertType)을 하나 이상 지정해야 합니다");
+        }
+
+        Map<String, Long> resolvedByEmployee = alertRepository.resolveAll(
+                request.getAlertIds(), request.getEmployeeId(), request.getAlertType());
+        resolvedByEmployee.forEach((employeeId, resolved) -> employeeRepository
+                .incrementUnresolvedAlertCount(employeeId, -resolved.intValue()));
+
+        long resolved = resolvedByEmployee.values().stream().mapToLong(Long::longValue).sum();
+        log.info("경고 일괄 해결: resolved={}, employees={}", resolved, resolvedByEmployee.size());
+
+        return AlertResolveResponse.builder()
+                .resolvedCount(resolved)
+                .affectedEmployeeCount(resolvedByEmployee.size())
+                .build();
+    }
+
+    /**
+     * 사원 문서의 unresolvedAlertCount를 부분 인덱스 건수와 비교해 바로잡음
+     * 
+     * <pre>
+     * 전체 건수를 한 번씩 읽어 어긋난 사원만 고른 뒤, 사원마다 사원 건수 → 경고 건수를 다시 읽고
+     * 사원 건수가 그대로일 때만 바꿉니다. 그 사이 경고 발생/해결로 증감되어 바꾸지 못하면
+     * 다시 읽어 재시도하고, 계속 증감 중인 사원은 다음 점검으로 미룹니다.
+     * </pre>
+     * 
+     * @return 바로잡은 사원 수
+     */
+    @Scheduled(cron = "${valumetric.alerts.reconcile-cron:0 30 3 * * *}")
+    public int reconcileUnresolvedCounts() {
+        Map<String, Integer> stored = employeeRepository.findUnresolvedAlertCounts();
+        Map<String, Long> actual = alertRepository.countUnresolvedByEmployee();
+
+        Set<String> employeeIds = new HashSet<>(stored.keySet());
+        employeeIds.addAll(actual.keySet());
+        int repaired = 0;
+        for (String employeeId : employeeIds) {
+            if (stored.getOrDefault(employeeId, 0) != actual.getOrDefault(employeeId, 0L).intValue()
+                    && repairUnresolvedCount(employeeId)) {
+                repaired++;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("미해결 경고 건수 정합성 보정: {}명", repaired);
+        }
+        return repaired;
+    }
+
+    /**
+     * 사원 1명의 건수를 다시 읽어 비교 후 조건부 변경 (증감과 겹치면 재시도)
+     * 
+     * @return 바로잡았는지 여부 (이미 맞거나 사원이 없거나 계속 증감 중이면 false)
+     */
+    private boolean repairUnresolvedCount(String employeeId) {
+        for (int attempt = 1; attempt <= RECONCILE_ATTEMPTS; attempt++) {
+            Optional<Integer> expected = employeeRepository.findUnresolvedAlertCount(employeeId);
+            if (expected.isEmpty()) {
+                return false;
+            }
+            int count = (int) alertRepository.countByEmployeeIdAndIsResolvedFalse(employeeId);
+            if (expected.get() == count) {
+                return false;
+            }
+            if (employeeRepository.compareAndSetUnresolvedAlertCount(employeeId, expected.get(), count)) {
+                return true;
+            }
+        }
+        log.debug("미해결 경고 건수 보정 연기 (점검 중 계속 증감): employeeId={}", employeeId);
+        return false;
+    }
+}
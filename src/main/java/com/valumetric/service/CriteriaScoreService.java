@@ -0,0 +1,233 @@
+package com.valumetric.service;
+
+import com.valumetric.document.Employee;
+import com.valumetric.event.EmployeeChangedEvent;
+import com.valumetric.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 사원 × 평가 기준 점수 행렬 조회
+ *
+ * <pre>
+ * 【기준별 점수】
+ * 사원의 기준 c 점수 = 기준명이 c인 점수 이력 중 가장 최근 항목의 newScore
+ * 해당 기준 이력이 없으면 기본 점수를 사용합니다.
+ *
+ * 【기본 점수】
+ * 가중치 재산정(RESCORE_CRITERIA)이 아닌 가장 최근 이력의 newScore, 이력이 없으면 currentScore
+ * 재산정 결과가 다시 기준 점수로 들어가지 않으므로, 가중치가 같으면 재산정해도 점수가 변하지 않습니다.
+ * (기준별 이력이 없는 사원은 종합 점수 = 기본 점수)
+ *
+ * 【스냅샷 캐시】
+ * snapshot()은 마지막으로 읽은 행렬을 재사용합니다. (가중치 미리보기처럼 반복 호출되는 곳용)
+ * 사원 변경 이벤트, 설정 버전 변경, snapshot-ttl-ms 경과 시 다시 읽습니다.
+ * (변경 이벤트는 Change Stream 리스너가 켜져 있을 때만 오므로 TTL이 최대 지연)
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+public class CriteriaScoreService {
+
+    /**
+     * 가중치 재산정 작업이 남기는 점수 이력의 기준명
+     */
+    public static final String RESCORE_CRITERIA = "가중치 재산정";
+
+    private final EmployeeRepository employeeRepository;
+    private final SystemConfigCache configCache;
+
+    @Value("${valumetric.dashboard.stream-batch-size:500}")
+    private int streamBatchSize;
+
+    @Value("${valumetric.criteria-scores.snapshot-ttl-ms:60000}")
+    private long snapshotTtlMillis;
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Object snapshotLock = new Object();
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(CriteriaScores scores, long generation, long loadedAtNanos) {
+    }
+
+    /**
+     * 활성 사원 × 활성 기준 점수 행렬
+     *
+     * @param configVersion 기준/가중치를 읽은 설정 버전
+     * @param criteriaNames 활성 기준명 (설정 순)
+     * @param weights       기준별 현재 가중치
+     * @param employeeIds   사원 ID (행 순)
+     * @param employeeNames 사원 이름 (행 순)
+     * @param currentScores 사원별 현재 점수 (없으면 0)
+     * @param baseScores    사원별 기본 점수 (기준별 이력이 없는 기준에 쓰는 값)
+     * @param scores        scores[e · n + c]
+     * @param loadedAt      조회 시각
+     */
+    public record CriteriaScores(long configVersion, String[] criteriaNames, double[] weights,
+            List<String> employeeIds, List<String> employeeNames, double[] currentScores, double[] baseScores,
+            double[] scores, LocalDateTime loadedAt) {
+
+        public int employeeCount() {
+            return employeeIds.size();
+        }
+
+        public int criteriaCount() {
+            return criteriaNames.length;
+        }
+    }
+
+    /**
+     * 현재 설정의 활성 기준으로 점수 행렬 조회 (사원 커서 1회 순회)
+     */
+    public CriteriaScores load() {
+        SystemConfigSnapshot config = configCache.current();
+        List<SystemConfigSnapshot.Criteria> active = config.getEvaluationCriteria().stream()
+                .filter(c -> c.isActive() == null || c.isActive())
+                .toList();
+        int n = active.size();
+        String[] names = new String[n];
+        double[] weights = new double[n];
+        Map<String, Integer> indexByName = new HashMap<>();
+        for (int c = 0; c < n; c++) {
+            names[c] = active.get(c).name();
+            weights[c] = active.get(c).weight() != null ? active.get(c).weight() : 0.0;
+            indexByName.putIfAbsent(names[c], c);
+        }
+
+        List<String> ids = new ArrayList<>();
+        List<String> employeeNames = new ArrayList<>();
+        DoubleBuffer currentScores = new DoubleBuffer(1);
+        DoubleBuffer baseScores = new DoubleBuffer(1);
+        DoubleBuffer scores = new DoubleBuffer(n);
+        double[] current = new double[1];
+        double[] base = new double[1];
+        double[] row = new double[n];
+        LocalDateTime[] latest = new LocalDateTime[n];
+        boolean[] found = new boolean[n];
+        try (Stream<Employee> employees = employeeRepository.streamCriteriaScores(streamBatchSize)) {
+            employees.forEach(emp -> {
+                base[0] = fillRow(emp, indexByName, row, latest, found);
+                current[0] = emp.getCurrentScore() != null ? emp.getCurrentScore().doubleValue() : 0.0;
+                ids.add(emp.getId());
+                employeeNames.add(emp.getName());
+                currentScores.append(current);
+                baseScores.append(base);
+                scores.append(row);
+            });
+        }
+        return new CriteriaScores(config.getVersion(), names, weights, ids, employeeNames, currentScores.toArray(),
+                baseScores.toArray(), scores.toArray(), LocalDateTime.now());
+    }
+
+    /**
+     * 캐시된 점수 행렬 (무효화/설정 변경/TTL 경과 시 다시 조회)
+     */
+    public CriteriaScores snapshot() {
+        long configVersion = configCache.current().getVersion();
+        Snapshot cached = snapshot;
+        if (isFresh(cached, configVersion)) {
+            return cached.scores();
+        }
+        synchronized (snapshotLock) {
+            cached = snapshot;
+            if (isFresh(cached, configVersion)) {
+                return cached.scores();
+            }
+            // 로딩 중 무효화가 일어나면 다음 호출에서 다시 조회
+            long generation = invalidations.get();
+            CriteriaScores loaded = load();
+            snapshot = new Snapshot(loaded, generation, System.nanoTime());
+            return loaded;
+        }
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidations.incrementAndGet();
+    }
+
+    private boolean isFresh(Snapshot cached, long configVersion) {
+        return cached != null
+                && cached.scores().configVersion() == configVersion
+                && cached.generation() == invalidations.get()
+                && System.nanoTime() - cached.loadedAtNanos() < snapshotTtlMillis * 1_000_000L;
+    }
+
+    /**
+     * 사원 1명의 기준별 최신 점수 (같은 시각이면 뒤에 기록된 이력 우선)
+     *
+     * @return 기본 점수
+     */
+    private static double fillRow(Employee emp, Map<String, Integer> indexByName, double[] row,
+            LocalDateTime[] latest, boolean[] found) {
+        int n = row.length;
+        for (int c = 0; c < n; c++) {
+            latest[c] = null;
+            found[c] = false;
+        }
+        Double base = null;
+        if (emp.getScoreHistories() != null) {
+            for (Employee.ScoreHistory history : emp.getScoreHistories()) {
+                if (history.getNewScore() == null || RESCORE_CRITERIA.equals(history.getCriteriaName())) {
+                    continue;
+                }
+                base = history.getNewScore().doubleValue();
+                Integer c = history.getCriteriaName() != null ? indexByName.get(history.getCriteriaName()) : null;
+                if (c == null) {
+                    continue;
+                }
+                LocalDateTime at = history.getChangedAt();
+                if (!found[c] || latest[c] == null || (at != null && !at.isBefore(latest[c]))) {
+                    row[c] = history.getNewScore().doubleValue();
+                    latest[c] = at;
+                    found[c] = true;
+                }
+            }
+        }
+        double fallback = base != null ? base
+                : emp.getCurrentScore() != null ? emp.getCurrentScore().doubleValue() : 0.0;
+        for (int c = 0; c < n; c++) {
+            if (!found[c]) {
+                row[c] = fallback;
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * 행 단위로 늘어나는 평탄 배열 (사원 수를 미리 모르므로 2배씩 확장)
+     */
+    private static final class DoubleBuffer {
+        private final int width;
+        private double[] values;
+        private int size;
+
+        DoubleBuffer(int width) {
+            this.width = width;
+            this.values = new double[Math.max(width, 1) * 256];
+        }
+
+        void append(double[] row) {
+            if (size + width > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            System.arraycopy(row, 0, values, size, width);
+            size += width;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
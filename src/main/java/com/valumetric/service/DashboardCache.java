@@ -0,0 +1,130 @@
+package com.valumetric.service;
+
+import com.valumetric.dto.dashboard.EmployeeTrendDto;
+import com.valumetric.dto.dashboard.MonthlyTrendResponse;
+import com.valumetric.event.EmployeeChangedEvent;
+import com.valumetric.event.SystemConfigActivatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 인메모리 캐시
+ * 
+ * <pre>
+ * - 사원별 추이:   employeeId:조회조건@설정버전 → EmployeeTrendDto
+ * - 월별 전사 집계: period@설정버전 → MonthlyData
+ * 
+ * 사원 데이터 무효화는 Change Stream 도메인 이벤트로만 수행하므로
+ * (어느 프로세스가 쓰든 감지), 리스너가 꺼져 있으면 캐시도 비활성화됩니다.
+ * 사원 변경은 해당 사원과 영향받은 기간만 무효화합니다.
+ * 설정 변경은 키의 버전이 달라지므로 무효화가 필요 없고,
+ * 새 버전이 적용되면 다른 버전 항목만 정리합니다.
+ * </pre>
+ */
+@Component
+@Slf4j
+public class DashboardCache {
+
+    private final boolean enabled;
+
+    private final Map<String, EmployeeTrendDto> employeeTrends = new ConcurrentHashMap<>();
+    private final Map<String, MonthlyTrendResponse.MonthlyData> monthlyAggregates = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public DashboardCache(@Value("${valumetric.change-stream.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 사원 추이 조회 (캐시 미스 시 loader 실행)
+     */
+    public EmployeeTrendDto getEmployeeTrend(String employeeId, String cacheKey, Supplier<EmployeeTrendDto> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = employeeId + ":" + cacheKey;
+        EmployeeTrendDto cached = employeeTrends.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 로딩 중 무효화가 일어나면 방금 적재한 값은 버림
+        long generation = invalidations.get();
+        EmployeeTrendDto loaded = loader.get();
+        employeeTrends.put(key, loaded);
+        if (invalidations.get() != generation) {
+            employeeTrends.remove(key);
+        }
+        return loaded;
+    }
+
+    public Optional<MonthlyTrendResponse.MonthlyData> getMonthlyAggregate(String period, long configVersion) {
+        return enabled ? Optional.ofNullable(monthlyAggregates.get(monthlyKey(period, configVersion)))
+                : Optional.empty();
+    }
+
+    /**
+     * 현재 무효화 세대 (집계 시작 전에 조회하여 putMonthlyAggregate에 전달)
+     */
+    public long generation() {
+        return invalidations.get();
+    }
+
+    public void putMonthlyAggregate(String period, long configVersion, MonthlyTrendResponse.MonthlyData data,
+            long generation) {
+        if (enabled) {
+            String key = monthlyKey(period, configVersion);
+            monthlyAggregates.put(key, data);
+            if (invalidations.get() != generation) {
+                monthlyAggregates.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 설정 버전이 포함된 사원 추이 조건 키
+     */
+    public static String trendKey(String condition, long configVersion) {
+        return condition + "@" + configVersion;
+    }
+
+    private static String monthlyKey(String period, long configVersion) {
+        return period + "@" + configVersion;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidations.incrementAndGet();
+        if (event.employeeId() == null) {
+            employeeTrends.clear();
+        } else {
+            String prefix = event.employeeId() + ":";
+            employeeTrends.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+
+        if (event.allPeriods()) {
+            monthlyAggregates.clear();
+        } else {
+            event.periods().forEach(period -> monthlyAggregates.keySet()
+                    .removeIf(key -> key.startsWith(period + "@")));
+        }
+        log.debug("대시보드 캐시 무효화: employeeId={}, periods={}, allPeriods={}",
+                event.employeeId(), event.periods(), event.allPeriods());
+    }
+
+    @EventListener
+    public void onSystemConfigActivated(SystemConfigActivatedEvent event) {
+        String suffix = "@" + event.version();
+        employeeTrends.keySet().removeIf(key -> !key.endsWith(suffix));
+        monthlyAggregates.keySet().removeIf(key -> !key.endsWith(suffix));
+        log.debug("대시보드 캐시 정리: 설정 버전 {} 외 항목 제거", event.version());
+    }
+}
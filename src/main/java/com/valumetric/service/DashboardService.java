@@ -2,12 +2,12 @@ package com.valumetric.service;
 
 import com.valumetric.calculator.HcroiCalculator;
 import com.valumetric.document.Employee;
-import com.valumetric.document.SystemConfig;
+import com.valumetric.document.PeriodKey;
 import com.valumetric.dto.dashboard.*;
 import com.valumetric.repository.EmployeeRepository;
-import com.valumetric.repository.SystemConfigRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -15,7 +15,8 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 대시보드 서비스 (MongoDB 버전)
@@ -26,28 +27,52 @@ import java.util.stream.Collectors;
 public class DashboardService {
 
     private final EmployeeRepository employeeRepository;
-    private final SystemConfigRepository configRepository;
+    private final SystemConfigCache configCache;
     private final HcroiCalculator hcroiCalculator;
+    private final DashboardCache dashboardCache;
+    private final RescoreJobService rescoreJobService;
 
-    private static final BigDecimal HCROI_THRESHOLD = BigDecimal.ONE;
-    private static final BigDecimal SCORE_THRESHOLD = new BigDecimal("700");
-    private static final BigDecimal HCROI_EXCELLENT = new BigDecimal("1.5");
-    private static final BigDecimal SCORE_EXCELLENT = new BigDecimal("900");
+    /**
+     * 분석용 커서 배치 크기 (한 번에 메모리에 올라오는 사원 문서 수)
+     */
+    @Value("${valumetric.dashboard.stream-batch-size:500}")
+    private int streamBatchSize;
+
+    public static final BigDecimal HCROI_THRESHOLD = BigDecimal.ONE;
+    public static final BigDecimal SCORE_THRESHOLD = new BigDecimal("700");
+    public static final BigDecimal HCROI_EXCELLENT = new BigDecimal("1.5");
+    public static final BigDecimal SCORE_EXCELLENT = new BigDecimal("900");
 
     /**
      * 대시보드 전체 데이터 조회
+     * 
+     * 사원 커서를 한 번만 순회하면서 요약/위험군/우수/관리대상을 동시에 집계합니다.
      */
     public DashboardResponseDto getDashboardData() {
-        DashboardSummaryDto summary = getSummary();
-        List<RedZoneEmployeeDto> redZoneEmployees = getRedZoneEmployees();
-        List<TopPerformerDto> topPerformers = getTopPerformers();
-        List<WatchListEmployeeDto> watchList = getWatchList();
+        SystemConfigSnapshot config = configCache.current();
+        int currentPeriod = PeriodKey.current();
+        int previousPeriod = PeriodKey.minusMonths(currentPeriod, 1);
+
+        SummaryAccumulator summary = newSummaryAccumulator(config);
+        List<RedZoneEmployeeDto> redZoneEmployees = new ArrayList<>();
+        List<TopPerformerDto> topPerformers = new ArrayList<>();
+        BoundedList<WatchListEmployeeDto> watchList = new BoundedList<>(WATCH_LIST_LIMIT, WATCH_LIST_ORDER);
+
+        forEachEnabledEmployee(emp -> {
+            summary.add(emp);
+            evaluateRedZone(emp, config, currentPeriod).ifPresent(redZoneEmployees::add);
+            evaluateTopPerformer(emp, config, currentPeriod).ifPresent(topPerformers::add);
+            evaluateWatchList(emp, config, currentPeriod, previousPeriod).ifPresent(watchList::add);
+        });
+
+        redZoneEmployees.sort(RED_ZONE_ORDER);
+        topPerformers.sort(TOP_PERFORMER_ORDER);
 
         return DashboardResponseDto.builder()
-                .summary(summary)
+                .summary(summary.toDto())
                 .redZoneEmployees(redZoneEmployees)
                 .topPerformers(topPerformers)
-                .watchList(watchList)
+                .watchList(watchList.toSortedList())
                 .build();
     }
 
@@ -55,22 +80,44 @@ public class DashboardService {
      * 대시보드 요약 정보 조회
      */
     public DashboardSummaryDto getSummary() {
-        List<Employee> employees = employeeRepository.findByIsEnabledTrue();
-        String currentPeriod = YearMonth.now().toString();
+        SummaryAccumulator accumulator = newSummaryAccumulator(configCache.current());
+        forEachEnabledEmployee(accumulator::add);
+        return accumulator.toDto();
+    }
+
+    /**
+     * 요약 집계기 생성 (블로킹/리액티브 조회 경로 공용)
+     */
+    public SummaryAccumulator newSummaryAccumulator(SystemConfigSnapshot config) {
+        return new SummaryAccumulator(config, PeriodKey.current());
+    }
 
-        long totalCount = employees.size();
-        SystemConfig config = configRepository.getDefaultConfig();
+    /**
+     * 사원 단위로 누적하는 대시보드 요약 집계기
+     */
+    public final class SummaryAccumulator {
+
+        private final SystemConfigSnapshot config;
+        private final int currentPeriod;
+
+        // 사원 수와 무관하게 고정 크기 상태만 유지 (리스트 누적 없음)
+        private long totalCount = 0;
+        private final RunningAverage hcroiAverage = new RunningAverage();
+        private final RunningAverage scoreAverage = new RunningAverage();
+        private long redZoneCount = 0;
+        private BigDecimal totalRevenue = BigDecimal.ZERO;
+        private long unresolvedAlertCount = 0;
+
+        private SummaryAccumulator(SystemConfigSnapshot config, int currentPeriod) {
+            this.config = config;
+            this.currentPeriod = currentPeriod;
+        }
 
-        List<BigDecimal> hcroiList = new ArrayList<>();
-        List<BigDecimal> scoreList = new ArrayList<>();
-        BigDecimal totalRevenue = BigDecimal.ZERO;
-        long unresolvedAlertCount = 0;
+        public void add(Employee emp) {
+            totalCount++;
 
-        for (Employee emp : employees) {
             // 현재 월 실적 조회 (내장 리스트에서)
-            Optional<Employee.PerformanceLog> logOpt = emp.getPerformanceLogs().stream()
-                    .filter(l -> currentPeriod.equals(l.getPeriod()))
-                    .findFirst();
+            Optional<Employee.PerformanceLog> logOpt = emp.findPerformanceLog(currentPeriod);
 
             if (logOpt.isPresent()) {
                 Employee.PerformanceLog perfLog = logOpt.get();
@@ -87,219 +134,267 @@ public class DashboardService {
                             benefitCost,
                             config.getFixedCostPerPerson(),
                             config.getTargetProfitRate());
-                    hcroiList.add(result.getHcroiIndex());
+                    hcroiAverage.add(result.getHcroiIndex());
+                    if (result.getHcroiIndex().compareTo(HCROI_THRESHOLD) < 0) {
+                        redZoneCount++;
+                    }
                 } catch (Exception e) {
                     log.warn("HCROI 계산 실패: employeeId={}", emp.getId());
                 }
             }
 
-            // 최근 점수 조회
-            if (!emp.getScoreHistories().isEmpty()) {
-                scoreList.add(emp.getScoreHistories().get(emp.getScoreHistories().size() - 1).getNewScore());
+            // 최근 점수 조회 (재산정 전환 후에는 스테이징 점수)
+            BigDecimal score = emp.resolveCurrentScore(rescoreJobService.activeJobId());
+            if (score != null) {
+                scoreAverage.add(score);
+                if (score.compareTo(SCORE_THRESHOLD) < 0) {
+                    redZoneCount++;
+                }
             }
 
             // 미해결 경고 수
-            unresolvedAlertCount += emp.getAlerts().stream()
-                    .filter(a -> !a.getIsResolved())
-                    .count();
+            unresolvedAlertCount += unresolvedAlertCountOf(emp);
         }
 
-        BigDecimal avgHcroi = calculateAverage(hcroiList);
-        BigDecimal avgScore = calculateAverage(scoreList);
-        long redZoneCount = countRedZone(hcroiList, scoreList);
-
-        return DashboardSummaryDto.builder()
-                .totalEmployeeCount(totalCount)
-                .averageHcroi(avgHcroi)
-                .averageScore(avgScore)
-                .redZoneCount(redZoneCount)
-                .unresolvedAlertCount(unresolvedAlertCount)
-                .companyTotalRevenue(totalRevenue)
-                .build();
+        public DashboardSummaryDto toDto() {
+            return DashboardSummaryDto.builder()
+                    .totalEmployeeCount(totalCount)
+                    .averageHcroi(hcroiAverage.average())
+                    .averageScore(scoreAverage.average())
+                    .redZoneCount(redZoneCount)
+                    .unresolvedAlertCount(unresolvedAlertCount)
+                    .companyTotalRevenue(totalRevenue)
+                    .configVersion(config.getVersion())
+                    .build();
+        }
     }
 
+    /**
+     * 위험군 정렬 기준: 위험도(CRITICAL 우선) → 점수 오름차순
+     */
+    public static final Comparator<RedZoneEmployeeDto> RED_ZONE_ORDER = (a, b) -> {
+        int levelCompare = b.getRiskLevel().compareTo(a.getRiskLevel());
+        return levelCompare != 0 ? levelCompare : a.getCurrentScore().compareTo(b.getCurrentScore());
+    };
+
     /**
      * 위험군 사원 리스트 조회
      */
     public List<RedZoneEmployeeDto> getRedZoneEmployees() {
-        List<Employee> employees = employeeRepository.findByIsEnabledTrue();
-        String currentPeriod = YearMonth.now().toString();
+        int currentPeriod = PeriodKey.current();
         List<RedZoneEmployeeDto> redZoneList = new ArrayList<>();
 
-        SystemConfig config = configRepository.getDefaultConfig();
+        SystemConfigSnapshot config = configCache.current();
 
-        for (Employee emp : employees) {
-            Optional<Employee.PerformanceLog> logOpt = emp.getPerformanceLogs().stream()
-                    .filter(l -> currentPeriod.equals(l.getPeriod()))
-                    .findFirst();
+        forEachEnabledEmployee(emp -> evaluateRedZone(emp, config, currentPeriod).ifPresent(redZoneList::add));
 
-            BigDecimal currentHcroi = null;
-            BigDecimal achievementRate = null;
+        redZoneList.sort(RED_ZONE_ORDER);
 
-            if (logOpt.isPresent()) {
-                Employee.PerformanceLog perfLog = logOpt.get();
-                BigDecimal monthlySalary = emp.getCurrentSalary()
-                        .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
-                BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
+        return redZoneList;
+    }
 
-                try {
-                    HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
-                            perfLog.getAchievedSales(),
-                            monthlySalary,
-                            benefitCost,
-                            config.getFixedCostPerPerson(),
-                            config.getTargetProfitRate());
-                    currentHcroi = result.getHcroiIndex();
-                    achievementRate = result.getTargetAchievementRate();
-                } catch (Exception e) {
-                    continue;
-                }
-            }
+    /**
+     * 사원 1명의 위험군 여부 판정
+     * 
+     * @return 위험군이면 해당 DTO, 아니면(또는 HCROI 계산 불가 시) 빈 값
+     */
+    public Optional<RedZoneEmployeeDto> evaluateRedZone(Employee emp, SystemConfigSnapshot config, int currentPeriod) {
+        Optional<Employee.PerformanceLog> logOpt = emp.findPerformanceLog(currentPeriod);
 
-            BigDecimal currentScore = emp.getScoreHistories().isEmpty()
-                    ? BigDecimal.ZERO
-                    : emp.getScoreHistories().get(emp.getScoreHistories().size() - 1).getNewScore();
-
-            boolean lowHcroi = currentHcroi != null && currentHcroi.compareTo(HCROI_THRESHOLD) < 0;
-            boolean lowScore = currentScore.compareTo(SCORE_THRESHOLD) < 0;
-
-            if (lowHcroi || lowScore) {
-                String riskLevel = (lowHcroi && lowScore) ? "CRITICAL" : "WARNING";
-                String riskReason = (lowHcroi && lowScore)
-                        ? "HCROI 및 점수 모두 기준 미달"
-                        : lowHcroi ? "HCROI 기준 미달 (< 1.0)" : "점수 기준 미달 (< 700점)";
-
-                long unresolvedCount = emp.getAlerts().stream()
-                        .filter(a -> !a.getIsResolved())
-                        .count();
-
-                redZoneList.add(RedZoneEmployeeDto.builder()
-                        .employeeId(emp.getId())
-                        .employeeName(emp.getName())
-                        .currentGrade(emp.getCurrentGrade())
-                        .currentSalary(emp.getCurrentSalary())
-                        .currentHcroi(currentHcroi)
-                        .currentScore(currentScore)
-                        .targetAchievementRate(achievementRate)
-                        .riskLevel(riskLevel)
-                        .riskReason(riskReason)
-                        .unresolvedAlertCount(unresolvedCount)
-                        .build());
+        BigDecimal currentHcroi = null;
+        BigDecimal achievementRate = null;
+
+        if (logOpt.isPresent()) {
+            Employee.PerformanceLog perfLog = logOpt.get();
+            BigDecimal monthlySalary = emp.getCurrentSalary()
+                    .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
+            BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
+
+            try {
+                HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
+                        perfLog.getAchievedSales(),
+                        monthlySalary,
+                        benefitCost,
+                        config.getFixedCostPerPerson(),
+                        config.getTargetProfitRate());
+                currentHcroi = result.getHcroiIndex();
+                achievementRate = result.getTargetAchievementRate();
+            } catch (Exception e) {
+                return Optional.empty();
             }
         }
 
-        redZoneList.sort((a, b) -> {
-            int levelCompare = b.getRiskLevel().compareTo(a.getRiskLevel());
-            return levelCompare != 0 ? levelCompare : a.getCurrentScore().compareTo(b.getCurrentScore());
-        });
+        BigDecimal currentScore = currentScoreOf(emp);
 
-        return redZoneList;
+        boolean lowHcroi = currentHcroi != null && currentHcroi.compareTo(HCROI_THRESHOLD) < 0;
+        boolean lowScore = currentScore.compareTo(SCORE_THRESHOLD) < 0;
+
+        if (!lowHcroi && !lowScore) {
+            return Optional.empty();
+        }
+
+        String riskLevel = (lowHcroi && lowScore) ? "CRITICAL" : "WARNING";
+        String riskReason = (lowHcroi && lowScore)
+                ? "HCROI 및 점수 모두 기준 미달"
+                : lowHcroi ? "HCROI 기준 미달 (< 1.0)" : "점수 기준 미달 (< 700점)";
+
+        return Optional.of(RedZoneEmployeeDto.builder()
+                .employeeId(emp.getId())
+                .employeeName(emp.getName())
+                .currentGrade(emp.getCurrentGrade())
+                .currentSalary(emp.getCurrentSalary())
+                .currentHcroi(currentHcroi)
+                .currentScore(currentScore)
+                .targetAchievementRate(achievementRate)
+                .riskLevel(riskLevel)
+                .riskReason(riskReason)
+                .unresolvedAlertCount(unresolvedAlertCountOf(emp))
+                .build());
     }
 
+    /**
+     * 우수 사원 정렬 기준: 등급(OUTSTANDING 우선) → HCROI 내림차순
+     */
+    public static final Comparator<TopPerformerDto> TOP_PERFORMER_ORDER = Comparator
+            .comparing(TopPerformerDto::getPerformanceLevel, Comparator.reverseOrder())
+            .thenComparing(TopPerformerDto::getCurrentHcroi, Comparator.nullsLast(Comparator.reverseOrder()));
+
     /**
      * 우수 사원 리스트 조회
      */
     public List<TopPerformerDto> getTopPerformers() {
-        List<Employee> employees = employeeRepository.findByIsEnabledTrue();
-        String currentPeriod = YearMonth.now().toString();
+        int currentPeriod = PeriodKey.current();
         List<TopPerformerDto> topList = new ArrayList<>();
 
-        SystemConfig config = configRepository.getDefaultConfig();
+        SystemConfigSnapshot config = configCache.current();
 
-        for (Employee emp : employees) {
-            Optional<Employee.PerformanceLog> logOpt = emp.getPerformanceLogs().stream()
-                    .filter(l -> currentPeriod.equals(l.getPeriod()))
-                    .findFirst();
+        forEachEnabledEmployee(emp -> evaluateTopPerformer(emp, config, currentPeriod).ifPresent(topList::add));
 
-            BigDecimal currentHcroi = null;
-            BigDecimal achievementRate = null;
+        topList.sort(TOP_PERFORMER_ORDER);
 
-            if (logOpt.isPresent()) {
-                Employee.PerformanceLog perfLog = logOpt.get();
-                BigDecimal monthlySalary = emp.getCurrentSalary()
-                        .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
-                BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
+        return topList;
+    }
 
-                try {
-                    HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
-                            perfLog.getAchievedSales(),
-                            monthlySalary,
-                            benefitCost,
-                            config.getFixedCostPerPerson(),
-                            config.getTargetProfitRate());
-                    currentHcroi = result.getHcroiIndex();
-                    achievementRate = result.getTargetAchievementRate();
-                } catch (Exception e) {
-                    continue;
-                }
+    /**
+     * 사원 1명의 우수 사원 여부 판정
+     */
+    private Optional<TopPerformerDto> evaluateTopPerformer(Employee emp, SystemConfigSnapshot config, int currentPeriod) {
+        Optional<Employee.PerformanceLog> logOpt = emp.findPerformanceLog(currentPeriod);
+
+        BigDecimal currentHcroi = null;
+        BigDecimal achievementRate = null;
+
+        if (logOpt.isPresent()) {
+            Employee.PerformanceLog perfLog = logOpt.get();
+            BigDecimal monthlySalary = emp.getCurrentSalary()
+                    .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
+            BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
+
+            try {
+                HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
+                        perfLog.getAchievedSales(),
+                        monthlySalary,
+                        benefitCost,
+                        config.getFixedCostPerPerson(),
+                        config.getTargetProfitRate());
+                currentHcroi = result.getHcroiIndex();
+                achievementRate = result.getTargetAchievementRate();
+            } catch (Exception e) {
+                return Optional.empty();
             }
+        }
 
-            BigDecimal currentScore = emp.getScoreHistories().isEmpty()
-                    ? BigDecimal.ZERO
-                    : emp.getScoreHistories().get(emp.getScoreHistories().size() - 1).getNewScore();
-
-            boolean highHcroi = currentHcroi != null && currentHcroi.compareTo(HCROI_EXCELLENT) >= 0;
-            boolean highScore = currentScore.compareTo(SCORE_EXCELLENT) >= 0;
-
-            if (highHcroi || highScore) {
-                String level = (highHcroi && highScore) ? "OUTSTANDING" : "EXCELLENT";
-                String achievement = (highHcroi && highScore)
-                        ? "HCROI 및 점수 모두 최우수"
-                        : highHcroi ? "HCROI 우수 (≥ 1.5)" : "점수 우수 (≥ 900점)";
-
-                // 연속 달성 개월 수 계산
-                int consecutive = 0;
-                for (int i = emp.getPerformanceLogs().size() - 1; i >= 0 && consecutive < 6; i--) {
-                    Employee.PerformanceLog log = emp.getPerformanceLogs().get(i);
-                    if (log.getAchievedSales() != null && log.getTargetSales() != null &&
-                            log.getAchievedSales().compareTo(log.getTargetSales()) >= 0) {
-                        consecutive++;
-                    } else {
-                        break;
-                    }
-                }
+        BigDecimal currentScore = currentScoreOf(emp);
 
-                topList.add(TopPerformerDto.builder()
-                        .employeeId(emp.getId())
-                        .employeeName(emp.getName())
-                        .currentGrade(emp.getCurrentGrade())
-                        .currentSalary(emp.getCurrentSalary())
-                        .currentHcroi(currentHcroi)
-                        .currentScore(currentScore)
-                        .targetAchievementRate(achievementRate)
-                        .performanceLevel(level)
-                        .achievement(achievement)
-                        .consecutiveMonths(consecutive)
-                        .build());
+        boolean highHcroi = currentHcroi != null && currentHcroi.compareTo(HCROI_EXCELLENT) >= 0;
+        boolean highScore = currentScore.compareTo(SCORE_EXCELLENT) >= 0;
+
+        if (!highHcroi && !highScore) {
+            return Optional.empty();
+        }
+
+        String level = (highHcroi && highScore) ? "OUTSTANDING" : "EXCELLENT";
+        String achievement = (highHcroi && highScore)
+                ? "HCROI 및 점수 모두 최우수"
+                : highHcroi ? "HCROI 우수 (≥ 1.5)" : "점수 우수 (≥ 900점)";
+
+        // 연속 달성 개월 수 계산
+        int consecutive = 0;
+        for (int i = emp.getPerformanceLogs().size() - 1; i >= 0 && consecutive < 6; i--) {
+            Employee.PerformanceLog log = emp.getPerformanceLogs().get(i);
+            if (log.getAchievedSales() != null && log.getTargetSales() != null &&
+                    log.getAchievedSales().compareTo(log.getTargetSales()) >= 0) {
+                consecutive++;
+            } else {
+                break;
             }
         }
 
-        topList.sort((a, b) -> {
-            int levelCompare = b.getPerformanceLevel().compareTo(a.getPerformanceLevel());
-            return levelCompare != 0 ? levelCompare : b.getCurrentHcroi().compareTo(a.getCurrentHcroi());
-        });
+        return Optional.of(TopPerformerDto.builder()
+                .employeeId(emp.getId())
+                .employeeName(emp.getName())
+                .currentGrade(emp.getCurrentGrade())
+                .currentSalary(emp.getCurrentSalary())
+                .currentHcroi(currentHcroi)
+                .currentScore(currentScore)
+                .targetAchievementRate(achievementRate)
+                .performanceLevel(level)
+                .achievement(achievement)
+                .consecutiveMonths(consecutive)
+                .build());
+    }
 
-        return topList;
+    /**
+     * 사원 추이 데이터 조회 (최근 6개월)
+     */
+    public EmployeeTrendDto getEmployeeTrend(String employeeId) {
+        return getEmployeeTrend(employeeId, 6);
+    }
+
+    public EmployeeTrendDto getEmployeeTrend(String employeeId, int months) {
+        return getEmployeeTrend(employeeId, months, null);
     }
 
     /**
      * 사원 추이 데이터 조회
+     * 
+     * 압축된 과거 기간은 연도별 요약(YearlySummary)의 월 평균값으로 대체합니다.
+     * 
+     * @param months        조회 개월 수 (1~120)
+     * @param configVersion HCROI 계산에 사용할 설정 버전 (null이면 현재 버전)
      */
-    public EmployeeTrendDto getEmployeeTrend(String employeeId) {
-        Employee employee = employeeRepository.findById(employeeId)
+    public EmployeeTrendDto getEmployeeTrend(String employeeId, int months, Long configVersion) {
+        if (months < 1 || months > 120) {
+            throw new IllegalArgumentException("조회 개월 수는 1~120 사이여야 합니다: " + months);
+        }
+
+        SystemConfigSnapshot config = configVersion == null
+                ? configCache.current()
+                : configCache.findVersion(configVersion)
+                        .orElseThrow(() -> new IllegalArgumentException("설정 버전을 찾을 수 없습니다: " + configVersion));
+
+        String cacheKey = DashboardCache.trendKey(YearMonth.now() + ":" + months, config.getVersion());
+        return dashboardCache.getEmployeeTrend(employeeId, cacheKey,
+                () -> loadEmployeeTrend(employeeId, months, config));
+    }
+
+    private EmployeeTrendDto loadEmployeeTrend(String employeeId, int months, SystemConfigSnapshot config) {
+        Employee employee = employeeRepository.findForAnalytics(employeeId)
                 .orElseThrow(() -> new IllegalArgumentException("사원을 찾을 수 없습니다: " + employeeId));
 
-        SystemConfig config = configRepository.getDefaultConfig();
         List<EmployeeTrendDto.MonthlyTrendData> trendDataList = new ArrayList<>();
         YearMonth currentMonth = YearMonth.now();
 
-        for (int i = 5; i >= 0; i--) {
+        for (int i = months - 1; i >= 0; i--) {
             YearMonth targetMonth = currentMonth.minusMonths(i);
             String period = targetMonth.toString();
 
-            Optional<Employee.PerformanceLog> logOpt = employee.getPerformanceLogs().stream()
-                    .filter(l -> period.equals(l.getPeriod()))
-                    .findFirst();
+            Optional<Employee.PerformanceLog> logOpt = employee.findPerformanceLog(PeriodKey.of(targetMonth));
+            Optional<Employee.YearlySummary> summaryOpt = logOpt.isPresent()
+                    ? Optional.empty()
+                    : employee.findYearlySummary(targetMonth.getYear())
+                            .filter(summary -> summary.getLastCompactedPeriod() != null
+                                    && period.compareTo(summary.getLastCompactedPeriod()) <= 0);
 
             BigDecimal revenue = BigDecimal.ZERO;
             BigDecimal hcroi = BigDecimal.ZERO;
@@ -307,13 +402,14 @@ public class DashboardService {
 
             if (logOpt.isPresent()) {
                 revenue = logOpt.get().getAchievedSales();
-                BigDecimal monthlySalary = employee.getCurrentSalary()
-                        .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
-                BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
+            } else if (summaryOpt.isPresent()) {
+                revenue = summaryOpt.get().getAverageAchievedSales();
+            }
 
+            if (logOpt.isPresent() || summaryOpt.isPresent()) {
                 try {
-                    HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
-                            revenue, monthlySalary, benefitCost,
+                    HcroiCalculator.HcroiResult result = hcroiCalculator.calculateMonthly(
+                            revenue, employee.getCurrentSalary(), config.getInsuranceRate(),
                             config.getFixedCostPerPerson(), config.getTargetProfitRate());
                     hcroi = result.getHcroiIndex();
                     achievementRate = result.getTargetAchievementRate();
@@ -323,11 +419,16 @@ public class DashboardService {
             }
 
             BigDecimal score = BigDecimal.ZERO;
-            // 해당 월의 점수 합계
-            for (Employee.ScoreHistory sh : employee.getScoreHistories()) {
-                if (sh.getChangedAt() != null &&
-                        YearMonth.from(sh.getChangedAt()).equals(targetMonth)) {
-                    score = score.add(sh.getScoreChange());
+            if (summaryOpt.isPresent()) {
+                // 압축 구간: 연간 점수 변동의 월 평균 (요약된 개월 수 기준)
+                score = summaryOpt.get().averageMonthlyScoreChange();
+            } else {
+                // 해당 월의 점수 합계
+                for (Employee.ScoreHistory sh : employee.getScoreHistories()) {
+                    if (sh.getChangedAt() != null &&
+                            YearMonth.from(sh.getChangedAt()).equals(targetMonth)) {
+                        score = score.add(sh.getScoreChange());
+                    }
                 }
             }
 
@@ -337,6 +438,7 @@ public class DashboardService {
                     .score(score)
                     .hcroi(hcroi)
                     .achievementRate(achievementRate)
+                    .summarized(summaryOpt.isPresent())
                     .build());
         }
 
@@ -345,123 +447,219 @@ public class DashboardService {
                 .employeeName(employee.getName())
                 .currentGrade(employee.getCurrentGrade())
                 .trendData(trendDataList)
+                .configVersion(config.getVersion())
                 .build();
     }
 
-    private BigDecimal calculateAverage(List<BigDecimal> values) {
-        if (values.isEmpty())
-            return BigDecimal.ZERO;
-        BigDecimal sum = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-        return sum.divide(BigDecimal.valueOf(values.size()), 4, RoundingMode.HALF_UP);
+    private BigDecimal currentScoreOf(Employee emp) {
+        BigDecimal score = emp.resolveCurrentScore(rescoreJobService.activeJobId());
+        return score != null ? score : BigDecimal.ZERO;
+    }
+
+    private long unresolvedAlertCountOf(Employee emp) {
+        return emp.getUnresolvedAlertCount() != null ? emp.getUnresolvedAlertCount() : 0;
+    }
+
+    /**
+     * 활성 사원을 커서로 순회하며 consumer에 전달
+     * 
+     * <pre>
+     * 전체 목록을 메모리에 올리지 않고 배치 단위로 가져오므로
+     * 사원 수와 무관하게 힙 사용량이 일정하게 유지됩니다.
+     * consumer는 사원 객체를 보관하지 말고 필요한 값만 누적해야 합니다.
+     * </pre>
+     */
+    private void forEachEnabledEmployee(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamEnabledForAnalytics(streamBatchSize)) {
+            employees.forEach(consumer);
+        }
+    }
+
+    /**
+     * BigDecimal 평균을 합계/건수만으로 계산 (값 목록을 보관하지 않음)
+     */
+    private static final class RunningAverage {
+        private BigDecimal sum = BigDecimal.ZERO;
+        private long count = 0;
+
+        void add(BigDecimal value) {
+            sum = sum.add(value);
+            count++;
+        }
+
+        BigDecimal average() {
+            if (count == 0)
+                return BigDecimal.ZERO;
+            return sum.divide(BigDecimal.valueOf(count), 4, RoundingMode.HALF_UP);
+        }
     }
 
-    private long countRedZone(List<BigDecimal> hcroiList, List<BigDecimal> scoreList) {
-        long count = hcroiList.stream().filter(h -> h.compareTo(HCROI_THRESHOLD) < 0).count();
-        count += scoreList.stream().filter(s -> s.compareTo(SCORE_THRESHOLD) < 0).count();
-        return count;
+    /**
+     * 상위 N개만 유지하는 고정 크기 컬렉터 (order 기준 앞쪽 N개)
+     */
+    private static final class BoundedList<T> {
+        private final int limit;
+        private final Comparator<T> order;
+        private final PriorityQueue<T> heap;
+
+        BoundedList(int limit, Comparator<T> order) {
+            this.limit = limit;
+            this.order = order;
+            // 가장 뒤쪽 원소가 head에 오도록 역순 힙을 사용
+            this.heap = new PriorityQueue<>(limit + 1, order.reversed());
+        }
+
+        void add(T item) {
+            heap.offer(item);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<T> toSortedList() {
+            List<T> result = new ArrayList<>(heap);
+            result.sort(order);
+            return result;
+        }
     }
 
     /**
      * 월별 매출/인건비 추이 조회 (최근 6개월)
+     * 
+     * 기간별 집계는 캐시되며, 변경된 기간만 다시 계산합니다.
+     * 누락된 기간이 여러 개여도 사원 커서는 한 번만 순회합니다.
      */
     public MonthlyTrendResponse getMonthlyTrend() {
-        List<Employee> employees = employeeRepository.findByIsEnabledTrue();
-        SystemConfig config = configRepository.getDefaultConfig();
         YearMonth currentMonth = YearMonth.now();
+        long generation = dashboardCache.generation();
+        SystemConfigSnapshot config = configCache.current();
 
-        List<MonthlyTrendResponse.MonthlyData> dataList = new ArrayList<>();
-
+        Map<String, MonthlyTrendResponse.MonthlyData> dataByPeriod = new LinkedHashMap<>();
+        List<String> missingPeriods = new ArrayList<>();
         for (int i = 5; i >= 0; i--) {
-            YearMonth targetMonth = currentMonth.minusMonths(i);
-            String period = targetMonth.toString();
+            String period = currentMonth.minusMonths(i).toString();
+            Optional<MonthlyTrendResponse.MonthlyData> cached = dashboardCache.getMonthlyAggregate(period,
+                    config.getVersion());
+            dataByPeriod.put(period, cached.orElse(null));
+            if (cached.isEmpty()) {
+                missingPeriods.add(period);
+            }
+        }
 
-            BigDecimal totalRevenue = BigDecimal.ZERO;
-            BigDecimal totalLaborCost = BigDecimal.ZERO;
-            List<BigDecimal> hcroiList = new ArrayList<>();
-            int empCount = 0;
-
-            for (Employee emp : employees) {
-                // 해당 월 실적 조회
-                Optional<Employee.PerformanceLog> logOpt = emp.getPerformanceLogs().stream()
-                        .filter(l -> period.equals(l.getPeriod()))
-                        .findFirst();
-
-                if (logOpt.isPresent()) {
-                    Employee.PerformanceLog log = logOpt.get();
-                    totalRevenue = totalRevenue.add(log.getAchievedSales());
-                    empCount++;
-
-                    // 월 인건비 계산
-                    BigDecimal monthlySalary = emp.getCurrentSalary()
-                            .divide(BigDecimal.valueOf(12), 0, RoundingMode.HALF_UP);
-                    BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
-                    totalLaborCost = totalLaborCost.add(monthlySalary).add(benefitCost);
-
-                    // HCROI 계산
-                    try {
-                        HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
-                                log.getAchievedSales(),
-                                monthlySalary,
-                                benefitCost,
-                                config.getFixedCostPerPerson(),
-                                config.getTargetProfitRate());
-                        hcroiList.add(result.getHcroiIndex());
-                    } catch (Exception e) {
-                        // skip
-                    }
-                }
+        if (!missingPeriods.isEmpty()) {
+            Map<String, MonthAccumulator> accumulators = new LinkedHashMap<>();
+            for (String period : missingPeriods) {
+                accumulators.put(period, new MonthAccumulator(period, config));
+            }
+
+            forEachEnabledEmployee(emp -> accumulators.values().forEach(acc -> acc.add(emp)));
+
+            for (MonthAccumulator acc : accumulators.values()) {
+                MonthlyTrendResponse.MonthlyData data = acc.toData();
+                dashboardCache.putMonthlyAggregate(acc.period, config.getVersion(), data, generation);
+                dataByPeriod.put(acc.period, data);
             }
+        }
 
-            BigDecimal avgHcroi = calculateAverage(hcroiList);
+        return MonthlyTrendResponse.builder()
+                .data(new ArrayList<>(dataByPeriod.values()))
+                .build();
+    }
+
+    /**
+     * 특정 월의 매출/인건비/HCROI 누적기
+     */
+    private final class MonthAccumulator {
+        private final String period;
+        private final int periodKey;
+        private final SystemConfigSnapshot config;
+        private BigDecimal totalRevenue = BigDecimal.ZERO;
+        private BigDecimal totalLaborCost = BigDecimal.ZERO;
+        private final RunningAverage hcroiAverage = new RunningAverage();
+        private int empCount = 0;
+
+        private MonthAccumulator(String period, SystemConfigSnapshot config) {
+            this.period = period;
+            this.periodKey = PeriodKey.parse(period);
+            this.config = config;
+        }
+
+        private void add(Employee emp) {
+            // 해당 월 실적 조회
+            Optional<Employee.PerformanceLog> logOpt = emp.findPerformanceLog(periodKey);
+            if (logOpt.isEmpty())
+                return;
+
+            Employee.PerformanceLog log = logOpt.get();
+            totalRevenue = totalRevenue.add(log.getAchievedSales());
+            empCount++;
+
+            // 월 인건비 계산
+            BigDecimal monthlySalary = emp.getCurrentSalary()
+                    .divide(BigDecimal.valueOf(12), 0, RoundingMode.HALF_UP);
+            BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
+            totalLaborCost = totalLaborCost.add(monthlySalary).add(benefitCost);
+
+            // HCROI 계산
+            try {
+                HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
+                        log.getAchievedSales(),
+                        monthlySalary,
+                        benefitCost,
+                        config.getFixedCostPerPerson(),
+                        config.getTargetProfitRate());
+                hcroiAverage.add(result.getHcroiIndex());
+            } catch (Exception e) {
+                // skip
+            }
+        }
 
-            dataList.add(MonthlyTrendResponse.MonthlyData.builder()
+        private MonthlyTrendResponse.MonthlyData toData() {
+            return MonthlyTrendResponse.MonthlyData.builder()
                     .period(period)
                     .totalRevenue(totalRevenue)
                     .totalLaborCost(totalLaborCost)
-                    .averageHcroi(avgHcroi)
+                    .averageHcroi(hcroiAverage.average())
                     .employeeCount(empCount)
-                    .build());
+                    .configVersion(config.getVersion())
+                    .build();
         }
-
-        return MonthlyTrendResponse.builder()
-                .data(dataList)
-                .build();
     }
 
     /**
      * 손익분기점(BEP) 달성 현황 조회
      */
     public BepStatusDto getBepStatus() {
-        List<Employee> employees = employeeRepository.findByIsEnabledTrue();
-        SystemConfig config = configRepository.getDefaultConfig();
-        String currentPeriod = YearMonth.now().toString();
+        SystemConfigSnapshot config = configCache.current();
+        int currentPeriod = PeriodKey.current();
 
-        BigDecimal totalRevenue = BigDecimal.ZERO;
-        BigDecimal totalTarget = BigDecimal.ZERO;
-        BigDecimal totalBep = BigDecimal.ZERO;
-        int empCount = 0;
+        // [매출, 목표, BEP] 합계
+        BigDecimal[] totals = { BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO };
+        int[] empCount = { 0 };
 
-        for (Employee emp : employees) {
-            Optional<Employee.PerformanceLog> logOpt = emp.getPerformanceLogs().stream()
-                    .filter(l -> currentPeriod.equals(l.getPeriod()))
-                    .findFirst();
+        forEachEnabledEmployee(emp -> {
+            Optional<Employee.PerformanceLog> logOpt = emp.findPerformanceLog(currentPeriod);
+            if (logOpt.isEmpty())
+                return;
 
-            if (logOpt.isPresent()) {
-                Employee.PerformanceLog log = logOpt.get();
-                totalRevenue = totalRevenue.add(log.getAchievedSales());
-                totalTarget = totalTarget.add(log.getTargetSales());
-                empCount++;
+            Employee.PerformanceLog log = logOpt.get();
+            totals[0] = totals[0].add(log.getAchievedSales());
+            totals[1] = totals[1].add(log.getTargetSales());
+            empCount[0]++;
 
-                // BEP 계산: 월 인건비 / 목표이익률
-                BigDecimal monthlySalary = emp.getCurrentSalary()
-                        .divide(BigDecimal.valueOf(12), 0, RoundingMode.HALF_UP);
-                BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
-                BigDecimal totalCost = monthlySalary.add(benefitCost).add(config.getFixedCostPerPerson());
+            // BEP 계산: 월 인건비 / 목표이익률
+            BigDecimal monthlySalary = emp.getCurrentSalary()
+                    .divide(BigDecimal.valueOf(12), 0, RoundingMode.HALF_UP);
+            BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
+            BigDecimal totalCost = monthlySalary.add(benefitCost).add(config.getFixedCostPerPerson());
 
-                BigDecimal bep = totalCost.divide(config.getTargetProfitRate(), 0, RoundingMode.HALF_UP);
-                totalBep = totalBep.add(bep);
-            }
-        }
+            BigDecimal bep = totalCost.divide(config.getTargetProfitRate(), 0, RoundingMode.HALF_UP);
+            totals[2] = totals[2].add(bep);
+        });
+
+        BigDecimal totalRevenue = totals[0];
+        BigDecimal totalTarget = totals[1];
+        BigDecimal totalBep = totals[2];
 
         // 달성률 계산
         BigDecimal achievementRate = BigDecimal.ZERO;
@@ -480,7 +678,7 @@ public class DashboardService {
         BigDecimal remainingToTarget = totalTarget.subtract(totalRevenue);
 
         return BepStatusDto.builder()
-                .period(currentPeriod)
+                .period(PeriodKey.format(currentPeriod))
                 .targetRevenue(totalTarget)
                 .currentRevenue(totalRevenue)
                 .bepRevenue(totalBep)
@@ -490,7 +688,7 @@ public class DashboardService {
                 .remainingToTarget(remainingToTarget)
                 .bepAchieved(totalRevenue.compareTo(totalBep) >= 0)
                 .targetAchieved(totalRevenue.compareTo(totalTarget) >= 0)
-                .contributingEmployees(empCount)
+                .contributingEmployees(empCount[0])
                 .build();
     }
 
@@ -498,19 +696,19 @@ public class DashboardService {
      * AHP 가중치 정보 조회
      */
     public AhpWeightsDto getAhpWeights() {
-        SystemConfig config = configRepository.getDefaultConfig();
-        List<SystemConfig.EvaluationCriteria> criteriaList = config.getEvaluationCriteria();
+        SystemConfigSnapshot config = configCache.current();
+        List<SystemConfigSnapshot.Criteria> criteriaList = config.getEvaluationCriteria();
 
         List<AhpWeightsDto.CriteriaWeight> weights = new ArrayList<>();
 
-        for (SystemConfig.EvaluationCriteria c : criteriaList) {
-            if (c.getIsActive() == null || c.getIsActive()) {
+        for (SystemConfigSnapshot.Criteria c : criteriaList) {
+            if (c.isActive() == null || c.isActive()) {
                 weights.add(AhpWeightsDto.CriteriaWeight.builder()
-                        .name(c.getName())
-                        .description(c.getDescription())
-                        .weight(c.getWeight())
-                        .percentage((int) Math.round(c.getWeight() * 100))
-                        .displayOrder(c.getDisplayOrder())
+                        .name(c.name())
+                        .description(c.description())
+                        .weight(c.weight())
+                        .percentage((int) Math.round(c.weight() * 100))
+                        .displayOrder(c.displayOrder())
                         .build());
             }
         }
@@ -530,163 +728,171 @@ public class DashboardService {
                 .build();
     }
 
+    private static final int WATCH_LIST_LIMIT = 5;
+    private static final int BIRTHDAY_LIMIT = 10;
+
+    // Yellow Zone 기준 (Red Zone 보다 조금 높은 임계치)
+    private static final BigDecimal HCROI_YELLOW = new BigDecimal("1.2"); // Red: 1.0
+    private static final BigDecimal SCORE_YELLOW = new BigDecimal("750"); // Red: 700
+
+    /**
+     * 관리 대상 정렬 기준: distanceToRedZone 오름차순 (가장 위험한 순)
+     */
+    private static final Comparator<WatchListEmployeeDto> WATCH_LIST_ORDER = Comparator
+            .comparing(WatchListEmployeeDto::getDistanceToRedZone);
+
     /**
      * 잠재적 관리 대상(Watch List) 조회
      * - Red Zone에 근접한 사원 (Yellow Zone)
      * - 점수 하락세인 사원
      */
     public List<WatchListEmployeeDto> getWatchList() {
-        List<Employee> employees = employeeRepository.findByIsEnabledTrue();
-        SystemConfig config = configRepository.getDefaultConfig();
-        String currentPeriod = YearMonth.now().toString();
-        String previousPeriod = YearMonth.now().minusMonths(1).toString();
-
-        // Yellow Zone 기준 (Red Zone 보다 조금 높은 임계치)
-        BigDecimal hcroiYellow = new BigDecimal("1.2"); // Red: 1.0
-        BigDecimal scoreYellow = new BigDecimal("750"); // Red: 700
-
-        List<WatchListEmployeeDto> watchList = new ArrayList<>();
-
-        for (Employee emp : employees) {
-            // 현재 월 실적
-            Optional<Employee.PerformanceLog> currentLogOpt = emp.getPerformanceLogs().stream()
-                    .filter(l -> currentPeriod.equals(l.getPeriod()))
-                    .findFirst();
-            // 이전 월 실적
-            Optional<Employee.PerformanceLog> prevLogOpt = emp.getPerformanceLogs().stream()
-                    .filter(l -> previousPeriod.equals(l.getPeriod()))
-                    .findFirst();
-
-            if (!currentLogOpt.isPresent())
-                continue;
-            Employee.PerformanceLog currentLog = currentLogOpt.get();
+        SystemConfigSnapshot config = configCache.current();
+        int currentPeriod = PeriodKey.current();
+        int previousPeriod = PeriodKey.minusMonths(currentPeriod, 1);
 
-            // HCROI 계산
-            BigDecimal monthlySalary = emp.getCurrentSalary()
-                    .divide(BigDecimal.valueOf(12), 0, RoundingMode.HALF_UP);
-            BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
-            BigDecimal currentHcroi;
-            try {
-                HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
-                        currentLog.getAchievedSales(), monthlySalary, benefitCost,
-                        config.getFixedCostPerPerson(), config.getTargetProfitRate());
-                currentHcroi = result.getHcroiIndex();
-            } catch (Exception e) {
-                continue;
-            }
+        // 최대 5명만 유지
+        BoundedList<WatchListEmployeeDto> watchList = new BoundedList<>(WATCH_LIST_LIMIT, WATCH_LIST_ORDER);
 
-            // 현재 점수
-            BigDecimal currentScore = emp.getScoreHistories().isEmpty() ? BigDecimal.ZERO
-                    : emp.getScoreHistories().get(emp.getScoreHistories().size() - 1).getNewScore();
+        forEachEnabledEmployee(
+                emp -> evaluateWatchList(emp, config, currentPeriod, previousPeriod).ifPresent(watchList::add));
 
-            // 이전 월 데이터
-            BigDecimal prevHcroi = null;
-            BigDecimal prevScore = null;
-            if (prevLogOpt.isPresent()) {
-                try {
-                    HcroiCalculator.HcroiResult prevResult = hcroiCalculator.calculateWithBenefits(
-                            prevLogOpt.get().getAchievedSales(), monthlySalary, benefitCost,
-                            config.getFixedCostPerPerson(), config.getTargetProfitRate());
-                    prevHcroi = prevResult.getHcroiIndex();
-                } catch (Exception e) {
-                    // skip
-                }
-            }
+        return watchList.toSortedList();
+    }
 
-            // Watch List 조건 체크
-            boolean isYellowZone = (currentHcroi.compareTo(hcroiYellow) < 0
-                    && currentHcroi.compareTo(HCROI_THRESHOLD) >= 0)
-                    || (currentScore.compareTo(scoreYellow) < 0 && currentScore.compareTo(SCORE_THRESHOLD) >= 0);
-            boolean isDeclining = prevHcroi != null && currentHcroi.compareTo(prevHcroi) < 0;
-
-            // Red Zone은 제외
-            boolean isRedZone = currentHcroi.compareTo(HCROI_THRESHOLD) < 0
-                    || currentScore.compareTo(SCORE_THRESHOLD) < 0;
-            if (isRedZone)
-                continue;
-
-            if (isYellowZone || isDeclining) {
-                String reason = "";
-                String riskLevel = "YELLOW";
-                if (isYellowZone && isDeclining) {
-                    reason = "커트라인 근접 + 하락세";
-                    riskLevel = "ORANGE";
-                } else if (isYellowZone) {
-                    reason = "커트라인 근접";
-                } else {
-                    reason = "성과 하락세";
-                }
+    /**
+     * 사원 1명의 관리 대상 여부 판정
+     */
+    private Optional<WatchListEmployeeDto> evaluateWatchList(Employee emp, SystemConfigSnapshot config,
+            int currentPeriod, int previousPeriod) {
+        // 현재 월 실적
+        Optional<Employee.PerformanceLog> currentLogOpt = emp.findPerformanceLog(currentPeriod);
+        if (currentLogOpt.isEmpty())
+            return Optional.empty();
+        Employee.PerformanceLog currentLog = currentLogOpt.get();
+
+        // 이전 월 실적
+        Optional<Employee.PerformanceLog> prevLogOpt = emp.findPerformanceLog(previousPeriod);
+
+        // HCROI 계산
+        BigDecimal monthlySalary = emp.getCurrentSalary()
+                .divide(BigDecimal.valueOf(12), 0, RoundingMode.HALF_UP);
+        BigDecimal benefitCost = monthlySalary.multiply(config.getInsuranceRate());
+        BigDecimal currentHcroi;
+        try {
+            HcroiCalculator.HcroiResult result = hcroiCalculator.calculateWithBenefits(
+                    currentLog.getAchievedSales(), monthlySalary, benefitCost,
+                    config.getFixedCostPerPerson(), config.getTargetProfitRate());
+            currentHcroi = result.getHcroiIndex();
+        } catch (Exception e) {
+            return Optional.empty();
+        }
 
-                BigDecimal hcroiChange = prevHcroi != null ? currentHcroi.subtract(prevHcroi) : null;
-                BigDecimal distanceToRed = currentHcroi.subtract(HCROI_THRESHOLD);
-
-                watchList.add(WatchListEmployeeDto.builder()
-                        .employeeId(emp.getId())
-                        .employeeName(emp.getName())
-                        .currentGrade(emp.getCurrentGrade())
-                        .currentHcroi(currentHcroi)
-                        .currentScore(currentScore)
-                        .previousHcroi(prevHcroi)
-                        .previousScore(prevScore)
-                        .hcroiChange(hcroiChange)
-                        .scoreChange(null)
-                        .watchReason(reason)
-                        .riskLevel(riskLevel)
-                        .distanceToRedZone(distanceToRed)
-                        .build());
+        // 현재 점수
+        BigDecimal currentScore = currentScoreOf(emp);
+
+        // Red Zone은 제외
+        boolean isRedZone = currentHcroi.compareTo(HCROI_THRESHOLD) < 0
+                || currentScore.compareTo(SCORE_THRESHOLD) < 0;
+        if (isRedZone)
+            return Optional.empty();
+
+        // 이전 월 데이터
+        BigDecimal prevHcroi = null;
+        if (prevLogOpt.isPresent()) {
+            try {
+                HcroiCalculator.HcroiResult prevResult = hcroiCalculator.calculateWithBenefits(
+                        prevLogOpt.get().getAchievedSales(), monthlySalary, benefitCost,
+                        config.getFixedCostPerPerson(), config.getTargetProfitRate());
+                prevHcroi = prevResult.getHcroiIndex();
+            } catch (Exception e) {
+                // skip
             }
         }
 
-        // distanceToRedZone 기준 정렬 (가장 위험한 순)
-        watchList.sort((a, b) -> a.getDistanceToRedZone().compareTo(b.getDistanceToRedZone()));
+        // Watch List 조건 체크
+        boolean isYellowZone = (currentHcroi.compareTo(HCROI_YELLOW) < 0
+                && currentHcroi.compareTo(HCROI_THRESHOLD) >= 0)
+                || (currentScore.compareTo(SCORE_YELLOW) < 0 && currentScore.compareTo(SCORE_THRESHOLD) >= 0);
+        boolean isDeclining = prevHcroi != null && currentHcroi.compareTo(prevHcroi) < 0;
+
+        if (!isYellowZone && !isDeclining)
+            return Optional.empty();
+
+        String reason;
+        String riskLevel = "YELLOW";
+        if (isYellowZone && isDeclining) {
+            reason = "커트라인 근접 + 하락세";
+            riskLevel = "ORANGE";
+        } else if (isYellowZone) {
+            reason = "커트라인 근접";
+        } else {
+            reason = "성과 하락세";
+        }
 
-        // 최대 5명만 반환
-        return watchList.stream().limit(5).collect(Collectors.toList());
+        BigDecimal hcroiChange = prevHcroi != null ? currentHcroi.subtract(prevHcroi) : null;
+        BigDecimal distanceToRed = currentHcroi.subtract(HCROI_THRESHOLD);
+
+        return Optional.of(WatchListEmployeeDto.builder()
+                .employeeId(emp.getId())
+                .employeeName(emp.getName())
+                .currentGrade(emp.getCurrentGrade())
+                .currentHcroi(currentHcroi)
+                .currentScore(currentScore)
+                .previousHcroi(prevHcroi)
+                .previousScore(null)
+                .hcroiChange(hcroiChange)
+                .scoreChange(null)
+                .watchReason(reason)
+                .riskLevel(riskLevel)
+                .distanceToRedZone(distanceToRed)
+                .build());
     }
 
     /**
      * 곧 다가오는 생일 조회 (30일 이내)
+     * 
+     * 이름/직급/생년월일만 투영해서 커서로 읽고, 가까운 10명만 유지합니다.
      */
     public List<UpcomingBirthdayDto> getUpcomingBirthdays() {
-        List<Employee> employees = employeeRepository.findAll();
         java.time.LocalDate today = java.time.LocalDate.now();
 
-        List<UpcomingBirthdayDto> upcomingBirthdays = new ArrayList<>();
-
-        for (Employee emp : employees) {
-            if (emp.getBirthDate() == null)
-                continue;
+        // 최대 10명만 유지 (D-day 기준 가장 가까운 순)
+        BoundedList<UpcomingBirthdayDto> upcomingBirthdays = new BoundedList<>(BIRTHDAY_LIMIT,
+                Comparator.comparingInt(UpcomingBirthdayDto::getDaysUntilBirthday));
 
-            // 올해 생일 계산
-            java.time.LocalDate thisYearBirthday = emp.getBirthDate().withYear(today.getYear());
+        try (Stream<Employee> employees = employeeRepository.streamProfiles(streamBatchSize)) {
+            employees.forEach(emp -> {
+                if (emp.getBirthDate() == null)
+                    return;
 
-            // 올해 생일이 이미 지났으면 내년 생일로
-            if (thisYearBirthday.isBefore(today)) {
-                thisYearBirthday = thisYearBirthday.plusYears(1);
-            }
+                // 올해 생일 계산
+                java.time.LocalDate thisYearBirthday = emp.getBirthDate().withYear(today.getYear());
 
-            // D-day 계산
-            long daysUntil = java.time.temporal.ChronoUnit.DAYS.between(today, thisYearBirthday);
-
-            // 30일 이내인 경우만 포함
-            if (daysUntil >= 0 && daysUntil <= 30) {
-                String message = daysUntil == 0 ? "🎂 오늘!" : daysUntil == 1 ? "🎉 내일" : "D-" + daysUntil;
+                // 올해 생일이 이미 지났으면 내년 생일로
+                if (thisYearBirthday.isBefore(today)) {
+                    thisYearBirthday = thisYearBirthday.plusYears(1);
+                }
 
-                upcomingBirthdays.add(UpcomingBirthdayDto.builder()
-                        .employeeId(emp.getId())
-                        .employeeName(emp.getName())
-                        .currentGrade(emp.getCurrentGrade())
-                        .birthDate(emp.getBirthDate())
-                        .daysUntilBirthday((int) daysUntil)
-                        .message(message)
-                        .build());
-            }
+                // D-day 계산
+                long daysUntil = java.time.temporal.ChronoUnit.DAYS.between(today, thisYearBirthday);
+
+                // 30일 이내인 경우만 포함
+                if (daysUntil >= 0 && daysUntil <= 30) {
+                    String message = daysUntil == 0 ? "🎂 오늘!" : daysUntil == 1 ? "🎉 내일" : "D-" + daysUntil;
+
+                    upcomingBirthdays.add(UpcomingBirthdayDto.builder()
+                            .employeeId(emp.getId())
+                            .employeeName(emp.getName())
+                            .currentGrade(emp.getCurrentGrade())
+                            .birthDate(emp.getBirthDate())
+                            .daysUntilBirthday((int) daysUntil)
+                            .message(message)
+                            .build());
+                }
+            });
         }
 
-        // D-day 기준 정렬 (가장 가까운 순)
-        upcomingBirthdays.sort(Comparator.comparingInt(UpcomingBirthdayDto::getDaysUntilBirthday));
-
-        // 최대 10명만 반환
-        return upcomingBirthdays.stream().limit(10).collect(Collectors.toList());
+        return upcomingBirthdays.toSortedList();
     }
 }
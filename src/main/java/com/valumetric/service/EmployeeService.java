@@ -1,14 +1,16 @@
 package com.valumetric.service;
 
+import com.valumetric.calculator.HcroiCalculator;
 import com.valumetric.document.Employee;
-import com.valumetric.document.SystemConfig;
+import com.valumetric.document.PeriodKey;
 import com.valumetric.dto.employee.EmployeeCreateRequest;
 import com.valumetric.dto.employee.EmployeeResponse;
 import com.valumetric.dto.employee.PerformanceLogRequest;
+import com.valumetric.repository.EmployeeProfileUpdate;
 import com.valumetric.repository.EmployeeRepository;
-import com.valumetric.repository.SystemConfigRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +19,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -28,14 +32,30 @@ import java.util.stream.Collectors;
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
-    private final SystemConfigRepository configRepository;
+    private final SystemConfigCache configCache;
     private final PasswordEncoder passwordEncoder;
+    private final HcroiCalculator hcroiCalculator;
+    private final EmployeeWriteQueue writeQueue;
 
     /**
      * 전체 사원 목록 조회
      */
     public List<EmployeeResponse> getAllEmployees() {
-        return employeeRepository.findAll().stream()
+        return getAllEmployees(null);
+    }
+
+    /**
+     * 전체 사원 목록 조회 (요약 필드 기준 정렬)
+     * 
+     * @param sortBy score | hcroi | alerts (null이면 기본 순서)
+     */
+    public List<EmployeeResponse> getAllEmployees(String sortBy) {
+        Sort sort = resolveSort(sortBy);
+        List<Employee> employees = sort.isSorted()
+                ? employeeRepository.findAll(sort)
+                : employeeRepository.findAll();
+
+        return employees.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
@@ -68,7 +88,6 @@ public class EmployeeService {
                 .createdAt(LocalDateTime.now())
                 .performanceLogs(new ArrayList<>())
                 .scoreHistories(new ArrayList<>())
-                .alerts(new ArrayList<>())
                 .build();
 
         Employee saved = employeeRepository.save(employee);
@@ -79,66 +98,95 @@ public class EmployeeService {
 
     /**
      * 사원 정보 수정
+     * 
+     * <pre>
+     * 문서 전체 저장 대신 수정된 프로필 필드만 $set하므로
+     * 그 사이 원자적으로 추가된 실적/점수 이력/경고 수를 덮어쓰지 않습니다.
+     * </pre>
      */
     public EmployeeResponse updateEmployee(String id, EmployeeCreateRequest request) {
         Employee employee = getEmployeeById(id);
 
-        if (request.getName() != null)
-            employee.setName(request.getName());
-        if (request.getEmail() != null)
-            employee.setEmail(request.getEmail());
-        if (request.getCurrentGrade() != null)
-            employee.setCurrentGrade(request.getCurrentGrade());
-        if (request.getCurrentSalary() != null)
+        EmployeeProfileUpdate.EmployeeProfileUpdateBuilder update = EmployeeProfileUpdate.builder()
+                .name(request.getName())
+                .email(request.getEmail())
+                .currentGrade(request.getCurrentGrade())
+                .hireDate(request.getHireDate());
+        if (request.getCurrentSalary() != null
+                && (employee.getCurrentSalary() == null
+                        || request.getCurrentSalary().compareTo(employee.getCurrentSalary()) != 0)) {
             employee.setCurrentSalary(request.getCurrentSalary());
-        if (request.getHireDate() != null)
-            employee.setHireDate(request.getHireDate());
+            refreshLatestHcroi(employee);
+            update.currentSalary(request.getCurrentSalary())
+                    .hcroiRefreshed(true)
+                    .latestHcroi(employee.getLatestHcroi())
+                    .latestHcroiConfigVersion(employee.getLatestHcroiConfigVersion());
+        }
         if (request.getRole() != null)
-            employee.setRole(parseRole(request.getRole()));
+            update.role(parseRole(request.getRole()));
         if (request.getPassword() != null && !request.getPassword().isBlank()) {
-            employee.setPassword(passwordEncoder.encode(request.getPassword()));
+            update.password(passwordEncoder.encode(request.getPassword()));
         }
 
-        Employee saved = employeeRepository.save(employee);
+        EmployeeProfileUpdate profile = update.build();
+        if (!employeeRepository.updateProfile(id, profile)) {
+            throw new IllegalArgumentException("사원을 찾을 수 없습니다: " + id);
+        }
+        profile.applyTo(employee);
         log.info("사원 정보 수정: id={}", id);
 
-        return toResponse(saved);
+        return toResponse(employee);
     }
 
     /**
-     * 사원 삭제 (비활성화)
+     * 연봉 변경 시 최근 기간 HCROI를 현재 설정으로 다시 계산 (같은 수정에 함께 반영)
+     */
+    private void refreshLatestHcroi(Employee employee) {
+        SystemConfigSnapshot config = configCache.current();
+        employee.setLatestHcroi(employee.findPerformanceLog(employee.getLatestPeriod())
+                .map(latest -> calculateHcroi(employee, latest, config))
+                .orElse(null));
+        employee.setLatestHcroiConfigVersion(employee.getLatestHcroi() != null ? config.getVersion() : null);
+    }
+
+    /**
+     * 사원 삭제 (비활성화, isEnabled만 변경)
      */
     public void deleteEmployee(String id) {
-        Employee employee = getEmployeeById(id);
-        employee.setIsEnabled(false);
-        employeeRepository.save(employee);
+        if (!employeeRepository.disable(id)) {
+            throw new IllegalArgumentException("사원을 찾을 수 없습니다: " + id);
+        }
         log.info("사원 비활성화: id={}", id);
     }
 
     /**
-     * 월별 실적 입력
+     * 월별 실적 입력 (반영 완료 후 최신 사원 문서 반환)
      */
     public Employee addPerformanceLog(PerformanceLogRequest request) {
-        Employee employee = getEmployeeById(request.getEmployeeId());
+        awaitWrite(submitPerformanceLog(request));
+        return getEmployeeById(request.getEmployeeId());
+    }
 
-        // 기존 동일 기간 데이터 제거
-        employee.getPerformanceLogs().removeIf(
-                log -> request.getPeriod().equals(log.getPeriod()));
+    /**
+     * 월별 실적 제출 (쓰기 큐에 넣고 반영 결과는 future로 알림)
+     */
+    public CompletableFuture<Void> submitPerformanceLog(PerformanceLogRequest request) {
+        Employee employee = getEmployeeById(request.getEmployeeId());
 
         Employee.PerformanceLog perfLog = Employee.PerformanceLog.builder()
                 .period(request.getPeriod())
+                .periodKey(PeriodKey.parse(request.getPeriod()))
                 .targetSales(request.getTargetSales())
                 .achievedSales(request.getAchievedSales())
                 .profit(request.getProfit())
                 .recordedAt(LocalDateTime.now())
                 .build();
 
-        employee.getPerformanceLogs().add(perfLog);
-
-        Employee saved = employeeRepository.save(employee);
+        SystemConfigSnapshot config = configCache.current();
+        BigDecimal hcroi = calculateHcroi(employee, perfLog, config);
         log.info("실적 입력: employeeId={}, period={}", request.getEmployeeId(), request.getPeriod());
 
-        return saved;
+        return writeQueue.submitPerformanceLog(employee.getId(), perfLog, hcroi, config.getVersion());
     }
 
     /**
@@ -146,8 +194,6 @@ public class EmployeeService {
      */
     public Employee addScoreHistory(String employeeId, String criteriaName,
             BigDecimal previousScore, BigDecimal scoreChange, String reason) {
-        Employee employee = getEmployeeById(employeeId);
-
         Employee.ScoreHistory history = Employee.ScoreHistory.builder()
                 .criteriaName(criteriaName)
                 .previousScore(previousScore)
@@ -157,8 +203,44 @@ public class EmployeeService {
                 .changedAt(LocalDateTime.now())
                 .build();
 
-        employee.getScoreHistories().add(history);
-        return employeeRepository.save(employee);
+        awaitWrite(writeQueue.submitScoreHistory(employeeId, history));
+        return getEmployeeById(employeeId);
+    }
+
+    /**
+     * 쓰기 큐 반영 대기 (반영 실패 원인을 그대로 던짐)
+     */
+    private void awaitWrite(CompletableFuture<Void> ack) {
+        try {
+            ack.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 실적 1건의 HCROI 계산 (latestHcroi 비정규화용)
+     * 
+     * @return 계산 불가 시 null
+     */
+    public BigDecimal calculateHcroi(Employee employee, Employee.PerformanceLog perfLog, SystemConfigSnapshot config) {
+        if (perfLog.getAchievedSales() == null || employee.getCurrentSalary() == null) {
+            return null;
+        }
+        try {
+            return hcroiCalculator.calculateMonthly(
+                    perfLog.getAchievedSales(),
+                    employee.getCurrentSalary(),
+                    config.getInsuranceRate(),
+                    config.getFixedCostPerPerson(),
+                    config.getTargetProfitRate()).getHcroiIndex();
+        } catch (IllegalArgumentException e) {
+            log.warn("HCROI 계산 실패: employeeId={}, period={}", employee.getId(), perfLog.getPeriod());
+            return null;
+        }
     }
 
     /**
@@ -213,7 +295,6 @@ public class EmployeeService {
                 .createdAt(LocalDateTime.now())
                 .performanceLogs(new ArrayList<>())
                 .scoreHistories(new ArrayList<>())
-                .alerts(new ArrayList<>())
                 .build();
 
         return employeeRepository.save(employee);
@@ -235,6 +316,7 @@ public class EmployeeService {
 
             Employee.PerformanceLog log = Employee.PerformanceLog.builder()
                     .period(period)
+                    .periodKey(PeriodKey.parse(period))
                     .targetSales(target)
                     .achievedSales(achieved)
                     .profit(profit)
@@ -244,10 +326,16 @@ public class EmployeeService {
             employee.getPerformanceLogs().add(log);
         }
 
+        SystemConfigSnapshot config = configCache.current();
+        employee.refreshSummaryFields();
+        employee.findPerformanceLog(employee.getLatestPeriod()).ifPresent(latest -> {
+            employee.setLatestHcroi(calculateHcroi(employee, latest, config));
+            employee.setLatestHcroiConfigVersion(config.getVersion());
+        });
         employeeRepository.save(employee);
     }
 
-    private EmployeeResponse toResponse(Employee emp) {
+    public EmployeeResponse toResponse(Employee emp) {
         return EmployeeResponse.builder()
                 .id(emp.getId())
                 .name(emp.getName())
@@ -258,10 +346,28 @@ public class EmployeeService {
                 .role(emp.getRole().name())
                 .isEnabled(emp.getIsEnabled())
                 .performanceLogCount(emp.getPerformanceLogs().size())
-                .alertCount((int) emp.getAlerts().stream().filter(a -> !a.getIsResolved()).count())
+                .alertCount(emp.getUnresolvedAlertCount() != null ? emp.getUnresolvedAlertCount() : 0)
+                .currentScore(emp.getCurrentScore())
+                .latestPeriod(emp.getLatestPeriod())
+                .latestHcroi(emp.getLatestHcroi())
                 .build();
     }
 
+    /**
+     * 목록 정렬 기준 변환 (score | hcroi | alerts)
+     */
+    public Sort resolveSort(String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return Sort.unsorted();
+        }
+        return switch (sortBy.toLowerCase()) {
+            case "score" -> Sort.by(Sort.Direction.DESC, "currentScore");
+            case "hcroi" -> Sort.by(Sort.Direction.DESC, "latestPeriodKey", "latestHcroi");
+            case "alerts" -> Sort.by(Sort.Direction.DESC, "unresolvedAlertCount");
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortBy);
+        };
+    }
+
     private Employee.Role parseRole(String role) {
         if (role == null || role.isBlank())
             return Employee.Role.USER;
@@ -277,6 +383,7 @@ public class EmployeeService {
      */
     public void initializeScores() {
         List<Employee> employees = employeeRepository.findAll();
+        List<CompletableFuture<Void>> writes = new ArrayList<>(employees.size());
 
         for (Employee emp : employees) {
             // 초기 점수 랜덤 (600 ~ 950)
@@ -291,9 +398,9 @@ public class EmployeeService {
                     .changedAt(LocalDateTime.now())
                     .build();
 
-            emp.getScoreHistories().add(initial);
-            employeeRepository.save(emp);
+            writes.add(writeQueue.submitScoreHistory(emp.getId(), initial));
         }
+        awaitWrite(CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)));
 
         log.info("점수 초기화 완료: {} 명", employees.size());
     }
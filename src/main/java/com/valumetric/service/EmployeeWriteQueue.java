@@ -0,0 +1,293 @@
+package com.valumetric.service;
+
+import com.valumetric.document.Employee;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.ledger.LedgerService;
+import com.valumetric.repository.EmployeeRepository;
+import com.valumetric.repository.EmployeeWriteBatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 실적/점수 쓰기 그룹 커밋 큐
+ *
+ * <pre>
+ * 실적 입력과 점수 이력 추가를 짧은 구간(window-ms) 동안 모아 사원별로 합친 뒤
+ * bulkWrite 1회로 반영합니다. (사원당 파이프라인 업데이트 1건, 같은 사원의 쓰기는 들어온 순서 유지)
+ * - 첫 쓰기가 들어온 뒤 window-ms가 지나거나 대기 사원이 max-batch에 도달하면 반영
+ * - 제출 결과는 CompletableFuture로 알림 (대상 사원 없음 → IllegalArgumentException)
+ * - ack-mode: SYNC = 반영 완료 후 응답, ASYNC = 큐에 넣은 즉시 응답 (요청별로 재지정 가능)
+ * - 비활성화(enabled=false)면 호출 스레드에서 즉시 반영
+ * - 종료 시 남은 쓰기를 모두 반영한 뒤 멈춤 (종료 중 들어온 쓰기도 같은 큐로 받아 이어서 반영
+ *   → 반영 중인 묶음과 호출 스레드 쓰기가 뒤섞여 사원별 순서가 바뀌지 않음)
+ *   반영 스레드가 큐를 모두 비우고 멈춘 뒤에만 호출 스레드에서 즉시 반영
+ *   10초 안에 비우지 못하면 남은 쓰기와 반영 스레드가 멈출 때까지의 제출은 IllegalStateException으로 실패 처리
+ *   (반영 스레드가 아직 처리 중이라 호출 스레드에서 반영하면 사원별 순서가 바뀔 수 있음)
+ * - 반영된 쓰기는 같은 순서로 원장(ledger_events)에 한 번에 추가 (정정 이력 보존)
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeWriteQueue implements SmartLifecycle {
+
+    public enum AckMode {
+        SYNC, ASYNC
+    }
+
+    private final EmployeeRepository employeeRepository;
+    private final LedgerService ledgerService;
+
+    @Value("${valumetric.write-queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${valumetric.write-queue.window-ms:5}")
+    private long windowMs;
+
+    @Value("${valumetric.write-queue.max-batch:500}")
+    private int maxBatch;
+
+    @Value("${valumetric.write-queue.ack-mode:SYNC}")
+    private AckMode defaultAckMode;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingChanged = lock.newCondition();
+    private Map<String, PendingWrites> pending = new LinkedHashMap<>();
+    private volatile boolean running = false;
+    private boolean drained = true; // 반영 스레드가 남은 쓰기를 모두 반영하고 멈췄는지 (lock 보호)
+    private boolean abandoned = false; // 종료 대기 시간 안에 비우지 못했는지 (반영 스레드가 멈출 때까지 제출 거절, lock 보호)
+    private Thread flusher;
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            running = true;
+            drained = false;
+            abandoned = false;
+        } finally {
+            lock.unlock();
+        }
+        flusher = new Thread(this::flushLoop, "employee-write-queue");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("쓰기 그룹 커밋 큐 시작: window={}ms, maxBatch={}, ackMode={}", windowMs, maxBatch, defaultAckMode);
+    }
+
+    @Override
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            pendingChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        failRemaining();
+        log.info("쓰기 그룹 커밋 큐 종료");
+    }
+
+    /**
+     * 종료 대기 후에도 남은 쓰기 실패 처리 (반영 스레드가 제때 멈추지 못한 경우)
+     */
+    private void failRemaining() {
+        List<PendingWrites> remaining;
+        lock.lock();
+        try {
+            if (drained) {
+                return;
+            }
+            abandoned = true;
+            remaining = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        IllegalStateException cause = new IllegalStateException("쓰기 큐가 종료 중입니다");
+        remaining.forEach(entry -> entry.fail(cause));
+        log.warn("쓰기 큐 종료 대기 시간 초과, 남은 쓰기 실패 처리: employees={}", remaining.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public AckMode getDefaultAckMode() {
+        return defaultAckMode;
+    }
+
+    /**
+     * 실적 1건 제출 (동일 기간 교체 + 최신 기간 요약 갱신)
+     */
+    public CompletableFuture<Void> submitPerformanceLog(String employeeId, Employee.PerformanceLog perfLog,
+            BigDecimal hcroi, long configVersion) {
+        return submit(employeeId, batch -> batch.addPerformanceLog(perfLog, hcroi, configVersion));
+    }
+
+    /**
+     * 점수 이력 1건 제출 (이력 추가 + currentScore 갱신)
+     */
+    public CompletableFuture<Void> submitScoreHistory(String employeeId, Employee.ScoreHistory history) {
+        return submit(employeeId, batch -> batch.addScoreHistory(history));
+    }
+
+    private CompletableFuture<Void> submit(String employeeId, Consumer<EmployeeWriteBatch> write) {
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        lock.lock();
+        try {
+            if (abandoned && !drained) {
+                ack.completeExceptionally(new IllegalStateException("쓰기 큐가 종료 중입니다"));
+                return ack;
+            }
+            if (!drained) {
+                PendingWrites entry = pending.computeIfAbsent(employeeId, PendingWrites::new);
+                write.accept(entry.batch);
+                entry.acks.add(ack);
+                pendingChanged.signal();
+                return ack;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        PendingWrites direct = new PendingWrites(employeeId);
+        write.accept(direct.batch);
+        direct.acks.add(ack);
+        flush(List.of(direct));
+        return ack;
+    }
+
+    private void flushLoop() {
+        while (true) {
+            List<PendingWrites> batch = awaitBatch();
+            if (batch == null) {
+                return;
+            }
+            flush(batch);
+        }
+    }
+
+    /**
+     * 첫 쓰기 후 window 동안(또는 max-batch까지) 모은 뒤 대기 목록을 통째로 가져옴
+     *
+     * @return 종료되어 남은 쓰기가 없으면 null
+     */
+    private List<PendingWrites> awaitBatch() {
+        lock.lock();
+        try {
+            try {
+                while (pending.isEmpty()) {
+                    if (!running) {
+                        drained = true;
+                        return null;
+                    }
+                    pendingChanged.await();
+                }
+                long remainingNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+                while (running && pending.size() < maxBatch && remainingNanos > 0) {
+                    remainingNanos = pendingChanged.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                // 인터럽트로 멈추더라도 이미 모아 둔 쓰기는 반영
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (pending.isEmpty()) {
+                drained = true;
+                return null;
+            }
+            List<PendingWrites> batch = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * max-batch 사원 단위로 나누어 bulkWrite 후 제출자에게 결과 알림
+     */
+    private void flush(List<PendingWrites> entries) {
+        for (int from = 0; from < entries.size(); from += maxBatch) {
+            List<PendingWrites> chunk = entries.subList(from, Math.min(from + maxBatch, entries.size()));
+            Map<String, String> failures;
+            try {
+                failures = employeeRepository.applyWriteBatches(chunk.stream().map(entry -> entry.batch).toList());
+            } catch (RuntimeException e) {
+                log.error("쓰기 큐 반영 실패: employees={}, error={}", chunk.size(), e.getMessage());
+                chunk.forEach(entry -> entry.fail(e));
+                continue;
+            }
+
+            List<LedgerEvent> events = new ArrayList<>();
+            for (PendingWrites entry : chunk) {
+                if (!failures.containsKey(entry.batch.getEmployeeId())) {
+                    entry.collectEvents(events);
+                }
+            }
+            ledgerService.appendQuietly(events);
+
+            int writes = 0;
+            for (PendingWrites entry : chunk) {
+                String failure = failures.get(entry.batch.getEmployeeId());
+                if (failure != null) {
+                    entry.fail(new IllegalArgumentException(failure));
+                } else {
+                    entry.complete();
+                }
+                writes += entry.acks.size();
+            }
+            log.debug("쓰기 큐 반영: employees={}, writes={}, failed={}", chunk.size(), writes, failures.size());
+        }
+    }
+
+    private static class PendingWrites {
+        private final EmployeeWriteBatch batch;
+        private final List<CompletableFuture<Void>> acks = new ArrayList<>();
+
+        PendingWrites(String employeeId) {
+            this.batch = new EmployeeWriteBatch(employeeId);
+        }
+
+        void collectEvents(List<LedgerEvent> events) {
+            String employeeId = batch.getEmployeeId();
+            batch.getPerformanceLogs().forEach(write -> events.add(LedgerEvent.performanceRecorded(employeeId,
+                    write.perfLog(), write.hcroi(), write.configVersion())));
+            batch.getScoreHistories().forEach(history -> events.add(LedgerEvent.scoreChanged(employeeId, history)));
+        }
+
+        void complete() {
+            acks.forEach(ack -> ack.complete(null));
+        }
+
+        void fail(Throwable cause) {
+            acks.forEach(ack -> ack.completeExceptionally(cause));
+        }
+    }
+}
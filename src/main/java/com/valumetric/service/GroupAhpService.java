@@ -0,0 +1,384 @@
+package com.valumetric.service;
+
+import com.valumetric.calculator.AhpEngine;
+import com.valumetric.calculator.GroupAhpAggregator;
+import com.valumetric.document.AhpSubmission;
+import com.valumetric.document.RescoreJob;
+import com.valumetric.document.SystemConfig;
+import com.valumetric.dto.admin.AhpSubmissionRequest;
+import com.valumetric.dto.admin.GroupAhpResponse;
+import com.valumetric.repository.AhpSubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 그룹 AHP 서비스 (평가자별 쌍대비교 제출 + AIJ/AIP 집계)
+ *
+ * <pre>
+ * - 제출 시 평가자 개인 가중치/CR을 계산해 함께 저장 (현재 평가 기준 수와 행렬 크기가 같아야 함)
+ * - 집계 상태(GroupAhpAggregator)는 메모리에 두고, 제출/삭제 시 해당 평가자만 증분 반영
+ * - 처음 사용할 때, 기준 수가 바뀌었을 때, 다른 인스턴스의 제출이 감지됐을 때 전체 재구성
+ *   (평가자별 계산과 누적을 parallelStream으로 병렬 수행)
+ * - 다른 인스턴스 변경 감지: 제출 건수 + 최신 updatedAt을 주기적으로 비교 (sync-interval-ms)
+ * - apply: 집계 결과를 시스템 설정(평가 기준 가중치)에 저장 (기존 계층은 해제)
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupAhpService {
+
+    private static final double CR_THRESHOLD = 0.1;
+
+    private final AhpSubmissionRepository submissionRepository;
+    private final SystemConfigCache configCache;
+    private final AhpEngine ahpEngine;
+    private final RescoreJobService rescoreJobService;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private GroupState state; // null이면 아직 불러오지 않음 (lock 안에서만 접근)
+
+    /**
+     * 평가자 쌍대비교 제출 (같은 평가자가 다시 제출하면 교체)
+     */
+    public GroupAhpResponse.EvaluatorResult submit(String evaluatorId, AhpSubmissionRequest request) {
+        int n = criteriaCount();
+        if (request.getMatrixSize() != n) {
+            throw new IllegalArgumentException(String.format("현재 평가 기준 수(%d)와 행렬 크기(%d)가 다릅니다",
+                    n, request.getMatrixSize()));
+        }
+        Double[] values = request.getUpperTriangleValues();
+        AhpEngine.AhpResult result = evaluate(n, values);
+
+        // MongoDB 날짜 정밀도(ms)에 맞춰 변경 감지 스탬프가 어긋나지 않게 함
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime submittedAt = submissionRepository.findById(evaluatorId)
+                .map(AhpSubmission::getSubmittedAt)
+                .orElse(now);
+        AhpSubmission submission = submissionRepository.save(AhpSubmission.builder()
+                .evaluatorId(evaluatorId)
+                .evaluatorName(request.getEvaluatorName())
+                .department(request.getDepartment())
+                .evaluatorWeight(request.getEvaluatorWeight() != null ? request.getEvaluatorWeight() : 1.0)
+                .matrixSize(n)
+                .upperTriangleValues(new ArrayList<>(Arrays.asList(values)))
+                .weights(Arrays.stream(result.getWeights()).boxed().toList())
+                .consistencyRatio(result.getConsistencyRatio())
+                .isConsistent(result.isConsistent())
+                .submittedAt(submittedAt)
+                .updatedAt(now)
+                .build());
+
+        Evaluated evaluated = new Evaluated(submission, values, result);
+        lock.lock();
+        try {
+            if (state != null && state.aggregator.getN() == n) {
+                state.put(evaluated);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!result.isConsistent()) {
+            log.warn("평가자 쌍대비교 일관성 비율 초과: evaluator={}, CR={}", evaluatorId, result.getConsistencyRatio());
+        }
+        log.info("그룹 AHP 제출: evaluator={}, weight={}", evaluatorId, submission.getEvaluatorWeight());
+        return toEvaluatorResult(evaluated);
+    }
+
+    /**
+     * 평가자 제출 삭제
+     */
+    public void delete(String evaluatorId) {
+        if (!submissionRepository.existsById(evaluatorId)) {
+            throw new IllegalArgumentException("제출된 쌍대비교가 없습니다: " + evaluatorId);
+        }
+        submissionRepository.deleteById(evaluatorId);
+        lock.lock();
+        try {
+            if (state != null) {
+                state.remove(evaluatorId);
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.info("그룹 AHP 제출 삭제: evaluator={}", evaluatorId);
+    }
+
+    /**
+     * 현재 제출 기준 그룹 집계
+     */
+    public GroupAhpResponse aggregate(GroupAhpAggregator.Mode mode) {
+        lock.lock();
+        try {
+            ensureState();
+            return buildResponse(mode);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 그룹 집계 결과를 시스템 설정에 저장
+     */
+    public GroupAhpResponse apply(GroupAhpAggregator.Mode mode) {
+        GroupAhpResponse response = aggregate(mode);
+        List<Double> weightList = Arrays.stream(response.getWeights()).boxed().toList();
+        List<Double> matrixValues = mode == GroupAhpAggregator.Mode.AIJ
+                ? new ArrayList<>(Arrays.asList(response.getAggregatedUpperTriangleValues()))
+                : new ArrayList<>();
+
+        configCache.update(config -> {
+            List<SystemConfig.EvaluationCriteria> criteria = config.getEvaluationCriteria();
+            if (criteria.size() != weightList.size()) {
+                throw new IllegalArgumentException("집계 중 평가 기준 수가 바뀌었습니다. 다시 시도하세요");
+            }
+            List<SystemConfig.EvaluationCriteria> updated = new ArrayList<>();
+            for (int i = 0; i < criteria.size(); i++) {
+                SystemConfig.EvaluationCriteria current = criteria.get(i);
+                updated.add(SystemConfig.EvaluationCriteria.builder()
+                        .name(current.getName())
+                        .description(current.getDescription())
+                        .weight(weightList.get(i))
+                        .isActive(current.getIsActive())
+                        .displayOrder(current.getDisplayOrder())
+                        .build());
+            }
+            config.setEvaluationCriteria(updated);
+            config.setAhpWeights(new ArrayList<>(weightList));
+            config.setAhpMatrixValues(matrixValues);
+            config.setConsistencyRatio(response.getConsistencyRatio());
+            config.setIsConsistent(response.isConsistent());
+            config.setAhpHierarchy(null);
+        });
+
+        log.info("그룹 AHP 가중치 적용: mode={}, evaluators={}", mode, response.getEvaluatorCount());
+        response.setMessage("그룹 가중치 적용 완료 (" + mode + ")");
+        response.setRescoreJobId(rescoreJobService.startAfterWeightChange("group-ahp")
+                .map(RescoreJob::getId)
+                .orElse(null));
+        return response;
+    }
+
+    /**
+     * 저장된 제출 전체로 집계 재구성
+     */
+    public GroupAhpResponse rebuild(GroupAhpAggregator.Mode mode) {
+        lock.lock();
+        try {
+            state = loadState();
+            return buildResponse(mode);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 제출 변경 감지 (건수/최신 수정 시각이 다르면 재구성)
+     */
+    @Scheduled(fixedDelayString = "${valumetric.group-ahp.sync-interval-ms:30000}")
+    public void syncIfChanged() {
+        lock.lock();
+        try {
+            if (state == null) {
+                return;
+            }
+            SyncStamp remote = currentStamp();
+            if (!remote.equals(state.stamp)) {
+                log.info("그룹 AHP 제출 변경 감지, 재구성: local={}, remote={}", state.stamp, remote);
+                state = loadState();
+            }
+        } catch (RuntimeException e) {
+            log.warn("그룹 AHP 변경 감지 실패: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureState() {
+        if (state == null || state.aggregator.getN() != criteriaCount()) {
+            state = loadState();
+        }
+    }
+
+    /**
+     * 전체 재구성 (평가자별 계산 + 누적을 병렬로)
+     */
+    private GroupState loadState() {
+        int n = criteriaCount();
+        List<AhpSubmission> submissions = submissionRepository.findAll();
+
+        List<Evaluated> evaluated = submissions.parallelStream()
+                .filter(submission -> Objects.equals(submission.getMatrixSize(), n))
+                .map(submission -> evaluateQuietly(n, submission))
+                .filter(Objects::nonNull)
+                .toList();
+        GroupAhpAggregator aggregator = evaluated.parallelStream().collect(
+                () -> new GroupAhpAggregator(n),
+                (group, member) -> group.put(member.submission().getEvaluatorId(),
+                        member.submission().getEvaluatorWeight(), member.values(), member.result().getWeights()),
+                GroupAhpAggregator::mergeFrom);
+
+        GroupState loaded = new GroupState(aggregator);
+        evaluated.forEach(member -> loaded.evaluators.put(member.submission().getEvaluatorId(), member));
+        submissions.stream()
+                .map(AhpSubmission::getEvaluatorId)
+                .filter(id -> !loaded.evaluators.containsKey(id))
+                .forEach(loaded.excluded::add);
+        loaded.stamp = stampOf(submissions);
+
+        log.info("그룹 AHP 집계 재구성: evaluators={}, excluded={}", evaluated.size(), loaded.excluded.size());
+        return loaded;
+    }
+
+    private Evaluated evaluateQuietly(int n, AhpSubmission submission) {
+        Double[] values = submission.getUpperTriangleValues().toArray(new Double[0]);
+        try {
+            return new Evaluated(submission, values, evaluate(n, values));
+        } catch (IllegalArgumentException e) {
+            log.warn("평가자 쌍대비교 계산 실패, 집계 제외: evaluator={}, error={}",
+                    submission.getEvaluatorId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 평가자/집계 행렬 계산 (빈 비교가 있으면 불완전 행렬 풀이)
+     */
+    private AhpEngine.AhpResult evaluate(int n, Double[] values) {
+        AhpEngine.WeightMethod method = ahpEngine.getDefaultMethod();
+        if (Arrays.stream(values).anyMatch(Objects::isNull)) {
+            return ahpEngine.calculateIncomplete(n, values, method, 0).ahp();
+        }
+        double[] complete = Arrays.stream(values).mapToDouble(Double::doubleValue).toArray();
+        return ahpEngine.calculate(ahpEngine.createPairwiseMatrix(n, complete), method);
+    }
+
+    private GroupAhpResponse buildResponse(GroupAhpAggregator.Mode mode) {
+        GroupAhpAggregator aggregator = state.aggregator;
+        if (aggregator.evaluatorCount() == 0) {
+            throw new IllegalArgumentException("집계할 평가자 제출이 없습니다");
+        }
+
+        GroupAhpResponse.GroupAhpResponseBuilder builder = GroupAhpResponse.builder()
+                .mode(mode)
+                .method(ahpEngine.getDefaultMethod())
+                .criteriaNames(configCache.current().getEvaluationCriteria().stream()
+                        .map(SystemConfigSnapshot.Criteria::name)
+                        .toArray(String[]::new))
+                .evaluatorCount(aggregator.evaluatorCount())
+                .totalEvaluatorWeight(aggregator.totalWeight())
+                .evaluators(state.evaluators.values().stream().map(this::toEvaluatorResult).toList())
+                .excludedEvaluators(List.copyOf(state.excluded));
+
+        if (mode == GroupAhpAggregator.Mode.AIJ) {
+            Double[] judgments = aggregator.aggregatedJudgments();
+            AhpEngine.AhpResult result = evaluate(aggregator.getN(), judgments);
+            builder.weights(result.getWeights())
+                    .lambdaMax(result.getLambdaMax())
+                    .consistencyRatio(result.getConsistencyRatio())
+                    .isConsistent(result.isConsistent())
+                    .aggregatedUpperTriangleValues(judgments);
+        } else {
+            // AIP는 집계 행렬이 없으므로 평가자 CR의 가중평균으로 일관성을 표시
+            double weightedCr = 0.0;
+            for (Evaluated member : state.evaluators.values()) {
+                weightedCr += member.submission().getEvaluatorWeight() * member.result().getConsistencyRatio();
+            }
+            weightedCr /= aggregator.totalWeight();
+            builder.weights(aggregator.aggregatedPriorities())
+                    .consistencyRatio(weightedCr)
+                    .isConsistent(weightedCr <= CR_THRESHOLD);
+        }
+
+        long inconsistent = state.evaluators.values().stream().filter(member -> !member.result().isConsistent())
+                .count();
+        return builder
+                .message(inconsistent == 0 ? "집계 완료" : "⚠️ 일관성 비율 초과 평가자 " + inconsistent + "명")
+                .build();
+    }
+
+    private GroupAhpResponse.EvaluatorResult toEvaluatorResult(Evaluated member) {
+        AhpSubmission submission = member.submission();
+        return GroupAhpResponse.EvaluatorResult.builder()
+                .evaluatorId(submission.getEvaluatorId())
+                .evaluatorName(submission.getEvaluatorName())
+                .department(submission.getDepartment())
+                .evaluatorWeight(submission.getEvaluatorWeight())
+                .weights(member.result().getWeights())
+                .consistencyRatio(member.result().getConsistencyRatio())
+                .isConsistent(member.result().isConsistent())
+                .updatedAt(submission.getUpdatedAt())
+                .build();
+    }
+
+    private int criteriaCount() {
+        return configCache.current().getEvaluationCriteria().size();
+    }
+
+    private SyncStamp currentStamp() {
+        return new SyncStamp(submissionRepository.count(),
+                submissionRepository.findTopByOrderByUpdatedAtDesc().map(AhpSubmission::getUpdatedAt).orElse(null));
+    }
+
+    private static SyncStamp stampOf(List<AhpSubmission> submissions) {
+        LocalDateTime latest = submissions.stream()
+                .map(AhpSubmission::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new SyncStamp(submissions.size(), latest);
+    }
+
+    private record Evaluated(AhpSubmission submission, Double[] values, AhpEngine.AhpResult result) {
+    }
+
+    private record SyncStamp(long count, LocalDateTime latestUpdate) {
+    }
+
+    /**
+     * 메모리 집계 상태 (증분 반영 시 변경 감지 스탬프도 함께 갱신)
+     */
+    private static final class GroupState {
+        private final GroupAhpAggregator aggregator;
+        private final Map<String, Evaluated> evaluators = new TreeMap<>();
+        private final List<String> excluded = new ArrayList<>();
+        private SyncStamp stamp;
+
+        GroupState(GroupAhpAggregator aggregator) {
+            this.aggregator = aggregator;
+        }
+
+        void put(Evaluated member) {
+            String evaluatorId = member.submission().getEvaluatorId();
+            aggregator.put(evaluatorId, member.submission().getEvaluatorWeight(), member.values(),
+                    member.result().getWeights());
+            boolean added = evaluators.put(evaluatorId, member) == null && !excluded.remove(evaluatorId);
+            LocalDateTime updatedAt = member.submission().getUpdatedAt();
+            LocalDateTime latest = stamp.latestUpdate() == null || updatedAt.isAfter(stamp.latestUpdate())
+                    ? updatedAt : stamp.latestUpdate();
+            stamp = new SyncStamp(stamp.count() + (added ? 1 : 0), latest);
+        }
+
+        void remove(String evaluatorId) {
+            boolean removed = aggregator.remove(evaluatorId) | excluded.remove(evaluatorId);
+            evaluators.remove(evaluatorId);
+            if (removed) {
+                stamp = new SyncStamp(stamp.count() - 1, stamp.latestUpdate());
+            }
+        }
+    }
+}
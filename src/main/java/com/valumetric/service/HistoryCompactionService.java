@@ -0,0 +1,231 @@
+package com.valumetric.service;
+
+import com.valumetric.document.ArchivedHistory;
+import com.valumetric.document.Employee;
+import com.valumetric.document.PeriodKey;
+import com.valumetric.repository.ArchivedHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 사원 이력 압축 서비스
+ * 
+ * <pre>
+ * 보관 기간(horizon)이 지난 내장 이력을 연도별 요약으로 압축합니다.
+ * 
+ * 1. 원본 행을 employee_history_archive 컬렉션에 보관
+ * 2. 사원 문서에서 원본 행 제거 + YearlySummary 갱신 (단일 업데이트)
+ * 
+ * 읽은 뒤 문서가 변경되었으면(이력 개수 불일치) 보관본을 되돌리고
+ * 다음 실행에서 다시 시도합니다.
+ * 최신 점수 이력 1건은 기간과 무관하게 남깁니다.
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HistoryCompactionService {
+
+    private final MongoTemplate mongoTemplate;
+    private final ArchivedHistoryRepository archiveRepository;
+
+    @Value("${valumetric.compaction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${valumetric.compaction.horizon-months:24}")
+    private int horizonMonths;
+
+    /**
+     * 정기 압축 (기본: 매일 03:00)
+     */
+    @Scheduled(cron = "${valumetric.compaction.cron:0 0 3 * * *}")
+    public void compactScheduled() {
+        if (!enabled) {
+            return;
+        }
+        int compacted = compactAll();
+        log.info("이력 압축 완료: {}명, horizon={}개월", compacted, horizonMonths);
+    }
+
+    /**
+     * 보관 기간이 지난 이력을 가진 모든 사원 압축
+     * 
+     * @return 압축된 사원 수
+     */
+    public int compactAll() {
+        YearMonth cutoffMonth = YearMonth.now().minusMonths(horizonMonths);
+        String cutoffPeriod = cutoffMonth.toString();
+        int cutoffKey = PeriodKey.of(cutoffMonth);
+        LocalDateTime cutoffTime = cutoffMonth.atDay(1).atStartOfDay();
+
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("performanceLogs.periodKey").lt(cutoffKey),
+                Criteria.where("scoreHistories.changedAt").lt(cutoffTime)));
+
+        int compacted = 0;
+        try (Stream<Employee> employees = mongoTemplate.stream(query, Employee.class)) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                Employee employee = iterator.next();
+                try {
+                    if (compactEmployee(employee, cutoffPeriod, cutoffTime)) {
+                        compacted++;
+                    }
+                } catch (Exception e) {
+                    log.warn("이력 압축 실패: employeeId={}, error={}", employee.getId(), e.getMessage());
+                }
+            }
+        }
+        return compacted;
+    }
+
+    private boolean compactEmployee(Employee employee, String cutoffPeriod, LocalDateTime cutoffTime) {
+        List<Employee.PerformanceLog> oldLogs = employee.getPerformanceLogs().stream()
+                .filter(l -> l.getPeriod() != null && l.getPeriod().compareTo(cutoffPeriod) < 0)
+                .filter(l -> PeriodKey.isValid(l.resolvePeriodKey())) // 형식 오류 레거시 실적은 남김
+                .collect(Collectors.toList());
+
+        // 최신 점수 이력은 항상 남김 (currentScore 원본)
+        List<Employee.ScoreHistory> histories = employee.getScoreHistories();
+        LocalDateTime scoreCutoff = cutoffTime;
+        if (!histories.isEmpty()) {
+            LocalDateTime latestChangedAt = histories.get(histories.size() - 1).getChangedAt();
+            if (latestChangedAt != null && latestChangedAt.isBefore(scoreCutoff)) {
+                scoreCutoff = latestChangedAt;
+            }
+        }
+        LocalDateTime effectiveScoreCutoff = scoreCutoff;
+        List<Employee.ScoreHistory> oldScores = histories.stream()
+                .filter(h -> h.getChangedAt() != null && h.getChangedAt().isBefore(effectiveScoreCutoff))
+                .collect(Collectors.toList());
+
+        if (oldLogs.isEmpty() && oldScores.isEmpty()) {
+            return false;
+        }
+
+        Map<Integer, List<Employee.PerformanceLog>> logsByYear = oldLogs.stream()
+                .collect(Collectors.groupingBy(l -> PeriodKey.year(l.resolvePeriodKey())));
+        Map<Integer, List<Employee.ScoreHistory>> scoresByYear = oldScores.stream()
+                .collect(Collectors.groupingBy(h -> h.getChangedAt().getYear()));
+
+        Set<Integer> years = new TreeSet<>(logsByYear.keySet());
+        years.addAll(scoresByYear.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Employee.YearlySummary> summaries = new ArrayList<>(employee.getYearlySummaries());
+        List<ArchivedHistory> archives = new ArrayList<>();
+
+        for (Integer year : years) {
+            List<Employee.PerformanceLog> logs = logsByYear.getOrDefault(year, List.of());
+            List<Employee.ScoreHistory> scores = scoresByYear.getOrDefault(year, List.of());
+
+            Employee.YearlySummary summary = employee.findYearlySummary(year).orElseGet(() -> {
+                Employee.YearlySummary created = emptySummary(year);
+                summaries.add(created);
+                return created;
+            });
+            mergeInto(summary, logs, scores, now);
+
+            archives.add(ArchivedHistory.builder()
+                    .employeeId(employee.getId())
+                    .year(year)
+                    .performanceLogs(new ArrayList<>(logs))
+                    .scoreHistories(new ArrayList<>(scores))
+                    .archivedAt(now)
+                    .build());
+        }
+        summaries.sort(Comparator.comparing(Employee.YearlySummary::getYear));
+
+        // 1) 원본 보관 (이력 유실 방지를 위해 제거보다 먼저 저장)
+        List<ArchivedHistory> saved = archiveRepository.saveAll(archives);
+
+        // 2) 원본 제거 + 요약 반영 (읽은 시점 이후 변경이 없을 때만)
+        Query target = Query.query(Criteria.where("_id").is(employee.getId())
+                .and("performanceLogs").size(employee.getPerformanceLogs().size())
+                .and("scoreHistories").size(histories.size()));
+        // 보관한 행만 제거 (형식 오류 레거시 실적은 기간이 cutoff 이전이어도 남김)
+        List<String> archivedPeriods = oldLogs.stream()
+                .map(Employee.PerformanceLog::getPeriod)
+                .distinct()
+                .collect(Collectors.toList());
+        Update update = new Update()
+                .pull("performanceLogs", new Document("period", new Document("$in", archivedPeriods)))
+                .pull("scoreHistories", new Document("changedAt", new Document("$lt", effectiveScoreCutoff)))
+                .set("yearlySummaries", summaries);
+
+        if (mongoTemplate.updateFirst(target, update, Employee.class).getModifiedCount() == 0) {
+            archiveRepository.deleteAll(saved);
+            log.debug("압축 중 문서 변경 감지, 다음 실행으로 연기: employeeId={}", employee.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private Employee.YearlySummary emptySummary(int year) {
+        return Employee.YearlySummary.builder()
+                .year(year)
+                .monthCount(0)
+                .totalTargetSales(BigDecimal.ZERO)
+                .totalAchievedSales(BigDecimal.ZERO)
+                .totalProfit(BigDecimal.ZERO)
+                .averageAchievedSales(BigDecimal.ZERO)
+                .scoreChangeCount(0)
+                .totalScoreChange(BigDecimal.ZERO)
+                .build();
+    }
+
+    /**
+     * 압축 대상 행을 연도 요약에 누적 (같은 연도가 여러 번에 나눠 압축될 수 있음)
+     */
+    private void mergeInto(Employee.YearlySummary summary,
+            List<Employee.PerformanceLog> logs,
+            List<Employee.ScoreHistory> scores,
+            LocalDateTime now) {
+        for (Employee.PerformanceLog perfLog : logs) {
+            summary.setMonthCount(summary.getMonthCount() + 1);
+            summary.setTotalTargetSales(add(summary.getTotalTargetSales(), perfLog.getTargetSales()));
+            summary.setTotalAchievedSales(add(summary.getTotalAchievedSales(), perfLog.getAchievedSales()));
+            summary.setTotalProfit(add(summary.getTotalProfit(), perfLog.getProfit()));
+
+            String lastPeriod = summary.getLastCompactedPeriod();
+            if (lastPeriod == null || perfLog.getPeriod().compareTo(lastPeriod) > 0) {
+                summary.setLastCompactedPeriod(perfLog.getPeriod());
+            }
+        }
+        if (summary.getMonthCount() > 0) {
+            summary.setAverageAchievedSales(summary.getTotalAchievedSales()
+                    .divide(BigDecimal.valueOf(summary.getMonthCount()), 0, RoundingMode.HALF_UP));
+        }
+
+        scores.stream()
+                .sorted(Comparator.comparing(Employee.ScoreHistory::getChangedAt))
+                .forEach(history -> {
+                    summary.setScoreChangeCount(summary.getScoreChangeCount() + 1);
+                    summary.setTotalScoreChange(add(summary.getTotalScoreChange(), history.getScoreChange()));
+                    summary.setClosingScore(history.getNewScore());
+                });
+
+        summary.setCompactedAt(now);
+    }
+
+    private BigDecimal add(BigDecimal total, BigDecimal value) {
+        BigDecimal base = total != null ? total : BigDecimal.ZERO;
+        return value != null ? base.add(value) : base;
+    }
+}
@@ -0,0 +1,74 @@
+package com.valumetric.service;
+
+import com.valumetric.calculator.AhpEngine;
+import com.valumetric.calculator.RandomIndexTable;
+import com.valumetric.document.RandomIndexEntry;
+import com.valumetric.repository.RandomIndexRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 몬테카를로 Random Index 영속화
+ *
+ * <pre>
+ * - 서버 시작 시 저장된 RI(random_indices)를 엔진의 RandomIndexTable로 복원
+ *   (표본 수/시드가 현재 설정과 다른 값은 버리고 다시 계산)
+ * - 엔진이 새 크기의 RI를 시뮬레이션하면 저장 → 크기별로 한 번만 계산
+ * - 현재 평가 기준 수가 15를 넘으면 시작 시 미리 계산해 첫 CR 계산이 느려지지 않게 함
+ * 저장 실패는 경고만 남김 (계산된 값은 메모리 캐시로 계속 사용)
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RandomIndexService {
+
+    private final RandomIndexRepository randomIndexRepository;
+    private final AhpEngine ahpEngine;
+    private final SystemConfigCache configCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        RandomIndexTable table = ahpEngine.getRandomIndexTable();
+        table.setListener(this::persist);
+
+        int restored = 0;
+        try {
+            for (RandomIndexEntry entry : randomIndexRepository.findAll()) {
+                if (Objects.equals(entry.getSamples(), table.getSamples())
+                        && Objects.equals(entry.getSeed(), table.getSeed()) && entry.getRandomIndex() != null) {
+                    table.preload(Integer.parseInt(entry.getMatrixSize()), entry.getRandomIndex());
+                    restored++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Random Index 복원 실패, 필요할 때 다시 계산: {}", e.getMessage());
+        }
+
+        int criteriaCount = configCache.current().getEvaluationCriteria().size();
+        double ri = ahpEngine.getRandomIndex(Math.max(criteriaCount, 1));
+        log.info("Random Index 준비: restored={}, criteria={}, RI={}", restored, criteriaCount, ri);
+    }
+
+    private void persist(int n, double ri) {
+        RandomIndexTable table = ahpEngine.getRandomIndexTable();
+        log.info("Random Index 시뮬레이션: n={}, RI={}, samples={}", n, ri, table.getSamples());
+        try {
+            randomIndexRepository.save(RandomIndexEntry.builder()
+                    .matrixSize(String.valueOf(n))
+                    .randomIndex(ri)
+                    .samples(table.getSamples())
+                    .seed(table.getSeed())
+                    .computedAt(LocalDateTime.now())
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Random Index 저장 실패: n={}, error={}", n, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.valumetric.service;
+
+import com.valumetric.document.Employee;
+import com.valumetric.document.PeriodKey;
+import com.valumetric.dto.dashboard.DashboardSummaryDto;
+import com.valumetric.dto.dashboard.RedZoneEmployeeDto;
+import com.valumetric.dto.employee.EmployeeResponse;
+import com.valumetric.repository.ReactiveEmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 대시보드/사원 목록 리액티브 조회 서비스
+ * 
+ * <pre>
+ * 리액티브 MongoDB 드라이버로 조회하므로 쿼리 대기 중에 요청 스레드를 점유하지 않습니다.
+ * 사원 단위 판정/집계 로직은 DashboardService와 공유합니다.
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveDashboardService {
+
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final SystemConfigCache configCache;
+    private final DashboardService dashboardService;
+    private final EmployeeService employeeService;
+
+    /**
+     * 대시보드 요약 (사원 스트림을 누적 집계)
+     */
+    public Mono<DashboardSummaryDto> getSummary() {
+        return defaultConfig().flatMap(config -> employeeRepository.findByIsEnabledTrue()
+                .collect(() -> dashboardService.newSummaryAccumulator(config),
+                        DashboardService.SummaryAccumulator::add)
+                .map(DashboardService.SummaryAccumulator::toDto));
+    }
+
+    /**
+     * 위험군 사원 스트림 (판정 순서대로 즉시 전송, 정렬 없음)
+     */
+    public Flux<RedZoneEmployeeDto> streamRedZoneEmployees() {
+        int currentPeriod = PeriodKey.current();
+        return defaultConfig().flatMapMany(config -> employeeRepository.findByIsEnabledTrue()
+                .concatMap(emp -> Mono.justOrEmpty(dashboardService.evaluateRedZone(emp, config, currentPeriod))));
+    }
+
+    /**
+     * 위험군 사원 리스트 (블로킹 API와 동일한 정렬)
+     */
+    public Mono<List<RedZoneEmployeeDto>> getRedZoneEmployees() {
+        return streamRedZoneEmployees().collectSortedList(DashboardService.RED_ZONE_ORDER);
+    }
+
+    /**
+     * 사원 목록 스트림
+     */
+    public Flux<EmployeeResponse> streamEmployees(String sortBy) {
+        Sort sort = employeeService.resolveSort(sortBy);
+        Flux<Employee> employees = sort.isSorted()
+                ? employeeRepository.findAll(sort)
+                : employeeRepository.findAll();
+        return employees.map(employeeService::toResponse);
+    }
+
+    /**
+     * 기본 설정 조회 (메모리 스냅샷, I/O 없음)
+     */
+    private Mono<SystemConfigSnapshot> defaultConfig() {
+        return Mono.fromSupplier(configCache::current);
+    }
+}
@@ -0,0 +1,575 @@
+package com.valumetric.service;
+
+import com.valumetric.document.Employee;
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.document.RescoreJob;
+import com.valumetric.event.EmployeeChangedEvent;
+import com.valumetric.ledger.LedgerService;
+import com.valumetric.repository.EmployeeRepository;
+import com.valumetric.repository.RescoreJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * AHP 가중치 변경 후 전 사원 종합 점수 재산정 작업
+ *
+ * <pre>
+ * 【단계】
+ * 1. STAGING   : CriteriaScoreService 기준별 점수 × 새 가중치로 종합 점수를 계산해
+ *                파티션(partition-size명)별로 병렬 bulkWrite → 사원 문서의 stagedScore에 기록
+ *                (대시보드는 아직 currentScore를 읽음, 이 단계에서만 취소 가능)
+ * 2. 전환      : 작업 상태를 PROMOTING으로 저장하고 activeJobId를 바꿈
+ *                → 대시보드는 이 작업의 stagedScore를 한 번에 읽기 시작 (일부만 바뀐 순위가 보이지 않음)
+ * 3. PROMOTING : 스테이징 점수를 파티션별로 currentScore/점수 이력에 반영하고 원장에 추가
+ *                (재시작/오류 시 남은 사원부터 이어서 반영)
+ *
+ * 【동시 변경】
+ * - 재산정 중 점수 이력이 따로 추가된 사원은 스테이징 값이 비워져 반영에서 제외 (사용자 입력 우선)
+ * - 실행 중 가중치가 다시 바뀌면 스테이징 중인 작업은 취소하고, 끝난 뒤 새 가중치로 한 번 더 실행
+ * - 점수가 바뀌지 않는 사원(소수 둘째 자리 기준)은 쓰지 않음
+ *
+ * 【다중 인스턴스】
+ * 작업을 실행하는 인스턴스가 owner로 기록되고 sync 주기마다 heartbeatAt을 갱신합니다.
+ * heartbeat가 stale-after-ms보다 오래 끊긴 작업만 다른 인스턴스(재시작한 인스턴스 포함)가 가져가
+ * STAGING은 취소/정리하고 PROMOTING은 이어서 반영합니다. (살아 있는 인스턴스의 작업은 건드리지 않음)
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RescoreJobService {
+
+    public static final String TRIGGER_MANUAL = "manual";
+
+    private final RescoreJobRepository jobRepository;
+    private final EmployeeRepository employeeRepository;
+    private final CriteriaScoreService criteriaScoreService;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${valumetric.rescore.auto-start:true}")
+    private boolean autoStart;
+
+    @Value("${valumetric.rescore.partition-size:500}")
+    private int partitionSize;
+
+    @Value("${valumetric.rescore.parallelism:4}")
+    private int parallelism;
+
+    @Value("${valumetric.rescore.stale-after-ms:60000}")
+    private long staleAfterMs;
+
+    // 작업 owner로 기록하는 이 인스턴스의 ID (재시작마다 새로 발급)
+    private final String instanceId = new ObjectId().toHexString();
+
+    /**
+     * 대시보드가 stagedScore를 읽을 작업 (PROMOTING 작업, 없으면 null)
+     */
+    private volatile String activeJobId;
+
+    private volatile RescoreJob runningJob;
+    private volatile boolean cancelRequested;
+
+    private Thread worker;
+    private String pendingTrigger;
+    private ExecutorService partitions;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reclaimStaleJobs();
+    }
+
+    /**
+     * 실행 중이면 heartbeat 갱신, 아니면 heartbeat가 끊긴 작업을 정리/재개하고
+     * 다른 인스턴스가 전환한 작업도 대시보드에 반영
+     */
+    @Scheduled(fixedDelayString = "${valumetric.rescore.sync-interval-ms:5000}")
+    public void syncActiveJob() {
+        if (isRunning()) {
+            heartbeat();
+            return;
+        }
+        reclaimStaleJobs();
+        activeJobId = jobRepository.findByStatus(RescoreJob.Status.PROMOTING).stream()
+                .map(RescoreJob::getId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+        if (partitions != null) {
+            partitions.shutdownNow();
+        }
+    }
+
+    public String activeJobId() {
+        return activeJobId;
+    }
+
+    /**
+     * 가중치 저장 직후 호출 (auto-start=false면 시작하지 않음)
+     *
+     * @return 새로 시작한 작업 (비활성화 또는 대기열에 들어가면 empty)
+     */
+    public Optional<RescoreJob> startAfterWeightChange(String trigger) {
+        return autoStart ? start(trigger) : Optional.empty();
+    }
+
+    /**
+     * 재산정 시작
+     *
+     * <pre>
+     * 이미 실행 중이면 현재 작업이 끝난 뒤 한 번 더 실행합니다. (스테이징 중이면 현재 작업은 취소)
+     * </pre>
+     *
+     * @return 새로 시작한 작업 (대기열에 들어가면 empty)
+     */
+    public synchronized Optional<RescoreJob> start(String trigger) {
+        if (isRunning()) {
+            pendingTrigger = trigger;
+            RescoreJob job = runningJob;
+            if (job != null && job.getStatus() == RescoreJob.Status.STAGING) {
+                cancelRequested = true;
+            }
+            log.info("가중치 재산정 대기: trigger={} (실행 중인 작업 종료 후 시작)", trigger);
+            return Optional.empty();
+        }
+        RescoreJob job = newJob(trigger);
+        startWorker(job);
+        return Optional.of(job);
+    }
+
+    /**
+     * 스테이징 중인 작업 취소 (전환 이후에는 취소 불가)
+     */
+    public synchronized RescoreJob cancel(String jobId) {
+        RescoreJob job = runningJob;
+        if (job == null || !job.getId().equals(jobId)) {
+            RescoreJob stored = find(jobId);
+            throw new IllegalArgumentException(String.format("실행 중인 재산정 작업이 아닙니다: %s (%s)", jobId,
+                    stored.getStatus()));
+        }
+        if (job.getStatus() != RescoreJob.Status.STAGING) {
+            throw new IllegalArgumentException("대시보드 전환 이후에는 취소할 수 없습니다: " + jobId);
+        }
+        cancelRequested = true;
+        return job;
+    }
+
+    /**
+     * 실행 중인 작업, 없으면 가장 최근 작업
+     */
+    public Optional<RescoreJob> current() {
+        RescoreJob job = runningJob;
+        return job != null ? Optional.of(job) : jobRepository.findFirstByOrderByStartedAtDesc();
+    }
+
+    public RescoreJob find(String jobId) {
+        RescoreJob job = runningJob;
+        if (job != null && job.getId().equals(jobId)) {
+            return job;
+        }
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("재산정 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    public synchronized boolean isRunning() {
+        return worker != null && worker.isAlive();
+    }
+
+    // ==================== 작업 스레드 ====================
+
+    private synchronized void startWorker(RescoreJob first) {
+        if (isRunning()) {
+            return;
+        }
+        worker = new Thread(() -> runAll(first), "workforce-rescore");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void runAll(RescoreJob first) {
+        RescoreJob next = first;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                resumePromotions();
+                if (next != null) {
+                    run(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.info("가중치 재산정 중단 (재시작 시 반영 단계부터 재개)");
+                return;
+            } catch (RuntimeException e) {
+                log.error("가중치 재산정 오류: {}", e.getMessage(), e);
+            }
+            synchronized (this) {
+                runningJob = null;
+                cancelRequested = false;
+                if (pendingTrigger == null) {
+                    worker = null;
+                    return;
+                }
+                next = newJob(pendingTrigger);
+                pendingTrigger = null;
+            }
+        }
+    }
+
+    private RescoreJob newJob(String trigger) {
+        LocalDateTime now = LocalDateTime.now();
+        RescoreJob job = RescoreJob.builder()
+                .id(new ObjectId().toHexString())
+                .trigger(trigger)
+                .owner(instanceId)
+                .heartbeatAt(now)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+        runningJob = job;
+        return jobRepository.save(job);
+    }
+
+    private void run(RescoreJob job) throws InterruptedException {
+        runningJob = job;
+        try {
+            stage(job);
+        } catch (ExecutionException | RuntimeException e) {
+            employeeRepository.clearStagedScores(job.getId());
+            String message = e instanceof ExecutionException ? e.getCause().getMessage() : e.getMessage();
+            finish(job, RescoreJob.Status.FAILED, message);
+            log.error("가중치 재산정 실패: job={} - {}", job.getId(), message);
+            return;
+        }
+        if (cancelRequested) {
+            employeeRepository.clearStagedScores(job.getId());
+            finish(job, RescoreJob.Status.CANCELLED, null);
+            log.info("가중치 재산정 취소: job={} (계산 {}/{}명)", job.getId(), job.getProcessedCount(),
+                    job.getTotalCount());
+            return;
+        }
+
+        // 전환: 이 시점부터 대시보드는 스테이징 점수를 읽음
+        job.setStatus(RescoreJob.Status.PROMOTING);
+        job.setSwitchedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getSwitchedAt());
+        job.setHeartbeatAt(job.getSwitchedAt());
+        jobRepository.save(job);
+        activeJobId = job.getId();
+        eventPublisher.publishEvent(EmployeeChangedEvent.resync());
+        log.info("가중치 재산정 전환: job={}, 변경 {}명 / 전체 {}명", job.getId(), job.getStagedCount(),
+                job.getTotalCount());
+
+        promote(job);
+    }
+
+    /**
+     * 새 가중치로 종합 점수를 계산해 파티션별로 스테이징
+     */
+    private void stage(RescoreJob job) throws InterruptedException, ExecutionException {
+        CriteriaScoreService.CriteriaScores matrix = criteriaScoreService.load();
+        int m = matrix.employeeCount();
+        int n = matrix.criteriaCount();
+        double[] weights = normalize(matrix.weights());
+        int partitionCount = (m + partitionSize - 1) / partitionSize;
+
+        job.setConfigVersion(matrix.configVersion());
+        job.setCriteriaNames(Arrays.asList(matrix.criteriaNames()));
+        job.setWeights(Arrays.stream(weights).boxed().toList());
+        job.setTotalCount((long) m);
+        job.setPartitionCount(partitionCount);
+        job.setUpdatedAt(LocalDateTime.now());
+        jobRepository.save(job);
+        log.info("가중치 재산정 시작: job={}, trigger={}, 설정 v{}, 사원 {}명, 파티션 {}개", job.getId(),
+                job.getTrigger(), matrix.configVersion(), m, partitionCount);
+
+        AtomicLong staged = new AtomicLong();
+        AtomicLong processed = new AtomicLong();
+        Deque<Future<?>> futures = new ArrayDeque<>(partitionCount);
+        for (int p = 0; p < partitionCount; p++) {
+            int from = p * partitionSize;
+            int to = Math.min(from + partitionSize, m);
+            futures.add(partitions().submit(() -> {
+                if (cancelRequested) {
+                    return;
+                }
+                Map<String, BigDecimal> changed = new HashMap<>();
+                for (int e = from; e < to; e++) {
+                    double score = 0.0;
+                    for (int c = 0; c < n; c++) {
+                        score += weights[c] * matrix.scores()[e * n + c];
+                    }
+                    BigDecimal rescored = BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
+                    BigDecimal current = BigDecimal.valueOf(matrix.currentScores()[e])
+                            .setScale(2, RoundingMode.HALF_UP);
+                    if (rescored.compareTo(current) != 0) {
+                        changed.put(matrix.employeeIds().get(e), rescored);
+                    }
+                }
+                if (!changed.isEmpty()) {
+                    staged.addAndGet(employeeRepository.stageRescoredScores(job.getId(), changed));
+                }
+                processed.addAndGet(to - from);
+            }));
+        }
+        awaitAll(futures, job, () -> {
+            job.setStagedCount(staged.get());
+            job.setProcessedCount(processed.get());
+        });
+    }
+
+    /**
+     * 스테이징 점수를 currentScore/점수 이력에 반영
+     *
+     * <pre>
+     * 스테이징 사원을 _id 순 커서로 읽으며 partition-size명씩 바로 제출하고,
+     * 동시에 진행 중인 파티션은 스레드 수 × 2개까지만 둡니다. (전체 사원을 메모리에 올리지 않음)
+     * 반영된 사원은 스테이징 값이 지워지므로 재개 시 커서는 남은 사원만 읽습니다.
+     * </pre>
+     */
+    private void promote(RescoreJob job) throws InterruptedException {
+        String reason = String.format("AHP 가중치 변경 재산정 (설정 v%d, 작업 %s)", job.getConfigVersion(),
+                job.getId());
+        int maxInFlight = threads() * 2;
+
+        AtomicLong promoted = new AtomicLong(job.getPromotedCount());
+        Runnable progress = () -> job.setPromotedCount(promoted.get());
+        Deque<Future<?>> inFlight = new ArrayDeque<>(maxInFlight);
+        try (Stream<Employee> stream = employeeRepository.streamStagedScores(job.getId(), partitionSize)) {
+            Iterator<Employee> staged = stream.iterator();
+            List<Employee> partition = new ArrayList<>(partitionSize);
+            while (staged.hasNext()) {
+                partition.add(staged.next());
+                if (partition.size() < partitionSize && staged.hasNext()) {
+                    continue;
+                }
+                if (inFlight.size() >= maxInFlight) {
+                    awaitFirst(inFlight, job, progress);
+                }
+                List<Employee> submitted = partition;
+                inFlight.add(partitions().submit(() -> promotePartition(job, submitted, reason, promoted)));
+                partition = new ArrayList<>(partitionSize);
+            }
+            awaitAll(inFlight, job, progress);
+        } catch (ExecutionException e) {
+            // 전환 이후에는 되돌리지 않고 다음 실행에서 남은 사원부터 이어서 반영
+            job.setLastError(e.getCause().getMessage());
+            job.setUpdatedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            log.error("가중치 재산정 반영 실패: job={} - {} (재시도 예정)", job.getId(), job.getLastError());
+            return;
+        }
+
+        job.setSkippedCount(Math.max(0L, job.getStagedCount() - job.getPromotedCount()));
+        finish(job, RescoreJob.Status.COMPLETED, null);
+        activeJobId = null;
+        eventPublisher.publishEvent(EmployeeChangedEvent.resync());
+        log.info("✅ 가중치 재산정 완료: job={}, 반영 {}명, 건너뜀 {}명", job.getId(), job.getPromotedCount(),
+                job.getSkippedCount());
+    }
+
+    private void promotePartition(RescoreJob job, List<Employee> partition, String reason, AtomicLong promoted) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Employee.ScoreHistory> histories = new LinkedHashMap<>();
+        for (Employee emp : partition) {
+            BigDecimal previous = emp.getCurrentScore() != null ? emp.getCurrentScore() : BigDecimal.ZERO;
+            histories.put(emp.getId(), Employee.ScoreHistory.builder()
+                    .criteriaName(CriteriaScoreService.RESCORE_CRITERIA)
+                    .previousScore(previous)
+                    .scoreChange(emp.getStagedScore().subtract(previous))
+                    .newScore(emp.getStagedScore())
+                    .reason(reason)
+                    .changedAt(now)
+                    .build());
+        }
+        Set<String> promotedIds = employeeRepository.promoteRescoredScores(job.getId(), histories);
+        List<LedgerEvent> events = new ArrayList<>(promotedIds.size());
+        histories.forEach((employeeId, history) -> {
+            if (promotedIds.contains(employeeId)) {
+                events.add(LedgerEvent.scoreChanged(employeeId, history));
+            }
+        });
+        ledgerService.appendQuietly(events);
+        promoted.addAndGet(promotedIds.size());
+    }
+
+    /**
+     * heartbeat가 끊긴 인스턴스가 반영하다 만 작업 재개 (살아 있는 인스턴스의 작업은 건너뜀)
+     */
+    private void resumePromotions() throws InterruptedException {
+        LocalDateTime staleBefore = staleBefore();
+        for (RescoreJob stored : jobRepository.findByStatus(RescoreJob.Status.PROMOTING)) {
+            Optional<RescoreJob> claimed = isStale(stored, staleBefore)
+                    ? jobRepository.claimIfStale(stored.getId(), staleBefore, instanceId)
+                    : Optional.empty();
+            if (claimed.isEmpty()) {
+                continue;
+            }
+            RescoreJob job = claimed.get();
+            runningJob = job;
+            activeJobId = job.getId();
+            log.info("가중치 재산정 반영 재개: job={} (반영 {}명)", job.getId(), job.getPromotedCount());
+            promote(job);
+            if (job.getStatus() == RescoreJob.Status.PROMOTING) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 파티션 제출 순서대로 진행 상황 저장, 실패 시 남은 파티션 취소
+     */
+    private void awaitAll(Deque<Future<?>> futures, RescoreJob job, Runnable progress)
+            throws InterruptedException, ExecutionException {
+        while (!futures.isEmpty()) {
+            awaitFirst(futures, job, progress);
+        }
+    }
+
+    private void awaitFirst(Deque<Future<?>> futures, RescoreJob job, Runnable progress)
+            throws InterruptedException, ExecutionException {
+        try {
+            futures.peekFirst().get();
+        } catch (InterruptedException | ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            futures.clear();
+            throw e;
+        }
+        futures.removeFirst();
+        progress.run();
+        LocalDateTime now = LocalDateTime.now();
+        job.setUpdatedAt(now);
+        job.setHeartbeatAt(now);
+        jobRepository.save(job);
+    }
+
+    // ==================== 소유권 ====================
+
+    /**
+     * heartbeat가 끊긴 작업 정리: STAGING은 취소, PROMOTING은 작업 스레드에서 이어서 반영
+     */
+    private void reclaimStaleJobs() {
+        LocalDateTime staleBefore = staleBefore();
+        for (RescoreJob stored : jobRepository.findByStatus(RescoreJob.Status.STAGING)) {
+            if (!isStale(stored, staleBefore)) {
+                continue;
+            }
+            jobRepository.claimIfStale(stored.getId(), staleBefore, instanceId).ifPresent(job -> {
+                employeeRepository.clearStagedScores(job.getId());
+                finish(job, RescoreJob.Status.CANCELLED, "실행 인스턴스 응답 없음으로 중단");
+                log.warn("가중치 재산정 정리: job={}, owner={} (heartbeat {})", job.getId(), stored.getOwner(),
+                        stored.getHeartbeatAt());
+            });
+        }
+        boolean orphaned = jobRepository.findByStatus(RescoreJob.Status.PROMOTING).stream()
+                .anyMatch(job -> isStale(job, staleBefore));
+        if (orphaned) {
+            startWorker(null);
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 heartbeat 갱신 (다른 인스턴스가 가져갔으면 스테이징 중단)
+     */
+    private void heartbeat() {
+        RescoreJob job = runningJob;
+        if (job == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.heartbeat(job.getId(), instanceId, now)) {
+            job.setHeartbeatAt(now);
+            return;
+        }
+        log.warn("가중치 재산정 작업 소유권 상실: job={} (다른 인스턴스가 가져감)", job.getId());
+        if (job.getStatus() == RescoreJob.Status.STAGING) {
+            cancelRequested = true;
+        }
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minusNanos(staleAfterMs * 1_000_000L);
+    }
+
+    private static boolean isStale(RescoreJob job, LocalDateTime staleBefore) {
+        return job.getHeartbeatAt() == null || job.getHeartbeatAt().isBefore(staleBefore);
+    }
+
+    private void finish(RescoreJob job, RescoreJob.Status status, String error) {
+        job.setStatus(status);
+        job.setLastError(error);
+        job.setCompletedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getCompletedAt());
+        jobRepository.save(job);
+    }
+
+    private static double[] normalize(double[] weights) {
+        double sum = 0.0;
+        for (double w : weights) {
+            sum += w;
+        }
+        if (sum <= 0.0) {
+            throw new IllegalArgumentException("가중치 합계가 0입니다");
+        }
+        double[] normalized = new double[weights.length];
+        for (int c = 0; c < weights.length; c++) {
+            normalized[c] = weights[c] / sum;
+        }
+        return normalized;
+    }
+
+    private int threads() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    private synchronized ExecutorService partitions() {
+        if (partitions == null) {
+            partitions = Executors.newFixedThreadPool(threads(), daemonThreads("rescore-"));
+        }
+        return partitions;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.valumetric.service;
+
+import com.valumetric.document.Employee;
+import com.valumetric.document.PeriodKey;
+import com.valumetric.dto.admin.RevenueTotalCheckResponse;
+import com.valumetric.migration.EmployeeDecimalMigration;
+import com.valumetric.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+/**
+ * 월 매출 합계 검증 서비스
+ * 
+ * <pre>
+ * 금액 필드가 Decimal128로 변환된 뒤에는 월 매출 합계를 서버 집계($sum)로 계산할 수 있습니다.
+ * 같은 기간의 Java BigDecimal 합산과 비교하여 정확히 일치하는지 확인합니다.
+ * 문자열 금액이 남아 있으면(마이그레이션 진행 중) 서버 합계에서 빠지므로 남은 사원 수를 함께 반환합니다.
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+public class RevenueCheckService {
+
+    private final MongoTemplate mongoTemplate;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeDecimalMigration employeeDecimalMigration;
+
+    @Value("${valumetric.dashboard.stream-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 아직 문자열 금액이 남은 사원 수
+     */
+    public long countPendingEmployees() {
+        return mongoTemplate.getCollection(employeeDecimalMigration.collectionName())
+                .countDocuments(employeeDecimalMigration.pendingFilter());
+    }
+
+    /**
+     * 월 매출 합계 검증 (서버 $sum vs Java BigDecimal 합산)
+     */
+    public RevenueTotalCheckResponse verifyMonthlyRevenue(String period) {
+        int periodKey = PeriodKey.parse(period);
+
+        BigDecimal javaTotal = BigDecimal.ZERO;
+        int employeeCount = 0;
+        try (Stream<Employee> employees = employeeRepository.streamEnabledForAnalytics(batchSize)) {
+            for (Employee emp : (Iterable<Employee>) employees::iterator) {
+                Employee.PerformanceLog perfLog = emp.findPerformanceLog(periodKey).orElse(null);
+                if (perfLog == null || perfLog.getAchievedSales() == null) {
+                    continue;
+                }
+                javaTotal = javaTotal.add(perfLog.getAchievedSales());
+                employeeCount++;
+            }
+        }
+
+        BigDecimal pipelineTotal = employeeRepository.sumAchievedSales(periodKey);
+
+        return RevenueTotalCheckResponse.builder()
+                .period(PeriodKey.format(periodKey))
+                .javaTotal(javaTotal)
+                .pipelineTotal(pipelineTotal)
+                .employeeCount(employeeCount)
+                .pendingEmployeeCount(countPendingEmployees())
+                .matches(javaTotal.compareTo(pipelineTotal) == 0)
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.valumetric.service;
+
+import com.valumetric.document.LedgerEvent;
+import com.valumetric.document.SystemConfig;
+import com.valumetric.document.SystemConfigRevision;
+import com.valumetric.event.SystemConfigActivatedEvent;
+import com.valumetric.event.SystemConfigChangedEvent;
+import com.valumetric.ledger.LedgerService;
+import com.valumetric.repository.SystemConfigRepository;
+import com.valumetric.repository.SystemConfigRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 시스템 설정 읽기 캐시 (Read-through) + 버전 이력
+ * 
+ * <pre>
+ * - 조회: 메모리의 불변 스냅샷 반환 (I/O 없음, 최초 1회만 로드)
+ * - 쓰기: AdminService 등은 update()로 수정 → 저장 직후 스냅샷 교체
+ *   1) DEFAULT 문서(현재 포인터)를 revision=N일 때만 N+1로 교체 (실패하면 다시 읽어 재시도)
+ *   2) 교체에 성공한 쪽만 N+1 스냅샷을 system_config_revisions에 기록
+ *      (이전 방식에서 선점만 하고 포인터를 바꾸지 못한 고아 N+1이 남아 있으면 덮어씀)
+ *   1)과 2) 사이에 중단되면 다음 수정이 현재 값을 N+1로 먼저 보존하므로 이력이 비지 않음
+ * - 외부 변경: 주기적으로 revision/updatedAt만 조회해서 다르면 재로딩
+ *             (Change Stream이 켜져 있으면 변경 이벤트로 즉시 확인)
+ * - 과거 버전: findVersion()으로 당시 설정 스냅샷 조회 (불변이므로 영구 캐시)
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SystemConfigCache {
+
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private final SystemConfigRepository configRepository;
+    private final SystemConfigRevisionRepository revisionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LedgerService ledgerService;
+
+    private volatile SystemConfigSnapshot snapshot;
+
+    private final Map<Long, SystemConfigSnapshot> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 설정 스냅샷
+     */
+    public SystemConfigSnapshot current() {
+        SystemConfigSnapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * 특정 버전의 설정 스냅샷 (과거 HCROI 재계산용)
+     */
+    public Optional<SystemConfigSnapshot> findVersion(long version) {
+        SystemConfigSnapshot current = current();
+        if (current.getVersion() == version) {
+            return Optional.of(current);
+        }
+
+        SystemConfigSnapshot cached = versions.get(version);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<SystemConfigSnapshot> loaded = revisionRepository
+                .findByConfigTypeAndVersion(SystemConfig.DEFAULT_TYPE, version)
+                .map(revision -> SystemConfigSnapshot.of(revision.toConfig()));
+        loaded.ifPresent(found -> versions.put(version, found));
+        return loaded;
+    }
+
+    /**
+     * 최근 설정 버전 이력 (최신순 20건)
+     */
+    public List<SystemConfigRevision> recentVersions() {
+        return revisionRepository.findTop20ByConfigTypeOrderByVersionDesc(SystemConfig.DEFAULT_TYPE);
+    }
+
+    /**
+     * 저장소에서 다시 읽어 스냅샷 교체
+     */
+    public SystemConfigSnapshot reload() {
+        return publish(SystemConfigSnapshot.of(configRepository.getDefaultConfig()));
+    }
+
+    /**
+     * 설정 수정 (새 버전 발급 + 낙관적 잠금 + 스냅샷 즉시 교체)
+     * 
+     * <pre>
+     * 충돌 시 최신 문서를 다시 읽어 mutator를 재적용하므로,
+     * mutator는 값을 덮어쓰는 형태(멱등)여야 합니다.
+     * </pre>
+     */
+    public SystemConfigSnapshot update(Consumer<SystemConfig> mutator) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            SystemConfig config = configRepository.getDefaultConfig();
+            Long expectedRevision = config.getRevision();
+            long previousVersion = expectedRevision != null ? expectedRevision : 0L;
+
+            // 이력이 없던 초기/구버전 문서는 현재 값을 이전 버전으로 먼저 보존
+            archiveIfAbsent(SystemConfigRevision.of(config, previousVersion));
+
+            mutator.accept(config);
+            config.setRevision(previousVersion + 1);
+            config.setUpdatedAt(LocalDateTime.now());
+
+            if (!configRepository.replaceIfRevision(config, expectedRevision)) {
+                log.debug("시스템 설정 동시 수정 충돌, 재시도: attempt={}", attempt);
+                continue;
+            }
+
+            recordRevision(SystemConfigRevision.of(config, config.getRevision()));
+            log.info("시스템 설정 변경: version={}", config.getRevision());
+            ledgerService.appendQuietly(List.of(LedgerEvent.configChanged(config.getRevision())));
+            SystemConfigSnapshot updated = SystemConfigSnapshot.of(config);
+            versions.put(updated.getVersion(), updated);
+            return publish(updated);
+        }
+        throw new IllegalStateException("시스템 설정 동시 수정 충돌이 반복되었습니다. 잠시 후 다시 시도하세요.");
+    }
+
+    /**
+     * 외부 변경 감지 (revision/updatedAt 스탬프만 조회)
+     */
+    @Scheduled(fixedDelayString = "${valumetric.config-cache.check-interval-ms:5000}")
+    public void checkVersion() {
+        SystemConfigSnapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        try {
+            Optional<SystemConfig> stamp = configRepository.findVersionStamp(SystemConfig.DEFAULT_TYPE);
+            if (stamp.isEmpty() || !current.hasSameStamp(stamp.get())) {
+                log.info("시스템 설정 외부 변경 감지 → 재로딩 (revision {} → {})", current.getRevision(),
+                        stamp.map(SystemConfig::getRevision).orElse(null));
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("시스템 설정 버전 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onSystemConfigChanged(SystemConfigChangedEvent event) {
+        checkVersion();
+    }
+
+    /**
+     * 포인터 교체에 성공한 버전의 스냅샷 기록
+     * 
+     * <pre>
+     * 같은 버전이 이미 있으면 포인터보다 앞서 선점만 된 고아이거나
+     * 다른 수정이 방금 포인터에서 보존한 같은 값이므로 이번 값으로 덮어씁니다.
+     * </pre>
+     */
+    private void recordRevision(SystemConfigRevision revision) {
+        try {
+            revisionRepository.insert(revision);
+        } catch (DuplicateKeyException e) {
+            revisionRepository.findByConfigTypeAndVersion(revision.getConfigType(), revision.getVersion())
+                    .ifPresent(existing -> revision.setId(existing.getId()));
+            revisionRepository.save(revision);
+            log.debug("설정 버전 이력 덮어씀: version={}", revision.getVersion());
+        }
+    }
+
+    private void archiveIfAbsent(SystemConfigRevision revision) {
+        try {
+            revisionRepository.insert(revision);
+        } catch (DuplicateKeyException e) {
+            // 이미 보존된 버전
+        }
+    }
+
+    /**
+     * 더 오래된 revision으로 되돌아가지 않도록 교체, 버전이 바뀌면 이벤트 발행
+     */
+    private SystemConfigSnapshot publish(SystemConfigSnapshot candidate) {
+        SystemConfigSnapshot previous;
+        synchronized (this) {
+            previous = snapshot;
+            if (previous != null && previous.getVersion() > candidate.getVersion()) {
+                return previous;
+            }
+            snapshot = candidate;
+        }
+        if (previous == null || previous.getVersion() != candidate.getVersion()) {
+            eventPublisher.publishEvent(new SystemConfigActivatedEvent(candidate.getVersion()));
+        }
+        return candidate;
+    }
+}
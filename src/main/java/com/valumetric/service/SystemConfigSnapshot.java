@@ -0,0 +1,159 @@
+package com.valumetric.service;
+
+import com.valumetric.document.SystemConfig;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 시스템 설정 불변 스냅샷
+ * 
+ * <pre>
+ * {@link SystemConfigCache}가 보관하며 여러 스레드가 잠금 없이 공유합니다.
+ * 원본 Document를 복사해서 만들기 때문에 이후 원본이 수정되어도 영향을 받지 않습니다.
+ * 
+ * getVersion()은 설정 버전 ID로, 계산 결과와 캐시 키에 함께 실어 보냅니다.
+ * </pre>
+ */
+@Getter
+public final class SystemConfigSnapshot {
+
+    private final String id;
+    private final Long revision;
+    private final LocalDateTime updatedAt;
+
+    private final BigDecimal fixedCostPerPerson;
+    private final BigDecimal insuranceRate;
+    private final BigDecimal targetProfitRate;
+
+    private final List<Criteria> evaluationCriteria;
+    private final List<Double> ahpMatrixValues;
+    private final List<Double> ahpWeights;
+    private final Double consistencyRatio;
+    private final Boolean isConsistent;
+    private final HierarchyNode ahpHierarchy;
+
+    /**
+     * 평가 기준 (불변)
+     */
+    public record Criteria(String name, String description, Double weight, Boolean isActive,
+            Integer displayOrder) {
+    }
+
+    /**
+     * AHP 계층 노드 (불변)
+     */
+    public record HierarchyNode(String name, String description, List<Double> matrixValues,
+            List<HierarchyNode> children, Double localWeight, Double globalWeight,
+            Double consistencyRatio, Boolean isConsistent) {
+
+        static HierarchyNode of(SystemConfig.AhpNode node) {
+            if (node == null) {
+                return null;
+            }
+            List<HierarchyNode> children = node.getChildren() == null ? List.of()
+                    : node.getChildren().stream().map(HierarchyNode::of).toList();
+            return new HierarchyNode(node.getName(), node.getDescription(), copyOf(node.getMatrixValues()),
+                    children, node.getLocalWeight(), node.getGlobalWeight(), node.getConsistencyRatio(),
+                    node.getIsConsistent());
+        }
+
+        public SystemConfig.AhpNode toDocument() {
+            List<SystemConfig.AhpNode> childDocuments = new ArrayList<>();
+            for (HierarchyNode child : children) {
+                childDocuments.add(child.toDocument());
+            }
+            return SystemConfig.AhpNode.builder()
+                    .name(name)
+                    .description(description)
+                    .matrixValues(new ArrayList<>(matrixValues))
+                    .children(childDocuments)
+                    .localWeight(localWeight)
+                    .globalWeight(globalWeight)
+                    .consistencyRatio(consistencyRatio)
+                    .isConsistent(isConsistent)
+                    .build();
+        }
+    }
+
+    private SystemConfigSnapshot(SystemConfig config) {
+        this.id = config.getId();
+        this.revision = config.getRevision();
+        this.updatedAt = config.getUpdatedAt();
+        this.fixedCostPerPerson = config.getFixedCostPerPerson();
+        this.insuranceRate = config.getInsuranceRate();
+        this.targetProfitRate = config.getTargetProfitRate();
+        this.evaluationCriteria = config.getEvaluationCriteria() == null ? List.of()
+                : config.getEvaluationCriteria().stream()
+                        .map(c -> new Criteria(c.getName(), c.getDescription(), c.getWeight(),
+                                c.getIsActive(), c.getDisplayOrder()))
+                        .toList();
+        // 빈 비교(null)는 위치가 의미 있으므로 걸러내지 않음
+        this.ahpMatrixValues = config.getAhpMatrixValues() == null ? List.of()
+                : Collections.unmodifiableList(new ArrayList<>(config.getAhpMatrixValues()));
+        this.ahpWeights = copyOf(config.getAhpWeights());
+        this.consistencyRatio = config.getConsistencyRatio();
+        this.isConsistent = config.getIsConsistent();
+        this.ahpHierarchy = HierarchyNode.of(config.getAhpHierarchy());
+    }
+
+    public static SystemConfigSnapshot of(SystemConfig config) {
+        return new SystemConfigSnapshot(config);
+    }
+
+    /**
+     * 설정 버전 ID (revision이 없던 구버전 문서는 0)
+     */
+    public long getVersion() {
+        return revision != null ? revision : 0L;
+    }
+
+    /**
+     * 스탬프(revision, updatedAt)가 같은지 비교
+     */
+    public boolean hasSameStamp(SystemConfig stamp) {
+        return Objects.equals(revision, stamp.getRevision())
+                && Objects.equals(updatedAt, stamp.getUpdatedAt());
+    }
+
+    /**
+     * 수정 가능한 Document 사본 생성 (API 응답/저장용)
+     */
+    public SystemConfig toDocument() {
+        List<SystemConfig.EvaluationCriteria> criteria = new ArrayList<>();
+        for (Criteria c : evaluationCriteria) {
+            criteria.add(SystemConfig.EvaluationCriteria.builder()
+                    .name(c.name())
+                    .description(c.description())
+                    .weight(c.weight())
+                    .isActive(c.isActive())
+                    .displayOrder(c.displayOrder())
+                    .build());
+        }
+
+        return SystemConfig.builder()
+                .id(id)
+                .revision(revision)
+                .fixedCostPerPerson(fixedCostPerPerson)
+                .insuranceRate(insuranceRate)
+                .targetProfitRate(targetProfitRate)
+                .evaluationCriteria(criteria)
+                .ahpMatrixValues(new ArrayList<>(ahpMatrixValues))
+                .ahpWeights(new ArrayList<>(ahpWeights))
+                .consistencyRatio(consistencyRatio)
+                .isConsistent(isConsistent)
+                .ahpHierarchy(ahpHierarchy != null ? ahpHierarchy.toDocument() : null)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private static List<Double> copyOf(List<Double> values) {
+        // List.copyOf는 null 원소를 허용하지 않으므로 명시적으로 걸러냄
+        return values == null ? List.of() : values.stream().filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,183 @@
+package com.valumetric.service;
+
+import com.valumetric.calculator.WeightPreviewCalculator;
+import com.valumetric.dto.admin.AhpWeightResponse;
+import com.valumetric.dto.admin.WeightPreviewRequest;
+import com.valumetric.dto.admin.WeightPreviewResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AHP 가중치 적용 미리보기 서비스 (저장하지 않음)
+ *
+ * <pre>
+ * 기준별 점수는 CriteriaScoreService 스냅샷(캐시)을 그대로 쓰므로
+ * 슬라이더를 움직일 때마다 DB를 읽지 않고 가중합/정렬만 다시 계산합니다.
+ * 현재 점수(대시보드 값)와 후보 가중치 점수(저장 후 재산정 작업이 만들 값)의
+ * 순위, 상위 K명, 위험군 구성을 비교합니다.
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WeightPreviewService {
+
+    public static final int DEFAULT_TOP_K = 10;
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 1000;
+
+    private final CriteriaScoreService criteriaScoreService;
+    private final AdminService adminService;
+    private final WeightPreviewCalculator calculator;
+
+    public WeightPreviewResponse preview(WeightPreviewRequest request) {
+        if ((request.getWeights() == null) == (request.getMatrix() == null)) {
+            throw new IllegalArgumentException("가중치(weights)와 쌍대비교 행렬(matrix) 중 하나만 입력해야 합니다");
+        }
+        int topK = request.getTopK() != null ? request.getTopK() : DEFAULT_TOP_K;
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+        if (limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(String.format("목록 크기는 %d 이하여야 합니다: %d", MAX_LIMIT, limit));
+        }
+        double threshold = request.getRedZoneThreshold() != null ? request.getRedZoneThreshold()
+                : DashboardService.SCORE_THRESHOLD.doubleValue();
+
+        // 후보 가중치 (행렬이면 미리보기 계산만 수행)
+        double[] weights = request.getWeights();
+        String[] names = request.getCriteriaNames();
+        AhpWeightResponse ahp = null;
+        if (request.getMatrix() != null) {
+            ahp = adminService.previewAhpWeights(request.getMatrix());
+            weights = ahp.getWeights();
+            if (request.getMatrix().getCriteriaNames() != null) {
+                names = request.getMatrix().getCriteriaNames();
+            }
+        }
+
+        CriteriaScoreService.CriteriaScores snapshot = criteriaScoreService.snapshot();
+        if (names == null) {
+            if (weights.length != snapshot.criteriaCount()) {
+                throw new IllegalArgumentException(String.format(
+                        "기준 이름이 없으면 가중치 수(%d)가 현재 활성 기준 수(%d)와 같아야 합니다",
+                        weights.length, snapshot.criteriaCount()));
+            }
+            names = snapshot.criteriaNames();
+        } else if (names.length != weights.length) {
+            throw new IllegalArgumentException("기준 이름과 가중치 개수가 일치하지 않습니다");
+        }
+
+        int[] columns = columnsOf(names, snapshot);
+        double[] currentWeights = new double[names.length];
+        for (int j = 0; j < names.length; j++) {
+            currentWeights[j] = columns[j] >= 0 ? snapshot.weights()[columns[j]] : 0.0;
+        }
+
+        long started = System.nanoTime();
+        WeightPreviewCalculator.Preview preview = calculator.preview(weights, scoresFor(columns, snapshot),
+                snapshot.currentScores(), topK, threshold, limit);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("가중치 미리보기: employees={}, criteria={}, rankChanged={}, elapsed={}ms",
+                preview.employees(), names.length, preview.rankChangedCount(), elapsedMillis);
+
+        return WeightPreviewResponse.builder()
+                .criteriaNames(names)
+                .currentWeights(currentWeights)
+                .candidateWeights(preview.weights())
+                .consistencyRatio(ahp != null ? ahp.getConsistencyRatio() : null)
+                .isConsistent(ahp != null ? ahp.isConsistent() : null)
+                .configVersion(snapshot.configVersion())
+                .snapshotLoadedAt(snapshot.loadedAt())
+                .employeeCount(preview.employees())
+                .topK(topK)
+                .redZoneThreshold(threshold)
+                .rankChangedCount(preview.rankChangedCount())
+                .meanAbsoluteRankShift(preview.meanAbsoluteShift())
+                .rankCorrelation(preview.rankCorrelation())
+                .topPerformers(toResponse(preview.top(), snapshot))
+                .topZone(toResponse(preview.topZone(), snapshot))
+                .redZone(toResponse(preview.redZone(), snapshot))
+                .largestRankShifts(toResponse(preview.largestShifts(), snapshot))
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 후보 기준별 스냅샷 열 (스냅샷에 없는 기준은 -1 → 기본 점수)
+     */
+    private static int[] columnsOf(String[] names, CriteriaScoreService.CriteriaScores snapshot) {
+        Map<String, Integer> indexByName = new HashMap<>();
+        for (int c = 0; c < snapshot.criteriaCount(); c++) {
+            indexByName.putIfAbsent(snapshot.criteriaNames()[c], c);
+        }
+        Set<String> seen = new HashSet<>();
+        int[] columns = new int[names.length];
+        for (int j = 0; j < names.length; j++) {
+            if (names[j] == null || !seen.add(names[j])) {
+                throw new IllegalArgumentException("기준 이름이 비어 있거나 중복됩니다: " + names[j]);
+            }
+            columns[j] = indexByName.getOrDefault(names[j], -1);
+        }
+        return columns;
+    }
+
+    /**
+     * 후보 기준 순서의 점수 행렬 (현재 활성 기준과 같으면 스냅샷 배열 그대로)
+     */
+    private static double[] scoresFor(int[] columns, CriteriaScoreService.CriteriaScores snapshot) {
+        int n = snapshot.criteriaCount();
+        boolean identity = columns.length == n;
+        for (int j = 0; identity && j < n; j++) {
+            identity = columns[j] == j;
+        }
+        if (identity) {
+            return snapshot.scores();
+        }
+
+        int m = snapshot.employeeCount();
+        int width = columns.length;
+        double[] scores = new double[m * width];
+        for (int e = 0; e < m; e++) {
+            for (int j = 0; j < width; j++) {
+                scores[e * width + j] = columns[j] >= 0 ? snapshot.scores()[e * n + columns[j]]
+                        : snapshot.baseScores()[e];
+            }
+        }
+        return scores;
+    }
+
+    private static WeightPreviewResponse.ZoneChange toResponse(WeightPreviewCalculator.ZoneDiff zone,
+            CriteriaScoreService.CriteriaScores snapshot) {
+        if (zone == null) {
+            return null;
+        }
+        return WeightPreviewResponse.ZoneChange.builder()
+                .countBefore(zone.before())
+                .countAfter(zone.after())
+                .enteringCount(zone.enteredCount())
+                .leavingCount(zone.leftCount())
+                .entering(toResponse(zone.entered(), snapshot))
+                .leaving(toResponse(zone.left(), snapshot))
+                .build();
+    }
+
+    private static List<WeightPreviewResponse.EmployeeRankChange> toResponse(
+            List<WeightPreviewCalculator.RankChange> changes, CriteriaScoreService.CriteriaScores snapshot) {
+        return changes.stream()
+                .map(change -> WeightPreviewResponse.EmployeeRankChange.builder()
+                        .employeeId(snapshot.employeeIds().get(change.employee()))
+                        .employeeName(snapshot.employeeNames().get(change.employee()))
+                        .rankBefore(change.rankBefore())
+                        .rankAfter(change.rankAfter())
+                        .scoreBefore(change.scoreBefore())
+                        .scoreAfter(change.scoreAfter())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,102 @@
+package com.valumetric.service;
+
+import com.valumetric.calculator.WeightSensitivityAnalyzer;
+import com.valumetric.dto.admin.WeightSensitivityResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * AHP 가중치 민감도 / 순위 역전 분석 서비스
+ *
+ * <pre>
+ * 기준별 점수는 CriteriaScoreService 스냅샷(캐시)을 사용합니다.
+ * 활성 평가 기준의 현재 가중치로 종합 점수 Σ w_c · s_c를 만들고,
+ * 기준마다 그 가중치만 0~1로 움직일 때(나머지는 비율 유지) 전체 순위/상위 K명/위험군 구성이
+ * 유지되는 구간과 가까운 역전 지점을 WeightSensitivityAnalyzer로 계산합니다.
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WeightSensitivityService {
+
+    public static final int DEFAULT_TOP_K = 10;
+    public static final int DEFAULT_EVENT_LIMIT = 20;
+    public static final int MAX_EVENT_LIMIT = 1000;
+
+    private final CriteriaScoreService criteriaScoreService;
+    private final WeightSensitivityAnalyzer analyzer;
+
+    /**
+     * @param topK             상위 구간 크기 (null이면 DEFAULT_TOP_K)
+     * @param eventLimit       방향별로 나열할 역전/교차 수 (null이면 DEFAULT_EVENT_LIMIT)
+     * @param redZoneThreshold 위험군 기준 점수 (null이면 대시보드 기준 SCORE_THRESHOLD)
+     */
+    public WeightSensitivityResponse analyze(Integer topK, Integer eventLimit, Double redZoneThreshold) {
+        int k = topK != null ? topK : DEFAULT_TOP_K;
+        int limit = eventLimit != null ? eventLimit : DEFAULT_EVENT_LIMIT;
+        if (limit > MAX_EVENT_LIMIT) {
+            throw new IllegalArgumentException(String.format("이벤트 수는 %d 이하여야 합니다: %d",
+                    MAX_EVENT_LIMIT, limit));
+        }
+        double threshold = redZoneThreshold != null ? redZoneThreshold
+                : DashboardService.SCORE_THRESHOLD.doubleValue();
+
+        CriteriaScoreService.CriteriaScores matrix = criteriaScoreService.snapshot();
+        if (matrix.criteriaNames().length == 0) {
+            throw new IllegalArgumentException("활성 평가 기준이 없습니다");
+        }
+
+        long started = System.nanoTime();
+        WeightSensitivityAnalyzer.Analysis analysis = analyzer.analyze(matrix.weights(), matrix.scores(), k,
+                threshold, limit);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("가중치 민감도 분석: employees={}, criteria={}, topK={}, elapsed={}ms",
+                matrix.employeeCount(), matrix.criteriaNames().length, k, elapsedMillis);
+
+        return WeightSensitivityResponse.builder()
+                .criteriaNames(matrix.criteriaNames())
+                .weights(analysis.criteria().stream()
+                        .mapToDouble(WeightSensitivityAnalyzer.CriterionSensitivity::weight)
+                        .toArray())
+                .employeeCount(analysis.employees())
+                .topK(k)
+                .redZoneThreshold(threshold)
+                .criteria(analysis.criteria().stream().map(c -> toResponse(c, matrix)).toList())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private WeightSensitivityResponse.CriterionSensitivity toResponse(
+            WeightSensitivityAnalyzer.CriterionSensitivity sensitivity, CriteriaScoreService.CriteriaScores matrix) {
+        return WeightSensitivityResponse.CriterionSensitivity.builder()
+                .criteriaName(matrix.criteriaNames()[sensitivity.criterion()])
+                .currentWeight(sensitivity.weight())
+                .orderStableFrom(sensitivity.orderStable().lower())
+                .orderStableTo(sensitivity.orderStable().upper())
+                .topKStableFrom(sensitivity.topStable().lower())
+                .topKStableTo(sensitivity.topStable().upper())
+                .redZoneStableFrom(sensitivity.thresholdStable().lower())
+                .redZoneStableTo(sensitivity.thresholdStable().upper())
+                .rankReversals(sensitivity.reversals().stream()
+                        .map(r -> WeightSensitivityResponse.RankReversal.builder()
+                                .weight(r.weight())
+                                .rank(r.rank())
+                                .overtakingEmployeeId(matrix.employeeIds().get(r.overtaking()))
+                                .overtakingEmployeeName(matrix.employeeNames().get(r.overtaking()))
+                                .overtakenEmployeeId(matrix.employeeIds().get(r.overtaken()))
+                                .overtakenEmployeeName(matrix.employeeNames().get(r.overtaken()))
+                                .build())
+                        .toList())
+                .redZoneCrossings(sensitivity.thresholdCrossings().stream()
+                        .map(x -> WeightSensitivityResponse.RedZoneCrossing.builder()
+                                .weight(x.weight())
+                                .employeeId(matrix.employeeIds().get(x.employee()))
+                                .employeeName(matrix.employeeNames().get(x.employee()))
+                                .entering(x.entersBelow())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.valumetric.storage;
+
+import com.valumetric.document.AhpSubmission;
+import com.valumetric.repository.AhpSubmissionRepository;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 내장 저장소 기반 {@link AhpSubmissionRepository}
+ */
+public class EmbeddedAhpSubmissionRepository extends EmbeddedRepository<AhpSubmission>
+        implements AhpSubmissionRepository {
+
+    public EmbeddedAhpSubmissionRepository(EmbeddedDocumentStore<AhpSubmission> store) {
+        super(store);
+    }
+
+    @Override
+    protected String idOf(AhpSubmission entity) {
+        return entity.getEvaluatorId();
+    }
+
+    @Override
+    public Optional<AhpSubmission> findTopByOrderByUpdatedAtDesc() {
+        List<AhpSubmission> submissions = findWhere(submission -> true,
+                Sort.by(Sort.Direction.DESC, "updatedAt"));
+        return submissions.stream().findFirst();
+    }
+}
@@ -0,0 +1,91 @@
+package com.valumetric.storage;
+
+import com.valumetric.document.Alert;
+import com.valumetric.repository.AlertRepository;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 내장 저장소 기반 {@link AlertRepository}
+ *
+ * <pre>
+ * 해결된 경고 자동 삭제(TTL 인덱스)는 지원하지 않습니다.
+ * </pre>
+ */
+public class EmbeddedAlertRepository extends EmbeddedRepository<Alert> implements AlertRepository {
+
+    public EmbeddedAlertRepository(EmbeddedDocumentStore<Alert> store) {
+        super(store);
+    }
+
+    @Override
+    protected String idOf(Alert entity) {
+        return entity.getId();
+    }
+
+    @Override
+    public long countByIsResolvedFalse() {
+        return countWhere(this::isUnresolved);
+    }
+
+    @Override
+    public long countByEmployeeIdAndIsResolvedFalse(String employeeId) {
+        return countWhere(alert -> isUnresolved(alert) && Objects.equals(alert.getEmployeeId(), employeeId));
+    }
+
+    @Override
+    public List<Alert> findByEmployeeIdAndIsResolvedFalseOrderByCreatedAtDesc(String employeeId) {
+        return findWhere(alert -> isUnresolved(alert) && Objects.equals(alert.getEmployeeId(), employeeId),
+                Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @Override
+    public List<Alert> findByIsResolvedFalseAndAlertTypeIn(Collection<Alert.AlertType> alertTypes) {
+        return findWhere(alert -> isUnresolved(alert) && alertTypes.contains(alert.getAlertType()));
+    }
+
+    @Override
+    public Map<String, Long> resolveAll(Collection<String> alertIds, String employeeId, Alert.AlertType alertType) {
+        synchronized (store) {
+            List<Alert> resolved = store.stream()
+                    .filter(matching(alertIds, employeeId, alertType))
+                    .filter(alert -> alert.getEmployeeId() != null)
+                    .toList();
+            LocalDateTime now = LocalDateTime.now();
+            resolved.forEach(alert -> {
+                alert.setIsResolved(true);
+                alert.setResolvedAt(now);
+            });
+            store.saveAll(resolved);
+            return resolved.stream()
+                    .collect(Collectors.groupingBy(Alert::getEmployeeId, LinkedHashMap::new, Collectors.counting()));
+        }
+    }
+
+    @Override
+    public Map<String, Long> countUnresolvedByEmployee() {
+        return store.stream()
+                .filter(this::isUnresolved)
+                .filter(alert -> alert.getEmployeeId() != null)
+                .collect(Collectors.groupingBy(Alert::getEmployeeId, Collectors.counting()));
+    }
+
+    private Predicate<Alert> matching(Collection<String> alertIds, String employeeId, Alert.AlertType alertType) {
+        return alert -> isUnresolved(alert)
+                && (alertIds == null || alertIds.isEmpty() || alertIds.contains(alert.getId()))
+                && (employeeId == null || employeeId.equals(alert.getEmployeeId()))
+                && (alertType == null || alertType == alert.getAlertType());
+    }
+
+    private boolean isUnresolved(Alert alert) {
+        return !Boolean.TRUE.equals(alert.getIsResolved());
+    }
+}
@@ -0,0 +1,415 @@
+package com.valumetric.storage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * 단일 노드 내장 문서 저장소 (컬렉션 1개)
+ *
+ * <pre>
+ * 파일 구성 ({dataDir}/{name}.*):
+ * - {name}.log      : 추가 전용 로그, 한 줄에 JSON 레코드 1개
+ *                     {"op":"PUT","id":..,"doc":{..}} / {"op":"DEL","id":..} / {"op":"CLEAR"}
+ * - {name}.snapshot : 전체 문서 스냅샷 (PUT 레코드만), 임시 파일에 쓴 뒤 원자적 이동
+ *
+ * 시작 시 스냅샷 → 로그 순으로 재생하여 메모리 인덱스(_id 정렬)를 복원합니다.
+ * 쓰기 snapshot-every건마다 스냅샷을 새로 쓰고 로그를 비웁니다.
+ * 스냅샷 이동 후 로그 비우기 전에 중단되어도 로그 재생은 멱등이므로 결과가 같습니다.
+ * 마지막 줄이 잘린 경우(쓰기 도중 중단)는 해당 줄만 버리고 로그를 그 위치로 자릅니다.
+ *
+ * 문서는 JSON 바이트로 보관하고 조회마다 새 객체로 역직렬화하므로,
+ * 호출자가 반환 객체를 수정해도 저장된 값은 바뀌지 않습니다. (MongoDB와 같은 의미)
+ * 쓰기는 저장소 단위로 직렬화되며, {@link #compute}는 읽기-수정-쓰기를 원자적으로 수행합니다.
+ * </pre>
+ */
+@Slf4j
+public class EmbeddedDocumentStore<T> implements Closeable {
+
+    private static final byte NEWLINE = '\n';
+
+    private final String name;
+    private final Class<T> type;
+    private final ObjectMapper mapper;
+    private final Function<T, String> idGetter;
+    private final BiConsumer<T, String> idSetter;
+    private final Map<String, Function<T, Object>> uniqueKeys;
+    private final int snapshotEvery;
+    private final boolean fsync;
+
+    private final Path logPath;
+    private final Path snapshotPath;
+
+    private final ConcurrentSkipListMap<String, byte[]> index = new ConcurrentSkipListMap<>();
+    private final Map<String, Map<Object, String>> uniqueIndexes = new ConcurrentHashMap<>();
+
+    private FileChannel logChannel;
+    private int writesSinceSnapshot = 0;
+
+    public EmbeddedDocumentStore(String name, Class<T> type, ObjectMapper mapper, Path dataDir,
+            Function<T, String> idGetter, BiConsumer<T, String> idSetter,
+            Map<String, Function<T, Object>> uniqueKeys, int snapshotEvery, boolean fsync) {
+        this.name = name;
+        this.type = type;
+        this.mapper = mapper;
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+        this.uniqueKeys = uniqueKeys;
+        this.snapshotEvery = snapshotEvery;
+        this.fsync = fsync;
+        this.logPath = dataDir.resolve(name + ".log");
+        this.snapshotPath = dataDir.resolve(name + ".snapshot");
+        uniqueKeys.keySet().forEach(key -> uniqueIndexes.put(key, new ConcurrentHashMap<>()));
+        open(dataDir);
+    }
+
+    // ==================== 조회 ====================
+
+    public Optional<T> findById(String id) {
+        byte[] bytes = id == null ? null : index.get(id);
+        return bytes == null ? Optional.empty() : Optional.of(decode(bytes));
+    }
+
+    public boolean existsById(String id) {
+        return id != null && index.containsKey(id);
+    }
+
+    /**
+     * 고유 키 값으로 조회 (고유 키 인덱스 사용)
+     */
+    public Optional<T> findByUniqueKey(String key, Object value) {
+        String id = value == null ? null : uniqueIndexes.get(key).get(value);
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    /**
+     * 전체 문서를 _id 순으로 조회 (조회 시점 이후 쓰기는 반영될 수도, 안 될 수도 있음)
+     */
+    public Stream<T> stream() {
+        return index.values().stream().map(this::decode);
+    }
+
+    public long count() {
+        return index.size();
+    }
+
+    // ==================== 쓰기 ====================
+
+    public synchronized T save(T document) {
+        saveAll(List.of(document));
+        return document;
+    }
+
+    /**
+     * 여러 문서를 로그 쓰기 1회로 저장
+     */
+    public synchronized List<T> saveAll(Collection<T> documents) {
+        List<Map.Entry<String, byte[]>> entries = new ArrayList<>(documents.size());
+        Map<String, Map<Object, String>> pendingKeys = new HashMap<>();
+        for (T document : documents) {
+            if (idGetter.apply(document) == null) {
+                idSetter.accept(document, new ObjectId().toHexString());
+            }
+            String id = idGetter.apply(document);
+            checkUnique(id, document, pendingKeys);
+            entries.add(Map.entry(id, encode(document)));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Map.Entry<String, byte[]> entry : entries) {
+            writeRecord(out, "PUT", entry.getKey(), entry.getValue());
+        }
+        append(out.toByteArray());
+
+        for (Map.Entry<String, byte[]> entry : entries) {
+            apply(entry.getKey(), entry.getValue());
+        }
+        afterWrite(entries.size());
+        return new ArrayList<>(documents);
+    }
+
+    /**
+     * 새 문서 삽입 (같은 _id가 있으면 DuplicateKeyException)
+     */
+    public synchronized T insert(T document) {
+        String id = idGetter.apply(document);
+        if (id != null && index.containsKey(id)) {
+            throw new DuplicateKeyException(name + " 중복 _id: " + id);
+        }
+        return save(document);
+    }
+
+    /**
+     * 읽기-수정-쓰기를 원자적으로 수행
+     *
+     * @param updater 현재 문서(없으면 null)를 받아 저장할 문서를 반환 (null이면 변경 없음)
+     * @return 저장된 문서 (변경이 없으면 empty)
+     */
+    public synchronized Optional<T> compute(String id, UnaryOperator<T> updater) {
+        T current = findById(id).orElse(null);
+        T updated = updater.apply(current);
+        if (updated == null) {
+            return Optional.empty();
+        }
+        return Optional.of(save(updated));
+    }
+
+    public synchronized boolean deleteById(String id) {
+        if (id == null || !index.containsKey(id)) {
+            return false;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeRecord(out, "DEL", id, null);
+        append(out.toByteArray());
+        apply(id, null);
+        afterWrite(1);
+        return true;
+    }
+
+    public synchronized void deleteAll() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeRecord(out, "CLEAR", null, null);
+        append(out.toByteArray());
+        index.clear();
+        uniqueIndexes.values().forEach(Map::clear);
+        afterWrite(1);
+    }
+
+    /**
+     * 현재 인덱스 전체를 스냅샷으로 쓰고 로그 비우기
+     */
+    public synchronized void snapshot() {
+        Path tmp = snapshotPath.resolveSibling(name + ".snapshot.tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (Map.Entry<String, byte[]> entry : index.entrySet()) {
+                writeRecord(out, "PUT", entry.getKey(), entry.getValue());
+            }
+            writeFully(channel, out.toByteArray());
+            channel.force(true);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(name + " 스냅샷 쓰기 실패", e);
+        }
+        try {
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logChannel.truncate(0);
+            logChannel.force(true);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(name + " 스냅샷 교체 실패", e);
+        }
+        writesSinceSnapshot = 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (logChannel == null || !logChannel.isOpen()) {
+            return;
+        }
+        try {
+            snapshot();
+            logChannel.close();
+        } catch (IOException e) {
+            log.warn("내장 저장소 종료 실패: {} - {}", name, e.getMessage());
+        }
+    }
+
+    // ==================== 내부 처리 ====================
+
+    private void open(Path dataDir) {
+        try {
+            Files.createDirectories(dataDir);
+            int snapshotRecords = Files.exists(snapshotPath) ? replay(snapshotPath, false) : 0;
+            logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            int logRecords = replay(logPath, true);
+            logChannel.position(logChannel.size());
+            writesSinceSnapshot = logRecords;
+            log.info("내장 저장소 로드: {} (문서 {}건, 스냅샷 {}건 + 로그 {}건)", name, index.size(),
+                    snapshotRecords, logRecords);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(name + " 내장 저장소 열기 실패: " + dataDir, e);
+        }
+    }
+
+    /**
+     * 파일의 레코드를 순서대로 적용
+     *
+     * @param truncateTornTail 마지막 줄이 손상된 경우 파일을 마지막 정상 줄까지 자를지 여부
+     * @return 적용한 레코드 수
+     */
+    private int replay(Path path, boolean truncateTornTail) throws IOException {
+        byte[] content = Files.readAllBytes(path);
+        int records = 0;
+        int lineStart = 0;
+        while (lineStart < content.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < content.length && content[lineEnd] != NEWLINE) {
+                lineEnd++;
+            }
+            boolean lastLine = lineEnd >= content.length - 1;
+            try {
+                if (lineEnd == content.length) {
+                    throw new IOException("줄바꿈 없는 마지막 레코드");
+                }
+                applyRecord(mapper.readTree(content, lineStart, lineEnd - lineStart));
+                records++;
+            } catch (IOException | RuntimeException e) {
+                if (!lastLine) {
+                    throw new IllegalStateException(path + " 손상된 레코드 (offset " + lineStart + ")", e);
+                }
+                log.warn("내장 저장소 로그 마지막 레코드 손상 - 버림: {} (offset {})", path, lineStart);
+                if (truncateTornTail) {
+                    logChannel.truncate(lineStart);
+                }
+                break;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return records;
+    }
+
+    private void applyRecord(JsonNode record) throws IOException {
+        String op = record.path("op").asText();
+        switch (op) {
+            case "PUT" -> apply(record.get("id").asText(), mapper.writeValueAsBytes(record.get("doc")));
+            case "DEL" -> apply(record.get("id").asText(), null);
+            case "CLEAR" -> {
+                index.clear();
+                uniqueIndexes.values().forEach(Map::clear);
+            }
+            default -> throw new IOException("알 수 없는 레코드: " + op);
+        }
+    }
+
+    /**
+     * 메모리 인덱스 갱신 (bytes가 null이면 삭제)
+     */
+    private void apply(String id, byte[] bytes) {
+        byte[] previous = bytes == null ? index.remove(id) : index.put(id, bytes);
+        if (uniqueKeys.isEmpty()) {
+            return;
+        }
+        if (previous != null) {
+            T old = decode(previous);
+            uniqueKeys.forEach((key, extractor) -> {
+                Object value = extractor.apply(old);
+                if (value != null) {
+                    uniqueIndexes.get(key).remove(value, id);
+                }
+            });
+        }
+        if (bytes != null) {
+            T current = decode(bytes);
+            uniqueKeys.forEach((key, extractor) -> {
+                Object value = extractor.apply(current);
+                if (value != null) {
+                    uniqueIndexes.get(key).put(value, id);
+                }
+            });
+        }
+    }
+
+    /**
+     * 고유 키 검사 (null 값은 검사하지 않음 - sparse)
+     */
+    private void checkUnique(String id, T document, Map<String, Map<Object, String>> pendingKeys) {
+        uniqueKeys.forEach((key, extractor) -> {
+            Object value = extractor.apply(document);
+            if (value == null) {
+                return;
+            }
+            String owner = pendingKeys.computeIfAbsent(key, k -> new HashMap<>()).putIfAbsent(value, id);
+            if (owner == null) {
+                owner = uniqueIndexes.get(key).get(value);
+            }
+            if (owner != null && !owner.equals(id)) {
+                throw new DuplicateKeyException(name + " 고유 키 중복: " + key + "=" + value);
+            }
+        });
+    }
+
+    private void afterWrite(int count) {
+        writesSinceSnapshot += count;
+        if (snapshotEvery > 0 && writesSinceSnapshot >= snapshotEvery) {
+            snapshot();
+        }
+    }
+
+    private void append(byte[] bytes) {
+        try {
+            writeFully(logChannel, bytes);
+            if (fsync) {
+                logChannel.force(false);
+            }
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(name + " 로그 쓰기 실패", e);
+        }
+    }
+
+    /**
+     * 레코드 한 줄 쓰기 (문서는 이미 직렬화된 바이트를 그대로 사용)
+     */
+    private void writeRecord(ByteArrayOutputStream out, String op, String id, byte[] doc) {
+        try {
+            out.write(("{\"op\":\"" + op + "\"").getBytes(StandardCharsets.UTF_8));
+            if (id != null) {
+                out.write(",\"id\":".getBytes(StandardCharsets.UTF_8));
+                out.write(mapper.writeValueAsBytes(id));
+            }
+            if (doc != null) {
+                out.write(",\"doc\":".getBytes(StandardCharsets.UTF_8));
+                out.write(doc);
+            }
+            out.write('}');
+            out.write(NEWLINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private byte[] encode(T document) {
+        try {
+            return mapper.writeValueAsBytes(document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private T decode(byte[] bytes) {
+        try {
+            return mapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
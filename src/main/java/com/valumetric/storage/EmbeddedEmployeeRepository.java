@@ -0,0 +1,353 @@
+package com.valumetric.storage;
+
+import com.valumetric.document.Employee;
+import com.valumetric.repository.EmployeeProfileUpdate;
+import com.valumetric.repository.EmployeeRepository;
+import com.valumetric.repository.EmployeeWriteBatch;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 내장 저장소 기반 {@link EmployeeRepository}
+ *
+ * <pre>
+ * 실적/점수 이력 추가는 저장소 compute(읽기-수정-쓰기 원자적)로 처리하여
+ * MongoDB 파이프라인 업데이트와 같은 결과(동일 기간 교체 + 최신 기간일 때만 요약 갱신)를 냅니다.
+ * 분석용 조회는 MongoDB 투영과 같이 제외 필드를 비운 문서를 돌려줍니다.
+ * </pre>
+ */
+public class EmbeddedEmployeeRepository extends EmbeddedRepository<Employee> implements EmployeeRepository {
+
+    public static final String EMAIL_KEY = "email";
+
+    public EmbeddedEmployeeRepository(EmbeddedDocumentStore<Employee> store) {
+        super(store);
+    }
+
+    @Override
+    protected String idOf(Employee entity) {
+        return entity.getId();
+    }
+
+    // ==================== 조회 메서드 ====================
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        return store.findByUniqueKey(EMAIL_KEY, email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    @Override
+    public List<Employee> findByIsEnabledTrue() {
+        return findWhere(this::isEnabled);
+    }
+
+    @Override
+    public List<Employee> findByIsEnabledTrue(Sort sort) {
+        return findWhere(this::isEnabled, sort);
+    }
+
+    @Override
+    public List<Employee> findByRole(Employee.Role role) {
+        return findWhere(emp -> emp.getRole() == role);
+    }
+
+    @Override
+    public List<Employee> findByIsEnabledTrueAndUnresolvedAlertCountGreaterThan(int count, Sort sort) {
+        return findWhere(emp -> isEnabled(emp)
+                && emp.getUnresolvedAlertCount() != null && emp.getUnresolvedAlertCount() > count, sort);
+    }
+
+    @Override
+    public List<Employee> findByIsEnabledTrueAndLatestPeriodKey(Integer latestPeriodKey, Sort sort) {
+        return findWhere(emp -> isEnabled(emp) && Objects.equals(emp.getLatestPeriodKey(), latestPeriodKey), sort);
+    }
+
+    // ==================== EmployeeRepositoryCustom ====================
+
+    @Override
+    public boolean upsertPerformanceLog(String employeeId, Employee.PerformanceLog perfLog, BigDecimal hcroi,
+            long configVersion) {
+        return store.compute(employeeId, emp -> {
+            if (emp == null) {
+                return null;
+            }
+            applyPerformanceLog(emp, perfLog, hcroi, configVersion);
+            return emp;
+        }).isPresent();
+    }
+
+    @Override
+    public boolean appendScoreHistory(String employeeId, Employee.ScoreHistory history) {
+        return store.compute(employeeId, emp -> {
+            if (emp == null) {
+                return null;
+            }
+            applyScoreHistory(emp, history);
+            return emp;
+        }).isPresent();
+    }
+
+    private static void applyPerformanceLog(Employee emp, Employee.PerformanceLog perfLog, BigDecimal hcroi,
+            long configVersion) {
+        String period = perfLog.getPeriod();
+        List<Employee.PerformanceLog> logs = new ArrayList<>();
+        if (emp.getPerformanceLogs() != null) {
+            emp.getPerformanceLogs().stream()
+                    .filter(log -> !Objects.equals(log.getPeriod(), period))
+                    .forEach(logs::add);
+        }
+        logs.add(perfLog);
+        emp.setPerformanceLogs(logs);
+
+        String latestPeriod = emp.getLatestPeriod() != null ? emp.getLatestPeriod() : "";
+        if (period.compareTo(latestPeriod) >= 0) {
+            emp.setLatestPeriod(period);
+            emp.setLatestPeriodKey(perfLog.resolvePeriodKey());
+            emp.setLatestHcroi(hcroi);
+            emp.setLatestHcroiConfigVersion(configVersion);
+        }
+    }
+
+    private static void applyScoreHistory(Employee emp, Employee.ScoreHistory history) {
+        List<Employee.ScoreHistory> histories = emp.getScoreHistories() != null
+                ? new ArrayList<>(emp.getScoreHistories())
+                : new ArrayList<>();
+        histories.add(history);
+        emp.setScoreHistories(histories);
+        emp.setCurrentScore(history.getNewScore());
+        emp.setStagedScore(null);
+        emp.setStagedScoreJobId(null);
+    }
+
+    @Override
+    public Map<String, String> applyWriteBatches(Collection<EmployeeWriteBatch> batches) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (EmployeeWriteBatch batch : batches) {
+            if (batch.size() == 0) {
+                continue;
+            }
+            boolean applied = store.compute(batch.getEmployeeId(), emp -> {
+                if (emp == null) {
+                    return null;
+                }
+                batch.getPerformanceLogs().forEach(write -> applyPerformanceLog(emp, write.perfLog(),
+                        write.hcroi(), write.configVersion()));
+                batch.getScoreHistories().forEach(history -> applyScoreHistory(emp, history));
+                return emp;
+            }).isPresent();
+            if (!applied) {
+                failures.put(batch.getEmployeeId(), "사원을 찾을 수 없습니다: " + batch.getEmployeeId());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public boolean updateProfile(String employeeId, EmployeeProfileUpdate update) {
+        return store.compute(employeeId, emp -> {
+            if (emp == null) {
+                return null;
+            }
+            update.applyTo(emp);
+            return emp;
+        }).isPresent();
+    }
+
+    @Override
+    public boolean disable(String employeeId) {
+        return store.compute(employeeId, emp -> {
+            if (emp == null) {
+                return null;
+            }
+            emp.setIsEnabled(false);
+            return emp;
+        }).isPresent();
+    }
+
+    @Override
+    public boolean incrementUnresolvedAlertCount(String employeeId, int delta) {
+        return store.compute(employeeId, emp -> {
+            if (emp == null) {
+                return null;
+            }
+            emp.setUnresolvedAlertCount(unresolvedAlertCountOf(emp) + delta);
+            return emp;
+        }).isPresent();
+    }
+
+    @Override
+    public Map<String, Integer> findUnresolvedAlertCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        store.stream()
+                .filter(emp -> unresolvedAlertCountOf(emp) != 0)
+                .forEach(emp -> counts.put(emp.getId(), emp.getUnresolvedAlertCount()));
+        return counts;
+    }
+
+    @Override
+    public Optional<Integer> findUnresolvedAlertCount(String employeeId) {
+        return findById(employeeId).map(this::unresolvedAlertCountOf);
+    }
+
+    @Override
+    public boolean compareAndSetUnresolvedAlertCount(String employeeId, int expected, int count) {
+        return store.compute(employeeId, emp -> {
+            if (emp == null || unresolvedAlertCountOf(emp) != expected) {
+                return null; // 쓰지 않음
+            }
+            emp.setUnresolvedAlertCount(count);
+            return emp;
+        }).isPresent();
+    }
+
+    private int unresolvedAlertCountOf(Employee emp) {
+        return emp.getUnresolvedAlertCount() != null ? emp.getUnresolvedAlertCount() : 0;
+    }
+
+    @Override
+    public Stream<Employee> streamEnabledForAnalytics(int batchSize) {
+        return store.stream()
+                .filter(this::isEnabled)
+                .peek(emp -> {
+                    emp.setPassword(null);
+                    emp.setScoreHistories(null);
+                    emp.setYearlySummaries(null);
+                });
+    }
+
+    @Override
+    public Stream<Employee> streamCriteriaScores(int batchSize) {
+        return store.stream()
+                .filter(this::isEnabled)
+                .map(emp -> Employee.builder()
+                        .id(emp.getId())
+                        .name(emp.getName())
+                        .currentScore(emp.getCurrentScore())
+                        .scoreHistories(emp.getScoreHistories())
+                        .build());
+    }
+
+    @Override
+    public long stageRescoredScores(String jobId, Map<String, BigDecimal> scores) {
+        long staged = 0;
+        for (Map.Entry<String, BigDecimal> entry : scores.entrySet()) {
+            boolean applied = store.compute(entry.getKey(), emp -> {
+                if (emp == null) {
+                    return null;
+                }
+                emp.setStagedScore(entry.getValue());
+                emp.setStagedScoreJobId(jobId);
+                return emp;
+            }).isPresent();
+            if (applied) {
+                staged++;
+            }
+        }
+        return staged;
+    }
+
+    @Override
+    public Stream<Employee> streamStagedScores(String jobId, int batchSize) {
+        return store.stream()
+                .filter(emp -> jobId.equals(emp.getStagedScoreJobId()))
+                .sorted(Comparator.comparing(Employee::getId))
+                .map(emp -> Employee.builder()
+                        .id(emp.getId())
+                        .currentScore(emp.getCurrentScore())
+                        .stagedScore(emp.getStagedScore())
+                        .stagedScoreJobId(emp.getStagedScoreJobId())
+                        .build());
+    }
+
+    @Override
+    public Set<String> promoteRescoredScores(String jobId, Map<String, Employee.ScoreHistory> histories) {
+        Set<String> promoted = new HashSet<>();
+        for (Map.Entry<String, Employee.ScoreHistory> entry : histories.entrySet()) {
+            store.compute(entry.getKey(), emp -> {
+                if (emp == null) {
+                    return null;
+                }
+                if (jobId.equals(emp.getStagedScoreJobId())) {
+                    applyScoreHistory(emp, entry.getValue());
+                    promoted.add(entry.getKey());
+                }
+                return emp;
+            });
+        }
+        return promoted;
+    }
+
+    @Override
+    public long clearStagedScores(String jobId) {
+        List<String> staged = store.stream()
+                .filter(emp -> jobId.equals(emp.getStagedScoreJobId()))
+                .map(Employee::getId)
+                .toList();
+        long cleared = 0;
+        for (String employeeId : staged) {
+            boolean[] changed = { false };
+            store.compute(employeeId, emp -> {
+                if (emp == null) {
+                    return null;
+                }
+                if (jobId.equals(emp.getStagedScoreJobId())) {
+                    emp.setStagedScore(null);
+                    emp.setStagedScoreJobId(null);
+                    changed[0] = true;
+                }
+                return emp;
+            });
+            if (changed[0]) {
+                cleared++;
+            }
+        }
+        return cleared;
+    }
+
+    @Override
+    public Stream<Employee> streamProfiles(int batchSize) {
+        return store.stream()
+                .map(emp -> Employee.builder()
+                        .id(emp.getId())
+                        .name(emp.getName())
+                        .currentGrade(emp.getCurrentGrade())
+                        .birthDate(emp.getBirthDate())
+                        .build());
+    }
+
+    @Override
+    public Optional<Employee> findForAnalytics(String employeeId) {
+        return store.findById(employeeId);
+    }
+
+    @Override
+    public BigDecimal sumAchievedSales(int periodKey) {
+        return store.stream()
+                .filter(this::isEnabled)
+                .map(emp -> emp.findPerformanceLog(periodKey).orElse(null))
+                .filter(perfLog -> perfLog != null && perfLog.getAchievedSales() != null)
+                .map(Employee.PerformanceLog::getAchievedSales)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private boolean isEnabled(Employee emp) {
+        return Boolean.TRUE.equals(emp.getIsEnabled());
+    }
+}
@@ -0,0 +1,20 @@
+package com.valumetric.storage;
+
+import com.valumetric.document.RandomIndexEntry;
+import com.valumetric.repository.RandomIndexRepository;
+
+/**
+ * 내장 저장소 기반 {@link RandomIndexRepository}
+ */
+public class EmbeddedRandomIndexRepository extends EmbeddedRepository<RandomIndexEntry>
+        implements RandomIndexRepository {
+
+    public EmbeddedRandomIndexRepository(EmbeddedDocumentStore<RandomIndexEntry> store) {
+        super(store);
+    }
+
+    @Override
+    protected String idOf(RandomIndexEntry entity) {
+        return entity.getMatrixSize();
+    }
+}
@@ -0,0 +1,239 @@
+package com.valumetric.storage;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.domain.*;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 내장 저장소 기반 {@link MongoRepository} 공통 구현
+ *
+ * <pre>
+ * CRUD/정렬/페이징은 {@link EmbeddedDocumentStore}의 메모리 인덱스로 처리하고,
+ * 조회 메서드(findBy...)는 하위 클래스에서 스트림 필터로 구현합니다.
+ * Query by Example은 애플리케이션에서 사용하지 않으므로 지원하지 않습니다.
+ * 정렬은 MongoDB와 같이 null(누락) 값을 오름차순에서 먼저 둡니다.
+ * </pre>
+ */
+public abstract class EmbeddedRepository<T> implements MongoRepository<T, String> {
+
+    protected final EmbeddedDocumentStore<T> store;
+
+    protected EmbeddedRepository(EmbeddedDocumentStore<T> store) {
+        this.store = store;
+    }
+
+    // ==================== 하위 클래스용 ====================
+
+    protected List<T> findWhere(Predicate<T> filter) {
+        return store.stream().filter(filter).collect(Collectors.toList());
+    }
+
+    protected List<T> findWhere(Predicate<T> filter, Sort sort) {
+        return sorted(store.stream().filter(filter), sort);
+    }
+
+    protected long countWhere(Predicate<T> filter) {
+        return store.stream().filter(filter).count();
+    }
+
+    /**
+     * Sort 순서로 정렬 (정렬 키는 문서마다 한 번만 읽음, 중첩 경로 "a.b" 지원)
+     */
+    protected static <E> List<E> sorted(Stream<E> entities, Sort sort) {
+        if (sort.isUnsorted()) {
+            return entities.collect(Collectors.toList());
+        }
+        List<Sort.Order> orders = sort.toList();
+        return entities
+                .map(entity -> new SortKeyed<>(entity, orders.stream()
+                        .map(order -> propertyValue(entity, order.getProperty()))
+                        .toArray()))
+                .sorted((a, b) -> {
+                    for (int i = 0; i < orders.size(); i++) {
+                        int compared = compareValues(a.keys()[i], b.keys()[i]);
+                        if (compared != 0) {
+                            return orders.get(i).isAscending() ? compared : -compared;
+                        }
+                    }
+                    return 0;
+                })
+                .map(SortKeyed::entity)
+                .collect(Collectors.toList());
+    }
+
+    private record SortKeyed<E>(E entity, Object[] keys) {
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compareValues(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private static Object propertyValue(Object target, String path) {
+        Object current = target;
+        for (String property : path.split("\\.")) {
+            if (current == null) {
+                return null;
+            }
+            DirectFieldAccessor fields = new DirectFieldAccessor(current);
+            current = fields.isReadableProperty(property) ? fields.getPropertyValue(property) : null;
+        }
+        return current;
+    }
+
+    // ==================== CrudRepository ====================
+
+    @Override
+    public <S extends T> S save(S entity) {
+        store.save(entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> list = toList(entities);
+        store.saveAll(new ArrayList<>(list));
+        return list;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        store.insert(entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> list = toList(entities);
+        list.forEach(store::insert);
+        return list;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return store.findById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return store.existsById(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return store.stream().collect(Collectors.toList());
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return findWhere(entity -> true, sort);
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        List<T> sorted = findAll(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted);
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .map(store::findById)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count() {
+        return store.count();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        store.deleteById(id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        store.deleteById(idOf(entity));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(store::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        store.deleteAll();
+    }
+
+    protected abstract String idOf(T entity);
+
+    // ==================== Query by Example (미지원) ====================
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example,
+            Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported();
+    }
+
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("내장 저장소는 Query by Example을 지원하지 않습니다");
+    }
+
+    private static <S> List<S> toList(Iterable<S> entities) {
+        return StreamSupport.stream(entities.spliterator(), false).collect(Collectors.toList());
+    }
+}
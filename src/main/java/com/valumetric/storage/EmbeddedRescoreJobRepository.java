@@ -0,0 +1,59 @@
+package com.valumetric.storage;
+
+import com.valumetric.document.RescoreJob;
+import com.valumetric.repository.RescoreJobRepository;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 내장 저장소 기반 {@link RescoreJobRepository}
+ */
+public class EmbeddedRescoreJobRepository extends EmbeddedRepository<RescoreJob> implements RescoreJobRepository {
+
+    public EmbeddedRescoreJobRepository(EmbeddedDocumentStore<RescoreJob> store) {
+        super(store);
+    }
+
+    @Override
+    protected String idOf(RescoreJob entity) {
+        return entity.getId();
+    }
+
+    @Override
+    public List<RescoreJob> findByStatus(RescoreJob.Status status) {
+        return findWhere(job -> job.getStatus() == status);
+    }
+
+    @Override
+    public Optional<RescoreJob> findFirstByOrderByStartedAtDesc() {
+        return findWhere(job -> true, Sort.by(Sort.Direction.DESC, "startedAt")).stream().findFirst();
+    }
+
+    @Override
+    public Optional<RescoreJob> claimIfStale(String jobId, LocalDateTime staleBefore, String newOwner) {
+        return store.compute(jobId, current -> {
+            if (current == null || current.isFinished()
+                    || (current.getHeartbeatAt() != null && !current.getHeartbeatAt().isBefore(staleBefore))) {
+                return null;
+            }
+            current.setOwner(newOwner);
+            current.setHeartbeatAt(LocalDateTime.now());
+            return current;
+        });
+    }
+
+    @Override
+    public boolean heartbeat(String jobId, String owner, LocalDateTime now) {
+        return store.compute(jobId, current -> {
+            if (current == null || !Objects.equals(current.getOwner(), owner)) {
+                return null;
+            }
+            current.setHeartbeatAt(now);
+            return current;
+        }).isPresent();
+    }
+}
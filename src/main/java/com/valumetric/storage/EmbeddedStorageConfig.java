@@ -0,0 +1,162 @@
+package com.valumetric.storage;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.valumetric.document.AhpSubmission;
+import com.valumetric.document.Alert;
+import com.valumetric.document.Employee;
+import com.valumetric.document.RandomIndexEntry;
+import com.valumetric.document.RescoreJob;
+import com.valumetric.document.SystemConfig;
+import com.valumetric.document.SystemConfigRevision;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 내장 저장소 설정 (embedded 프로필)
+ *
+ * <pre>
+ * 외부 MongoDB 없이 사원/시스템 설정(+ 설정 이력, 경고)을 로컬 파일에 저장합니다.
+ *   ./gradlew bootRun --args='--spring.profiles.active=embedded'
+ *
+ * 아래 Repository가 @Primary로 등록되어 서비스에 주입됩니다.
+ * - EmployeeRepository, SystemConfigRepository (요청 범위)
+ * - SystemConfigRevisionRepository, AlertRepository (설정 변경/샘플 데이터 생성에 필요)
+ * - AhpSubmissionRepository (그룹 AHP 평가자 제출)
+ * - RandomIndexRepository (n &gt; 15 Random Index 시뮬레이션 결과)
+ * - RescoreJobRepository (가중치 재산정 작업 상태)
+ *
+ * 보관 이력 압축, 스키마 마이그레이션, Change Stream, 월 매출 검증,
+ * 리액티브 대시보드처럼 MongoTemplate을 직접 쓰는 기능은 이 프로필에서 사용할 수 없습니다.
+ * (application-embedded.yml에서 백그라운드 작업 비활성)
+ * </pre>
+ */
+@Configuration
+@Profile("embedded")
+public class EmbeddedStorageConfig {
+
+    @Value("${valumetric.embedded.data-dir:./data/embedded}")
+    private Path dataDir;
+
+    @Value("${valumetric.embedded.snapshot-every:1000}")
+    private int snapshotEvery;
+
+    @Value("${valumetric.embedded.fsync:false}")
+    private boolean fsync;
+
+    // 저장 형식 전용 매퍼 (웹 응답용 ObjectMapper 설정과 분리, 필드 기준 직렬화)
+    private final ObjectMapper storageMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .build();
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedDocumentStore<Employee> employeeStore() {
+        return new EmbeddedDocumentStore<>("employees", Employee.class, storageMapper, dataDir,
+                Employee::getId, Employee::setId,
+                Map.of(EmbeddedEmployeeRepository.EMAIL_KEY, Employee::getEmail),
+                snapshotEvery, fsync);
+    }
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedDocumentStore<SystemConfig> systemConfigStore() {
+        return new EmbeddedDocumentStore<>("system_config", SystemConfig.class, storageMapper, dataDir,
+                SystemConfig::getId, SystemConfig::setId,
+                Map.of(EmbeddedSystemConfigRepository.CONFIG_TYPE_KEY, SystemConfig::getConfigType),
+                snapshotEvery, fsync);
+    }
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedDocumentStore<SystemConfigRevision> systemConfigRevisionStore() {
+        return new EmbeddedDocumentStore<>("system_config_revisions", SystemConfigRevision.class, storageMapper,
+                dataDir, SystemConfigRevision::getId, SystemConfigRevision::setId,
+                Map.of(EmbeddedSystemConfigRevisionRepository.TYPE_VERSION_KEY,
+                        EmbeddedSystemConfigRevisionRepository::typeVersionKey),
+                snapshotEvery, fsync);
+    }
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedDocumentStore<Alert> alertStore() {
+        return new EmbeddedDocumentStore<>("alerts", Alert.class, storageMapper, dataDir,
+                Alert::getId, Alert::setId, Map.of(), snapshotEvery, fsync);
+    }
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedDocumentStore<AhpSubmission> ahpSubmissionStore() {
+        return new EmbeddedDocumentStore<>("ahp_submissions", AhpSubmission.class, storageMapper, dataDir,
+                AhpSubmission::getEvaluatorId, AhpSubmission::setEvaluatorId, Map.of(), snapshotEvery, fsync);
+    }
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedDocumentStore<RandomIndexEntry> randomIndexStore() {
+        return new EmbeddedDocumentStore<>("random_indices", RandomIndexEntry.class, storageMapper, dataDir,
+                RandomIndexEntry::getMatrixSize, RandomIndexEntry::setMatrixSize, Map.of(), snapshotEvery, fsync);
+    }
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedDocumentStore<RescoreJob> rescoreJobStore() {
+        return new EmbeddedDocumentStore<>("rescore_jobs", RescoreJob.class, storageMapper, dataDir,
+                RescoreJob::getId, RescoreJob::setId, Map.of(), snapshotEvery, fsync);
+    }
+
+    @Bean
+    @Primary
+    public EmbeddedEmployeeRepository embeddedEmployeeRepository(EmbeddedDocumentStore<Employee> employeeStore) {
+        return new EmbeddedEmployeeRepository(employeeStore);
+    }
+
+    @Bean
+    @Primary
+    public EmbeddedSystemConfigRepository embeddedSystemConfigRepository(
+            EmbeddedDocumentStore<SystemConfig> systemConfigStore) {
+        return new EmbeddedSystemConfigRepository(systemConfigStore);
+    }
+
+    @Bean
+    @Primary
+    public EmbeddedSystemConfigRevisionRepository embeddedSystemConfigRevisionRepository(
+            EmbeddedDocumentStore<SystemConfigRevision> systemConfigRevisionStore) {
+        return new EmbeddedSystemConfigRevisionRepository(systemConfigRevisionStore);
+    }
+
+    @Bean
+    @Primary
+    public EmbeddedAlertRepository embeddedAlertRepository(EmbeddedDocumentStore<Alert> alertStore) {
+        return new EmbeddedAlertRepository(alertStore);
+    }
+
+    @Bean
+    @Primary
+    public EmbeddedAhpSubmissionRepository embeddedAhpSubmissionRepository(
+            EmbeddedDocumentStore<AhpSubmission> ahpSubmissionStore) {
+        return new EmbeddedAhpSubmissionRepository(ahpSubmissionStore);
+    }
+
+    @Bean
+    @Primary
+    public EmbeddedRandomIndexRepository embeddedRandomIndexRepository(
+            EmbeddedDocumentStore<RandomIndexEntry> randomIndexStore) {
+        return new EmbeddedRandomIndexRepository(randomIndexStore);
+    }
+
+    @Bean
+    @Primary
+    public EmbeddedRescoreJobRepository embeddedRescoreJobRepository(
+            EmbeddedDocumentStore<RescoreJob> rescoreJobStore) {
+        return new EmbeddedRescoreJobRepository(rescoreJobStore);
+    }
+}
@@ -0,0 +1,60 @@
+package com.valumetric.storage;
+
+import com.valumetric.document.SystemConfig;
+import com.valumetric.repository.SystemConfigRepository;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 내장 저장소 기반 {@link SystemConfigRepository}
+ *
+ * <pre>
+ * configType은 고유 키 인덱스로 조회하며,
+ * 기본 설정 생성/revision 비교 교체는 저장소 쓰기 잠금 안에서 수행합니다.
+ * </pre>
+ */
+public class EmbeddedSystemConfigRepository extends EmbeddedRepository<SystemConfig>
+        implements SystemConfigRepository {
+
+    public static final String CONFIG_TYPE_KEY = "configType";
+
+    public EmbeddedSystemConfigRepository(EmbeddedDocumentStore<SystemConfig> store) {
+        super(store);
+    }
+
+    @Override
+    protected String idOf(SystemConfig entity) {
+        return entity.getId();
+    }
+
+    @Override
+    public Optional<SystemConfig> findByConfigType(String configType) {
+        return store.findByUniqueKey(CONFIG_TYPE_KEY, configType);
+    }
+
+    @Override
+    public SystemConfig upsertDefaultConfig() {
+        synchronized (store) {
+            return findByConfigType(SystemConfig.DEFAULT_TYPE)
+                    .orElseGet(() -> store.save(SystemConfig.createDefault()));
+        }
+    }
+
+    @Override
+    public Optional<SystemConfig> findVersionStamp(String configType) {
+        return findByConfigType(configType).map(config -> SystemConfig.builder()
+                .id(config.getId())
+                .configType(config.getConfigType())
+                .revision(config.getRevision())
+                .updatedAt(config.getUpdatedAt())
+                .build());
+    }
+
+    @Override
+    public boolean replaceIfRevision(SystemConfig config, Long expectedRevision) {
+        return store.compute(config.getId(), current -> current != null
+                && Objects.equals(current.getRevision(), expectedRevision) ? config : null)
+                .isPresent();
+    }
+}
@@ -0,0 +1,48 @@
+package com.valumetric.storage;
+
+import com.valumetric.document.SystemConfigRevision;
+import com.valumetric.repository.SystemConfigRevisionRepository;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 내장 저장소 기반 {@link SystemConfigRevisionRepository}
+ *
+ * <pre>
+ * (configType, version) 고유 키로 중복 버전 삽입 시 DuplicateKeyException을 던져
+ * SystemConfigCache의 버전 선점 방식이 MongoDB와 같게 동작합니다.
+ * </pre>
+ */
+public class EmbeddedSystemConfigRevisionRepository extends EmbeddedRepository<SystemConfigRevision>
+        implements SystemConfigRevisionRepository {
+
+    public static final String TYPE_VERSION_KEY = "configType:version";
+
+    public EmbeddedSystemConfigRevisionRepository(EmbeddedDocumentStore<SystemConfigRevision> store) {
+        super(store);
+    }
+
+    public static Object typeVersionKey(SystemConfigRevision revision) {
+        return revision.getConfigType() + ":" + revision.getVersion();
+    }
+
+    @Override
+    protected String idOf(SystemConfigRevision entity) {
+        return entity.getId();
+    }
+
+    @Override
+    public Optional<SystemConfigRevision> findByConfigTypeAndVersion(String configType, Long version) {
+        return store.findByUniqueKey(TYPE_VERSION_KEY, configType + ":" + version);
+    }
+
+    @Override
+    public List<SystemConfigRevision> findTop20ByConfigTypeOrderByVersionDesc(String configType) {
+        List<SystemConfigRevision> revisions = findWhere(revision -> Objects.equals(revision.getConfigType(),
+                configType), Sort.by(Sort.Direction.DESC, "version"));
+        return revisions.subList(0, Math.min(20, revisions.size()));
+    }
+}
@@ -0,0 +1,205 @@
+package com.valumetric.calculator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AHP 가중치 도출 방법 벤치마크 (n = 3..50)
+ * 
+ * <pre>
+ * 실행: ./gradlew benchmark  (일반 test 태스크에서는 제외)
+ * 
+ * 임의 가중치에서 쌍대비교 값을 만들고 로그정규 잡음을 더한 뒤 Saaty 척도(1/9~9)로 반올림하여
+ * 실제 입력과 비슷한 비일관 행렬을 만듭니다. 크기별로 다음을 출력합니다.
+ * - gm µs / ev µs: 1회 계산 평균 시간 (검증 포함)
+ * - iter avg/max: 거듭제곱법 반복 횟수
+ * - |Δw|max: 두 방법의 가중치 최대 차이, Δλ: λmax 차이 (기하평균 - 고유벡터)
+ * - rank≠: 가중치 순위가 달라진 행렬 수
+ * 
+ * 커널 비교(kernelVsEngine)는 비교값 하나를 바꿔 가며 반복 계산하는 민감도 분석 형태로
+ * AhpKernel(작업 공간 재사용)과 AhpEngine.calculate의 1회 시간/할당 바이트를 출력합니다.
+ * </pre>
+ */
+@Tag("benchmark")
+@DisplayName("AhpEngine 벤치마크")
+class AhpEngineBenchmark {
+
+    private static final int MATRICES_PER_SIZE = 20;
+    private static final int REPETITIONS = 200;
+    private static final double NOISE = 0.3;
+    private static final double[] SAATY_SCALE = {
+            1.0 / 9, 1.0 / 8, 1.0 / 7, 1.0 / 6, 1.0 / 5, 1.0 / 4, 1.0 / 3, 1.0 / 2,
+            1, 2, 3, 4, 5, 6, 7, 8, 9 };
+
+    private final AhpEngine engine = new AhpEngine();
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    @DisplayName("기하평균법 vs 고유벡터법 (시간, 반복 횟수, 가중치 차이)")
+    void compareMethods() {
+        System.out.println("  n |   gm µs |   ev µs | iter avg | iter max |   |Δw|max |        Δλ | rank≠ | CR avg");
+        for (int n = 3; n <= 50; n++) {
+            double[][][] matrices = new double[MATRICES_PER_SIZE][][];
+            for (int k = 0; k < MATRICES_PER_SIZE; k++) {
+                matrices[k] = randomJudgments(n);
+            }
+
+            double gmMicros = time(matrices, AhpEngine.WeightMethod.GEOMETRIC_MEAN);
+            double evMicros = time(matrices, AhpEngine.WeightMethod.EIGENVECTOR);
+
+            long iterationSum = 0;
+            int iterationMax = 0;
+            double weightDiff = 0.0;
+            double lambdaDiff = 0.0;
+            double crSum = 0.0;
+            int rankChanges = 0;
+            for (double[][] matrix : matrices) {
+                AhpEngine.AhpResult gm = engine.calculate(matrix, AhpEngine.WeightMethod.GEOMETRIC_MEAN);
+                AhpEngine.AhpResult ev = engine.calculate(matrix, AhpEngine.WeightMethod.EIGENVECTOR);
+                assertTrue(ev.isConverged(), "n=" + n + " 고유벡터법이 수렴해야 합니다");
+
+                iterationSum += ev.getIterations();
+                iterationMax = Math.max(iterationMax, ev.getIterations());
+                weightDiff = Math.max(weightDiff, maxAbsDiff(gm.getWeights(), ev.getWeights()));
+                lambdaDiff = Math.max(lambdaDiff, Math.abs(gm.getLambdaMax() - ev.getLambdaMax()));
+                crSum += ev.getConsistencyRatio();
+                if (!sameRanking(gm.getWeights(), ev.getWeights())) {
+                    rankChanges++;
+                }
+            }
+
+            System.out.printf("%3d | %7.2f | %7.2f | %8.1f | %8d | %9.2e | %9.2e | %5d | %6.3f%n",
+                    n, gmMicros, evMicros, (double) iterationSum / MATRICES_PER_SIZE, iterationMax,
+                    weightDiff, lambdaDiff, rankChanges, crSum / MATRICES_PER_SIZE);
+        }
+    }
+
+    @Test
+    @DisplayName("평탄 배열 커널 vs 엔진 (시간, 할당 바이트)")
+    void kernelVsEngine() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        AhpKernel kernel = engine.kernel();
+        int calls = 100_000;
+
+        System.out.println("  n | method         | kernel µs | kernel B/call | engine µs | engine B/call");
+        for (int n : new int[] { 5, 15, 30, 50 }) {
+            double[][] matrix = randomJudgments(n);
+            AhpKernel.Workspace workspace = new AhpKernel.Workspace(n);
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(matrix[i], 0, workspace.matrix(), i * n, n);
+            }
+            for (AhpEngine.WeightMethod method : AhpEngine.WeightMethod.values()) {
+                double sink = 0.0;
+                long kernelNanos = 0;
+                long kernelBytes = 0;
+                long engineNanos = 0;
+                long engineBytes = 0;
+                for (int round = 0; round < 2; round++) {
+                    long bytes = threads.getCurrentThreadAllocatedBytes();
+                    long start = System.nanoTime();
+                    for (int c = 0; c < calls; c++) {
+                        kernel.setJudgment(workspace, 0, 1, SAATY_SCALE[c % SAATY_SCALE.length]);
+                        sink += kernel.compute(workspace, method).lambdaMax();
+                    }
+                    kernelNanos = System.nanoTime() - start;
+                    kernelBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+                    bytes = threads.getCurrentThreadAllocatedBytes();
+                    start = System.nanoTime();
+                    for (int c = 0; c < calls; c++) {
+                        matrix[0][1] = SAATY_SCALE[c % SAATY_SCALE.length];
+                        matrix[1][0] = 1.0 / matrix[0][1];
+                        sink += engine.calculate(matrix, method).getLambdaMax();
+                    }
+                    engineNanos = System.nanoTime() - start;
+                    engineBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+                }
+                assertTrue(sink > 0);
+                System.out.printf("%3d | %-14s | %9.2f | %13d | %9.2f | %13d%n", n, method,
+                        kernelNanos / 1_000.0 / calls, kernelBytes / calls,
+                        engineNanos / 1_000.0 / calls, engineBytes / calls);
+            }
+        }
+    }
+
+    /**
+     * 평균 1회 계산 시간 (µs), 앞 절반은 워밍업으로 버림
+     */
+    private double time(double[][][] matrices, AhpEngine.WeightMethod method) {
+        double sink = 0.0;
+        long elapsed = 0;
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < REPETITIONS; r++) {
+                for (double[][] matrix : matrices) {
+                    sink += engine.calculate(matrix, method).getLambdaMax();
+                }
+            }
+            elapsed = System.nanoTime() - start;
+        }
+        assertTrue(sink > 0);
+        return elapsed / 1_000.0 / REPETITIONS / matrices.length;
+    }
+
+    private double[][] randomJudgments(int n) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 0.1 + random.nextDouble();
+        }
+        double[] upper = new double[n * (n - 1) / 2];
+        int idx = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double ratio = weights[i] / weights[j] * Math.exp(NOISE * gaussian());
+                upper[idx++] = nearestSaaty(ratio);
+            }
+        }
+        return engine.createPairwiseMatrix(n, upper);
+    }
+
+    private double gaussian() {
+        // Box-Muller
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    private static double nearestSaaty(double value) {
+        double best = SAATY_SCALE[0];
+        double bestDistance = Double.MAX_VALUE;
+        double logValue = Math.log(value);
+        for (double candidate : SAATY_SCALE) {
+            double distance = Math.abs(Math.log(candidate) - logValue);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private static double maxAbsDiff(double[] a, double[] b) {
+        double max = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            max = Math.max(max, Math.abs(a[i] - b[i]));
+        }
+        return max;
+    }
+
+    private static boolean sameRanking(double[] a, double[] b) {
+        for (int i = 0; i < a.length; i++) {
+            for (int j = i + 1; j < a.length; j++) {
+                if (Double.compare(a[i], a[j]) != Double.compare(b[i], b[j])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,283 @@
+package com.valumetric.calculator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AhpEngine 단위 테스트
+ * 
+ * 기하평균법과 고유벡터법(거듭제곱법)의 가중치/λmax/수렴 제어,
+ * 불완전 쌍대비교(LLSM/Harker) 추정과 추가 입력 추천, 일관성 개선 제안을 검증합니다.
+ */
+@DisplayName("AhpEngine 단위 테스트")
+class AhpEngineTest {
+
+    private static final double EPSILON = 1e-8;
+
+    private AhpEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AhpEngine();
+    }
+
+    @Nested
+    @DisplayName("일관된 행렬")
+    class ConsistentMatrix {
+
+        @Test
+        @DisplayName("두 방법 모두 정확한 가중치와 λmax = n")
+        void bothMethodsAgree() {
+            // Given: w = [0.6, 0.3, 0.1] 에서 만든 완전 일관 행렬 (a_ij = w_i / w_j)
+            double[][] matrix = engine.createPairwiseMatrix(3, 2.0, 6.0, 3.0);
+
+            // When
+            AhpEngine.AhpResult gm = engine.calculate(matrix, AhpEngine.WeightMethod.GEOMETRIC_MEAN);
+            AhpEngine.AhpResult ev = engine.calculate(matrix, AhpEngine.WeightMethod.EIGENVECTOR);
+
+            // Then
+            double[] expected = { 0.6, 0.3, 0.1 };
+            assertArrayEquals(expected, gm.getWeights(), EPSILON);
+            assertArrayEquals(expected, ev.getWeights(), EPSILON);
+            assertEquals(3.0, ev.getLambdaMax(), EPSILON);
+            assertEquals(0.0, ev.getConsistencyRatio(), EPSILON);
+            assertTrue(ev.isConverged());
+            assertTrue(ev.getIterations() <= 2, "기하평균 시작점이 곧 해이므로 즉시 수렴해야 합니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("비일관 행렬")
+    class InconsistentMatrix {
+
+        // 순환 선호가 섞인 4×4 행렬 (CR > 0)
+        private double[][] matrix;
+
+        @BeforeEach
+        void setUp() {
+            matrix = engine.createPairwiseMatrix(4, 3.0, 5.0, 1.0 / 2, 4.0, 1.0 / 3, 1.0 / 7);
+        }
+
+        @Test
+        @DisplayName("고유벡터법 결과는 A×w = λmax×w 를 만족")
+        void eigenvectorSatisfiesDefinition() {
+            // When
+            AhpEngine.AhpResult result = engine.calculate(matrix, AhpEngine.WeightMethod.EIGENVECTOR);
+
+            // Then
+            double[] w = result.getWeights();
+            for (int i = 0; i < w.length; i++) {
+                double aw = 0.0;
+                for (int j = 0; j < w.length; j++) {
+                    aw += matrix[i][j] * w[j];
+                }
+                assertEquals(result.getLambdaMax() * w[i], aw, 1e-8,
+                        "행 " + i + "에서 고유값 방정식이 성립해야 합니다");
+            }
+            assertEquals(1.0, sum(w), EPSILON);
+            assertTrue(result.isConverged());
+            assertTrue(result.getIterations() > 0);
+            assertEquals(AhpEngine.WeightMethod.EIGENVECTOR, result.getMethod());
+        }
+
+        @Test
+        @DisplayName("반복 횟수 상한에 도달하면 미수렴으로 보고")
+        void reportsNonConvergence() {
+            // Given
+            AhpEngine limited = new AhpEngine(AhpEngine.WeightMethod.EIGENVECTOR, 1e-15, 1);
+
+            // When
+            AhpEngine.AhpResult result = limited.calculate(matrix);
+
+            // Then
+            assertFalse(result.isConverged());
+            assertEquals(1, result.getIterations());
+            assertEquals(1.0, sum(result.getWeights()), EPSILON);
+        }
+
+        @Test
+        @DisplayName("기하평균법은 반복 없이 계산")
+        void geometricMeanHasNoIterations() {
+            AhpEngine.AhpResult result = engine.calculate(matrix);
+
+            assertEquals(AhpEngine.WeightMethod.GEOMETRIC_MEAN, result.getMethod());
+            assertEquals(0, result.getIterations());
+            assertTrue(result.isConverged());
+        }
+    }
+
+    @Nested
+    @DisplayName("불완전 쌍대비교")
+    class IncompleteMatrix {
+
+        @Test
+        @DisplayName("모든 값이 있으면 완전 행렬 계산과 같은 결과")
+        void matchesCompleteCalculation() {
+            // Given
+            Double[] values = { 3.0, 5.0, 1.0 / 2, 4.0, 1.0 / 3, 1.0 / 7 };
+            double[][] matrix = engine.createPairwiseMatrix(4, 3.0, 5.0, 1.0 / 2, 4.0, 1.0 / 3, 1.0 / 7);
+
+            for (AhpEngine.WeightMethod method : AhpEngine.WeightMethod.values()) {
+                // When
+                AhpEngine.AhpResult complete = engine.calculate(matrix, method);
+                AhpEngine.AhpResult incomplete = engine.calculateIncomplete(4, values, method, 5).ahp();
+
+                // Then
+                assertArrayEquals(complete.getWeights(), incomplete.getWeights(), 1e-8, method.name());
+                assertEquals(complete.getLambdaMax(), incomplete.getLambdaMax(), 1e-8, method.name());
+            }
+        }
+
+        @Test
+        @DisplayName("일관된 비교에서 빠진 값을 정확히 추정하고 추천")
+        void estimatesMissingJudgment() {
+            // Given: w = [0.6, 0.3, 0.1], a13 비어 있음
+            Double[] values = { 2.0, null, 3.0 };
+
+            for (AhpEngine.WeightMethod method : AhpEngine.WeightMethod.values()) {
+                // When
+                IncompleteAhpSolver.Result result = engine.calculateIncomplete(3, values, method, 5);
+
+                // Then
+                assertArrayEquals(new double[] { 0.6, 0.3, 0.1 }, result.ahp().getWeights(), EPSILON);
+                assertEquals(6.0, result.completedUpperTriangle()[1], 1e-6);
+                assertEquals(2, result.knownPairs());
+                assertEquals(1, result.suggestions().size());
+                IncompleteAhpSolver.PairSuggestion suggestion = result.suggestions().get(0);
+                assertEquals(0, suggestion.row());
+                assertEquals(2, suggestion.column());
+                // 경로 1-2-3(저항 1+1)로만 이어져 있음
+                assertEquals(2.0, suggestion.uncertainty(), 1e-8);
+            }
+        }
+
+        @Test
+        @DisplayName("직접 비교가 적게 이어진 쌍일수록 먼저 추천")
+        void suggestsWeakestConnectedPairs() {
+            // Given: 5개 기준을 사슬(1-2-3-4-5)로만 비교
+            Double[] values = new Double[10];
+            values[0] = 2.0; // a12
+            values[4] = 2.0; // a23
+            values[7] = 2.0; // a34
+            values[9] = 2.0; // a45
+
+            // When
+            IncompleteAhpSolver.Result result = engine.calculateIncomplete(5, values,
+                    AhpEngine.WeightMethod.GEOMETRIC_MEAN, 3);
+
+            // Then: 양 끝(1, 5) 비교가 가장 불확실
+            IncompleteAhpSolver.PairSuggestion first = result.suggestions().get(0);
+            assertEquals(0, first.row());
+            assertEquals(4, first.column());
+            assertEquals(4.0, first.uncertainty(), 1e-8);
+            assertEquals(16.0, first.estimatedValue(), 1e-6);
+            assertEquals(3, result.suggestions().size());
+        }
+
+        @Test
+        @DisplayName("비교가 서로 이어지지 않는 기준이 있으면 예외")
+        void rejectsDisconnectedComparisons() {
+            Double[] values = { 2.0, null, null, null, null, 3.0 };
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.calculateIncomplete(4, values, AhpEngine.WeightMethod.GEOMETRIC_MEAN, 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("일관성 개선 제안")
+    class ConsistencyAdvice {
+
+        // w = [8, 4, 2, 1]에서 a14만 8 → 1/8로 뒤집은 행렬
+        private final double[][] flipped = new AhpEngine().createPairwiseMatrix(4, 2.0, 4.0, 1.0 / 8, 2.0, 4.0, 2.0);
+
+        @Test
+        @DisplayName("뒤집힌 비교를 가장 큰 기여도로 찾고, 그 비교만 고쳐 CR ≤ 0.1")
+        void repairsFlippedJudgment() {
+            // When
+            ConsistencyAdvisor.Advice advice = engine.adviseConsistency(flipped,
+                    AhpEngine.WeightMethod.GEOMETRIC_MEAN, 3);
+
+            // Then
+            assertFalse(advice.original().isConsistent());
+            ConsistencyAdvisor.PairDeviation worst = advice.deviations().get(0);
+            assertEquals(0, worst.row());
+            assertEquals(3, worst.column());
+
+            assertTrue(advice.reachesThreshold());
+            assertEquals(1, advice.adjustments().size());
+            ConsistencyAdvisor.Adjustment adjustment = advice.adjustments().get(0);
+            assertEquals(0, adjustment.row());
+            assertEquals(3, adjustment.column());
+            assertEquals(1.0 / 8, adjustment.currentValue(), EPSILON);
+            assertTrue(adjustment.suggestedValue() > 1.0);
+            assertEquals(adjustment.suggestedValue(), advice.adjustedUpperTriangle()[2], EPSILON);
+            assertTrue(advice.adjusted().getConsistencyRatio() <= 0.1);
+        }
+
+        @Test
+        @DisplayName("이미 일관되면 수정 제안 없음")
+        void noAdjustmentWhenConsistent() {
+            // Given
+            double[][] matrix = engine.createPairwiseMatrix(4, 2.0, 4.0, 8.0, 2.0, 4.0, 2.0);
+
+            // When
+            ConsistencyAdvisor.Advice advice = engine.adviseConsistency(matrix,
+                    AhpEngine.WeightMethod.EIGENVECTOR, 3);
+
+            // Then
+            assertTrue(advice.adjustments().isEmpty());
+            assertTrue(advice.reachesThreshold());
+            assertEquals(6, advice.deviations().size());
+        }
+
+        @Test
+        @DisplayName("수정 한도 0이면 기여도만 계산")
+        void zeroLimitOnlyRanks() {
+            ConsistencyAdvisor.Advice advice = engine.adviseConsistency(flipped,
+                    AhpEngine.WeightMethod.GEOMETRIC_MEAN, 0);
+
+            assertTrue(advice.adjustments().isEmpty());
+            assertFalse(advice.reachesThreshold());
+            assertSame(advice.original(), advice.adjusted());
+        }
+
+        @Test
+        @DisplayName("제안 값은 Saaty 척도로 맞춤")
+        void snapsToSaatyScale() {
+            assertEquals(3.0, ConsistencyAdvisor.snapToScale(3.3), EPSILON);
+            assertEquals(1.0 / 4, ConsistencyAdvisor.snapToScale(0.26), EPSILON);
+            assertEquals(9.0, ConsistencyAdvisor.snapToScale(40.0), EPSILON);
+        }
+    }
+
+    @Nested
+    @DisplayName("설정 검증")
+    class Configuration {
+
+        @Test
+        @DisplayName("수렴 기준이 0 이하이면 예외")
+        void rejectsNonPositiveTolerance() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new AhpEngine(AhpEngine.WeightMethod.EIGENVECTOR, 0.0, 100));
+        }
+
+        @Test
+        @DisplayName("최대 반복 횟수가 1 미만이면 예외")
+        void rejectsZeroIterations() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new AhpEngine(AhpEngine.WeightMethod.EIGENVECTOR, 1e-10, 0));
+        }
+    }
+
+    private static double sum(double[] values) {
+        double total = 0.0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,109 @@
+package com.valumetric.calculator;
+
+import com.valumetric.calculator.AhpHierarchyEngine.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AhpHierarchyEngine 단위 테스트
+ * 
+ * 전역 가중치 합성(지역 가중치 곱)과 행렬 지문 캐시 재사용을 검증합니다.
+ */
+@DisplayName("AhpHierarchyEngine 단위 테스트")
+class AhpHierarchyEngineTest {
+
+    private static final double EPSILON = 1e-8;
+    private static final AhpEngine.WeightMethod METHOD = AhpEngine.WeightMethod.GEOMETRIC_MEAN;
+
+    private AhpHierarchyEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AhpHierarchyEngine(new AhpEngine());
+    }
+
+    /**
+     * 평가 [0.6, 0.3, 0.1] → 매출성과 [0.5, 0.25, 0.25], 기타성과 → 프로젝트 1개
+     */
+    private Node hierarchy(double[] salesMatrix) {
+        return Node.of("평가", new double[] { 2.0, 6.0, 3.0 },
+                Node.of("매출성과", salesMatrix,
+                        Node.leaf("신규매출"), Node.leaf("재계약"), Node.leaf("마진")),
+                Node.leaf("근태"),
+                Node.of("기타성과", null, Node.leaf("프로젝트")));
+    }
+
+    @Nested
+    @DisplayName("가중치 합성")
+    class Synthesis {
+
+        @Test
+        @DisplayName("전역 가중치 = 상위 전역 가중치 × 지역 가중치, 말단 합계 1")
+        void multipliesDownTheTree() {
+            // When
+            AhpHierarchyEngine.Synthesis result = engine.synthesize(hierarchy(new double[] { 2.0, 2.0, 1.0 }), METHOD);
+
+            // Then
+            assertEquals(0.6 * 0.5, result.find("평가/매출성과/신규매출").orElseThrow().globalWeight(), EPSILON);
+            assertEquals(0.6 * 0.25, result.find("평가/매출성과/마진").orElseThrow().globalWeight(), EPSILON);
+            assertEquals(0.3, result.find("평가/근태").orElseThrow().globalWeight(), EPSILON);
+            assertEquals(0.1, result.find("평가/기타성과/프로젝트").orElseThrow().globalWeight(), EPSILON);
+            assertEquals(1.0, result.leaves().stream().mapToDouble(AhpHierarchyEngine.NodeWeight::globalWeight).sum(),
+                    EPSILON);
+            assertTrue(result.isConsistent());
+        }
+
+        @Test
+        @DisplayName("쌍대비교 값 개수가 하위 기준 수와 맞지 않으면 경로와 함께 예외")
+        void rejectsWrongMatrixSize() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> engine.synthesize(hierarchy(new double[] { 2.0 }), METHOD));
+            assertTrue(e.getMessage().contains("평가/매출성과"));
+        }
+
+        @Test
+        @DisplayName("형제 이름 중복 시 예외")
+        void rejectsDuplicateNames() {
+            Node root = Node.of("평가", new double[] { 1.0 }, Node.leaf("근태"), Node.leaf("근태"));
+            assertThrows(IllegalArgumentException.class, () -> engine.synthesize(root, METHOD));
+        }
+    }
+
+    @Nested
+    @DisplayName("행렬 지문 캐시")
+    class Cache {
+
+        @Test
+        @DisplayName("하위 행렬 하나만 바꾸면 그 노드만 다시 계산")
+        void recomputesOnlyEditedNode() {
+            // Given
+            AhpHierarchyEngine.Synthesis first = engine.synthesize(hierarchy(new double[] { 2.0, 2.0, 1.0 }), METHOD);
+            assertEquals(2, first.computedNodes());
+            assertEquals(0, first.cachedNodes());
+
+            // When: 매출성과 행렬만 수정
+            AhpHierarchyEngine.Synthesis edited = engine.synthesize(hierarchy(new double[] { 3.0, 2.0, 1.0 }), METHOD);
+
+            // Then: 루트 행렬은 캐시, 매출성과만 새로 계산
+            assertEquals(1, edited.computedNodes());
+            assertEquals(1, edited.cachedNodes());
+            assertEquals(0.6, edited.find("평가/매출성과").orElseThrow().globalWeight(), EPSILON);
+        }
+
+        @Test
+        @DisplayName("같은 행렬이라도 방법이 다르면 따로 계산")
+        void keyIncludesMethod() {
+            Node root = hierarchy(new double[] { 2.0, 2.0, 1.0 });
+            engine.synthesize(root, AhpEngine.WeightMethod.GEOMETRIC_MEAN);
+
+            AhpHierarchyEngine.Synthesis eigen = engine.synthesize(root, AhpEngine.WeightMethod.EIGENVECTOR);
+
+            assertEquals(2, eigen.computedNodes());
+            assertEquals(4, engine.cacheSize());
+        }
+    }
+}
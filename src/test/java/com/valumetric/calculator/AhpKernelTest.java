@@ -0,0 +1,137 @@
+package com.valumetric.calculator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AhpKernel 단위 테스트
+ *
+ * 평탄 배열 커널이 AhpEngine.calculate와 같은 결과를 내는지, 큰 n에서 오버플로가 없는지,
+ * 작업 공간 재사용과 한 번에 검증을 확인합니다.
+ */
+@DisplayName("AhpKernel 단위 테스트")
+class AhpKernelTest {
+
+    private static final double EPSILON = 1e-12;
+    private static final double[] UPPER = { 3.0, 5.0, 0.5, 2.0, 1.0 / 7, 1.0 / 3 };
+
+    private AhpEngine engine;
+    private AhpKernel kernel;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AhpEngine();
+        kernel = engine.kernel();
+    }
+
+    @Nested
+    @DisplayName("계산")
+    class Compute {
+
+        @Test
+        @DisplayName("기하평균법/고유벡터법 모두 엔진 결과와 같음")
+        void matchesEngine() {
+            for (AhpEngine.WeightMethod method : AhpEngine.WeightMethod.values()) {
+                // Given
+                AhpKernel.Workspace workspace = new AhpKernel.Workspace(4);
+                kernel.setUpperTriangle(workspace, UPPER);
+
+                // When
+                kernel.compute(workspace, method);
+                AhpEngine.AhpResult expected = engine.calculate(engine.createPairwiseMatrix(4, UPPER), method);
+
+                // Then
+                for (int i = 0; i < 4; i++) {
+                    assertEquals(expected.getWeight(i), workspace.weight(i), EPSILON);
+                }
+                assertEquals(expected.getLambdaMax(), workspace.lambdaMax(), EPSILON);
+                assertEquals(expected.getConsistencyRatio(), workspace.consistencyRatio(), EPSILON);
+                assertEquals(expected.getIterations(), workspace.iterations());
+            }
+        }
+
+        @Test
+        @DisplayName("행 곱이 double 범위를 넘는 큰 n에서도 유한한 가중치 (9^399)")
+        void noOverflowForLargeMatrices() {
+            // Given: 앞 기준이 모든 뒤 기준보다 9배 중요
+            int n = 400;
+            double[] upper = new double[n * (n - 1) / 2];
+            Arrays.fill(upper, 9.0);
+            AhpKernel.Workspace workspace = new AhpKernel.Workspace(n);
+            kernel.setUpperTriangle(workspace, upper);
+
+            // When
+            kernel.compute(workspace, AhpEngine.WeightMethod.GEOMETRIC_MEAN);
+
+            // Then
+            double sum = 0.0;
+            for (int i = 0; i < n; i++) {
+                assertTrue(Double.isFinite(workspace.weight(i)) && workspace.weight(i) > 0);
+                sum += workspace.weight(i);
+            }
+            assertEquals(1.0, sum, 1e-9);
+            assertTrue(workspace.weight(0) > workspace.weight(1));
+        }
+
+        @Test
+        @DisplayName("setJudgment로 제자리 수정 후 재계산 = 새 행렬 계산")
+        void reusesWorkspace() {
+            // Given
+            AhpKernel.Workspace workspace = new AhpKernel.Workspace(4);
+            kernel.setUpperTriangle(workspace, UPPER);
+            kernel.compute(workspace, AhpEngine.WeightMethod.EIGENVECTOR);
+
+            // When
+            kernel.setJudgment(workspace, 1, 3, 4.0);
+            kernel.compute(workspace, AhpEngine.WeightMethod.EIGENVECTOR);
+
+            // Then
+            double[] changed = UPPER.clone();
+            changed[4] = 4.0; // (1, 3)
+            AhpEngine.AhpResult expected = engine.calculate(engine.createPairwiseMatrix(4, changed),
+                    AhpEngine.WeightMethod.EIGENVECTOR);
+            double[] weights = new double[4];
+            workspace.copyWeightsTo(weights);
+            assertArrayEquals(expected.getWeights(), weights, 1e-9);
+            assertArrayEquals(expected.getWeights(), workspace.toResult().getWeights(), 1e-9);
+        }
+    }
+
+    @Nested
+    @DisplayName("검증")
+    class Validation {
+
+        @Test
+        @DisplayName("역수 관계 위반은 위치와 함께 예외")
+        void rejectsBrokenReciprocal() {
+            // Given
+            AhpKernel.Workspace workspace = new AhpKernel.Workspace(3);
+            kernel.setUpperTriangle(workspace, new double[] { 2.0, 3.0, 4.0 });
+            workspace.matrix()[1 * 3 + 0] = 0.4;
+
+            // When
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> kernel.compute(workspace, AhpEngine.WeightMethod.GEOMETRIC_MEAN));
+
+            // Then
+            assertTrue(e.getMessage().contains("matrix[0][1]"));
+        }
+
+        @Test
+        @DisplayName("0 이하 또는 NaN 값은 예외")
+        void rejectsNonPositive() {
+            AhpKernel.Workspace workspace = new AhpKernel.Workspace(3);
+            kernel.setUpperTriangle(workspace, new double[] { 2.0, 3.0, 4.0 });
+            workspace.matrix()[2] = Double.NaN;
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> kernel.compute(workspace, AhpEngine.WeightMethod.GEOMETRIC_MEAN));
+        }
+    }
+}
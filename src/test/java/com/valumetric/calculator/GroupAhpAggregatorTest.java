@@ -0,0 +1,159 @@
+package com.valumetric.calculator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GroupAhpAggregator 단위 테스트
+ *
+ * AIJ/AIP 가중 기하평균과 증분 갱신(교체/삭제/병합)이 전체 재계산과 같은지 검증합니다.
+ */
+@DisplayName("GroupAhpAggregator 단위 테스트")
+class GroupAhpAggregatorTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private GroupAhpAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new GroupAhpAggregator(3);
+    }
+
+    @Nested
+    @DisplayName("AIJ 집계")
+    class Judgments {
+
+        @Test
+        @DisplayName("비교값마다 평가자 가중 기하평균")
+        void weightedGeometricMean() {
+            // Given
+            aggregator.put("a", 1.0, new Double[] { 2.0, 4.0, 1.0 }, new double[] { 0.5, 0.3, 0.2 });
+            aggregator.put("b", 3.0, new Double[] { 8.0, 4.0, 1.0 }, new double[] { 0.6, 0.2, 0.2 });
+
+            // When
+            Double[] values = aggregator.aggregatedJudgments();
+
+            // Then: exp((ln2 + 3·ln8) / 4) = 2^(10/4)
+            assertEquals(Math.pow(2.0, 2.5), values[0], EPSILON);
+            assertEquals(4.0, values[1], EPSILON);
+            assertEquals(1.0, values[2], EPSILON);
+        }
+
+        @Test
+        @DisplayName("비워 둔 비교는 입력한 평가자만으로 평균, 아무도 없으면 null")
+        void skipsMissingJudgments() {
+            // Given
+            aggregator.put("a", 1.0, new Double[] { 2.0, null, null }, new double[] { 0.5, 0.3, 0.2 });
+            aggregator.put("b", 1.0, new Double[] { 8.0, 3.0, null }, new double[] { 0.6, 0.2, 0.2 });
+
+            // When
+            Double[] values = aggregator.aggregatedJudgments();
+
+            // Then
+            assertEquals(4.0, values[0], EPSILON);
+            assertEquals(3.0, values[1], EPSILON);
+            assertNull(values[2]);
+        }
+    }
+
+    @Nested
+    @DisplayName("AIP 집계")
+    class Priorities {
+
+        @Test
+        @DisplayName("평가자 가중치 벡터의 가중 기하평균을 합계 1로 정규화")
+        void normalizedGeometricMean() {
+            // Given
+            aggregator.put("a", 1.0, new Double[] { 1.0, 1.0, 1.0 }, new double[] { 0.5, 0.25, 0.25 });
+            aggregator.put("b", 1.0, new Double[] { 1.0, 1.0, 1.0 }, new double[] { 0.125, 0.25, 0.625 });
+
+            // When
+            double[] weights = aggregator.aggregatedPriorities();
+
+            // Then: √(0.5·0.125) : √(0.25·0.25) : √(0.25·0.625)
+            double[] expected = { 0.25, 0.25, Math.sqrt(0.25 * 0.625) };
+            double sum = expected[0] + expected[1] + expected[2];
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected[i] / sum, weights[i], EPSILON);
+            }
+        }
+
+        @Test
+        @DisplayName("평가자가 없으면 예외")
+        void emptyThrows() {
+            assertThrows(IllegalStateException.class, () -> aggregator.aggregatedPriorities());
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class Incremental {
+
+        @Test
+        @DisplayName("교체/삭제 후 결과가 처음부터 다시 모은 결과와 같음")
+        void matchesFreshAggregation() {
+            // Given
+            aggregator.put("a", 1.0, new Double[] { 2.0, 4.0, 1.0 }, new double[] { 0.5, 0.3, 0.2 });
+            aggregator.put("b", 2.0, new Double[] { 5.0, 3.0, 2.0 }, new double[] { 0.6, 0.25, 0.15 });
+            aggregator.put("c", 1.0, new Double[] { 7.0, null, 3.0 }, new double[] { 0.7, 0.1, 0.2 });
+
+            // When
+            aggregator.put("b", 1.5, new Double[] { 3.0, 6.0, 0.5 }, new double[] { 0.4, 0.4, 0.2 });
+            aggregator.remove("c");
+
+            // Then
+            GroupAhpAggregator fresh = new GroupAhpAggregator(3);
+            fresh.put("a", 1.0, new Double[] { 2.0, 4.0, 1.0 }, new double[] { 0.5, 0.3, 0.2 });
+            fresh.put("b", 1.5, new Double[] { 3.0, 6.0, 0.5 }, new double[] { 0.4, 0.4, 0.2 });
+            assertEquals(2, aggregator.evaluatorCount());
+            assertEquals(fresh.totalWeight(), aggregator.totalWeight(), EPSILON);
+            Double[] expected = fresh.aggregatedJudgments();
+            Double[] actual = aggregator.aggregatedJudgments();
+            for (int k = 0; k < expected.length; k++) {
+                assertEquals(expected[k], actual[k], EPSILON);
+            }
+            assertArrayEquals(fresh.aggregatedPriorities(), aggregator.aggregatedPriorities(), EPSILON);
+        }
+
+        @Test
+        @DisplayName("마지막 평가자를 빼면 모든 비교가 null")
+        void removeLastRestoresEmpty() {
+            // Given
+            aggregator.put("a", 1.0, new Double[] { 2.0, 4.0, 1.0 }, new double[] { 0.5, 0.3, 0.2 });
+
+            // When
+            boolean removed = aggregator.remove("a");
+
+            // Then
+            assertTrue(removed);
+            assertFalse(aggregator.remove("a"));
+            assertArrayEquals(new Double[] { null, null, null }, aggregator.aggregatedJudgments());
+            assertEquals(0.0, aggregator.totalWeight());
+        }
+
+        @Test
+        @DisplayName("겹치지 않는 집계 병합 = 한 곳에 모두 넣은 결과, 중복 평가자는 예외")
+        void mergeFrom() {
+            // Given
+            GroupAhpAggregator left = new GroupAhpAggregator(3);
+            left.put("a", 1.0, new Double[] { 2.0, 4.0, 1.0 }, new double[] { 0.5, 0.3, 0.2 });
+            GroupAhpAggregator right = new GroupAhpAggregator(3);
+            right.put("b", 2.0, new Double[] { 5.0, 3.0, 2.0 }, new double[] { 0.6, 0.25, 0.15 });
+            aggregator.put("a", 1.0, new Double[] { 2.0, 4.0, 1.0 }, new double[] { 0.5, 0.3, 0.2 });
+            aggregator.put("b", 2.0, new Double[] { 5.0, 3.0, 2.0 }, new double[] { 0.6, 0.25, 0.15 });
+
+            // When
+            left.mergeFrom(right);
+
+            // Then
+            assertArrayEquals(aggregator.aggregatedPriorities(), left.aggregatedPriorities(), EPSILON);
+            assertEquals(aggregator.aggregatedJudgments()[0], left.aggregatedJudgments()[0], EPSILON);
+            assertThrows(IllegalArgumentException.class, () -> left.mergeFrom(right));
+        }
+    }
+}
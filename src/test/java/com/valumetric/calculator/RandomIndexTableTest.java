@@ -0,0 +1,111 @@
+package com.valumetric.calculator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RandomIndexTable 단위 테스트
+ *
+ * Saaty 값 유지, 몬테카를로 RI의 재현성/정확도, 크기별 1회 계산과 복원을 검증합니다.
+ */
+@DisplayName("RandomIndexTable 단위 테스트")
+class RandomIndexTableTest {
+
+    // 테스트는 표본을 줄여 빠르게 (RI 표준오차 ≈ 0.005)
+    private static final int SAMPLES = 4_000;
+
+    @Nested
+    @DisplayName("시뮬레이션")
+    class Simulation {
+
+        @Test
+        @DisplayName("시드가 같으면 병렬 실행 순서와 무관하게 같은 값")
+        void reproducible() {
+            assertEquals(RandomIndexTable.simulate(20, SAMPLES, 7L), RandomIndexTable.simulate(20, SAMPLES, 7L));
+        }
+
+        @Test
+        @DisplayName("Saaty 표의 큰 크기 값과 가깝고, 크기가 커질수록 증가")
+        void closeToPublishedValues() {
+            // When
+            double ri15 = RandomIndexTable.simulate(15, SAMPLES, 1L);
+            double ri25 = RandomIndexTable.simulate(25, SAMPLES, 1L);
+
+            // Then
+            assertEquals(1.59, ri15, 0.03);
+            assertTrue(ri25 > ri15);
+            assertTrue(ri25 < 1.98); // n → ∞ 극한보다 작음
+        }
+    }
+
+    @Nested
+    @DisplayName("테이블")
+    class Table {
+
+        @Test
+        @DisplayName("n ≤ 15는 Saaty 값 그대로")
+        void keepsSaatyValues() {
+            RandomIndexTable table = new RandomIndexTable(SAMPLES, 1L);
+
+            assertEquals(0.0, table.get(2));
+            assertEquals(0.58, table.get(3));
+            assertEquals(1.59, table.get(15));
+            assertTrue(table.simulatedValues().isEmpty());
+        }
+
+        @Test
+        @DisplayName("n > 15는 처음 한 번만 계산하고 알림")
+        void simulatesOnce() {
+            // Given
+            RandomIndexTable table = new RandomIndexTable(SAMPLES, 1L);
+            List<Integer> notified = new ArrayList<>();
+            table.setListener((n, ri) -> notified.add(n));
+
+            // When
+            double first = table.get(18);
+            double second = table.get(18);
+
+            // Then
+            assertEquals(first, second);
+            assertEquals(List.of(18), notified);
+            assertEquals(first, table.simulatedValues().get(18));
+        }
+
+        @Test
+        @DisplayName("복원한 값은 다시 계산하지 않음")
+        void preloadSkipsSimulation() {
+            // Given
+            RandomIndexTable table = new RandomIndexTable(SAMPLES, 1L);
+            List<Integer> notified = new ArrayList<>();
+            table.setListener((n, ri) -> notified.add(n));
+
+            // When
+            table.preload(30, 1.67);
+            table.preload(10, 9.99); // Saaty 범위는 무시
+
+            // Then
+            assertEquals(1.67, table.get(30));
+            assertEquals(1.49, table.get(10));
+            assertTrue(notified.isEmpty());
+        }
+
+        @Test
+        @DisplayName("엔진 CR이 테이블의 RI를 사용")
+        void engineUsesTable() {
+            // Given
+            RandomIndexTable table = new RandomIndexTable(SAMPLES, 1L);
+            table.preload(16, 1.60);
+            AhpEngine engine = new AhpEngine(AhpEngine.WeightMethod.GEOMETRIC_MEAN, AhpEngine.DEFAULT_TOLERANCE,
+                    AhpEngine.DEFAULT_MAX_ITERATIONS, table);
+
+            // Then
+            assertEquals(1.60, engine.getRandomIndex(16));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.valumetric.calculator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeightPreviewCalculator 단위 테스트
+ */
+@DisplayName("WeightPreviewCalculator 단위 테스트")
+class WeightPreviewCalculatorTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private WeightPreviewCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new WeightPreviewCalculator();
+    }
+
+    @Nested
+    @DisplayName("순위와 구간 비교")
+    class RankAndZones {
+
+        // 기준 (매출, 근태) 점수, 현재 가중치 (0.5, 0.5)로 산정된 현재 점수
+        // 사원 0: (900, 500) → 700 | 사원 1: (600, 700) → 650 | 사원 2: (800, 800) → 800
+        private final double[] scores = { 900, 500, 600, 700, 800, 800 };
+        private final double[] baseline = { 700, 650, 800 };
+
+        @Test
+        @DisplayName("현재 가중치면 순위/구간 변화 없음")
+        void sameWeightsChangeNothing() {
+            // When
+            WeightPreviewCalculator.Preview preview = calculator.preview(new double[] { 0.5, 0.5 }, scores,
+                    baseline, 1, 680, 10);
+
+            // Then
+            assertArrayEquals(baseline, preview.scores(), EPSILON);
+            assertEquals(0, preview.rankChangedCount());
+            assertEquals(1.0, preview.rankCorrelation(), EPSILON);
+            assertEquals(0, preview.redZone().enteredCount());
+            assertEquals(0, preview.redZone().leftCount());
+            assertTrue(preview.largestShifts().isEmpty());
+        }
+
+        @Test
+        @DisplayName("근태 비중을 높이면 사원 0이 위험군 진입, 사원 1은 이탈")
+        void redZoneEnterAndLeave() {
+            // When: (0.2, 0.8) → 사원 0: 580, 사원 1: 680, 사원 2: 800
+            WeightPreviewCalculator.Preview preview = calculator.preview(new double[] { 0.2, 0.8 }, scores,
+                    baseline, 1, 660, 10);
+
+            // Then
+            assertArrayEquals(new double[] { 580, 680, 800 }, preview.scores(), EPSILON);
+            WeightPreviewCalculator.ZoneDiff redZone = preview.redZone();
+            assertEquals(1, redZone.before());
+            assertEquals(1, redZone.after());
+            assertEquals(0, redZone.entered().get(0).employee());
+            assertEquals(1, redZone.left().get(0).employee());
+
+            // 순위: 현재 (2, 0, 1) → 후보 (2, 1, 0)
+            assertEquals(2, preview.rankChangedCount());
+            assertEquals(2.0 / 3, preview.meanAbsoluteShift(), EPSILON);
+            assertEquals(0.5, preview.rankCorrelation(), EPSILON);
+            List<WeightPreviewCalculator.RankChange> shifts = preview.largestShifts();
+            assertEquals(2, shifts.size());
+            assertEquals(1, shifts.get(0).employee());
+            assertEquals(1, shifts.get(0).shift());
+            assertEquals(-1, shifts.get(1).shift());
+        }
+
+        @Test
+        @DisplayName("상위 K명 진입/이탈과 목록 제한")
+        void topZone() {
+            // When: 매출만 반영 → 사원 0: 900, 사원 2: 800, 사원 1: 600
+            WeightPreviewCalculator.Preview preview = calculator.preview(new double[] { 1, 0 }, scores,
+                    baseline, 1, Double.NaN, 0);
+
+            // Then
+            assertNull(preview.redZone());
+            assertEquals(0, preview.top().get(0).employee());
+            assertEquals(2, preview.top().get(0).rankBefore());
+            assertEquals(1, preview.topZone().enteredCount());
+            assertEquals(1, preview.topZone().leftCount());
+            assertTrue(preview.topZone().entered().isEmpty());
+            assertTrue(preview.largestShifts().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("검증")
+    class Validation {
+
+        @Test
+        @DisplayName("현재 점수 수가 사원 수와 다르면 예외")
+        void rejectsMismatchedBaseline() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> calculator.preview(new double[] { 0.5, 0.5 }, new double[] { 1, 2 },
+                            new double[] { 1, 2 }, 1, 0, 1));
+        }
+
+        @Test
+        @DisplayName("가중치 합이 0이면 예외")
+        void rejectsZeroWeights() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> calculator.preview(new double[] { 0, 0 }, new double[] { 1, 2 },
+                            new double[] { 1 }, 1, 0, 1));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.valumetric.calculator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeightSensitivityAnalyzer 단위 테스트
+ *
+ * 손으로 계산한 교점, 그리고 모든 사원 쌍의 교점을 직접 구한 결과와
+ * 이벤트 스윕/포락선 결과가 같은지 확인합니다.
+ */
+@DisplayName("WeightSensitivityAnalyzer 단위 테스트")
+class WeightSensitivityAnalyzerTest {
+
+    private static final double EPSILON = 1e-12;
+
+    private WeightSensitivityAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new WeightSensitivityAnalyzer();
+    }
+
+    @Nested
+    @DisplayName("두 사원")
+    class TwoEmployees {
+
+        // 사원 0: (900, 500) → 700점, 사원 1: (600, 700) → 650점 (w = 0.5, 0.5)
+        // 기준 0 가중치 t: S0 = 500 + 400t, S1 = 700 − 100t → t = 0.4에서 역전
+        private final double[] weights = { 0.5, 0.5 };
+        private final double[] scores = { 900, 500, 600, 700 };
+
+        @Test
+        @DisplayName("순위 역전 지점과 유지 구간")
+        void reversalPoint() {
+            // When
+            WeightSensitivityAnalyzer.CriterionSensitivity first = analyzer
+                    .analyze(weights, scores, 1, Double.NaN, 10).criteria().get(0);
+
+            // Then
+            assertEquals(0.4, first.orderStable().lower(), EPSILON);
+            assertEquals(1.0, first.orderStable().upper(), EPSILON);
+            assertEquals(0.4, first.topStable().lower(), EPSILON);
+            assertEquals(1.0, first.topStable().upper(), EPSILON);
+
+            assertEquals(1, first.reversals().size());
+            WeightSensitivityAnalyzer.RankReversal reversal = first.reversals().get(0);
+            assertEquals(0.4, reversal.weight(), EPSILON);
+            assertEquals(1, reversal.rank());
+            assertEquals(1, reversal.overtaking());
+            assertEquals(0, reversal.overtaken());
+        }
+
+        @Test
+        @DisplayName("임계값 교차와 유지 구간")
+        void thresholdCrossings() {
+            // When: 680점 미만 = 위험군 (현재 사원 1만 해당)
+            WeightSensitivityAnalyzer.CriterionSensitivity first = analyzer
+                    .analyze(weights, scores, 0, 680, 10).criteria().get(0);
+
+            // Then: S1 = 680 → t = 0.2 (이 위로는 위험군), S0 = 680 → t = 0.45 (이 아래로는 위험군)
+            assertEquals(0.45, first.thresholdStable().lower(), EPSILON);
+            assertEquals(1.0, first.thresholdStable().upper(), EPSILON);
+            assertEquals(2, first.thresholdCrossings().size());
+            assertEquals(0.2, first.thresholdCrossings().get(0).weight(), EPSILON);
+            assertEquals(1, first.thresholdCrossings().get(0).employee());
+            assertTrue(first.thresholdCrossings().get(0).entersBelow());
+            assertEquals(0.45, first.thresholdCrossings().get(1).weight(), EPSILON);
+            assertFalse(first.thresholdCrossings().get(1).entersBelow());
+        }
+    }
+
+    @Nested
+    @DisplayName("전수 비교")
+    class BruteForce {
+
+        @Test
+        @DisplayName("가까운 역전 순서와 상위 K명 구간이 모든 쌍의 교점과 일치")
+        void matchesPairwiseCrossings() {
+            // Given
+            Random random = new Random(3);
+            int m = 200;
+            int n = 4;
+            int topK = 15;
+            double[] weights = { 0.4, 0.3, 0.2, 0.1 };
+            double[] scores = new double[m * n];
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] = 400 + random.nextDouble() * 500;
+            }
+
+            // When
+            WeightSensitivityAnalyzer.Analysis analysis = analyzer.analyze(weights, scores, topK, Double.NaN, 25);
+
+            // Then
+            for (WeightSensitivityAnalyzer.CriterionSensitivity sensitivity : analysis.criteria()) {
+                int k = sensitivity.criterion();
+                double t0 = weights[k];
+                double[] a = new double[m];
+                double[] b = new double[m];
+                for (int e = 0; e < m; e++) {
+                    double others = 0.0;
+                    for (int c = 0; c < n; c++) {
+                        if (c != k) {
+                            others += weights[c] / (1 - t0) * scores[e * n + c];
+                        }
+                    }
+                    a[e] = others;
+                    b[e] = scores[e * n + k] - others;
+                }
+
+                Integer[] order = new Integer[m];
+                for (int e = 0; e < m; e++) {
+                    order[e] = e;
+                }
+                Arrays.sort(order, Comparator.comparingDouble(e -> -(a[e] + b[e] * t0)));
+                Set<Integer> top = new HashSet<>(Arrays.asList(order).subList(0, topK));
+
+                List<Double> up = new ArrayList<>();
+                double topUpper = 1.0;
+                double topLower = 0.0;
+                double orderLower = 0.0;
+                for (int i = 0; i < m; i++) {
+                    for (int j = i + 1; j < m; j++) {
+                        double t = (a[j] - a[i]) / (b[i] - b[j]);
+                        boolean boundary = top.contains(i) != top.contains(j);
+                        if (t > t0 && t <= 1) {
+                            up.add(t);
+                            topUpper = boundary ? Math.min(topUpper, t) : topUpper;
+                        } else if (t < t0 && t >= 0) {
+                            orderLower = Math.max(orderLower, t);
+                            topLower = boundary ? Math.max(topLower, t) : topLower;
+                        }
+                    }
+                }
+                up.sort(null);
+
+                assertEquals(up.get(0), sensitivity.orderStable().upper(), EPSILON);
+                assertEquals(orderLower, sensitivity.orderStable().lower(), EPSILON);
+                assertEquals(topUpper, sensitivity.topStable().upper(), EPSILON);
+                assertEquals(topLower, sensitivity.topStable().lower(), EPSILON);
+
+                List<Double> swept = sensitivity.reversals().stream()
+                        .mapToDouble(WeightSensitivityAnalyzer.RankReversal::weight)
+                        .filter(t -> t > t0)
+                        .boxed()
+                        .toList();
+                assertEquals(25, swept.size());
+                for (int i = 0; i < swept.size(); i++) {
+                    assertEquals(up.get(i), swept.get(i), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("검증")
+    class Validation {
+
+        @Test
+        @DisplayName("점수 수가 기준 수의 배수가 아니면 예외")
+        void rejectsMismatchedScores() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> analyzer.analyze(new double[] { 0.5, 0.5 }, new double[] { 1, 2, 3 }, 1, 0, 1));
+        }
+
+        @Test
+        @DisplayName("가중치 합이 1이 아니면 정규화")
+        void normalizesWeights() {
+            // When
+            WeightSensitivityAnalyzer.Analysis analysis = analyzer.analyze(new double[] { 2, 2 },
+                    new double[] { 900, 500, 600, 700 }, 1, Double.NaN, 0);
+
+            // Then
+            assertEquals(0.5, analysis.criteria().get(0).weight(), EPSILON);
+            assertEquals(0.4, analysis.criteria().get(0).orderStable().lower(), EPSILON);
+            assertTrue(analysis.criteria().get(0).reversals().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.valumetric.document;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Employee 조회 헬퍼 단위 테스트
+ *
+ * 마이그레이션이 periodKey를 채우지 못한 레거시 실적(null/형식 오류 period)이 섞여 있어도
+ * 조회/요약이 예외 없이 나머지 실적으로 동작하는지 확인합니다.
+ */
+@DisplayName("Employee 조회 헬퍼 단위 테스트")
+class EmployeeTest {
+
+    private static Employee.PerformanceLog legacyLog(String period, long achievedSales) {
+        return Employee.PerformanceLog.builder()
+                .period(period)
+                .achievedSales(BigDecimal.valueOf(achievedSales))
+                .build();
+    }
+
+    private static Employee employeeWith(Employee.PerformanceLog... logs) {
+        return Employee.builder()
+                .id("emp-1")
+                .performanceLogs(new ArrayList<>(List.of(logs)))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("기간 키")
+    class PeriodKeys {
+
+        @Test
+        @DisplayName("형식 오류/null 기간은 INVALID")
+        void malformedPeriodIsInvalid() {
+            assertEquals(PeriodKey.INVALID, PeriodKey.tryParse("2024/01"));
+            assertEquals(PeriodKey.INVALID, PeriodKey.tryParse("2024-13"));
+            assertEquals(PeriodKey.INVALID, PeriodKey.tryParse(null));
+            assertEquals(PeriodKey.INVALID, legacyLog("Jan 2024", 1).resolvePeriodKey());
+            assertEquals(202401, legacyLog("2024-01", 1).resolvePeriodKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("형식 오류 레거시 실적")
+    class MalformedLegacyPeriod {
+
+        @Test
+        @DisplayName("기간 조회는 형식 오류 실적을 건너뛰고 정상 실적을 찾음")
+        void findSkipsMalformedRows() {
+            // Given
+            Employee employee = employeeWith(legacyLog("2024-01", 100), legacyLog("2024/02", 200),
+                    legacyLog(null, 300));
+
+            // When
+            Optional<Employee.PerformanceLog> found = employee.findPerformanceLog(202401);
+            Optional<Employee.PerformanceLog> missing = employee.findPerformanceLog("2024-02");
+
+            // Then
+            assertTrue(found.isPresent());
+            assertEquals(BigDecimal.valueOf(100), found.get().getAchievedSales());
+            assertTrue(missing.isEmpty());
+        }
+
+        @Test
+        @DisplayName("요약 필드 재계산은 형식 오류 실적을 최신 기간에서 제외")
+        void refreshIgnoresMalformedRows() {
+            // Given: 문자열 비교로는 "2024/99"가 가장 뒤
+            Employee employee = employeeWith(legacyLog("2023-12", 100), legacyLog("2024/99", 200));
+
+            // When
+            employee.refreshSummaryFields();
+
+            // Then
+            assertEquals("2023-12", employee.getLatestPeriod());
+            assertEquals(202312, employee.getLatestPeriodKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("실적 쓰기 표식")
+    class PeriodWrite {
+
+        @Test
+        @DisplayName("표식에 담은 기간을 그대로 꺼냄 (중복은 하나로)")
+        void roundTrip() {
+            // When
+            String marker = Employee.formatPeriodWrite("w1", List.of("2024-01", "2024-03", "2024-01"));
+
+            // Then
+            assertEquals(Set.of("2024-01", "2024-03"), Employee.parsePeriodWrite(marker));
+        }
+
+        @Test
+        @DisplayName("형식이 다르거나 기간이 없으면 빈 집합")
+        void malformedMarkerIsEmpty() {
+            assertTrue(Employee.parsePeriodWrite(null).isEmpty());
+            assertTrue(Employee.parsePeriodWrite("2024-01").isEmpty());
+            assertTrue(Employee.parsePeriodWrite("w1:").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 연도 월 평균 점수 변동")
+    class YearlySummaryAverage {
+
+        private Employee.YearlySummary summary(Integer monthCount, String totalScoreChange) {
+            return Employee.YearlySummary.builder()
+                    .year(2022)
+                    .monthCount(monthCount)
+                    .totalScoreChange(totalScoreChange != null ? new BigDecimal(totalScoreChange) : null)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("부분 연도는 12가 아닌 요약된 개월 수로 나눔")
+        void dividesBySummarizedMonths() {
+            // Given: 6개월만 압축, 점수 변동 합계 30
+            Employee.YearlySummary partial = summary(6, "30");
+
+            // When / Then: 30 / 6 = 5.00 (12로 나누면 2.50)
+            assertEquals(new BigDecimal("5.00"), partial.averageMonthlyScoreChange());
+            assertEquals(new BigDecimal("2.50"), summary(12, "30").averageMonthlyScoreChange());
+        }
+
+        @Test
+        @DisplayName("개월 수가 0/null이거나 합계가 없으면 0")
+        void zeroWhenNoMonths() {
+            assertEquals(0, BigDecimal.ZERO.compareTo(summary(0, "30").averageMonthlyScoreChange()));
+            assertEquals(0, BigDecimal.ZERO.compareTo(summary(null, "30").averageMonthlyScoreChange()));
+            assertEquals(0, BigDecimal.ZERO.compareTo(summary(6, null).averageMonthlyScoreChange()));
+        }
+    }
+}